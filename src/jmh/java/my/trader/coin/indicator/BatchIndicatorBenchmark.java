@@ -0,0 +1,131 @@
+package my.trader.coin.indicator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import my.trader.coin.dto.quotation.CandleResponseDto;
+import my.trader.coin.service.UpbitService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 종목별 RSI/ADX 계산(UpbitService) 과 일괄 계산(BatchIndicators) 비교.
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchIndicatorBenchmark {
+  private static final int WEIGHT = 14;
+
+  @Param({"100", "500"})
+  private int markets;
+
+  @Param({"200", "2000"})
+  private int bars;
+
+  // 현재 방식 입력 : 종목별 캔들 DTO 리스트
+  private List<List<CandleResponseDto>> candlesByMarket;
+  // 종목별 primitive 배열 (IndicatorCache 방식)
+  private double[][] highByMarket;
+  private double[][] lowByMarket;
+  private double[][] closeByMarket;
+  // 일괄 계산 입력
+  private BarMatrix matrix;
+  private UpbitService upbitService;
+
+  /**
+   * 무작위 보행 가격으로 입력을 생성합니다.
+   */
+  @Setup
+  public void setup() {
+    Random random = new Random(42);
+    List<String> marketCodes = new ArrayList<>();
+    candlesByMarket = new ArrayList<>();
+    highByMarket = new double[markets][bars];
+    lowByMarket = new double[markets][bars];
+    closeByMarket = new double[markets][bars];
+
+    for (int market = 0; market < markets; market++) {
+      marketCodes.add(String.format("KRW-SYN%04d", market));
+      List<CandleResponseDto> candles = new ArrayList<>();
+      double price = 1000 + market;
+      for (int bar = 0; bar < bars; bar++) {
+        price *= Math.exp(random.nextGaussian() * 0.002);
+        double high = price * (1 + random.nextDouble() * 0.002);
+        double low = price * (1 - random.nextDouble() * 0.002);
+
+        CandleResponseDto candle = new CandleResponseDto();
+        candle.setHighPrice(high);
+        candle.setLowPrice(low);
+        candle.setTradePrice(price);
+        candles.add(candle);
+
+        highByMarket[market][bar] = high;
+        lowByMarket[market][bar] = low;
+        closeByMarket[market][bar] = price;
+      }
+      candlesByMarket.add(candles);
+    }
+
+    matrix = new BarMatrix(marketCodes, bars);
+    for (int market = 0; market < markets; market++) {
+      for (int bar = 0; bar < bars; bar++) {
+        matrix.set(bar, market, highByMarket[market][bar], lowByMarket[market][bar],
+              closeByMarket[market][bar]);
+      }
+    }
+
+    // 지표 계산 메서드는 외부 의존성을 사용하지 않음
+    upbitService = new UpbitService(null, null, null, null);
+  }
+
+  /**
+   * 현재 방식: 종목마다 DTO 리스트로 최신 RSI/ADX 계산.
+   */
+  @Benchmark
+  public void perMarketUpbitService(Blackhole blackhole) {
+    for (List<CandleResponseDto> candles : candlesByMarket) {
+      blackhole.consume(upbitService.calculateRelativeStrengthIndex(candles, WEIGHT));
+      blackhole.consume(upbitService.calculateAverageDirectionalMovementIndex(candles, WEIGHT));
+    }
+  }
+
+  /**
+   * 종목마다 primitive 배열로 전체 시계열 계산 (IndicatorCache 방식).
+   */
+  @Benchmark
+  public void perMarketArrays(Blackhole blackhole) {
+    for (int market = 0; market < markets; market++) {
+      blackhole.consume(
+            BatchIndicators.relativeStrengthIndex(closeByMarket[market], 1, WEIGHT));
+      blackhole.consume(BatchIndicators.averageDirectionalMovementIndex(highByMarket[market],
+            lowByMarket[market], closeByMarket[market], 1, WEIGHT));
+    }
+  }
+
+  /**
+   * 일괄 계산: 전 종목 전체 시계열을 한 번에 계산.
+   */
+  @Benchmark
+  public void batch(Blackhole blackhole) {
+    blackhole.consume(BatchIndicators.relativeStrengthIndex(matrix.getTradePrice(), markets,
+          WEIGHT));
+    blackhole.consume(BatchIndicators.averageDirectionalMovementIndex(matrix.getHighPrice(),
+          matrix.getLowPrice(), matrix.getTradePrice(), markets, WEIGHT));
+  }
+}
@@ -0,0 +1,104 @@
+package my.trader.coin.indicator;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 증분 지표의 캔들 1개당 갱신/잠정값 비용. 기간(lookback) 이 늘어도 비용이 일정해야 합니다.
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StreamingIndicatorBenchmark {
+  private static final int BARS = 4096;
+
+  @Param({"14", "200", "2000"})
+  private int period;
+
+  private double[] high;
+  private double[] low;
+  private double[] close;
+  private double[] volume;
+  private StreamingIndicator[] indicators;
+  private int cursor;
+
+  /**
+   * 무작위 보행 가격으로 입력을 만들고 지표를 기간만큼 채워 둡니다.
+   */
+  @Setup
+  public void setup() {
+    Random random = new Random(42);
+    high = new double[BARS];
+    low = new double[BARS];
+    close = new double[BARS];
+    volume = new double[BARS];
+    double price = 1000;
+    for (int bar = 0; bar < BARS; bar++) {
+      price *= Math.exp(random.nextGaussian() * 0.002);
+      high[bar] = price * (1 + random.nextDouble() * 0.002);
+      low[bar] = price * (1 - random.nextDouble() * 0.002);
+      close[bar] = price;
+      volume[bar] = 1 + random.nextDouble() * 100;
+    }
+
+    indicators = new StreamingIndicator[] {
+      new ExponentialMovingAverage(period),
+      new BollingerBands(period, 2),
+      new AverageTrueRange(period),
+      new VolumeWeightedAveragePrice(period),
+      new MovingAverageConvergenceDivergence(period, period * 2, 9),
+      new StochasticRsi(14, period, 3, 3)
+    };
+    for (int bar = 0; bar < BARS; bar++) {
+      update(bar);
+    }
+  }
+
+  /**
+   * 완성된 캔들 1개 반영.
+   */
+  @Benchmark
+  public void update(Blackhole blackhole) {
+    blackhole.consume(update(next()));
+  }
+
+  /**
+   * 진행 중인 캔들의 잠정값 계산 (상태 변경 없음).
+   */
+  @Benchmark
+  public void peek(Blackhole blackhole) {
+    int bar = next();
+    for (StreamingIndicator indicator : indicators) {
+      blackhole.consume(indicator.peek(high[bar], low[bar], close[bar], volume[bar]));
+    }
+  }
+
+  private double update(int bar) {
+    double sum = 0;
+    for (StreamingIndicator indicator : indicators) {
+      sum += indicator.update(high[bar], low[bar], close[bar], volume[bar]);
+    }
+    return sum;
+  }
+
+  private int next() {
+    cursor = (cursor + 1) & (BARS - 1);
+    return cursor;
+  }
+}
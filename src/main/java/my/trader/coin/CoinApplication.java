@@ -1,6 +1,6 @@
 package my.trader.coin;
 
-import my.trader.coin.service.UpbitService;
+import my.trader.coin.warmup.WarmupPipeline;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
@@ -16,10 +16,10 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 @EnableCaching
 public class CoinApplication {
 
-  private final UpbitService upbitService;
+  private final WarmupPipeline warmupPipeline;
 
-  public CoinApplication(UpbitService upbitService) {
-    this.upbitService = upbitService;
+  public CoinApplication(WarmupPipeline warmupPipeline) {
+    this.warmupPipeline = warmupPipeline;
   }
 
   public static void main(String[] args) {
@@ -28,13 +28,14 @@ public class CoinApplication {
 
   /**
    * 서버 실행 직후 초기화 작업.
+   * 예열이 끝나야 readiness 가 ACCEPTING_TRAFFIC 으로 바뀌고 스케줄러가 사이클을 실행합니다.
    *
    * @return CommandLineRunner
    */
   @Bean
   public CommandLineRunner init() {
     return args -> {
-      upbitService.addScheduledMarket();
+      warmupPipeline.run();
     };
   }
 }
@@ -0,0 +1,124 @@
+package my.trader.coin.backtest;
+
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import my.trader.coin.dto.quotation.CandleResponseDto;
+import my.trader.coin.dto.quotation.MarketResponseDto;
+import my.trader.coin.enums.ColorfulConsoleOutput;
+import my.trader.coin.enums.Unit;
+import my.trader.coin.enums.UpbitApi;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+/**
+ * 과거 캔들 백필 실행기.
+ * 사용 예: ./gradlew backfill -Pargs="--archive=archive --quote=KRW --units=1 --days=365"
+ * 실행 중인 앱과 같은 IP 에서 돌리면 시세 조회 요청 수 제한(초당 10회) 을 나눠 쓰므로 --rps 로 여유를 둡니다.
+ */
+public class BackfillRunner {
+
+  /**
+   * 백필 실행.
+   *
+   * @param args --key=value 형식의 옵션
+   */
+  public static void main(String[] args) {
+    Map<String, String> options = parseOptions(args);
+
+    CandleArchive archive = new CandleArchive(Path.of(options.getOrDefault("archive", "archive")));
+    String quote = options.getOrDefault("quote", "KRW");
+    int days = Integer.parseInt(options.getOrDefault("days", "365"));
+    int parallelism = Integer.parseInt(options.getOrDefault("parallelism", "8"));
+    int rps = Integer.parseInt(options.getOrDefault("rps", "8"));
+    String unitOption = options.getOrDefault("units", "all");
+
+    WebClient webClient = WebClient.builder()
+          .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(1024 * 1024))
+          .build();
+
+    List<Unit> units = unitOption.equals("all")
+          ? Arrays.asList(Unit.values())
+          : Arrays.stream(unitOption.split(","))
+                .map(value -> Arrays.stream(Unit.values())
+                      .filter(unit -> unit.getUnit() == Integer.parseInt(value))
+                      .findFirst()
+                      .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 단위: " + value)))
+                .toList();
+    List<String> markets = options.containsKey("markets")
+          ? Arrays.asList(options.get("markets").split(","))
+          : marketsOf(webClient, quote);
+    long fromMillis = System.currentTimeMillis() - Duration.ofDays(days).toMillis();
+
+    ColorfulConsoleOutput.printWithColor(
+          String.format("백필 시작: 종목 %d개, 단위 %s, %d일, 동시 작업 %d, 초당 %d회", markets.size(),
+                units.stream().map(Unit::getUnit).toList(), days, parallelism, rps),
+          ColorfulConsoleOutput.GREEN);
+
+    // 요청 수 제한 대기는 작업 스레드에서 하므로 충분히 길게 둠
+    RateLimiter rateLimiter = RateLimiter.of("BackfillRateLimiter", RateLimiterConfig.custom()
+          .limitForPeriod(rps)
+          .limitRefreshPeriod(Duration.ofSeconds(1))
+          .timeoutDuration(Duration.ofMinutes(1))
+          .build());
+
+    new CandleBackfill(archive, (market, unit, to, count) -> fetchCandles(webClient, market,
+          unit, to, count), rateLimiter).run(markets, units, fromMillis, parallelism);
+  }
+
+  private static List<String> marketsOf(WebClient webClient, String quote) {
+    List<MarketResponseDto> markets = webClient.get()
+          .uri(URI.create(UpbitApi.GET_MARKET.getUrl()))
+          .retrieve()
+          .bodyToFlux(MarketResponseDto.class)
+          .collectList()
+          .block();
+    return markets == null ? List.of() : markets.stream()
+          .map(MarketResponseDto::getMarket)
+          .filter(market -> market.startsWith(quote + "-"))
+          .sorted()
+          .toList();
+  }
+
+  private static List<CandleResponseDto> fetchCandles(WebClient webClient, String market,
+                                                      Unit unit, String to, int count) {
+    URI uri = UriComponentsBuilder
+          .fromHttpUrl(String.format(UpbitApi.GET_MINUTE_CANDLE.getUrl(), unit.getUnit()))
+          .queryParam("market", market)
+          .queryParam("to", to)
+          .queryParam("count", count)
+          .build()
+          .toUri();
+
+    List<CandleResponseDto> candles = webClient.get()
+          .uri(uri)
+          .retrieve()
+          .onStatus(HttpStatusCode::isError, response -> response.bodyToMono(String.class)
+                .defaultIfEmpty("")
+                .flatMap(body -> Mono.error(new IllegalStateException(
+                      response.statusCode().value() + " " + body))))
+          .bodyToFlux(CandleResponseDto.class)
+          .collectList()
+          .block(Duration.ofSeconds(30));
+    return candles == null ? List.of() : candles;
+  }
+
+  private static Map<String, String> parseOptions(String[] args) {
+    Map<String, String> options = new HashMap<>();
+    for (String arg : args) {
+      if (arg.startsWith("--") && arg.contains("=")) {
+        int index = arg.indexOf('=');
+        options.put(arg.substring(2, index), arg.substring(index + 1));
+      }
+    }
+    return options;
+  }
+}
@@ -0,0 +1,45 @@
+package my.trader.coin.backtest;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 백테스트 결과.
+ */
+@Data
+@AllArgsConstructor
+public class BacktestResult {
+  // 파라미터 조합
+  private StrategyParameters parameters;
+  // 실현 + 평가 손익 (원)
+  private double profitAndLoss;
+  // 매도 완료된 거래 수
+  private int trades;
+  // 수익으로 마감한 거래 수
+  private int winningTrades;
+  // 최대 낙폭 (%)
+  private double maxDrawdownPercentage;
+
+  /**
+   * 적중률(%)을 계산합니다.
+   *
+   * @return 수익 거래 비율, 거래가 없는 경우 0
+   */
+  public double getHitRate() {
+    return trades == 0 ? 0 : (double) winningTrades / trades * 100;
+  }
+
+  /**
+   * 여러 종목의 결과를 합산합니다. 최대 낙폭은 종목별 최대 낙폭 중 가장 큰 값을 사용합니다.
+   *
+   * @param other 합산할 결과
+   * @return 합산 결과
+   */
+  public BacktestResult merge(BacktestResult other) {
+    return new BacktestResult(parameters,
+          profitAndLoss + other.profitAndLoss,
+          trades + other.trades,
+          winningTrades + other.winningTrades,
+          Math.max(maxDrawdownPercentage, other.maxDrawdownPercentage));
+  }
+}
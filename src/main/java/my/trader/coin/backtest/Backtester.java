@@ -0,0 +1,111 @@
+package my.trader.coin.backtest;
+
+import my.trader.coin.strategy.SignalThresholds;
+
+/**
+ * 아카이브 캔들 위에서 스캘핑 전략(RSI/ADX 매수, 익절율 전량 매도)을 재현합니다.
+ * 캔들 1개를 스케줄러 1회 실행으로 간주하며, 지정가 주문은 해당 캔들 종가에 전량 체결된다고 가정합니다.
+ */
+public class Backtester {
+  private final IndicatorCache indicatorCache;
+  // UBMI 변동률 (백테스트 구간 동안 고정)
+  private final double marketIndexRatio;
+  // 시작 현금 (원)
+  private final double initialCash;
+  // 1회 매수 금액 (원)
+  private final double tradeAmount;
+  // 거래 수수료율 (업비트 정책)
+  private final double exchangeFeeRatio;
+  // 최소 주문금액 (업비트 정책)
+  private final double minOrderAmount;
+
+  /**
+   * this is constructor.
+   */
+  public Backtester(IndicatorCache indicatorCache, double marketIndexRatio, double initialCash,
+                    double tradeAmount, double exchangeFeeRatio, double minOrderAmount) {
+    this.indicatorCache = indicatorCache;
+    this.marketIndexRatio = marketIndexRatio;
+    this.initialCash = initialCash;
+    this.tradeAmount = tradeAmount;
+    this.exchangeFeeRatio = exchangeFeeRatio;
+    this.minOrderAmount = minOrderAmount;
+  }
+
+  /**
+   * 한 종목에 대해 백테스트를 실행합니다.
+   *
+   * @param series     캔들 시계열
+   * @param parameters 전략 파라미터
+   * @return 백테스트 결과
+   */
+  public BacktestResult run(CandleSeries series, StrategyParameters parameters) {
+    double[] rsi = indicatorCache.relativeStrengthIndex(series, parameters.getRsiPeriod());
+    double[] adx =
+          indicatorCache.averageDirectionalMovementIndex(series, parameters.getAdxPeriod());
+    double[] price = series.getTradePrice();
+    long[] timestamp = series.getTimestamp();
+
+    // 기준값은 UBMI 변동률이 고정이므로 한 번만 계산 (운영과 같은 계산식)
+    SignalThresholds thresholds = SignalThresholds.derive(0, 0, marketIndexRatio, tradeAmount,
+          parameters, exchangeFeeRatio, minOrderAmount);
+    long cooldownMillis = thresholds.getBuyCooldownMillis();
+
+    double cash = initialCash;
+    double quantity = 0;
+    double avgBuyPrice = 0;
+    // 매수 수수료를 포함한 보유 원가
+    double costBasis = 0;
+    long lastBuyTime = Long.MIN_VALUE;
+
+    int trades = 0;
+    int winningTrades = 0;
+    double peakEquity = initialCash;
+    double maxDrawdown = 0;
+
+    for (int i = 0; i < price.length; i++) {
+      double currentPrice = price[i];
+
+      // 매수 프로세스
+      if (!Double.isNaN(rsi[i]) && !Double.isNaN(adx[i])
+            && cash >= tradeAmount * exchangeFeeRatio
+            && timestamp[i] - lastBuyTime >= cooldownMillis
+            && thresholds.isBuy(rsi[i], adx[i])) {
+        double buyQuantity = tradeAmount / currentPrice;
+        avgBuyPrice = (avgBuyPrice * quantity + currentPrice * buyQuantity)
+              / (quantity + buyQuantity);
+        quantity += buyQuantity;
+        costBasis += tradeAmount * exchangeFeeRatio;
+        cash -= tradeAmount * exchangeFeeRatio;
+        lastBuyTime = timestamp[i];
+      }
+
+      // 매도 프로세스 (최소 주문 금액 이하 보유분은 매도하지 않음)
+      if (quantity > 0 && avgBuyPrice * quantity > minOrderAmount
+            && thresholds.isTakeProfit(currentPrice, avgBuyPrice)) {
+        double proceeds = quantity * currentPrice * (2 - exchangeFeeRatio);
+        trades++;
+        if (proceeds > costBasis) {
+          winningTrades++;
+        }
+        cash += proceeds;
+        quantity = 0;
+        avgBuyPrice = 0;
+        costBasis = 0;
+      }
+
+      // 평가금액 기준 최대 낙폭 갱신
+      double equity = cash + quantity * currentPrice;
+      if (equity > peakEquity) {
+        peakEquity = equity;
+      } else {
+        maxDrawdown = Math.max(maxDrawdown, (peakEquity - equity) / peakEquity * 100);
+      }
+    }
+
+    double lastPrice = price.length == 0 ? 0 : price[price.length - 1];
+    double profitAndLoss = cash + quantity * lastPrice - initialCash;
+
+    return new BacktestResult(parameters, profitAndLoss, trades, winningTrades, maxDrawdown);
+  }
+}
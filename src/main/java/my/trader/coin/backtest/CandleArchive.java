@@ -0,0 +1,242 @@
+package my.trader.coin.backtest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 캔들 아카이브.
+ * {root}/{market}/{unit}.csv 경로에 "timestamp,open,high,low,close,volume" 형식으로 저장된
+ * 캔들을 읽어 {@link CandleSeries} 로 변환합니다.
+ * 운영 중 수집된 1분 캔들도 같은 형식으로 추가되며, timestamp 는 캔들 시작 시각(epoch millis, UTC) 입니다.
+ */
+public class CandleArchive {
+  private static final String EXTENSION = ".csv";
+  // 최근 캔들 조회 시 파일 끝에서 처음 읽는 크기
+  private static final int TAIL_BLOCK_SIZE = 32 * 1024;
+
+  private final Path root;
+
+  public CandleArchive(Path root) {
+    this.root = root;
+  }
+
+  /**
+   * 아카이브에 저장된 마켓 목록을 조회합니다.
+   *
+   * @return 마켓코드 리스트
+   */
+  public List<String> markets() {
+    if (!Files.isDirectory(root)) {
+      return List.of();
+    }
+
+    try (Stream<Path> paths = Files.list(root)) {
+      return paths.filter(Files::isDirectory)
+            .map(path -> path.getFileName().toString())
+            .sorted()
+            .toList();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * 캔들 파일 경로를 반환합니다.
+   *
+   * @param market 마켓코드
+   * @param unit   캔들 단위 (분)
+   * @return 캔들 파일 경로
+   */
+  public Path pathOf(String market, int unit) {
+    return root.resolve(market).resolve(unit + EXTENSION);
+  }
+
+  /**
+   * 캔들 시계열을 읽습니다. 중복된 timestamp 는 마지막 값을 사용하며 오름차순으로 정렬합니다.
+   *
+   * @param market 마켓코드
+   * @param unit   캔들 단위 (분)
+   * @return 캔들 시계열, 파일이 없는 경우 빈 시계열
+   */
+  public CandleSeries load(String market, int unit) {
+    Path path = pathOf(market, unit);
+    List<double[]> rows = new ArrayList<>();
+
+    if (Files.exists(path)) {
+      try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+        String line;
+        while ((line = reader.readLine()) != null) {
+          if (!line.isBlank()) {
+            rows.add(parse(line));
+          }
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    return toSeries(market, unit, rows, Integer.MAX_VALUE);
+  }
+
+  /**
+   * 파일 끝에서부터 최근 캔들만 읽습니다. 시간 순서대로 추가된 파일을 전제로 하며,
+   * 전체 파일을 읽지 않으므로 기간이 긴 아카이브에서도 기동 시 최근 구간만 빠르게 불러올 수 있습니다.
+   *
+   * @param market 마켓코드
+   * @param unit   캔들 단위 (분)
+   * @param count  최대 캔들 개수
+   * @return 최근 캔들 시계열, 파일이 없는 경우 빈 시계열
+   */
+  public CandleSeries tail(String market, int unit, int count) {
+    Path path = pathOf(market, unit);
+    List<double[]> rows = new ArrayList<>();
+
+    if (Files.exists(path)) {
+      try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "r")) {
+        long end = file.length();
+        long start = end;
+        String text = "";
+        // 필요한 줄 수를 채우거나 파일 처음에 도달할 때까지 읽는 구간을 두 배씩 늘림
+        for (long block = TAIL_BLOCK_SIZE; start > 0; block *= 2) {
+          start = Math.max(0, end - block);
+          byte[] bytes = new byte[(int) (end - start)];
+          file.seek(start);
+          file.readFully(bytes);
+          text = new String(bytes, StandardCharsets.UTF_8);
+          if (text.chars().filter(c -> c == '\n').count() > count) {
+            break;
+          }
+        }
+
+        String[] lines = text.split("\n");
+        // 구간 시작이 파일 처음이 아니면 첫 줄은 잘린 줄
+        for (int i = start == 0 ? 0 : 1; i < lines.length; i++) {
+          if (!lines[i].isBlank()) {
+            rows.add(parse(lines[i].trim()));
+          }
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    return toSeries(market, unit, rows, count);
+  }
+
+  /**
+   * 캔들을 파일 끝에 추가합니다. 같은 timestamp 가 이미 있으면 읽을 때 나중에 추가된 값이 사용됩니다.
+   *
+   * @param series 추가할 캔들 시계열
+   */
+  public void append(CandleSeries series) {
+    appendTo(pathOf(series.getMarket(), series.getUnit()), series);
+  }
+
+  private void appendTo(Path path, CandleSeries series) {
+    if (series.size() == 0) {
+      return;
+    }
+
+    StringBuilder lines = new StringBuilder(series.size() * 64);
+    for (int i = 0; i < series.size(); i++) {
+      lines.append(series.getTimestamp()[i]).append(',')
+            .append(series.getOpeningPrice()[i]).append(',')
+            .append(series.getHighPrice()[i]).append(',')
+            .append(series.getLowPrice()[i]).append(',')
+            .append(series.getTradePrice()[i]).append(',')
+            .append(series.getVolume()[i]).append('\n');
+    }
+
+    try {
+      Files.createDirectories(path.getParent());
+      Files.writeString(path, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+            StandardOpenOption.APPEND);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * 파일을 timestamp 오름차순, 중복 제거된 상태로 다시 씁니다.
+   * 과거 방향으로 추가된 백필 구간이 섞여 있어도 이후 {@link #tail} 이 최근 캔들을 읽을 수 있도록 합니다.
+   *
+   * @param market 마켓코드
+   * @param unit   캔들 단위 (분)
+   * @return 정리 후 캔들 수
+   */
+  public int compact(String market, int unit) {
+    CandleSeries series = load(market, unit);
+    if (series.size() == 0) {
+      return 0;
+    }
+    Path path = pathOf(market, unit);
+    Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+    try {
+      Files.deleteIfExists(temp);
+      appendTo(temp, series);
+      Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return series.size();
+  }
+
+  private static double[] parse(String line) {
+    String[] columns = line.split(",");
+    double[] row = new double[columns.length];
+    for (int i = 0; i < columns.length; i++) {
+      row[i] = Double.parseDouble(columns[i]);
+    }
+    return row;
+  }
+
+  /**
+   * 행 목록을 timestamp 오름차순 시계열로 변환하고 마지막 limit 개만 남깁니다.
+   */
+  private static CandleSeries toSeries(String market, int unit, List<double[]> rows, int limit) {
+    // timestamp 기준 오름차순 정렬 (안정 정렬이므로 중복 시 나중에 기록된 행이 뒤에 위치)
+    rows.sort(Comparator.comparingDouble(row -> row[0]));
+
+    int size = 0;
+    long[] timestamp = new long[rows.size()];
+    double[] open = new double[rows.size()];
+    double[] high = new double[rows.size()];
+    double[] low = new double[rows.size()];
+    double[] close = new double[rows.size()];
+    double[] volume = new double[rows.size()];
+
+    for (double[] row : rows) {
+      long time = (long) row[0];
+      // 같은 timestamp 는 덮어쓰기
+      int index = (size > 0 && timestamp[size - 1] == time) ? size - 1 : size++;
+      timestamp[index] = time;
+      open[index] = row[1];
+      high[index] = row[2];
+      low[index] = row[3];
+      close[index] = row[4];
+      volume[index] = row[5];
+    }
+
+    int from = Math.max(0, size - limit);
+    return new CandleSeries(market, unit,
+          Arrays.copyOfRange(timestamp, from, size),
+          Arrays.copyOfRange(open, from, size),
+          Arrays.copyOfRange(high, from, size),
+          Arrays.copyOfRange(low, from, size),
+          Arrays.copyOfRange(close, from, size),
+          Arrays.copyOfRange(volume, from, size));
+  }
+}
@@ -0,0 +1,299 @@
+package my.trader.coin.backtest;
+
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+import my.trader.coin.dto.quotation.CandleResponseDto;
+import my.trader.coin.enums.ColorfulConsoleOutput;
+import my.trader.coin.enums.Unit;
+import my.trader.coin.enums.UpbitType;
+
+/**
+ * 분 캔들 API 를 to 커서로 과거 방향으로 페이지 조회하여 {@link CandleArchive} 에 채웁니다.
+ * 종목 x 캔들 단위별 작업을 병렬로 실행하며, 모든 요청은 하나의 {@link RateLimiter} 를 거칩니다.
+ * 페이지를 아카이브에 추가할 때마다 {market}/{unit}.backfill 에 커서를 기록하므로
+ * 중단 후 다시 실행하면 마지막으로 기록된 커서부터 이어서 조회하고, 완료된 작업은 지난 실행 이후 구간만 조회합니다.
+ * 작업이 끝나면 파일을 시간 순서로 정리하므로 실행 중인 앱과 같은 아카이브를 동시에 사용하지 않아야 합니다.
+ * 커서 기록 전에 중단되면 해당 페이지를 한 번 더 추가하지만, 아카이브는 읽을 때 같은 timestamp 를 하나로 합칩니다.
+ */
+public class CandleBackfill {
+  private static final int PAGE_SIZE = Integer.parseInt(UpbitType.MAX_CANDLE_SIZE.getType());
+  private static final int MAX_ATTEMPTS = 5;
+  private static final String CHECKPOINT_EXTENSION = ".backfill";
+
+  private final CandleArchive archive;
+  private final CandlePageFetcher fetcher;
+  private final RateLimiter rateLimiter;
+
+  private final AtomicLong requests = new AtomicLong();
+  private final AtomicLong retries = new AtomicLong();
+  private final AtomicLong candles = new AtomicLong();
+  // 남은 예상 페이지 수 (작업 시작 시 추가, 페이지 조회마다 차감)
+  private final AtomicLong remainingPages = new AtomicLong();
+  private final AtomicInteger completedJobs = new AtomicInteger();
+  private final AtomicInteger failedJobs = new AtomicInteger();
+
+  /**
+   * 한 페이지 조회. 업비트와 같이 to 이전(exclusive) 캔들을 최신부터 count 개 반환해야 합니다.
+   */
+  @FunctionalInterface
+  public interface CandlePageFetcher {
+    List<CandleResponseDto> fetch(String market, Unit unit, String to, int count);
+  }
+
+  /**
+   * this is constructor.
+   *
+   * @param archive     캔들 아카이브
+   * @param fetcher     페이지 조회
+   * @param rateLimiter 시세 조회 요청 수 제한
+   */
+  public CandleBackfill(CandleArchive archive, CandlePageFetcher fetcher,
+                        RateLimiter rateLimiter) {
+    this.archive = archive;
+    this.fetcher = fetcher;
+    this.rateLimiter = rateLimiter;
+  }
+
+  /**
+   * 모든 종목 x 캔들 단위를 fromMillis 까지 채웁니다.
+   *
+   * @param markets     마켓코드 목록
+   * @param units       캔들 단위 목록
+   * @param fromMillis  채울 가장 과거 시각 (epoch millis)
+   * @param parallelism 동시에 진행할 작업 수
+   */
+  public void run(List<String> markets, List<Unit> units, long fromMillis, int parallelism) {
+    long startedAt = System.currentTimeMillis();
+    int jobs = markets.size() * units.size();
+    ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, parallelism));
+    ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "backfill-progress");
+      thread.setDaemon(true);
+      return thread;
+    });
+    reporter.scheduleAtFixedRate(() -> report(startedAt, jobs), 10, 10, TimeUnit.SECONDS);
+
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (String market : markets) {
+        for (Unit unit : units) {
+          futures.add(executor.submit(() -> backfill(market, unit, fromMillis)));
+        }
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      throw new IllegalStateException(e.getCause());
+    } finally {
+      reporter.shutdownNow();
+      executor.shutdownNow();
+    }
+
+    long elapsed = Math.max(1, System.currentTimeMillis() - startedAt);
+    ColorfulConsoleOutput.printWithColor(
+          String.format("백필 완료: 작업 %d/%d (실패 %d), 요청 %,d (재시도 %,d), 캔들 %,d, "
+                      + "%,d ms, %.1f req/s, %,.0f candles/s",
+                completedJobs.get(), jobs, failedJobs.get(), requests.get(), retries.get(),
+                candles.get(), elapsed, requests.get() * 1000.0 / elapsed,
+                candles.get() * 1000.0 / elapsed),
+          failedJobs.get() == 0 ? ColorfulConsoleOutput.GREEN : ColorfulConsoleOutput.YELLOW);
+  }
+
+  /**
+   * 한 종목 x 캔들 단위 작업. 지난 실행 이후 새로 생긴 구간과 목표 시작 시각까지의 과거 구간을 채웁니다.
+   * 실패하면 커서를 남겨둔 채 종료하여 다음 실행에서 이어갑니다.
+   */
+  private void backfill(String market, Unit unit, long fromMillis) {
+    long now = System.currentTimeMillis();
+    Path checkpointPath = checkpointPathOf(market, unit);
+    Checkpoint checkpoint = readCheckpoint(checkpointPath);
+    if (checkpoint == null) {
+      checkpoint = new Checkpoint(now, fromMillis, now, false);
+    }
+
+    try {
+      // 과거 방향: 완료되지 않았거나 목표 시작 시각이 더 과거로 바뀐 경우
+      if (!checkpoint.done() || checkpoint.from() > fromMillis) {
+        long until = checkpoint.until();
+        Progress progress = fill(market, unit, checkpoint.cursor(), fromMillis, cursor ->
+              writeCheckpoint(checkpointPath, new Checkpoint(cursor, fromMillis, until, false)));
+        // 상장 이전까지 조회하여 더 이상 캔들이 없으면 이후 어떤 시작 시각도 만족
+        checkpoint = new Checkpoint(progress.cursor(), progress.exhausted() ? 0 : fromMillis,
+              until, true);
+        writeCheckpoint(checkpointPath, checkpoint);
+      }
+
+      // 최근 방향: 지난 실행 이후 새로 생긴 캔들
+      if (now - checkpoint.until() >= unit.getUnit() * 60_000L) {
+        fill(market, unit, now, checkpoint.until(), cursor -> { });
+        checkpoint = new Checkpoint(checkpoint.cursor(), checkpoint.from(), now, true);
+        writeCheckpoint(checkpointPath, checkpoint);
+      }
+
+      int size = archive.compact(market, unit.getUnit());
+      completedJobs.incrementAndGet();
+      ColorfulConsoleOutput.printWithColor(
+            String.format("[%s] %d분 캔들 백필 완료: %,d개", market, unit.getUnit(), size),
+            ColorfulConsoleOutput.GREEN);
+    } catch (RuntimeException e) {
+      failedJobs.incrementAndGet();
+      ColorfulConsoleOutput.printWithColor(
+            String.format("[%s] %d분 캔들 백필 실패 (다음 실행에서 이어서 진행): %s", market,
+                  unit.getUnit(), e.getMessage()), ColorfulConsoleOutput.RED);
+    }
+  }
+
+  /**
+   * to 부터 stopAt 까지 과거 방향으로 페이지를 조회하여 아카이브에 추가합니다.
+   *
+   * @param onPage 페이지 추가 후 새 커서로 호출
+   * @return 마지막 커서와 상장 이전 도달 여부
+   */
+  private Progress fill(String market, Unit unit, long to, long stopAt, LongConsumer onPage) {
+    long unitMillis = unit.getUnit() * 60_000L;
+    long expectedPages = Math.max(0, (to - stopAt) / unitMillis / PAGE_SIZE + 1);
+    remainingPages.addAndGet(expectedPages);
+
+    long cursor = to;
+    try {
+      while (cursor > stopAt) {
+        List<CandleResponseDto> page = fetch(market, unit, cursor);
+        if (expectedPages > 0) {
+          expectedPages--;
+          remainingPages.decrementAndGet();
+        }
+        if (page.isEmpty()) {
+          return new Progress(cursor, true);
+        }
+
+        CandleSeries series = CandleSeries.of(market, unit.getUnit(), page);
+        archive.append(series);
+        candles.addAndGet(series.size());
+        cursor = series.getTimestamp()[0];
+        onPage.accept(cursor);
+
+        if (page.size() < PAGE_SIZE) {
+          return new Progress(cursor, true);
+        }
+      }
+      return new Progress(cursor, false);
+    } finally {
+      remainingPages.addAndGet(-expectedPages);
+    }
+  }
+
+  /**
+   * 요청 수 제한을 지키며 한 페이지를 조회합니다. 실패(429 포함) 시 점점 길게 대기 후 재시도합니다.
+   */
+  private List<CandleResponseDto> fetch(String market, Unit unit, long cursor) {
+    String to = CandleSeries.formatStart(cursor) + "Z";
+    for (int attempt = 1; ; attempt++) {
+      while (!rateLimiter.acquirePermission()) {
+        Thread.onSpinWait();
+      }
+      requests.incrementAndGet();
+      try {
+        return fetcher.fetch(market, unit, to, PAGE_SIZE);
+      } catch (RuntimeException e) {
+        if (attempt >= MAX_ATTEMPTS) {
+          throw e;
+        }
+        retries.incrementAndGet();
+        sleep(1000L * attempt);
+      }
+    }
+  }
+
+  private void report(long startedAt, int jobs) {
+    long elapsed = Math.max(1, System.currentTimeMillis() - startedAt);
+    double rate = requests.get() * 1000.0 / elapsed;
+    long remaining = remainingPages.get();
+    ColorfulConsoleOutput.printWithColor(
+          String.format("백필 진행: 작업 %d/%d, 요청 %,d (%.1f req/s), 캔들 %,d, 남은 페이지 최대 %,d"
+                      + " (예상 %s)", completedJobs.get() + failedJobs.get(), jobs,
+                requests.get(), rate, candles.get(), remaining,
+                rate > 0 ? formatDuration((long) (remaining / rate * 1000)) : "-"),
+          ColorfulConsoleOutput.CYAN);
+  }
+
+  private static String formatDuration(long millis) {
+    long seconds = millis / 1000;
+    return String.format("%d:%02d:%02d", seconds / 3600, seconds / 60 % 60, seconds % 60);
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("백필이 중단되었습니다.", e);
+    }
+  }
+
+  /**
+   * 진행 상태.
+   *
+   * @param cursor 지금까지 채운 가장 과거 캔들 시작 시각 (다음 페이지의 to)
+   * @param from   목표 시작 시각 (상장 이전까지 채웠으면 0)
+   * @param until  채워진 가장 최근 시각 (이후 구간은 다음 실행에서 채움)
+   * @param done   과거 방향 완료 여부
+   */
+  record Checkpoint(long cursor, long from, long until, boolean done) {
+  }
+
+  private record Progress(long cursor, boolean exhausted) {
+  }
+
+  Path checkpointPathOf(String market, Unit unit) {
+    return archive.pathOf(market, unit.getUnit())
+          .resolveSibling(unit.getUnit() + CHECKPOINT_EXTENSION);
+  }
+
+  static Checkpoint readCheckpoint(Path path) {
+    if (!Files.exists(path)) {
+      return null;
+    }
+    try {
+      String[] values = Files.readString(path, StandardCharsets.UTF_8).trim().split(",");
+      return new Checkpoint(Long.parseLong(values[0]), Long.parseLong(values[1]),
+            Long.parseLong(values[2]), Boolean.parseBoolean(values[3]));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } catch (RuntimeException e) {
+      // 손상된 진행 상태는 무시하고 처음부터 (이미 받은 캔들은 중복 제거됨)
+      return null;
+    }
+  }
+
+  static void writeCheckpoint(Path path, Checkpoint checkpoint) {
+    Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+    try {
+      Files.createDirectories(path.getParent());
+      Files.writeString(temp, checkpoint.cursor() + "," + checkpoint.from() + ","
+            + checkpoint.until() + "," + checkpoint.done(), StandardCharsets.UTF_8);
+      Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,105 @@
+package my.trader.coin.backtest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import lombok.Getter;
+import my.trader.coin.dto.quotation.CandleResponseDto;
+
+/**
+ * 한 종목, 한 캔들 단위의 시계열을 필드별 primitive 배열로 보관합니다.
+ * 모든 배열은 timestamp 기준 오름차순이며 같은 길이를 가집니다.
+ */
+@Getter
+public class CandleSeries {
+  private static final DateTimeFormatter CANDLE_TIME_FORMAT =
+        DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+  // 마켓코드(ex: KRW-BTC)
+  private final String market;
+  // 캔들 단위 (분)
+  private final int unit;
+  private final long[] timestamp;
+  private final double[] openingPrice;
+  private final double[] highPrice;
+  private final double[] lowPrice;
+  private final double[] tradePrice;
+  private final double[] volume;
+
+  /**
+   * this is constructor.
+   */
+  public CandleSeries(String market, int unit, long[] timestamp, double[] openingPrice,
+                      double[] highPrice, double[] lowPrice, double[] tradePrice,
+                      double[] volume) {
+    this.market = market;
+    this.unit = unit;
+    this.timestamp = timestamp;
+    this.openingPrice = openingPrice;
+    this.highPrice = highPrice;
+    this.lowPrice = lowPrice;
+    this.tradePrice = tradePrice;
+    this.volume = volume;
+  }
+
+  public int size() {
+    return timestamp.length;
+  }
+
+  /**
+   * 업비트 캔들 응답을 timestamp(캔들 시작 시각) 오름차순 시계열로 변환합니다.
+   *
+   * @param market  마켓코드
+   * @param unit    캔들 단위 (분)
+   * @param candles 캔들 응답 (정렬 무관)
+   * @return 캔들 시계열
+   */
+  public static CandleSeries of(String market, int unit, List<CandleResponseDto> candles) {
+    List<CandleResponseDto> sorted = candles.stream()
+          .sorted(Comparator.comparingLong(CandleSeries::startOf))
+          .toList();
+    int size = sorted.size();
+    long[] timestamp = new long[size];
+    double[] open = new double[size];
+    double[] high = new double[size];
+    double[] low = new double[size];
+    double[] close = new double[size];
+    double[] volume = new double[size];
+    for (int i = 0; i < size; i++) {
+      CandleResponseDto candle = sorted.get(i);
+      timestamp[i] = startOf(candle);
+      open[i] = candle.getOpeningPrice();
+      high[i] = candle.getHighPrice();
+      low[i] = candle.getLowPrice();
+      close[i] = candle.getTradePrice();
+      volume[i] = candle.getCandleAccTradeVolume() == null ? 0
+            : candle.getCandleAccTradeVolume();
+    }
+    return new CandleSeries(market, unit, timestamp, open, high, low, close, volume);
+  }
+
+  /**
+   * 캔들 시작 시각 (epoch millis, UTC). 응답의 timestamp 는 마지막 체결 시각이므로 사용하지 않습니다.
+   *
+   * @param candle 캔들 응답
+   * @return 캔들 시작 시각
+   */
+  public static long startOf(CandleResponseDto candle) {
+    return LocalDateTime.parse(candle.getCandleDateTimeUtc(), CANDLE_TIME_FORMAT)
+          .toInstant(ZoneOffset.UTC)
+          .toEpochMilli();
+  }
+
+  /**
+   * 캔들 시작 시각을 업비트 candle_date_time_utc 형식으로 변환합니다.
+   *
+   * @param epochMillis 캔들 시작 시각
+   * @return yyyy-MM-dd'T'HH:mm:ss
+   */
+  public static String formatStart(long epochMillis) {
+    return LocalDateTime.ofEpochSecond(Math.floorDiv(epochMillis, 1000), 0, ZoneOffset.UTC)
+          .format(CANDLE_TIME_FORMAT);
+  }
+}
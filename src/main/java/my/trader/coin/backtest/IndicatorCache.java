@@ -0,0 +1,47 @@
+package my.trader.coin.backtest;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import my.trader.coin.indicator.BatchIndicators;
+
+/**
+ * 백테스트 간에 공유되는 지표 시계열 캐시.
+ * 같은 종목/기간의 RSI, ADX 는 파라미터 조합이 달라도 한 번만 계산됩니다.
+ * 계산은 {@link BatchIndicators} 를 단일 종목으로 사용하며, 운영 코드가 최근 200개 캔들로 계산하는 것과 달리
+ * 전체 시계열에 누적 적용합니다. 지수 평활 특성상 200개 이후 초기값의 영향은 무시할 수 있는 수준입니다.
+ */
+public class IndicatorCache {
+  private final Map<Key, double[]> cache = new ConcurrentHashMap<>();
+
+  private record Key(String market, int unit, String indicator, int period) {
+  }
+
+  /**
+   * RSI 시계열을 조회합니다. 계산 불가능한 구간은 NaN 입니다.
+   *
+   * @param series 캔들 시계열
+   * @param period RSI 가중치
+   * @return 캔들 인덱스별 RSI
+   */
+  public double[] relativeStrengthIndex(CandleSeries series, int period) {
+    return cache.computeIfAbsent(new Key(series.getMarket(), series.getUnit(), "RSI", period),
+          key -> BatchIndicators.relativeStrengthIndex(series.getTradePrice(), 1, period));
+  }
+
+  /**
+   * ADX 시계열을 조회합니다. 계산 불가능한 구간은 NaN 입니다.
+   *
+   * @param series 캔들 시계열
+   * @param period ADX 가중치
+   * @return 캔들 인덱스별 ADX
+   */
+  public double[] averageDirectionalMovementIndex(CandleSeries series, int period) {
+    return cache.computeIfAbsent(new Key(series.getMarket(), series.getUnit(), "ADX", period),
+          key -> BatchIndicators.averageDirectionalMovementIndex(series.getHighPrice(),
+                series.getLowPrice(), series.getTradePrice(), 1, period));
+  }
+
+  public int size() {
+    return cache.size();
+  }
+}
@@ -0,0 +1,113 @@
+package my.trader.coin.backtest;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import my.trader.coin.config.AppConfig;
+import my.trader.coin.enums.ColorfulConsoleOutput;
+
+/**
+ * 오프라인 파라미터 최적화 실행기.
+ * 사용 예: ./gradlew optimize -Pargs="--archive=archive --unit=1 --mode=random --samples=5000"
+ */
+public class OptimizerRunner {
+
+  /**
+   * 파라미터 스윕 실행.
+   *
+   * @param args --key=value 형식의 옵션
+   */
+  public static void main(String[] args) {
+    Map<String, String> options = parseOptions(args);
+
+    CandleArchive archive = new CandleArchive(Path.of(options.getOrDefault("archive", "archive")));
+    int unit = Integer.parseInt(options.getOrDefault("unit", "1"));
+    String mode = options.getOrDefault("mode", "grid");
+    int samples = Integer.parseInt(options.getOrDefault("samples", "5000"));
+    long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+    int top = Integer.parseInt(options.getOrDefault("top", "20"));
+    double ratio = Double.parseDouble(options.getOrDefault("ratio", "0.0"));
+    double cash = Double.parseDouble(options.getOrDefault("cash", "1000000"));
+    double amount = Double.parseDouble(
+          options.getOrDefault("amount", String.valueOf(AppConfig.baseTradeAmount)));
+
+    List<String> markets = options.containsKey("markets")
+          ? Arrays.asList(options.get("markets").split(","))
+          : archive.markets();
+
+    List<CandleSeries> seriesList = markets.stream()
+          .map(market -> archive.load(market, unit))
+          .filter(series -> series.size() > 0)
+          .toList();
+    if (seriesList.isEmpty()) {
+      ColorfulConsoleOutput.printWithColor("백테스트 대상 캔들이 없습니다.", ColorfulConsoleOutput.RED);
+      return;
+    }
+
+    ParameterSpace space = ParameterSpace.builder().build();
+    List<StrategyParameters> candidates =
+          mode.equals("random") ? space.random(samples, seed) : space.grid();
+
+    IndicatorCache indicatorCache = new IndicatorCache();
+    Backtester backtester = new Backtester(indicatorCache, ratio, cash, amount,
+          AppConfig.exchangeFeeRatio, AppConfig.minOrderAmount);
+    ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    long startedAt = System.currentTimeMillis();
+    List<BacktestResult> results;
+    try {
+      results = new StrategyOptimizer(pool, backtester, seriesList).optimize(candidates);
+    } finally {
+      pool.shutdown();
+    }
+    long elapsed = System.currentTimeMillis() - startedAt;
+
+    ColorfulConsoleOutput.printWithColor(
+          String.format("백테스트 %d회 완료 (종목 %d개, 파라미터 %d개, 지표 캐시 %d개, %dms)",
+                (long) candidates.size() * seriesList.size(), seriesList.size(),
+                candidates.size(), indicatorCache.size(), elapsed),
+          ColorfulConsoleOutput.GREEN);
+    printTable(results.subList(0, Math.min(top, results.size())));
+  }
+
+  private static void printTable(List<BacktestResult> results) {
+    StringBuilder table = new StringBuilder();
+    table.append(String.format("%n%4s %6s %4s %5s %4s %5s %5s %5s %4s %14s %7s %8s %7s",
+          "rank", "tp%", "rsiP", "rsi", "adxP", "base", "step", "band", "cool",
+          "pnl", "trades", "hitRate", "mdd%"));
+    for (int i = 0; i < results.size(); i++) {
+      BacktestResult result = results.get(i);
+      StrategyParameters parameters = result.getParameters();
+      table.append(String.format(
+            "%n%4d %6.2f %4d %5.1f %4d %5.1f %5.1f %5.1f %4d %,14.0f %7d %7.2f%% %7.2f",
+            i + 1,
+            parameters.getTakeProfitPercentage(),
+            parameters.getRsiPeriod(),
+            parameters.getRsiBuyThreshold(),
+            parameters.getAdxPeriod(),
+            parameters.getBaseAdx(),
+            parameters.getAdxStep(),
+            parameters.getAdxBandWidth(),
+            parameters.getBuyCooldownMinutes(),
+            result.getProfitAndLoss(),
+            result.getTrades(),
+            result.getHitRate(),
+            result.getMaxDrawdownPercentage()));
+    }
+    ColorfulConsoleOutput.printWithColor(table.toString(), ColorfulConsoleOutput.CYAN);
+  }
+
+  private static Map<String, String> parseOptions(String[] args) {
+    Map<String, String> options = new HashMap<>();
+    for (String arg : args) {
+      if (arg.startsWith("--") && arg.contains("=")) {
+        int index = arg.indexOf('=');
+        options.put(arg.substring(2, index), arg.substring(index + 1));
+      }
+    }
+    return options;
+  }
+}
@@ -0,0 +1,95 @@
+package my.trader.coin.backtest;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 파라미터 탐색 공간.
+ * 차원별 후보값 목록으로부터 전체 격자(grid) 또는 무작위 표본(random)을 생성합니다.
+ */
+@Getter
+@Builder
+public class ParameterSpace {
+  @Builder.Default
+  private List<Double> takeProfitPercentages = List.of(0.2, 0.3, 0.4, 0.5, 0.7, 1.0);
+  @Builder.Default
+  private List<Integer> rsiPeriods = List.of(7, 9, 14, 21);
+  @Builder.Default
+  private List<Double> rsiBuyThresholds = List.of(20.0, 25.0, 30.0, 35.0);
+  @Builder.Default
+  private List<Integer> adxPeriods = List.of(7, 14, 21);
+  @Builder.Default
+  private List<Double> baseAdxValues = List.of(20.0, 25.0, 30.0, 35.0);
+  @Builder.Default
+  private List<Double> adxSteps = List.of(0.0, 2.0, 4.0, 6.0);
+  @Builder.Default
+  private List<Double> adxBandWidths = List.of(5.0, 10.0, 15.0, 20.0);
+  @Builder.Default
+  private List<Integer> buyCooldownMinutes = List.of(1, 2, 5, 10);
+
+  /**
+   * 모든 후보값 조합을 생성합니다.
+   *
+   * @return 파라미터 조합 리스트
+   */
+  public List<StrategyParameters> grid() {
+    List<StrategyParameters> result = new ArrayList<>();
+    for (double takeProfit : takeProfitPercentages) {
+      for (int rsiPeriod : rsiPeriods) {
+        for (double rsiBuyThreshold : rsiBuyThresholds) {
+          for (int adxPeriod : adxPeriods) {
+            for (double baseAdx : baseAdxValues) {
+              for (double adxStep : adxSteps) {
+                for (double adxBandWidth : adxBandWidths) {
+                  for (int cooldown : buyCooldownMinutes) {
+                    result.add(new StrategyParameters(takeProfit, rsiPeriod, rsiBuyThreshold,
+                          adxPeriod, baseAdx, adxStep, adxBandWidth, cooldown));
+                  }
+                }
+              }
+            }
+          }
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * 후보값 중 무작위로 선택한 조합을 중복 없이 생성합니다.
+   *
+   * @param samples 생성할 조합 개수 (전체 조합 수를 넘으면 전체 조합 수로 제한)
+   * @param seed    난수 시드
+   * @return 파라미터 조합 리스트
+   */
+  public List<StrategyParameters> random(int samples, long seed) {
+    long combinations = (long) takeProfitPercentages.size() * rsiPeriods.size()
+          * rsiBuyThresholds.size() * adxPeriods.size() * baseAdxValues.size()
+          * adxSteps.size() * adxBandWidths.size() * buyCooldownMinutes.size();
+    int target = (int) Math.min(samples, combinations);
+
+    Random random = new Random(seed);
+    Set<StrategyParameters> result = new LinkedHashSet<>();
+    while (result.size() < target) {
+      result.add(new StrategyParameters(
+            pick(takeProfitPercentages, random),
+            pick(rsiPeriods, random),
+            pick(rsiBuyThresholds, random),
+            pick(adxPeriods, random),
+            pick(baseAdxValues, random),
+            pick(adxSteps, random),
+            pick(adxBandWidths, random),
+            pick(buyCooldownMinutes, random)));
+    }
+    return new ArrayList<>(result);
+  }
+
+  private static <T> T pick(List<T> values, Random random) {
+    return values.get(random.nextInt(values.size()));
+  }
+}
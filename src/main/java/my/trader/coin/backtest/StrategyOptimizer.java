@@ -0,0 +1,93 @@
+package my.trader.coin.backtest;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 파라미터 조합별 백테스트를 ForkJoinPool 로 병렬 실행하고 결과를 순위별로 정렬합니다.
+ * 지표 시계열은 {@link IndicatorCache} 를 통해 같은 기간을 사용하는 모든 실행이 공유합니다.
+ */
+public class StrategyOptimizer {
+  // 하나의 작업 단위가 직접 처리하는 최대 파라미터 조합 수
+  private static final int SEQUENTIAL_THRESHOLD = 16;
+
+  private final ForkJoinPool pool;
+  private final Backtester backtester;
+  private final List<CandleSeries> seriesList;
+
+  /**
+   * this is constructor.
+   *
+   * @param pool       병렬 실행에 사용할 ForkJoinPool
+   * @param backtester 백테스터
+   * @param seriesList 백테스트 대상 종목별 캔들 시계열
+   */
+  public StrategyOptimizer(ForkJoinPool pool, Backtester backtester,
+                           List<CandleSeries> seriesList) {
+    this.pool = pool;
+    this.backtester = backtester;
+    this.seriesList = seriesList;
+  }
+
+  /**
+   * 모든 파라미터 조합을 백테스트하고 손익 내림차순, 최대 낙폭 오름차순으로 정렬합니다.
+   *
+   * @param candidates 파라미터 조합 리스트
+   * @return 순위별 백테스트 결과
+   */
+  public List<BacktestResult> optimize(List<StrategyParameters> candidates) {
+    List<BacktestResult> results = pool.invoke(new SweepTask(candidates, 0, candidates.size()));
+
+    results.sort(Comparator.comparingDouble(BacktestResult::getProfitAndLoss).reversed()
+          .thenComparingDouble(BacktestResult::getMaxDrawdownPercentage));
+    return results;
+  }
+
+  /**
+   * 한 파라미터 조합을 모든 종목에 대해 실행하고 결과를 합산합니다.
+   */
+  private BacktestResult evaluate(StrategyParameters parameters) {
+    BacktestResult total = new BacktestResult(parameters, 0, 0, 0, 0);
+    for (CandleSeries series : seriesList) {
+      total = total.merge(backtester.run(series, parameters));
+    }
+    return total;
+  }
+
+  /**
+   * 파라미터 구간을 절반씩 분할하여 처리하는 작업.
+   */
+  private class SweepTask extends RecursiveTask<List<BacktestResult>> {
+    private final List<StrategyParameters> candidates;
+    private final int from;
+    private final int to;
+
+    SweepTask(List<StrategyParameters> candidates, int from, int to) {
+      this.candidates = candidates;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected List<BacktestResult> compute() {
+      if (to - from <= SEQUENTIAL_THRESHOLD) {
+        List<BacktestResult> results = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+          results.add(evaluate(candidates.get(i)));
+        }
+        return results;
+      }
+
+      int middle = (from + to) >>> 1;
+      SweepTask left = new SweepTask(candidates, from, middle);
+      SweepTask right = new SweepTask(candidates, middle, to);
+      left.fork();
+      List<BacktestResult> results = new ArrayList<>(right.compute());
+      results.addAll(left.join());
+      return results;
+    }
+  }
+}
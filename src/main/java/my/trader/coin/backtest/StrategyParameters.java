@@ -0,0 +1,60 @@
+package my.trader.coin.backtest;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 백테스트 한 회에 사용되는 전략 파라미터 묶음.
+ * 기본값은 현재 운영중인 ScalpingStrategy / UpbitScheduler 의 고정값과 동일합니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StrategyParameters {
+  // 익절율 (%)
+  @Builder.Default
+  private double takeProfitPercentage = 0.3;
+  // RSI 가중치
+  @Builder.Default
+  private int rsiPeriod = 14;
+  // 매수 기준 RSI (이하일 때 매수)
+  @Builder.Default
+  private double rsiBuyThreshold = 30;
+  // ADX 가중치
+  @Builder.Default
+  private int adxPeriod = 14;
+  // 구매 기준 ADX 기본값
+  @Builder.Default
+  private double baseAdx = 30;
+  // UBMI 변동률 1단위당 가산되는 ADX
+  @Builder.Default
+  private double adxStep = 4;
+  // 최소 구매 ADX 로부터 허용되는 최대 ADX 폭
+  @Builder.Default
+  private double adxBandWidth = 10;
+  // 동일 종목 재매수 대기 시간 (분)
+  @Builder.Default
+  private int buyCooldownMinutes = 2;
+
+  /**
+   * 구매 기준 ADX 를 구합니다. 운영중인 시장 국면(MarketRegimeService)도 이 규칙을 사용합니다.
+   *
+   * @param marketIndexRatio UBMI 변동률
+   * @return 최소 구매 ADX 값
+   */
+  public double calculatePurchaseAdx(double marketIndexRatio) {
+    int roundedValue;
+    if (marketIndexRatio > 0) {
+      roundedValue = (int) Math.ceil(marketIndexRatio);
+    } else if (marketIndexRatio > -1) {
+      roundedValue = 0;
+    } else {
+      roundedValue = (int) Math.floor(marketIndexRatio) * -1;
+    }
+
+    return baseAdx + roundedValue * adxStep;
+  }
+}
@@ -21,6 +21,8 @@ public class AppConfig {
   @Setter
   public static List<String> scheduledMarket;
   public static List<String> initScheduledMarket;
+  // UBMI 10 구성 종목 (시장 국면 직접 계산에 사용)
+  public static List<String> marketIndexConstituents;
   public static String activatedMarketSelectStrategy;
 
   // 수익실현 시 전체 물량 매도 여부
@@ -43,6 +45,114 @@ public class AppConfig {
   // 익절율
   public static double takeProfitPercentage;
 
+  // 업비트 API base url (-Dupbit.api.url 로 변경 가능)
+  public static String upbitApiBaseUrl;
+  // UBMI 인덱스 API base url (-Dupbit.index.url 로 변경 가능)
+  public static String marketIndexApiBaseUrl;
+
+  // 모의투자 여부 (-Dpaper=true 로 활성화, 주문/계좌 API 를 프로세스 내 모의 거래소로 대체)
+  public static boolean paperTrading;
+  // 모의투자 초기 원화 잔고
+  public static double paperInitialBalance;
+
+  // 사전 위험 점검: 종목별 최대 보유금액 (-Drisk.max.market.notional)
+  public static long riskMaxMarketNotional;
+  // 사전 위험 점검: 전체 최대 보유금액 (-Drisk.max.total.notional)
+  public static long riskMaxTotalNotional;
+  // 사전 위험 점검: 최대 미체결 주문 수 (-Drisk.max.open.orders)
+  public static int riskMaxOpenOrders;
+  // 사전 위험 점검: 초당 최대 주문 수 (-Drisk.max.orders.per.second, 업비트 주문 API 제한 초당 8회)
+  public static int riskMaxOrdersPerSecond;
+
+  // 거래 기록 여부 (-Djournal.enabled=false 로 비활성화)
+  public static boolean journalEnabled;
+  // 거래 기록 디렉터리 (-Djournal.dir)
+  public static String journalDirectory;
+  // 거래 기록 세그먼트 크기 (바이트)
+  public static int journalSegmentSize;
+  // 거래 기록 디스크 동기화 주기 (-Djournal.flush.interval.ms)
+  public static long journalFlushIntervalMillis;
+
+  // HTTP/2 사용 여부 (-Dhttp.h2=false 로 HTTP/1.1 고정, 서버가 지원하지 않으면 HTTP/1.1 로 협상)
+  public static boolean httpProtocolH2;
+  // 유휴 커넥션 유지 시간 (-Dhttp.max.idle.seconds, 30초 주기보다 길게 유지)
+  public static int httpMaxIdleSeconds;
+  // 커넥션 최대 수명 (-Dhttp.max.life.seconds)
+  public static int httpMaxLifeSeconds;
+  // 주기 시작 전 미리 연결할 커넥션 수 (-Dhttp.warmup.connections, 0 이면 사용 안함)
+  public static int httpWarmupConnections;
+  // 사이클 예정 시각보다 커넥션을 미리 맺는 시간 (-Dhttp.warmup.lead.ms)
+  public static long httpWarmupLeadMillis;
+  // DNS 조회 결과 최대 보관 시간 (-Dhttp.dns.cache.seconds)
+  public static int httpDnsCacheSeconds;
+  // 같은 시세 조회 결과 재사용 시간 (-Dquotation.cache.ms, 0 이면 동시 요청 병합만 수행)
+  public static long quotationCacheMillis;
+  // 현재가 조회 1건에 담는 최대 시장 수 (-Dticker.chunk.size)
+  public static int tickerChunkSize;
+  // 나누어 조회할 때 동시에 보내는 현재가 조회 수 (-Dticker.parallelism)
+  public static int tickerParallelism;
+
+  // 샤드 번호 (-Dshard.index, 0 부터 시작)
+  public static int shardIndex;
+  // 전체 샤드 수 (-Dshard.count, 1 이면 샤딩 사용 안함)
+  public static int shardCount;
+  // 샤드 heartbeat 공유 디렉터리 (-Dshard.dir)
+  public static String shardDirectory;
+
+  // 원격 측정 링 버퍼 크기 (-Dtelemetry.buffer.size, 2의 거듭제곱으로 올림)
+  public static int telemetryBufferSize;
+  // 원격 측정 구독자 읽기 주기 (-Dtelemetry.poll.ms)
+  public static long telemetryPollMillis;
+
+  // 로컬 캔들 아카이브 디렉터리 (-Dcandle.archive.dir, 기동 시 최근 캔들을 읽고 종료 시 추가)
+  public static String candleArchiveDirectory;
+  // 기동 예열 병렬 작업 수 (-Dwarmup.parallelism)
+  public static int warmupParallelism;
+  // 기동 예열 제한 시간 (-Dwarmup.timeout.seconds, 넘기면 남은 작업을 기다리지 않고 시작)
+  public static long warmupTimeoutSeconds;
+  // 주요 계산 경로 JIT 예열 반복 횟수 (-Dwarmup.jit.iterations, 0 이면 사용 안함)
+  public static int warmupJitIterations;
+
+  // 매매 사이클 기본 주기 (-Dloop.interval.ms, 부하가 낮으면 이 주기로 정시에 실행)
+  public static long loopIntervalMillis;
+  // 매매 사이클 최대 주기 (-Dloop.max.interval.ms)
+  public static long loopMaxIntervalMillis;
+  // 주기 조정 목표 부하 (-Dloop.target.load, 소요 시간/요청 수가 주기의 이 비율 이내가 되도록 주기를 늘림)
+  public static double loopTargetLoad;
+  // 종목 선정을 건너뛰는 부하 (-Dloop.shed.screener.load)
+  public static double loopShedScreenerLoad;
+  // 매수를 건너뛰는 부하 (-Dloop.shed.buy.load)
+  public static double loopShedBuyLoad;
+  // 주기 대비 매수 예산 시간 비율 (-Dloop.budget.ratio)
+  public static double loopBudgetRatio;
+  // 주기 초과 시 놓친 주기를 즉시 1회로 합칠지 여부 (-Dloop.coalesce, false 면 다음 정시 주기까지 건너뜀)
+  public static boolean loopCoalesceMissedTicks;
+
+  // 주문 미체결 취소 기한 (-Dorder.timeout.ms, 0 이면 사이클 시작 시 일괄 취소만 사용)
+  public static long orderTimeoutMillis;
+  // 기한 타이머 tick 길이 (-Dtimer.tick.ms, 만료 정밀도)
+  public static long timerTickMillis;
+  // 기한 타이머 버킷 수 (-Dtimer.wheel.size, 2의 거듭제곱으로 올림)
+  public static int timerWheelSize;
+
+  // 조건부 주문(손절/추적 손절/익절 단계) 사용 여부 (-Dtrigger.enabled=true, 기본은 사이클마다 익절율만 판단)
+  public static boolean triggerEnabled;
+  // 손절율 % (-Dtrigger.stop.loss.percent, 수수료 반영 수익률이 -값 이하면 전량 매도, 0 이면 사용 안함)
+  public static double triggerStopLossPercent;
+  // 추적 손절율 % (-Dtrigger.trailing.percent, 매수 후 최고가 대비 하락률, 0 이면 사용 안함)
+  public static double triggerTrailingPercent;
+  // 익절 단계 (-Dtrigger.take.profit.ladder, "수익률%:매도비율,..." ex: 0.3:0.5,0.6:0.5, 비우면 익절율에서 전량)
+  public static String triggerTakeProfitLadder;
+  // 보유 종목 현재가 조회 주기 (-Dtrigger.poll.ms, 0 이면 사이클 중 조회한 현재가로만 평가)
+  public static long triggerPollMillis;
+
+  // 구간 추적 파일 기록 여부 (-Dtrace.enabled, 실행 중에는 POST /trace/start 로 전환)
+  public static boolean traceEnabled;
+  // 구간 추적 파일 디렉터리 (-Dtrace.dir)
+  public static String traceDirectory;
+  // 구간 추적 기록 대기열 크기 (-Dtrace.queue.size, 가득 차면 구간을 버림)
+  public static int traceQueueSize;
+
   static {
     upbitMarketIndexRatio = 0.0;
     initScheduledMarket = new ArrayList<>(
@@ -52,6 +162,18 @@ public class AppConfig {
                 MarketCode.KRW_XRP.getSymbol()
           ));
     scheduledMarket = initScheduledMarket;
+    marketIndexConstituents = List.of(
+          MarketCode.KRW_BTC.getSymbol(),
+          MarketCode.KRW_ETH.getSymbol(),
+          MarketCode.KRW_XRP.getSymbol(),
+          MarketCode.KRW_SOL.getSymbol(),
+          MarketCode.KRW_DOGE.getSymbol(),
+          MarketCode.KRW_ADA.getSymbol(),
+          MarketCode.KRW_TRX.getSymbol(),
+          MarketCode.KRW_AVAX.getSymbol(),
+          MarketCode.KRW_SHIB.getSymbol(),
+          MarketCode.KRW_XML.getSymbol()
+    );
     activatedMarketSelectStrategy = "custom";
 
     wholeSellWhenProfit = true;
@@ -61,5 +183,69 @@ public class AppConfig {
     baseTradeAmount = 10000;
     minTradeAmount = 10000;
     takeProfitPercentage = 0.3;
+
+    upbitApiBaseUrl = System.getProperty("upbit.api.url", "https://api.upbit.com");
+    marketIndexApiBaseUrl =
+          System.getProperty("upbit.index.url", "https://ubci-api.ubcindex.com");
+
+    paperTrading = Boolean.getBoolean("paper");
+    paperInitialBalance = 1000000;
+
+    riskMaxMarketNotional = Long.getLong("risk.max.market.notional", 100000L);
+    riskMaxTotalNotional = Long.getLong("risk.max.total.notional", 500000L);
+    riskMaxOpenOrders = Integer.getInteger("risk.max.open.orders", 10);
+    riskMaxOrdersPerSecond = Integer.getInteger("risk.max.orders.per.second", 8);
+
+    journalEnabled = Boolean.parseBoolean(System.getProperty("journal.enabled", "true"));
+    journalDirectory = System.getProperty("journal.dir", "journal");
+    journalSegmentSize = 64 * 1024 * 1024;
+    journalFlushIntervalMillis = Long.getLong("journal.flush.interval.ms", 200L);
+
+    httpProtocolH2 = Boolean.parseBoolean(System.getProperty("http.h2", "true"));
+    httpMaxIdleSeconds = Integer.getInteger("http.max.idle.seconds", 45);
+    httpMaxLifeSeconds = Integer.getInteger("http.max.life.seconds", 300);
+    httpWarmupConnections = Integer.getInteger("http.warmup.connections", 2);
+    httpWarmupLeadMillis = Long.getLong("http.warmup.lead.ms", 2_000L);
+    httpDnsCacheSeconds = Integer.getInteger("http.dns.cache.seconds", 300);
+    quotationCacheMillis = Long.getLong("quotation.cache.ms", 1000L);
+    tickerChunkSize = Integer.getInteger("ticker.chunk.size", 50);
+    tickerParallelism = Integer.getInteger("ticker.parallelism", 4);
+
+    shardIndex = Integer.getInteger("shard.index", 0);
+    shardCount = Integer.getInteger("shard.count", 1);
+    shardDirectory = System.getProperty("shard.dir", "shards");
+
+    telemetryBufferSize = Integer.getInteger("telemetry.buffer.size", 4096);
+    telemetryPollMillis = Long.getLong("telemetry.poll.ms", 100L);
+
+    candleArchiveDirectory = System.getProperty("candle.archive.dir", "archive");
+    warmupParallelism = Integer.getInteger("warmup.parallelism", 4);
+    warmupTimeoutSeconds = Long.getLong("warmup.timeout.seconds", 60L);
+    warmupJitIterations = Integer.getInteger("warmup.jit.iterations", 2000);
+
+    loopIntervalMillis = Long.getLong("loop.interval.ms", 30_000L);
+    loopMaxIntervalMillis = Long.getLong("loop.max.interval.ms", 60_000L);
+    loopTargetLoad = Double.parseDouble(System.getProperty("loop.target.load", "0.7"));
+    loopShedScreenerLoad =
+          Double.parseDouble(System.getProperty("loop.shed.screener.load", "0.8"));
+    loopShedBuyLoad = Double.parseDouble(System.getProperty("loop.shed.buy.load", "1.0"));
+    loopBudgetRatio = Double.parseDouble(System.getProperty("loop.budget.ratio", "0.9"));
+    loopCoalesceMissedTicks = Boolean.parseBoolean(System.getProperty("loop.coalesce", "true"));
+
+    orderTimeoutMillis = Long.getLong("order.timeout.ms", 20_000L);
+    timerTickMillis = Long.getLong("timer.tick.ms", 50L);
+    timerWheelSize = Integer.getInteger("timer.wheel.size", 512);
+
+    triggerEnabled = Boolean.parseBoolean(System.getProperty("trigger.enabled", "false"));
+    triggerStopLossPercent =
+          Double.parseDouble(System.getProperty("trigger.stop.loss.percent", "1.5"));
+    triggerTrailingPercent =
+          Double.parseDouble(System.getProperty("trigger.trailing.percent", "0"));
+    triggerTakeProfitLadder = System.getProperty("trigger.take.profit.ladder", "");
+    triggerPollMillis = Long.getLong("trigger.poll.ms", 1000L);
+
+    traceEnabled = Boolean.getBoolean("trace.enabled");
+    traceDirectory = System.getProperty("trace.dir", "trace");
+    traceQueueSize = Integer.getInteger("trace.queue.size", 8192);
   }
 }
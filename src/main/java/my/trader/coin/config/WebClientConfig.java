@@ -2,21 +2,25 @@ package my.trader.coin.config;
 
 import io.github.resilience4j.ratelimiter.RateLimiter;
 import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.netty.channel.ChannelOption;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
-import io.netty.resolver.DefaultAddressResolverGroup;
+import my.trader.coin.transport.TransportTimings;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
 import reactor.netty.resources.ConnectionProvider;
 import reactor.util.retry.Retry;
 
 import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 
 /**
  * WebClient 라이브러리 Global 설정.
@@ -49,28 +53,85 @@ public class WebClientConfig {
     });
   }
 
+  /**
+   * 요청 송신부터 응답 헤더 수신까지의 시간(TTFB) 을 기록합니다.
+   * 요청 수 제한 대기 이후에 적용되므로 대기 시간은 포함하지 않습니다.
+   */
+  private ExchangeFilterFunction firstByteTimerFilter(MeterRegistry meterRegistry) {
+    return (clientRequest, next) -> {
+      long startedAt = System.nanoTime();
+      return next.exchange(clientRequest)
+            .doOnNext(response -> Timer.builder(TransportTimings.FIRST_BYTE_METER)
+                  .tag("uri", clientRequest.url().getPath())
+                  .tag("status", String.valueOf(response.statusCode().value()))
+                  .register(meterRegistry)
+                  .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS));
+    };
+  }
+
+  /**
+   * 대상 서버가 TLS 이고 HTTP/2 가 활성화되어 있으면 ALPN 으로 H2 를 협상하고,
+   * 그 외에는 HTTP/1.1 을 사용합니다.
+   */
+  private static HttpProtocol[] protocols() {
+    if (AppConfig.httpProtocolH2 && AppConfig.upbitApiBaseUrl.startsWith("https")) {
+      return new HttpProtocol[] {HttpProtocol.H2, HttpProtocol.HTTP11};
+    }
+    return new HttpProtocol[] {HttpProtocol.HTTP11};
+  }
+
+  /**
+   * 쿼리 문자열을 제거하여 uri 태그 수가 늘어나지 않도록 합니다.
+   */
+  private static String uriTag(String uri) {
+    int query = uri.indexOf('?');
+    return query < 0 ? uri : uri.substring(0, query);
+  }
+
+  /**
+   * WebClient.Builder 설정.
+   *
+   * @param meterRegistry 전송 구간별 지연 기록용 MeterRegistry
+   * @return WebClient.Builder
+   */
   @Bean
-  public WebClient.Builder webClientBuilder() {
+  public WebClient.Builder webClientBuilder(MeterRegistry meterRegistry) {
     // 커넥션 프로바이더 설정
+    // 30초 주기 사이에 커넥션이 만료되어 TLS 를 다시 맺지 않도록 유휴 시간을 주기보다 길게 유지
     ConnectionProvider connectionProvider = ConnectionProvider.builder("custom")
           .maxConnections(1000) // maxConnection 설정
-          .maxIdleTime(Duration.ofSeconds(20)) // 유휴 커넥션 제거 주기 설정
-          .maxLifeTime(Duration.ofSeconds(60)) // 커넥션의 최대 수명 설정
+          .maxIdleTime(Duration.ofSeconds(AppConfig.httpMaxIdleSeconds)) // 유휴 커넥션 제거 기준
+          .maxLifeTime(Duration.ofSeconds(AppConfig.httpMaxLifeSeconds)) // 커넥션의 최대 수명 설정
+          .evictInBackground(Duration.ofSeconds(15)) // 만료 커넥션 백그라운드 정리
           .lifo() // LIFO 설정
+          .metrics(true) // 커넥션 풀 지표
           .build();
 
     // HttpClient 설정
     HttpClient httpClient = HttpClient.create(connectionProvider)
+          .protocol(protocols())
           .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 5000)
+          .option(ChannelOption.SO_KEEPALIVE, true)
+          .option(ChannelOption.TCP_NODELAY, true)
           .doOnConnected(conn ->
                 conn.addHandlerLast(new ReadTimeoutHandler(10))
                       .addHandlerLast(new WriteTimeoutHandler(10)))
-          .resolver(DefaultAddressResolverGroup.INSTANCE); // 기본 주소 해석기 사용
+          // Netty 비동기 DNS 해석기 (조회 결과 캐시)
+          .resolver(spec -> spec
+                .cacheMaxTimeToLive(Duration.ofSeconds(AppConfig.httpDnsCacheSeconds))
+                .cacheNegativeTimeToLive(Duration.ofSeconds(5))
+                .queryTimeout(Duration.ofSeconds(3)))
+          // DNS, 연결, TLS, 응답 시간 지표 (reactor.netty.http.client.*)
+          .metrics(true, WebClientConfig::uriTag);
+
+    // 이벤트 루프, DNS 해석기, TLS 초기화를 첫 요청 전에 완료
+    httpClient.warmup().block(Duration.ofSeconds(10));
 
     // WebClient 설정
     return WebClient.builder()
           .clientConnector(new ReactorClientHttpConnector(httpClient))
           .filter(rateLimiterFilter(rateLimiter()))
+          .filter(firstByteTimerFilter(meterRegistry))
           .filter(ExchangeFilterFunction.ofRequestProcessor(Mono::just))
           .filter(ExchangeFilterFunction.ofResponseProcessor(Mono::just))
           .codecs(configurer -> configurer
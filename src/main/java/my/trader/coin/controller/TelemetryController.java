@@ -0,0 +1,52 @@
+package my.trader.coin.controller;
+
+import java.util.List;
+import my.trader.coin.strategy.SignalThresholdTable;
+import my.trader.coin.strategy.SignalThresholds;
+import my.trader.coin.telemetry.TelemetryHub;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+/**
+ * 전략 원격 측정 조회 전용 컨트롤러.
+ */
+@RestController
+public class TelemetryController {
+  private final TelemetryHub telemetryHub;
+  private final SignalThresholdTable signalThresholdTable;
+
+  public TelemetryController(TelemetryHub telemetryHub,
+                             SignalThresholdTable signalThresholdTable) {
+    this.telemetryHub = telemetryHub;
+    this.signalThresholdTable = signalThresholdTable;
+  }
+
+  /**
+   * 최근 신호 기준값 버전 이력.
+   *
+   * @return 기준값 스냅샷 리스트 (오래된 순)
+   */
+  @GetMapping("/telemetry/thresholds")
+  public List<SignalThresholds> thresholds() {
+    return signalThresholdTable.history();
+  }
+
+  /**
+   * 지표/신호/주문/체결/보유 현황 이벤트 스트림 (Server-Sent Events).
+   * 예: curl -N "localhost:8080/telemetry/stream?market=KRW-BTC&replay=true"
+   *
+   * @param market 마켓코드 필터 (생략 시 전체)
+   * @param replay 버퍼에 남아있는 최근 이벤트부터 전송
+   * @return SSE 스트림
+   */
+  @GetMapping(value = "/telemetry/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public Flux<ServerSentEvent<String>> stream(
+        @RequestParam(required = false) String market,
+        @RequestParam(defaultValue = "false") boolean replay) {
+    return telemetryHub.stream(market, replay);
+  }
+}
@@ -0,0 +1,64 @@
+package my.trader.coin.controller;
+
+import jakarta.annotation.PreDestroy;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import my.trader.coin.config.AppConfig;
+import my.trader.coin.trace.Tracer;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 구간 추적 파일 기록을 실행 중에 켜고 끄는 컨트롤러.
+ * 예: curl -X POST localhost:8080/trace/start
+ */
+@RestController
+public class TraceController {
+
+  /**
+   * 구간 추적 파일 기록 상태.
+   *
+   * @return 기록 여부와 파일
+   */
+  @GetMapping("/trace")
+  public Map<String, Object> status() {
+    Path file = Tracer.exportFile();
+    Map<String, Object> status = new LinkedHashMap<>();
+    status.put("exporting", file != null);
+    status.put("file", file == null ? null : file.toString());
+    return status;
+  }
+
+  /**
+   * 구간 추적 파일 기록 시작.
+   *
+   * @return 기록 중인 파일
+   */
+  @PostMapping("/trace/start")
+  public Map<String, Object> start() {
+    Tracer.enable(Path.of(AppConfig.traceDirectory));
+    return status();
+  }
+
+  /**
+   * 구간 추적 파일 기록 종료.
+   *
+   * @return 버려진 구간 수
+   */
+  @PostMapping("/trace/stop")
+  public Map<String, Object> stop() {
+    Map<String, Object> result = new LinkedHashMap<>();
+    result.put("dropped", Tracer.disable());
+    return result;
+  }
+
+  /**
+   * 종료 시 대기열에 남은 구간을 기록하고 파일을 닫습니다.
+   */
+  @PreDestroy
+  public void close() {
+    Tracer.disable();
+  }
+}
@@ -0,0 +1,14 @@
+package my.trader.coin.dto.quotation;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderbookRequestDto {
+  private String markets;
+}
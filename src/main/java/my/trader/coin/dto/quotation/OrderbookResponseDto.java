@@ -0,0 +1,52 @@
+package my.trader.coin.dto.quotation;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+import lombok.Data;
+
+/**
+ * 호가 정보.
+ * <a href="https://docs.upbit.com/reference/%ED%98%B8%EA%B0%80-%EC%A0%95%EB%B3%B4-%EC%A1%B0%ED%9A%8C">...</a>
+ */
+@Data
+public class OrderbookResponseDto {
+  @JsonProperty("market")
+  private String market;
+
+  @JsonProperty("timestamp")
+  private Long timestamp;
+
+  // 호가 매도 총 잔량
+  @JsonProperty("total_ask_size")
+  private Double totalAskSize;
+
+  // 호가 매수 총 잔량
+  @JsonProperty("total_bid_size")
+  private Double totalBidSize;
+
+  // 호가 모아보기 단위
+  @JsonProperty("level")
+  private Double level;
+
+  // 호가 목록 (최우선 호가부터)
+  @JsonProperty("orderbook_units")
+  private List<OrderbookUnit> orderbookUnits;
+
+  /**
+   * 호가 단위.
+   */
+  @Data
+  public static class OrderbookUnit {
+    @JsonProperty("ask_price")
+    private Double askPrice;
+
+    @JsonProperty("bid_price")
+    private Double bidPrice;
+
+    @JsonProperty("ask_size")
+    private Double askSize;
+
+    @JsonProperty("bid_size")
+    private Double bidSize;
+  }
+}
@@ -1,27 +1,41 @@
 package my.trader.coin.enums;
 
 import lombok.Getter;
+import my.trader.coin.config.AppConfig;
 
 /**
  * 업비트에서 사용되는 API 에 대한 목록을 나열합니다.
+ * 호스트는 AppConfig 의 base url 을 따르므로 로컬 대역 서버로 교체할 수 있습니다.
  */
 @Getter
 public enum UpbitApi {
   // UBMI 10 인덱스 조회 (비공식)
-  GET_UPBIT_MARKET_INDEX_TOP10("https://ubci-api.ubcindex.com/v1/crix/index/recents?codes=IDX.UPBIT.UTTI"),
-  GET_MARKET("https://api.upbit.com/v1/market/all"),
-  GET_ACCOUNT("https://api.upbit.com/v1/accounts"),
-  GET_TICKER("https://api.upbit.com/v1/ticker"),
-  POST_ORDER("https://api.upbit.com/v1/orders"),
-  GET_MINUTE_CANDLE("https://api.upbit.com/v1/candles/minutes/%s"),
-  GET_OPEN_ORDER("https://api.upbit.com/v1/orders/open"),
-  GET_CLOSED_ORDER("https://api.upbit.com/v1/orders/closed"),
-  DELETE_CANCEL_ORDER("https://api.upbit.com/v1/order");
+  GET_UPBIT_MARKET_INDEX_TOP10(true, "/v1/crix/index/recents?codes=IDX.UPBIT.UTTI"),
+  GET_MARKET(false, "/v1/market/all"),
+  GET_ACCOUNT(false, "/v1/accounts"),
+  GET_TICKER(false, "/v1/ticker"),
+  GET_ORDERBOOK(false, "/v1/orderbook"),
+  POST_ORDER(false, "/v1/orders"),
+  GET_MINUTE_CANDLE(false, "/v1/candles/minutes/%s"),
+  GET_OPEN_ORDER(false, "/v1/orders/open"),
+  GET_CLOSED_ORDER(false, "/v1/orders/closed"),
+  DELETE_CANCEL_ORDER(false, "/v1/order");
 
-  private final String url;
+  // 비공식 인덱스 API 여부
+  private final boolean marketIndexApi;
+  private final String path;
 
-  UpbitApi(String url) {
-    this.url = url;
+  UpbitApi(boolean marketIndexApi, String path) {
+    this.marketIndexApi = marketIndexApi;
+    this.path = path;
   }
-}
 
+  /**
+   * 설정된 base url 기준의 전체 url 을 반환합니다.
+   *
+   * @return api url
+   */
+  public String getUrl() {
+    return (marketIndexApi ? AppConfig.marketIndexApiBaseUrl : AppConfig.upbitApiBaseUrl) + path;
+  }
+}
@@ -20,6 +20,10 @@ public enum UpbitType {
   ORDER_TYPE_MARKET("market"),
   // 최유리주문
   ORDER_TYPE_BEST("best"),
+  // 주문 상태 : 체결 대기
+  ORDER_STATE_WAIT("wait"),
+  // 주문 상태 : 전체 체결 완료
+  ORDER_STATE_DONE("done"),
   // 캔들 개수(1~200개까지 요청 가능)
   MIN_CANDLE_SIZE("1"),
   MAX_CANDLE_SIZE("200"),
@@ -0,0 +1,113 @@
+package my.trader.coin.indicator;
+
+/**
+ * ADX (Average Directional Index).
+ * {@link BatchIndicators#averageDirectionalMovementIndex} 와 같은 계산식입니다.
+ * TR, +DM, -DM 은 period - 1 번째 캔들까지 합계 후 Wilder 평활하고, 첫 ADX 는 DX period 개의 평균,
+ * 이후 (이전 ADX * (period - 1) + DX) / period 로 갱신합니다. 첫 값은 period * 2 번째 캔들에서 나옵니다.
+ */
+public class AverageDirectionalIndex implements StreamingIndicator {
+  private final int period;
+  private double previousHigh;
+  private double previousLow;
+  private double previousClose;
+  // 반영된 캔들 수
+  private int count;
+  private double smoothedTrueRange;
+  private double smoothedPlusDm;
+  private double smoothedMinusDm;
+  // 첫 ADX 를 위한 DX 합계
+  private double dxSum;
+  private double average = Double.NaN;
+
+  // peek 계산 결과 (update 에서 확정)
+  private double nextTrueRange;
+  private double nextPlusDm;
+  private double nextMinusDm;
+  private double nextDx;
+
+  /**
+   * this is constructor.
+   *
+   * @param period 기간
+   */
+  public AverageDirectionalIndex(int period) {
+    if (period < 1) {
+      throw new IllegalArgumentException("기간은 1 이상이어야 합니다: " + period);
+    }
+    this.period = period;
+  }
+
+  @Override
+  public double update(double high, double low, double close, double volume) {
+    if (count > 0) {
+      double next = next(high, low);
+      smoothedTrueRange = nextTrueRange;
+      smoothedPlusDm = nextPlusDm;
+      smoothedMinusDm = nextMinusDm;
+      if (count < period * 2 - 1) {
+        if (count >= period) {
+          dxSum += nextDx;
+        }
+      } else {
+        average = next;
+      }
+    }
+    previousHigh = high;
+    previousLow = low;
+    previousClose = close;
+    count++;
+    return value();
+  }
+
+  @Override
+  public double peek(double high, double low, double close, double volume) {
+    return count == 0 ? Double.NaN : next(high, low);
+  }
+
+  @Override
+  public double value() {
+    return average;
+  }
+
+  @Override
+  public void reset() {
+    count = 0;
+    smoothedTrueRange = 0;
+    smoothedPlusDm = 0;
+    smoothedMinusDm = 0;
+    dxSum = 0;
+    average = Double.NaN;
+  }
+
+  /**
+   * 캔들 1개를 반영한 평활 값과 DX 를 next* 필드에 계산하고, 반영 후 ADX 를 반환합니다.
+   */
+  private double next(double high, double low) {
+    double highDiff = high - previousHigh;
+    double lowDiff = previousLow - low;
+    double trueRange = Math.max(high - low,
+          Math.max(Math.abs(high - previousClose), Math.abs(low - previousClose)));
+    double plusDm = (highDiff > lowDiff && highDiff > 0) ? highDiff : 0;
+    double minusDm = (lowDiff > highDiff && lowDiff > 0) ? lowDiff : 0;
+
+    // period - 1 번째 캔들까지는 합계
+    double divisor = count < period ? Double.POSITIVE_INFINITY : period;
+    nextTrueRange = smoothedTrueRange - (smoothedTrueRange / divisor) + trueRange;
+    nextPlusDm = smoothedPlusDm - (smoothedPlusDm / divisor) + plusDm;
+    nextMinusDm = smoothedMinusDm - (smoothedMinusDm / divisor) + minusDm;
+    if (count < period) {
+      return Double.NaN;
+    }
+
+    double plusDi = (nextPlusDm / nextTrueRange) * 100;
+    double minusDi = (nextMinusDm / nextTrueRange) * 100;
+    nextDx = (Math.abs(plusDi - minusDi) / (plusDi + minusDi)) * 100;
+    if (count < period * 2 - 1) {
+      return Double.NaN;
+    } else if (count == period * 2 - 1) {
+      return (dxSum + nextDx) / period;
+    }
+    return ((average * (period - 1)) + nextDx) / period;
+  }
+}
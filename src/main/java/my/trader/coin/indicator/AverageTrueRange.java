@@ -0,0 +1,68 @@
+package my.trader.coin.indicator;
+
+/**
+ * ATR (Average True Range).
+ * 처음 period 개 True Range 의 단순 평균으로 시작하고 이후 Wilder 평활((이전 ATR * (period - 1) + TR) / period) 을
+ * 적용합니다. 첫 캔들은 이전 종가가 없으므로 고가 - 저가를 True Range 로 사용합니다.
+ */
+public class AverageTrueRange implements StreamingIndicator {
+  private final int period;
+  private double previousClose = Double.NaN;
+  private int count;
+  private double average;
+
+  /**
+   * this is constructor.
+   *
+   * @param period 기간
+   */
+  public AverageTrueRange(int period) {
+    if (period < 1) {
+      throw new IllegalArgumentException("기간은 1 이상이어야 합니다: " + period);
+    }
+    this.period = period;
+  }
+
+  @Override
+  public double update(double high, double low, double close, double volume) {
+    average = next(trueRange(high, low));
+    count++;
+    previousClose = close;
+    return value();
+  }
+
+  @Override
+  public double peek(double high, double low, double close, double volume) {
+    return count + 1 < period ? Double.NaN : next(trueRange(high, low));
+  }
+
+  @Override
+  public double value() {
+    return count >= period ? average : Double.NaN;
+  }
+
+  @Override
+  public void reset() {
+    previousClose = Double.NaN;
+    count = 0;
+    average = 0;
+  }
+
+  private double trueRange(double high, double low) {
+    if (Double.isNaN(previousClose)) {
+      return high - low;
+    }
+    return Math.max(high - low,
+          Math.max(Math.abs(high - previousClose), Math.abs(low - previousClose)));
+  }
+
+  /**
+   * True Range 1개를 반영한 평균. period 개 전까지는 누적 평균입니다.
+   */
+  private double next(double trueRange) {
+    if (count < period) {
+      return (average * count + trueRange) / (count + 1);
+    }
+    return (average * (period - 1) + trueRange) / period;
+  }
+}
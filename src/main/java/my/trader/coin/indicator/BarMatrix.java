@@ -0,0 +1,95 @@
+package my.trader.coin.indicator;
+
+import java.util.List;
+import lombok.Getter;
+import my.trader.coin.backtest.CandleSeries;
+
+/**
+ * 여러 종목의 캔들을 필드별 1차원 배열에 캔들(bar) 우선 순서로 보관하는 구조체 배열(SoA).
+ * (bar, market) 값은 {@code field[bar * markets + market]} 에 있으며, 한 캔들 시점의 모든 종목 값이
+ * 연속된 메모리에 놓이므로 종목 방향의 안쪽 반복문이 SIMD 로 자동 벡터화됩니다.
+ */
+@Getter
+public class BarMatrix {
+  private final List<String> marketCodes;
+  private final int markets;
+  private final int bars;
+  private final double[] highPrice;
+  private final double[] lowPrice;
+  private final double[] tradePrice;
+
+  /**
+   * 빈 행렬을 생성합니다.
+   *
+   * @param marketCodes 종목 순서
+   * @param bars        캔들 개수
+   */
+  public BarMatrix(List<String> marketCodes, int bars) {
+    this.marketCodes = List.copyOf(marketCodes);
+    this.markets = marketCodes.size();
+    this.bars = bars;
+    this.highPrice = new double[bars * markets];
+    this.lowPrice = new double[bars * markets];
+    this.tradePrice = new double[bars * markets];
+  }
+
+  /**
+   * 종목별 시계열의 최근 bars 개 캔들로 행렬을 구성합니다.
+   *
+   * @param seriesList 종목별 캔들 시계열 (timestamp 오름차순)
+   * @param bars       캔들 개수 (모든 시계열이 이 개수 이상이어야 함)
+   * @return 행렬
+   */
+  public static BarMatrix of(List<CandleSeries> seriesList, int bars) {
+    BarMatrix matrix =
+          new BarMatrix(seriesList.stream().map(CandleSeries::getMarket).toList(), bars);
+    for (int market = 0; market < seriesList.size(); market++) {
+      CandleSeries series = seriesList.get(market);
+      int offset = series.size() - bars;
+      if (offset < 0) {
+        throw new IllegalArgumentException(
+              String.format("[%s] 캔들 데이터가 부족합니다: %d < %d", series.getMarket(),
+                    series.size(), bars));
+      }
+      for (int bar = 0; bar < bars; bar++) {
+        matrix.set(bar, market, series.getHighPrice()[offset + bar],
+              series.getLowPrice()[offset + bar], series.getTradePrice()[offset + bar]);
+      }
+    }
+    return matrix;
+  }
+
+  /**
+   * (bar, market) 위치의 고가/저가/종가를 설정합니다.
+   */
+  public void set(int bar, int market, double high, double low, double close) {
+    int index = bar * markets + market;
+    highPrice[index] = high;
+    lowPrice[index] = low;
+    tradePrice[index] = close;
+  }
+
+  /**
+   * 지표 결과에서 (bar, market) 값을 조회합니다.
+   *
+   * @param values 지표 결과 (이 행렬과 같은 배치)
+   * @param bar    캔들 인덱스
+   * @param market 종목 인덱스
+   * @return 값
+   */
+  public double valueAt(double[] values, int bar, int market) {
+    return values[bar * markets + market];
+  }
+
+  /**
+   * 지표 결과에서 종목별 마지막 캔들 값을 조회합니다.
+   *
+   * @param values 지표 결과 (이 행렬과 같은 배치)
+   * @return 종목별 최신 값
+   */
+  public double[] latest(double[] values) {
+    double[] result = new double[markets];
+    System.arraycopy(values, (bars - 1) * markets, result, 0, markets);
+    return result;
+  }
+}
@@ -0,0 +1,198 @@
+package my.trader.coin.indicator;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * 여러 종목의 지표를 한 번에 계산합니다.
+ * 입력과 출력은 {@link BarMatrix} 와 같이 캔들 우선 순서의 1차원 배열
+ * ({@code values[bar * markets + market]}) 이며, 계산 불가능한 구간은 NaN 입니다.
+ * 지수 평활은 시간 방향으로 순차적이므로 시간 방향 반복문을 바깥에 두고 서로 독립적인 종목 방향을
+ * 안쪽 반복문으로 두어 JIT 가 SIMD 로 자동 벡터화하도록 분기 없이 작성하였습니다.
+ * 종목 수가 많으면 종목 구간 단위로 나누어 ForkJoin 공용 풀에서 병렬 계산합니다.
+ * 계산식은 UpbitService 의 RSI/ADX 계산과 같습니다.
+ */
+public final class BatchIndicators {
+  // 병렬 계산 시 한 작업이 맡는 종목 수 (한 캔들 시점에 512 바이트)
+  private static final int MARKET_CHUNK = 64;
+
+  private BatchIndicators() {
+  }
+
+  /**
+   * RSI 시계열. 업비트 EMA 공식(1 / weight)으로 평활하며 첫 변화량으로 초기화합니다.
+   *
+   * @param close   종가 (캔들 우선 순서)
+   * @param markets 종목 수
+   * @param weight  RSI 가중치
+   * @return RSI (캔들 우선 순서)
+   */
+  public static double[] relativeStrengthIndex(double[] close, int markets, int weight) {
+    int bars = close.length / markets;
+    double[] rsi = new double[close.length];
+    Arrays.fill(rsi, 0, Math.min(weight, bars) * markets, Double.NaN);
+    if (bars < 2) {
+      return rsi;
+    }
+
+    double formula = (double) 1 / (1 + (weight - 1));
+    forEachChunk(markets, (from, to) -> {
+      int width = to - from;
+      double[] au = new double[width];
+      double[] ad = new double[width];
+
+      // 첫 변화량으로 초기화
+      int row = markets;
+      for (int m = from; m < to; m++) {
+        double gap = close[row + m] - close[m];
+        au[m - from] = Math.max(gap, 0);
+        ad[m - from] = Math.max(-gap, 0);
+      }
+      if (weight <= 1) {
+        for (int m = from; m < to; m++) {
+          rsi[row + m] = 100 - (100 / (1 + (au[m - from] / ad[m - from])));
+        }
+      }
+
+      for (int bar = 2; bar < bars; bar++) {
+        row = bar * markets;
+        int previous = row - markets;
+        for (int m = from; m < to; m++) {
+          double gap = close[row + m] - close[previous + m];
+          int k = m - from;
+          au[k] = (Math.max(gap, 0) * formula) + (au[k] * (1 - formula));
+          ad[k] = (Math.max(-gap, 0) * formula) + (ad[k] * (1 - formula));
+        }
+        if (bar >= weight) {
+          for (int m = from; m < to; m++) {
+            int k = m - from;
+            rsi[row + m] = 100 - (100 / (1 + (au[k] / ad[k])));
+          }
+        }
+      }
+    });
+    return rsi;
+  }
+
+  /**
+   * ADX 시계열. Wilder 평활을 사용합니다.
+   *
+   * @param high    고가 (캔들 우선 순서)
+   * @param low     저가 (캔들 우선 순서)
+   * @param close   종가 (캔들 우선 순서)
+   * @param markets 종목 수
+   * @param weight  ADX 가중치
+   * @return ADX (캔들 우선 순서)
+   */
+  public static double[] averageDirectionalMovementIndex(double[] high, double[] low,
+                                                         double[] close, int markets,
+                                                         int weight) {
+    int bars = close.length / markets;
+    double[] adx = new double[close.length];
+    Arrays.fill(adx, Double.NaN);
+    if (bars < weight * 2) {
+      return adx;
+    }
+
+    forEachChunk(markets, (from, to) -> {
+      int width = to - from;
+      double[] smoothedTR = new double[width];
+      double[] smoothedPlusDM = new double[width];
+      double[] smoothedMinusDM = new double[width];
+      double[] dxSum = new double[width];
+
+      for (int bar = 1; bar < bars; bar++) {
+        int row = bar * markets;
+        int previous = row - markets;
+
+        // 1. TR, +DM, -DM 을 구하여 평활 (weight - 1 번째 캔들까지는 합계)
+        boolean initializing = bar < weight;
+        double divisor = initializing ? Double.POSITIVE_INFINITY : weight;
+        for (int m = from; m < to; m++) {
+          int k = m - from;
+          double highDiff = high[row + m] - high[previous + m];
+          double lowDiff = low[previous + m] - low[row + m];
+          double tr = Math.max(high[row + m] - low[row + m],
+                Math.max(Math.abs(high[row + m] - close[previous + m]),
+                      Math.abs(low[row + m] - close[previous + m])));
+          double plusDM = (highDiff > lowDiff && highDiff > 0) ? highDiff : 0;
+          double minusDM = (lowDiff > highDiff && lowDiff > 0) ? lowDiff : 0;
+
+          smoothedTR[k] = smoothedTR[k] - (smoothedTR[k] / divisor) + tr;
+          smoothedPlusDM[k] = smoothedPlusDM[k] - (smoothedPlusDM[k] / divisor) + plusDM;
+          smoothedMinusDM[k] = smoothedMinusDM[k] - (smoothedMinusDM[k] / divisor) + minusDM;
+        }
+        if (initializing) {
+          continue;
+        }
+
+        // 2. DX 계산 후 ADX 평활 (첫 ADX 는 weight 개 DX 의 평균)
+        int seedEnd = weight * 2 - 1;
+        for (int m = from; m < to; m++) {
+          int k = m - from;
+          double plusDI = (smoothedPlusDM[k] / smoothedTR[k]) * 100;
+          double minusDI = (smoothedMinusDM[k] / smoothedTR[k]) * 100;
+          double dx = (Math.abs(plusDI - minusDI) / (plusDI + minusDI)) * 100;
+
+          if (bar < seedEnd) {
+            dxSum[k] += dx;
+          } else if (bar == seedEnd) {
+            adx[row + m] = (dxSum[k] + dx) / weight;
+          } else {
+            adx[row + m] = ((adx[previous + m] * (weight - 1)) + dx) / weight;
+          }
+        }
+      }
+    });
+    return adx;
+  }
+
+  /**
+   * 지수 이동 평균 시계열. 첫 캔들 값으로 초기화합니다.
+   *
+   * @param values  입력 (캔들 우선 순서)
+   * @param markets 종목 수
+   * @param alpha   평활 계수 (업비트 공식은 1 / weight, 일반 공식은 2 / (weight + 1))
+   * @return EMA (캔들 우선 순서)
+   */
+  public static double[] exponentialMovingAverage(double[] values, int markets, double alpha) {
+    int bars = values.length / markets;
+    double[] ema = new double[values.length];
+    if (bars == 0) {
+      return ema;
+    }
+
+    forEachChunk(markets, (from, to) -> {
+      System.arraycopy(values, from, ema, from, to - from);
+      for (int bar = 1; bar < bars; bar++) {
+        int row = bar * markets;
+        int previous = row - markets;
+        for (int m = from; m < to; m++) {
+          ema[row + m] = (values[row + m] * alpha) + (ema[previous + m] * (1 - alpha));
+        }
+      }
+    });
+    return ema;
+  }
+
+  /**
+   * 종목 구간 단위로 작업을 나누어 실행합니다. 구간이 하나면 호출 스레드에서 실행합니다.
+   */
+  private static void forEachChunk(int markets, MarketRange task) {
+    int chunks = (markets + MARKET_CHUNK - 1) / MARKET_CHUNK;
+    if (chunks <= 1) {
+      task.run(0, markets);
+      return;
+    }
+    IntStream.range(0, chunks).parallel().forEach(chunk ->
+          task.run(chunk * MARKET_CHUNK, Math.min(markets, (chunk + 1) * MARKET_CHUNK)));
+  }
+
+  /**
+   * 종목 구간 [from, to) 에 대한 계산.
+   */
+  @FunctionalInterface
+  private interface MarketRange {
+    void run(int from, int to);
+  }
+}
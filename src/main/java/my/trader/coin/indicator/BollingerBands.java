@@ -0,0 +1,167 @@
+package my.trader.coin.indicator;
+
+import java.util.Arrays;
+
+/**
+ * 볼린저 밴드 (종가 기준, 대표 값은 중심선).
+ * 최근 period 개 종가에서 기준값을 뺀 편차의 합과 제곱합을 보정 합계({@link CompensatedSum}) 로 누적 갱신하여
+ * 평균과 분산을 구합니다. 제곱합에서 자릿수를 잃지 않도록 기준값은 평균 가까이 두어야 하므로 합계를 두 벌 둡니다.
+ * <ul>
+ *   <li>현재 합계: 창 전체의 편차 합. 새 값은 더하고 밀려난 값은 같은 기준값으로 다시 계산하여 뺍니다.</li>
+ *   <li>다음 합계: 원형 배열이 한 바퀴 돌기 시작할 때의 평균을 기준값으로, 그 뒤 들어온 값만 더합니다.</li>
+ * </ul>
+ * 한 바퀴가 끝나면 창의 모든 값이 다음 합계에 들어 있으므로 두 합계를 바꿉니다. 따라서 밀려나는 값은 항상 더할 때와
+ * 같은 기준값으로 빼게 되어 반올림 오차까지 상쇄되고, 창 전체를 다시 더하지 않으므로 갱신은 항상 O(1) 입니다.
+ * 중심선은 종가 합계를 따로 보정 합계로 누적하여 구하므로 기준값과 무관하게 항상 정확합니다. 표준편차는 가격 수준이
+ * 자릿수 단위로 급변하면 창이 새 수준에서 두 바퀴 돌아 기준값이 평균 가까이 옮겨질 때까지 자릿수를 잃습니다.
+ * 표준편차는 모집단 표준편차(n 으로 나눔) 를 사용합니다.
+ */
+public class BollingerBands implements StreamingIndicator {
+  private final int period;
+  private final double multiplier;
+  private final double[] window;
+  private int index;
+  private int count;
+  // 창의 종가 합계 (중심선)
+  private final CompensatedSum closeSum = new CompensatedSum();
+  // 현재 합계의 기준값, 기준값 대비 편차의 합과 제곱합
+  private double shift;
+  private CompensatedSum sum = new CompensatedSum();
+  private CompensatedSum sumSquares = new CompensatedSum();
+  // 다음 합계 (이번 바퀴에 들어온 값만)
+  private double nextShift;
+  private CompensatedSum nextSum = new CompensatedSum();
+  private CompensatedSum nextSumSquares = new CompensatedSum();
+
+  /**
+   * this is constructor.
+   *
+   * @param period     기간
+   * @param multiplier 표준편차 배수 (ex: 2)
+   */
+  public BollingerBands(int period, double multiplier) {
+    if (period < 1) {
+      throw new IllegalArgumentException("기간은 1 이상이어야 합니다: " + period);
+    }
+    this.period = period;
+    this.multiplier = multiplier;
+    this.window = new double[period];
+  }
+
+  @Override
+  public double update(double high, double low, double close, double volume) {
+    if (count == 0) {
+      shift = close;
+      nextShift = close;
+    }
+    if (count == period) {
+      closeSum.add(-window[index]);
+      double evicted = window[index] - shift;
+      sum.add(-evicted);
+      sumSquares.add(-evicted * evicted);
+    } else {
+      count++;
+    }
+    closeSum.add(close);
+    double deviation = close - shift;
+    sum.add(deviation);
+    sumSquares.add(deviation * deviation);
+    double nextDeviation = close - nextShift;
+    nextSum.add(nextDeviation);
+    nextSumSquares.add(nextDeviation * nextDeviation);
+    window[index] = close;
+    if (++index == period) {
+      index = 0;
+      rotate();
+    }
+    return value();
+  }
+
+  @Override
+  public double peek(double high, double low, double close, double volume) {
+    if (count < period - 1) {
+      return Double.NaN;
+    }
+    double evicted = count == period ? window[index] : 0;
+    return (closeSum.value() - evicted + close) / period;
+  }
+
+  @Override
+  public double value() {
+    return count == period ? closeSum.value() / period : Double.NaN;
+  }
+
+  public double getMiddle() {
+    return value();
+  }
+
+  public double getUpper() {
+    return value() + multiplier * getStandardDeviation();
+  }
+
+  public double getLower() {
+    return value() - multiplier * getStandardDeviation();
+  }
+
+  /**
+   * 표준편차.
+   */
+  public double getStandardDeviation() {
+    if (count != period) {
+      return Double.NaN;
+    }
+    double deviation = sum.value();
+    double squaredDeviation = sumSquares.value() - deviation * deviation / period;
+    return Math.sqrt(Math.max(squaredDeviation, 0) / period);
+  }
+
+  /**
+   * 밴드 폭 ((상단 - 하단) / 중심선).
+   */
+  public double getBandwidth() {
+    return (getUpper() - getLower()) / getMiddle();
+  }
+
+  /**
+   * 밴드 내 위치 (%b, 하단 0 ~ 상단 1).
+   *
+   * @param price 가격
+   * @return %b, 밴드 폭이 0 이면 0.5
+   */
+  public double percentB(double price) {
+    double width = getUpper() - getLower();
+    return width == 0 ? 0.5 : (price - getLower()) / width;
+  }
+
+  @Override
+  public void reset() {
+    Arrays.fill(window, 0);
+    index = 0;
+    count = 0;
+    closeSum.reset();
+    shift = 0;
+    nextShift = 0;
+    sum.reset();
+    sumSquares.reset();
+    nextSum.reset();
+    nextSumSquares.reset();
+  }
+
+  /**
+   * 한 바퀴가 끝나 창이 모두 이번 바퀴에 들어온 값이므로 다음 합계를 현재 합계로 바꾸고,
+   * 비운 합계는 현재 평균을 기준값으로 다음 바퀴를 모읍니다.
+   */
+  private void rotate() {
+    CompensatedSum previousSum = sum;
+    CompensatedSum previousSumSquares = sumSquares;
+    shift = nextShift;
+    sum = nextSum;
+    sumSquares = nextSumSquares;
+
+    nextShift = value();
+    nextSum = previousSum;
+    nextSumSquares = previousSumSquares;
+    nextSum.reset();
+    nextSumSquares.reset();
+  }
+}
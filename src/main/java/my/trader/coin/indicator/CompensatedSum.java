@@ -0,0 +1,36 @@
+package my.trader.coin.indicator;
+
+/**
+ * 보정 합계 (Neumaier 방식의 Kahan 합).
+ * 더할 때마다 잃은 하위 자릿수를 보정값에 따로 모으므로, 이동 창에서 값을 빼고 더하기를 계속 반복해도
+ * 오차가 쌓이지 않습니다. 창 전체를 주기적으로 다시 더하지 않아도 되어 갱신이 항상 O(1) 입니다.
+ */
+final class CompensatedSum {
+  private double sum;
+  // 잃은 하위 자릿수 누적
+  private double compensation;
+
+  /**
+   * 값을 더합니다. 빼려면 음수를 더합니다.
+   *
+   * @param x 값
+   */
+  void add(double x) {
+    double total = sum + x;
+    if (Math.abs(sum) >= Math.abs(x)) {
+      compensation += (sum - total) + x;
+    } else {
+      compensation += (x - total) + sum;
+    }
+    sum = total;
+  }
+
+  double value() {
+    return sum + compensation;
+  }
+
+  void reset() {
+    sum = 0;
+    compensation = 0;
+  }
+}
@@ -0,0 +1,93 @@
+package my.trader.coin.indicator;
+
+/**
+ * 지수 이동 평균 (종가 기준).
+ * {@link my.trader.coin.util.MathUtility#calculateExponentialMovingAverage} 와 같이 첫 값으로 초기화하며,
+ * 초기값의 영향이 줄어들도록 period 개 값을 반영한 뒤부터 값을 냅니다.
+ */
+public class ExponentialMovingAverage implements StreamingIndicator {
+  private final int period;
+  private final double alpha;
+  private int count;
+  private double average;
+
+  /**
+   * 정식 공식 2 / (period + 1) 로 평활합니다.
+   *
+   * @param period 기간
+   */
+  public ExponentialMovingAverage(int period) {
+    this(period, 2.0 / (period + 1));
+  }
+
+  /**
+   * this is constructor.
+   *
+   * @param period 값을 내기 시작할 때까지 필요한 값 개수
+   * @param alpha  평활 계수 (0 ~ 1)
+   */
+  public ExponentialMovingAverage(int period, double alpha) {
+    if (period < 1 || !(alpha > 0 && alpha <= 1)) {
+      throw new IllegalArgumentException(
+            String.format("잘못된 EMA 설정: period=%d, alpha=%s", period, alpha));
+    }
+    this.period = period;
+    this.alpha = alpha;
+  }
+
+  /**
+   * 업비트 공식 1 / (1 + (period - 1)) 로 평활합니다.
+   *
+   * @param period 기간
+   * @return EMA
+   */
+  public static ExponentialMovingAverage upbit(int period) {
+    return new ExponentialMovingAverage(period, (double) 1 / (1 + (period - 1)));
+  }
+
+  @Override
+  public double update(double high, double low, double close, double volume) {
+    return add(close);
+  }
+
+  @Override
+  public double peek(double high, double low, double close, double volume) {
+    return peek(close);
+  }
+
+  /**
+   * 값 1개를 반영합니다.
+   *
+   * @param x 값
+   * @return EMA, 값이 period 개 미만이면 NaN
+   */
+  public double add(double x) {
+    average = count == 0 ? x : (x * alpha) + (average * (1 - alpha));
+    count++;
+    return value();
+  }
+
+  /**
+   * 값 1개를 반영했을 때의 EMA.
+   *
+   * @param x 값
+   * @return EMA, 반영해도 값이 period 개 미만이면 NaN
+   */
+  public double peek(double x) {
+    if (count + 1 < period) {
+      return Double.NaN;
+    }
+    return count == 0 ? x : (x * alpha) + (average * (1 - alpha));
+  }
+
+  @Override
+  public double value() {
+    return count >= period ? average : Double.NaN;
+  }
+
+  @Override
+  public void reset() {
+    count = 0;
+    average = 0;
+  }
+}
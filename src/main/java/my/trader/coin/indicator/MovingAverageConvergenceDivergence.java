@@ -0,0 +1,66 @@
+package my.trader.coin.indicator;
+
+/**
+ * MACD (종가 기준, 대표 값은 MACD 선).
+ * MACD 선 = 단기 EMA - 장기 EMA, 신호선 = MACD 선의 EMA, 히스토그램 = MACD 선 - 신호선.
+ */
+public class MovingAverageConvergenceDivergence implements StreamingIndicator {
+  private final ExponentialMovingAverage fast;
+  private final ExponentialMovingAverage slow;
+  private final ExponentialMovingAverage signal;
+  private double macd = Double.NaN;
+
+  /**
+   * this is constructor.
+   *
+   * @param fastPeriod   단기 기간 (ex: 12)
+   * @param slowPeriod   장기 기간 (ex: 26)
+   * @param signalPeriod 신호선 기간 (ex: 9)
+   */
+  public MovingAverageConvergenceDivergence(int fastPeriod, int slowPeriod, int signalPeriod) {
+    if (fastPeriod >= slowPeriod) {
+      throw new IllegalArgumentException(
+            String.format("단기 기간은 장기 기간보다 짧아야 합니다: %d/%d", fastPeriod, slowPeriod));
+    }
+    this.fast = new ExponentialMovingAverage(fastPeriod);
+    this.slow = new ExponentialMovingAverage(slowPeriod);
+    this.signal = new ExponentialMovingAverage(signalPeriod);
+  }
+
+  @Override
+  public double update(double high, double low, double close, double volume) {
+    fast.add(close);
+    slow.add(close);
+    macd = slow.isReady() ? fast.value() - slow.value() : Double.NaN;
+    if (!Double.isNaN(macd)) {
+      signal.add(macd);
+    }
+    return macd;
+  }
+
+  @Override
+  public double peek(double high, double low, double close, double volume) {
+    return fast.peek(close) - slow.peek(close);
+  }
+
+  @Override
+  public double value() {
+    return macd;
+  }
+
+  public double getSignal() {
+    return signal.value();
+  }
+
+  public double getHistogram() {
+    return macd - signal.value();
+  }
+
+  @Override
+  public void reset() {
+    fast.reset();
+    slow.reset();
+    signal.reset();
+    macd = Double.NaN;
+  }
+}
@@ -0,0 +1,95 @@
+package my.trader.coin.indicator;
+
+/**
+ * RSI (종가 기준).
+ * {@link BatchIndicators#relativeStrengthIndex} 와 같이 첫 변화량으로 초기화하고 업비트 EMA 공식(1 / weight) 으로
+ * 평활하므로, 같은 캔들을 처음부터 반영하면 같은 값을 냅니다. 변화량이 weight 개 이상일 때부터 값을 냅니다.
+ */
+public class RelativeStrengthIndex implements StreamingIndicator {
+  private final int weight;
+  private final double formula;
+  private double previousClose = Double.NaN;
+  private int gaps;
+  private double averageUp;
+  private double averageDown;
+
+  /**
+   * this is constructor.
+   *
+   * @param weight RSI 가중치
+   */
+  public RelativeStrengthIndex(int weight) {
+    if (weight < 1) {
+      throw new IllegalArgumentException("가중치는 1 이상이어야 합니다: " + weight);
+    }
+    this.weight = weight;
+    this.formula = (double) 1 / (1 + (weight - 1));
+  }
+
+  @Override
+  public double update(double high, double low, double close, double volume) {
+    return add(close);
+  }
+
+  @Override
+  public double peek(double high, double low, double close, double volume) {
+    return peek(close);
+  }
+
+  /**
+   * 종가 1개를 반영합니다.
+   *
+   * @param close 종가
+   * @return RSI, 변화량이 weight 개 미만이면 NaN
+   */
+  public double add(double close) {
+    if (!Double.isNaN(previousClose)) {
+      double gap = close - previousClose;
+      if (gaps == 0) {
+        averageUp = Math.max(gap, 0);
+        averageDown = Math.max(-gap, 0);
+      } else {
+        averageUp = (Math.max(gap, 0) * formula) + (averageUp * (1 - formula));
+        averageDown = (Math.max(-gap, 0) * formula) + (averageDown * (1 - formula));
+      }
+      gaps++;
+    }
+    previousClose = close;
+    return value();
+  }
+
+  /**
+   * 종가 1개를 반영했을 때의 RSI.
+   *
+   * @param close 종가
+   * @return RSI, 반영해도 변화량이 weight 개 미만이면 NaN
+   */
+  public double peek(double close) {
+    if (Double.isNaN(previousClose) || gaps + 1 < weight) {
+      return Double.NaN;
+    }
+    double gap = close - previousClose;
+    double up = gaps == 0 ? Math.max(gap, 0)
+          : (Math.max(gap, 0) * formula) + (averageUp * (1 - formula));
+    double down = gaps == 0 ? Math.max(-gap, 0)
+          : (Math.max(-gap, 0) * formula) + (averageDown * (1 - formula));
+    return rsi(up, down);
+  }
+
+  @Override
+  public double value() {
+    return gaps >= weight ? rsi(averageUp, averageDown) : Double.NaN;
+  }
+
+  @Override
+  public void reset() {
+    previousClose = Double.NaN;
+    gaps = 0;
+    averageUp = 0;
+    averageDown = 0;
+  }
+
+  private static double rsi(double up, double down) {
+    return 100 - (100 / (1 + (up / down)));
+  }
+}
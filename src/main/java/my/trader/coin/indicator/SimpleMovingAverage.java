@@ -0,0 +1,89 @@
+package my.trader.coin.indicator;
+
+import java.util.Arrays;
+
+/**
+ * 단순 이동 평균 (종가 기준).
+ * 최근 period 개 값을 원형 배열에 보관하고 합계를 누적 갱신합니다.
+ * 빼고 더하기를 반복하며 쌓이는 부동소수점 오차는 보정 합계({@link CompensatedSum}) 로 막습니다.
+ */
+public class SimpleMovingAverage implements StreamingIndicator {
+  private final int period;
+  private final double[] window;
+  private int index;
+  private int count;
+  private final CompensatedSum sum = new CompensatedSum();
+  private double value = Double.NaN;
+
+  /**
+   * this is constructor.
+   *
+   * @param period 기간
+   */
+  public SimpleMovingAverage(int period) {
+    if (period < 1) {
+      throw new IllegalArgumentException("기간은 1 이상이어야 합니다: " + period);
+    }
+    this.period = period;
+    this.window = new double[period];
+  }
+
+  @Override
+  public double update(double high, double low, double close, double volume) {
+    return add(close);
+  }
+
+  @Override
+  public double peek(double high, double low, double close, double volume) {
+    return peek(close);
+  }
+
+  /**
+   * 값 1개를 반영합니다.
+   *
+   * @param x 값
+   * @return 평균, 값이 period 개 미만이면 NaN
+   */
+  public double add(double x) {
+    if (count == period) {
+      sum.add(-window[index]);
+    } else {
+      count++;
+    }
+    window[index] = x;
+    sum.add(x);
+    if (++index == period) {
+      index = 0;
+    }
+    value = count == period ? sum.value() / period : Double.NaN;
+    return value;
+  }
+
+  /**
+   * 값 1개를 반영했을 때의 평균.
+   *
+   * @param x 값
+   * @return 평균, 반영해도 값이 period 개 미만이면 NaN
+   */
+  public double peek(double x) {
+    if (count < period - 1) {
+      return Double.NaN;
+    }
+    double evicted = count == period ? window[index] : 0;
+    return (sum.value() - evicted + x) / period;
+  }
+
+  @Override
+  public double value() {
+    return value;
+  }
+
+  @Override
+  public void reset() {
+    Arrays.fill(window, 0);
+    index = 0;
+    count = 0;
+    sum.reset();
+    value = Double.NaN;
+  }
+}
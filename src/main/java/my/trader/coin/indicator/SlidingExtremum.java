@@ -0,0 +1,87 @@
+package my.trader.coin.indicator;
+
+/**
+ * 최근 period 개 값의 최솟값 또는 최댓값.
+ * 단조 덱(monotonic deque) 을 원형 배열로 구현하여 값 1개당 분할 상환 O(1) 로 갱신하고,
+ * 가장 오래된 값이 빠진 뒤의 극값도 덱의 다음 원소로 바로 알 수 있어 {@link #peek} 도 O(1) 입니다.
+ */
+final class SlidingExtremum {
+  private final int period;
+  private final boolean maximum;
+  // 덱: 극값 후보 값과 입력 순번 (순번 오름차순, 값은 최솟값이면 오름차순/최댓값이면 내림차순)
+  private final double[] values;
+  private final long[] sequences;
+  private int head;
+  private int size;
+  private long count;
+
+  SlidingExtremum(int period, boolean maximum) {
+    this.period = period;
+    this.maximum = maximum;
+    this.values = new double[period];
+    this.sequences = new long[period];
+  }
+
+  void push(double x) {
+    long sequence = count++;
+    if (size > 0 && sequences[head] <= sequence - period) {
+      head = (head + 1) % period;
+      size--;
+    }
+    while (size > 0 && !better(values[(head + size - 1) % period], x)) {
+      size--;
+    }
+    int tail = (head + size) % period;
+    values[tail] = x;
+    sequences[tail] = sequence;
+    size++;
+  }
+
+  /**
+   * 현재 창의 극값. 값이 없으면 NaN.
+   */
+  double extremum() {
+    return size == 0 ? Double.NaN : values[head];
+  }
+
+  /**
+   * x 를 넣었을 때의 극값.
+   */
+  double peek(double x) {
+    int first = head;
+    int remaining = size;
+    if (remaining > 0 && sequences[first] <= count - period) {
+      first = (first + 1) % period;
+      remaining--;
+    }
+    if (remaining == 0) {
+      return x;
+    }
+    double candidate = values[first];
+    return better(candidate, x) ? candidate : x;
+  }
+
+  boolean isFull() {
+    return count >= period;
+  }
+
+  /**
+   * 값을 1개 더 넣으면 창이 채워지는지 여부.
+   */
+  boolean isFullAfterPush() {
+    return count + 1 >= period;
+  }
+
+  void reset() {
+    head = 0;
+    size = 0;
+    count = 0;
+  }
+
+  /**
+   * a 가 b 보다 극값에 더 가까운지 (같으면 나중 값을 남기도록 false).
+   */
+  private boolean better(double a, double b) {
+    return maximum ? a > b : a < b;
+  }
+}
@@ -0,0 +1,83 @@
+package my.trader.coin.indicator;
+
+/**
+ * Stochastic RSI (대표 값은 %K).
+ * 최근 stochPeriod 개 RSI 중 현재 RSI 의 위치 (RSI - 최저) / (최고 - 최저) * 100 을 %K 기간으로 단순 평균하고,
+ * %D 는 %K 를 다시 단순 평균합니다. 최고/최저는 {@link SlidingExtremum} 으로 O(1) 에 구합니다.
+ * 최고와 최저가 같으면(변화 없음) 0 으로 봅니다.
+ */
+public class StochasticRsi implements StreamingIndicator {
+  private final RelativeStrengthIndex rsi;
+  private final SlidingExtremum lowest;
+  private final SlidingExtremum highest;
+  private final SimpleMovingAverage percentK;
+  private final SimpleMovingAverage percentD;
+
+  /**
+   * this is constructor.
+   *
+   * @param rsiPeriod   RSI 가중치 (ex: 14)
+   * @param stochPeriod 최고/최저 기간 (ex: 14)
+   * @param kPeriod     %K 평활 기간 (ex: 3)
+   * @param dPeriod     %D 평활 기간 (ex: 3)
+   */
+  public StochasticRsi(int rsiPeriod, int stochPeriod, int kPeriod, int dPeriod) {
+    if (stochPeriod < 1) {
+      throw new IllegalArgumentException("기간은 1 이상이어야 합니다: " + stochPeriod);
+    }
+    this.rsi = new RelativeStrengthIndex(rsiPeriod);
+    this.lowest = new SlidingExtremum(stochPeriod, false);
+    this.highest = new SlidingExtremum(stochPeriod, true);
+    this.percentK = new SimpleMovingAverage(kPeriod);
+    this.percentD = new SimpleMovingAverage(dPeriod);
+  }
+
+  @Override
+  public double update(double high, double low, double close, double volume) {
+    double value = rsi.add(close);
+    if (Double.isNaN(value)) {
+      return Double.NaN;
+    }
+    lowest.push(value);
+    highest.push(value);
+    if (!lowest.isFull()) {
+      return Double.NaN;
+    }
+    double k = percentK.add(stochastic(value, lowest.extremum(), highest.extremum()));
+    if (!Double.isNaN(k)) {
+      percentD.add(k);
+    }
+    return k;
+  }
+
+  @Override
+  public double peek(double high, double low, double close, double volume) {
+    double value = rsi.peek(close);
+    if (Double.isNaN(value) || !lowest.isFullAfterPush()) {
+      return Double.NaN;
+    }
+    return percentK.peek(stochastic(value, lowest.peek(value), highest.peek(value)));
+  }
+
+  @Override
+  public double value() {
+    return percentK.value();
+  }
+
+  public double getPercentD() {
+    return percentD.value();
+  }
+
+  @Override
+  public void reset() {
+    rsi.reset();
+    lowest.reset();
+    highest.reset();
+    percentK.reset();
+    percentD.reset();
+  }
+
+  private static double stochastic(double value, double min, double max) {
+    return max > min ? (value - min) / (max - min) * 100 : 0;
+  }
+}
@@ -0,0 +1,53 @@
+package my.trader.coin.indicator;
+
+/**
+ * 캔들 1개마다 O(1) 로 갱신되는 지표의 공통 인터페이스.
+ * 상태는 생성 시 할당한 primitive 필드/배열에만 보관하므로 갱신 중 객체를 생성하지 않으며,
+ * 조회 기간(lookback) 이 길어져도 캔들 1개당 비용이 늘지 않습니다.
+ * 여러 값을 내는 지표(MACD, 볼린저 밴드 등) 는 대표 값을 반환하고 나머지는 별도 getter 로 제공합니다.
+ * 한 인스턴스는 한 종목 전용이며 스레드 안전하지 않습니다.
+ */
+public interface StreamingIndicator {
+
+  /**
+   * 완성된 캔들 1개를 반영합니다.
+   *
+   * @param high   고가
+   * @param low    저가
+   * @param close  종가
+   * @param volume 거래량
+   * @return 반영 후 대표 값, 계산에 필요한 캔들이 부족하면 NaN
+   */
+  double update(double high, double low, double close, double volume);
+
+  /**
+   * 진행 중인 캔들을 반영했을 때의 대표 값을 계산합니다. 상태는 바뀌지 않으므로
+   * 같은 분의 캔들이 갱신될 때마다 호출하고, 캔들이 완성되면 {@link #update} 로 확정합니다.
+   *
+   * @param high   고가
+   * @param low    저가
+   * @param close  종가
+   * @param volume 거래량
+   * @return 대표 값, 계산에 필요한 캔들이 부족하면 NaN
+   */
+  double peek(double high, double low, double close, double volume);
+
+  /**
+   * 마지막 {@link #update} 기준 대표 값.
+   *
+   * @return 대표 값, 계산에 필요한 캔들이 부족하면 NaN
+   */
+  double value();
+
+  /**
+   * 대표 값을 계산할 수 있을 만큼 캔들이 반영되었는지 여부.
+   */
+  default boolean isReady() {
+    return !Double.isNaN(value());
+  }
+
+  /**
+   * 반영된 캔들을 모두 지우고 처음 상태로 되돌립니다.
+   */
+  void reset();
+}
@@ -0,0 +1,91 @@
+package my.trader.coin.indicator;
+
+import java.util.Arrays;
+
+/**
+ * VWAP (대표 가격 (고가 + 저가 + 종가) / 3 을 거래량으로 가중 평균).
+ * 24시간 거래되는 시장이므로 세션 대신 최근 period 개 캔들의 이동 VWAP 을 계산하며,
+ * period 가 0 이면 {@link #reset()} 전까지 누적합니다.
+ * 이동 합계의 누적 오차는 보정 합계({@link CompensatedSum}) 로 막습니다.
+ */
+public class VolumeWeightedAveragePrice implements StreamingIndicator {
+  private final int period;
+  private final double[] priceVolume;
+  private final double[] volumes;
+  private int index;
+  private int count;
+  private final CompensatedSum sumPriceVolume = new CompensatedSum();
+  private final CompensatedSum sumVolume = new CompensatedSum();
+
+  /**
+   * this is constructor.
+   *
+   * @param period 기간 (0 이면 누적)
+   */
+  public VolumeWeightedAveragePrice(int period) {
+    if (period < 0) {
+      throw new IllegalArgumentException("기간은 0 이상이어야 합니다: " + period);
+    }
+    this.period = period;
+    this.priceVolume = new double[period];
+    this.volumes = new double[period];
+  }
+
+  @Override
+  public double update(double high, double low, double close, double volume) {
+    double weighted = (high + low + close) / 3 * volume;
+    if (period == 0) {
+      count++;
+      sumPriceVolume.add(weighted);
+      sumVolume.add(volume);
+      return value();
+    }
+
+    if (count == period) {
+      sumPriceVolume.add(-priceVolume[index]);
+      sumVolume.add(-volumes[index]);
+    } else {
+      count++;
+    }
+    priceVolume[index] = weighted;
+    volumes[index] = volume;
+    sumPriceVolume.add(weighted);
+    sumVolume.add(volume);
+    if (++index == period) {
+      index = 0;
+    }
+    return value();
+  }
+
+  @Override
+  public double peek(double high, double low, double close, double volume) {
+    int required = Math.max(period, 1);
+    if (count + 1 < required) {
+      return Double.NaN;
+    }
+    boolean evict = period > 0 && count == period;
+    double pv = sumPriceVolume.value() - (evict ? priceVolume[index] : 0)
+          + (high + low + close) / 3 * volume;
+    double v = sumVolume.value() - (evict ? volumes[index] : 0) + volume;
+    return v > 0 ? pv / v : Double.NaN;
+  }
+
+  @Override
+  public double value() {
+    double v = sumVolume.value();
+    if (count < Math.max(period, 1) || !(v > 0)) {
+      return Double.NaN;
+    }
+    return sumPriceVolume.value() / v;
+  }
+
+  @Override
+  public void reset() {
+    Arrays.fill(priceVolume, 0);
+    Arrays.fill(volumes, 0);
+    index = 0;
+    count = 0;
+    sumPriceVolume.reset();
+    sumVolume.reset();
+  }
+}
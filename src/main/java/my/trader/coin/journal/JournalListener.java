@@ -0,0 +1,15 @@
+package my.trader.coin.journal;
+
+/**
+ * 거래 기록 1건이 추가될 때마다 호출되는 리스너. 기록 스레드에서 호출되므로 빠르게 반환해야 합니다.
+ * 파라미터 의미는 {@link JournalRecord} 와 같습니다.
+ */
+@FunctionalInterface
+public interface JournalListener {
+  JournalListener NONE = (type, timestamp, market, side, code, price, volume, value1, value2,
+                          value3, value4, uuid) -> { };
+
+  void onRecord(JournalRecordType type, long timestamp, String market, byte side, int code,
+                double price, double volume, double value1, double value2, double value3,
+                double value4, String uuid);
+}
@@ -0,0 +1,130 @@
+package my.trader.coin.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 거래 기록 세그먼트를 순서대로 읽습니다.
+ * 길이가 0 이거나 CRC 가 맞지 않는 기록을 만나면 해당 세그먼트의 끝으로 간주합니다.
+ */
+public final class JournalReader {
+  private JournalReader() {
+  }
+
+  /**
+   * 디렉터리의 모든 기록을 순서대로 전달합니다.
+   *
+   * @param directory 세그먼트 디렉터리
+   * @param consumer  기록 처리
+   * @throws IOException 파일을 읽을 수 없는 경우
+   */
+  public static void read(Path directory, Consumer<JournalRecord> consumer) throws IOException {
+    for (Path segment : segments(directory)) {
+      try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        scan(buffer, consumer);
+      }
+    }
+  }
+
+  /**
+   * 세그먼트 파일 목록 (번호 오름차순).
+   */
+  static List<Path> segments(Path directory) throws IOException {
+    if (!Files.isDirectory(directory)) {
+      return List.of();
+    }
+    try (Stream<Path> files = Files.list(directory)) {
+      return files
+            .filter(path -> {
+              String name = path.getFileName().toString();
+              return name.startsWith(TradeJournal.SEGMENT_PREFIX)
+                    && name.endsWith(TradeJournal.SEGMENT_SUFFIX);
+            })
+            .sorted()
+            .toList();
+    }
+  }
+
+  static int segmentIndex(Path segment) {
+    String name = segment.getFileName().toString();
+    return Integer.parseInt(name.substring(TradeJournal.SEGMENT_PREFIX.length(),
+          name.length() - TradeJournal.SEGMENT_SUFFIX.length()));
+  }
+
+  /**
+   * 세그먼트의 유효한 기록을 읽습니다.
+   *
+   * @param buffer   세그먼트 버퍼
+   * @param consumer 기록 처리 (null 이면 끝 위치만 계산)
+   * @return 유효한 마지막 기록의 끝 위치
+   */
+  static int scan(ByteBuffer buffer, Consumer<JournalRecord> consumer) {
+    CRC32C crc = new CRC32C();
+    int position = 0;
+    while (position + TradeJournal.FIXED_SIZE <= buffer.capacity()) {
+      int length = buffer.getInt(position);
+      if (length < TradeJournal.FIXED_SIZE || length > TradeJournal.MAX_RECORD_SIZE
+            || position + length > buffer.capacity()) {
+        break;
+      }
+
+      ByteBuffer body = buffer.duplicate();
+      body.position(position + TradeJournal.HEADER_SIZE);
+      body.limit(position + length);
+      crc.reset();
+      crc.update(body);
+      if ((int) crc.getValue() != buffer.getInt(position + 4)) {
+        break;
+      }
+
+      if (consumer != null) {
+        consumer.accept(decode(buffer, position));
+      }
+      position += length;
+    }
+    return position;
+  }
+
+  private static JournalRecord decode(ByteBuffer buffer, int start) {
+    ByteBuffer in = buffer.duplicate();
+    in.position(start + TradeJournal.HEADER_SIZE);
+    JournalRecordType type = JournalRecordType.of(in.get());
+    byte side = in.get();
+    byte code = in.get();
+    int marketLength = in.get() & 0xFF;
+    int uuidLength = in.get() & 0xFF;
+
+    JournalRecord.JournalRecordBuilder builder = JournalRecord.builder()
+          .type(type)
+          .side(side)
+          .code(code)
+          .timestamp(in.getLong())
+          .price(in.getDouble())
+          .volume(in.getDouble())
+          .value1(in.getDouble())
+          .value2(in.getDouble())
+          .value3(in.getDouble())
+          .value4(in.getDouble());
+    builder.market(ascii(in, marketLength));
+    builder.uuid(uuidLength == 0 ? null : ascii(in, uuidLength));
+    return builder.build();
+  }
+
+  private static String ascii(ByteBuffer in, int length) {
+    char[] chars = new char[length];
+    for (int i = 0; i < length; i++) {
+      chars[i] = (char) (in.get() & 0xFF);
+    }
+    return new String(chars);
+  }
+}
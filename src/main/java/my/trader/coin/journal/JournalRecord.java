@@ -0,0 +1,34 @@
+package my.trader.coin.journal;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 읽어 들인 거래 기록 1건.
+ */
+@Getter
+@Builder
+public class JournalRecord {
+  private final JournalRecordType type;
+  private final long timestamp;
+  private final String market;
+  // 0: 없음, 1: 매수(bid), 2: 매도(ask)
+  private final byte side;
+  // 종류별 부가 코드 (Signal, 거절 사유 ordinal)
+  private final byte code;
+  private final double price;
+  private final double volume;
+  private final double value1;
+  private final double value2;
+  private final double value3;
+  private final double value4;
+  private final String uuid;
+
+  public boolean isBid() {
+    return side == TradeJournal.SIDE_BID;
+  }
+
+  public boolean isAsk() {
+    return side == TradeJournal.SIDE_ASK;
+  }
+}
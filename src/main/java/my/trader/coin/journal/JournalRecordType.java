@@ -0,0 +1,48 @@
+package my.trader.coin.journal;
+
+import lombok.Getter;
+
+/**
+ * 거래 기록 종류.
+ */
+@Getter
+public enum JournalRecordType {
+  // 매수/매도 의사결정 (code: Signal, value1~4: 판단 근거)
+  SIGNAL(1),
+  // 주문 요청 (price, volume)
+  ORDER_REQUEST(2),
+  // 주문 접수 응답 (uuid, value1: 접수 시 체결 수량)
+  ORDER_RESPONSE(3),
+  // 주문 거절 (code: 거절 사유)
+  ORDER_REJECT(4),
+  // 주문 취소 (uuid, volume: 잔여 수량, value1: 체결 수량)
+  CANCEL(5),
+  // 체결 (price, volume)
+  FILL(6),
+  // 보유 현황 (price: 평균 매수가, volume: 보유 수량)
+  POSITION(7),
+  // 신호 기준값 버전 (price: 익절 기준가 배수, volume: UBMI 변동률,
+  // value1~4: 최소 ADX, 최대 ADX, 매수 RSI, 버전)
+  THRESHOLD(8);
+
+  private final byte code;
+
+  JournalRecordType(int code) {
+    this.code = (byte) code;
+  }
+
+  /**
+   * 코드로 종류를 찾습니다.
+   *
+   * @param code 기록 코드
+   * @return 종류, 없으면 null
+   */
+  public static JournalRecordType of(byte code) {
+    for (JournalRecordType type : values()) {
+      if (type.code == code) {
+        return type;
+      }
+    }
+    return null;
+  }
+}
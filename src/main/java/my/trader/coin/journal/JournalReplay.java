@@ -0,0 +1,127 @@
+package my.trader.coin.journal;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import my.trader.coin.config.AppConfig;
+import my.trader.coin.enums.ColorfulConsoleOutput;
+
+/**
+ * 거래 기록을 재생하여 종목별 보유 수량, 평균 매수가, 실현 손익을 다시 계산합니다.
+ * 사용 예: ./gradlew journalReplay -Pargs="journal"
+ */
+public class JournalReplay {
+  private final double feeRatio;
+  private final Map<String, Position> positions = new TreeMap<>();
+  private final Map<JournalRecordType, Integer> counts = new EnumMap<>(JournalRecordType.class);
+
+  /**
+   * this is constructor.
+   *
+   * @param feeRatio 거래 수수료율 (ex: 0.0005)
+   */
+  public JournalReplay(double feeRatio) {
+    this.feeRatio = feeRatio;
+  }
+
+  /**
+   * 종목별 재생 결과.
+   */
+  public static class Position {
+    private double quantity;
+    private double avgBuyPrice;
+    private double realizedProfit;
+    private int buys;
+    private int sells;
+
+    public double getQuantity() {
+      return quantity;
+    }
+
+    public double getAvgBuyPrice() {
+      return avgBuyPrice;
+    }
+
+    public double getRealizedProfit() {
+      return realizedProfit;
+    }
+  }
+
+  /**
+   * 기록 1건을 반영합니다.
+   *
+   * @param record 거래 기록
+   */
+  public void apply(JournalRecord record) {
+    counts.merge(record.getType(), 1, Integer::sum);
+    if (record.getType() == JournalRecordType.POSITION) {
+      Position position = positionOf(record.getMarket());
+      position.quantity = record.getVolume();
+      position.avgBuyPrice = record.getPrice();
+    } else if (record.getType() == JournalRecordType.FILL) {
+      Position position = positionOf(record.getMarket());
+      double price = record.getPrice();
+      double volume = record.getVolume();
+      if (record.isBid()) {
+        double cost = position.avgBuyPrice * position.quantity + price * volume;
+        position.quantity += volume;
+        position.avgBuyPrice = position.quantity > 0 ? cost / position.quantity : 0;
+        position.realizedProfit -= price * volume * feeRatio;
+        position.buys++;
+      } else if (record.isAsk()) {
+        double sold = Math.min(volume, position.quantity);
+        position.realizedProfit += (price - position.avgBuyPrice) * sold
+              - price * volume * feeRatio;
+        position.quantity -= sold;
+        position.sells++;
+      }
+    }
+  }
+
+  public Map<String, Position> getPositions() {
+    return positions;
+  }
+
+  public int count(JournalRecordType type) {
+    return counts.getOrDefault(type, 0);
+  }
+
+  private Position positionOf(String market) {
+    return positions.computeIfAbsent(market, key -> new Position());
+  }
+
+  /**
+   * 거래 기록 재생.
+   *
+   * @param args [거래 기록 디렉터리]
+   * @throws IOException 파일을 읽을 수 없는 경우
+   */
+  public static void main(String[] args) throws IOException {
+    Path directory = Path.of(args.length > 0 ? args[0] : AppConfig.journalDirectory);
+    JournalReplay replay = new JournalReplay(AppConfig.exchangeFeeRatio - 1);
+    JournalReader.read(directory, replay::apply);
+
+    StringBuilder table = new StringBuilder();
+    table.append(String.format("%n신호 %d, 주문 %d, 접수 %d, 거절 %d, 취소 %d, 체결 %d",
+          replay.count(JournalRecordType.SIGNAL),
+          replay.count(JournalRecordType.ORDER_REQUEST),
+          replay.count(JournalRecordType.ORDER_RESPONSE),
+          replay.count(JournalRecordType.ORDER_REJECT),
+          replay.count(JournalRecordType.CANCEL),
+          replay.count(JournalRecordType.FILL)));
+    table.append(String.format("%n%-12s %16s %16s %6s %6s %14s",
+          "market", "quantity", "avgBuyPrice", "buys", "sells", "realizedPnl"));
+    double total = 0;
+    for (Map.Entry<String, Position> entry : replay.getPositions().entrySet()) {
+      Position position = entry.getValue();
+      table.append(String.format("%n%-12s %16.8f %,16.2f %6d %6d %,14.0f", entry.getKey(),
+            position.quantity, position.avgBuyPrice, position.buys, position.sells,
+            position.realizedProfit));
+      total += position.realizedProfit;
+    }
+    table.append(String.format("%n%-12s %,62.0f", "total", total));
+    ColorfulConsoleOutput.printWithColor(table.toString(), ColorfulConsoleOutput.CYAN);
+  }
+}
@@ -0,0 +1,311 @@
+package my.trader.coin.journal;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32C;
+import my.trader.coin.config.AppConfig;
+import my.trader.coin.enums.ColorfulConsoleOutput;
+import org.springframework.stereotype.Component;
+
+/**
+ * 추가 전용(append-only) 바이너리 거래 기록.
+ * 고정 크기 세그먼트 파일을 메모리 매핑하여 기록하므로 기록 1건은 매핑된 버퍼에 값을 쓰는 비용뿐이며,
+ * 디스크 동기화(fsync)는 별도 스레드가 주기적으로 모아서 수행합니다.
+ * 각 기록은 CRC32C 로 보호되며, 재시작 시 마지막 세그먼트의 유효한 기록 뒤부터 이어서 기록합니다.
+ *
+ * <pre>
+ * [int 길이][int crc][byte 종류][byte 방향][byte 코드][byte 마켓 길이][byte uuid 길이]
+ * [long 시각][double 가격][double 수량][double 값1~4][마켓 ASCII][uuid ASCII]
+ * </pre>
+ * 길이가 0 이면 세그먼트의 끝입니다.
+ */
+@Component
+public class TradeJournal {
+  public static final byte SIDE_NONE = 0;
+  public static final byte SIDE_BID = 1;
+  public static final byte SIDE_ASK = 2;
+  // 주문 거절 코드: 주문 정규화 거절은 OrderRejectReason ordinal, 위험 한도 거절은 이 값 + ordinal
+  public static final int RISK_REJECT_OFFSET = 16;
+  // 주문 거절 코드: 거래소 요청 실패
+  public static final int EXCHANGE_REJECT = 127;
+
+  static final int HEADER_SIZE = 8;
+  static final int FIXED_SIZE = 69;
+  static final int MAX_RECORD_SIZE = FIXED_SIZE + 2 * 255;
+  static final String SEGMENT_PREFIX = "segment-";
+  static final String SEGMENT_SUFFIX = ".jnl";
+
+  private final boolean enabled;
+  private final Path directory;
+  private final int segmentSize;
+  private final CRC32C crc = new CRC32C();
+
+  private MappedByteBuffer buffer;
+  private int segmentIndex;
+  // 마지막 동기화 이후 기록 여부
+  private volatile boolean dirty;
+  private ScheduledExecutorService flusher;
+  // 기록 비활성화 여부와 관계없이 모든 기록을 전달받음 (ex: 실시간 원격 측정)
+  private volatile JournalListener listener = JournalListener.NONE;
+
+  /**
+   * AppConfig 설정으로 생성합니다.
+   */
+  public TradeJournal() {
+    this(AppConfig.journalEnabled, Path.of(AppConfig.journalDirectory),
+          AppConfig.journalSegmentSize, AppConfig.journalFlushIntervalMillis);
+  }
+
+  /**
+   * this is constructor.
+   *
+   * @param enabled              기록 여부
+   * @param directory            세그먼트 디렉터리
+   * @param segmentSize          세그먼트 크기 (바이트)
+   * @param flushIntervalMillis  디스크 동기화 주기
+   */
+  public TradeJournal(boolean enabled, Path directory, int segmentSize, long flushIntervalMillis) {
+    this.enabled = enabled;
+    this.directory = directory;
+    this.segmentSize = segmentSize;
+    if (!enabled) {
+      return;
+    }
+
+    try {
+      Files.createDirectories(directory);
+      List<Path> segments = JournalReader.segments(directory);
+      if (segments.isEmpty()) {
+        openSegment(1);
+      } else {
+        recover(segments.get(segments.size() - 1));
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("거래 기록 파일을 열 수 없습니다: " + directory, e);
+    }
+
+    flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "trade-journal-flush");
+      thread.setDaemon(true);
+      return thread;
+    });
+    flusher.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis,
+          TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * 매수/매도 의사결정과 판단 근거를 기록합니다.
+   *
+   * @param market 마켓코드
+   * @param signal 신호 ordinal
+   * @param value1 판단 근거 1 (ex: RSI, 현재 수익률)
+   * @param value2 판단 근거 2 (ex: ADX, 목표 수익률)
+   * @param value3 판단 근거 3 (ex: 최소 구매 ADX)
+   * @param value4 판단 근거 4 (ex: 최대 구매 ADX)
+   */
+  public void recordSignal(String market, int signal, double value1, double value2,
+                           double value3, double value4) {
+    append(JournalRecordType.SIGNAL, market, SIDE_NONE, signal, 0, 0, value1, value2, value3,
+          value4, null);
+  }
+
+  /**
+   * 주문 요청을 기록합니다.
+   */
+  public void recordOrderRequest(String market, byte side, double price, double volume) {
+    append(JournalRecordType.ORDER_REQUEST, market, side, 0, price, volume, 0, 0, 0, 0, null);
+  }
+
+  /**
+   * 주문 접수 응답을 기록합니다.
+   */
+  public void recordOrderResponse(String market, byte side, double price, double volume,
+                                  String uuid, double executedVolume) {
+    append(JournalRecordType.ORDER_RESPONSE, market, side, 0, price, volume, executedVolume, 0,
+          0, 0, uuid);
+  }
+
+  /**
+   * 주문 거절을 기록합니다.
+   */
+  public void recordOrderReject(String market, byte side, int reason, double price,
+                                double volume) {
+    append(JournalRecordType.ORDER_REJECT, market, side, reason, price, volume, 0, 0, 0, 0,
+          null);
+  }
+
+  /**
+   * 주문 취소를 기록합니다.
+   */
+  public void recordCancel(String market, byte side, double price, double remainingVolume,
+                           String uuid, double executedVolume) {
+    append(JournalRecordType.CANCEL, market, side, 0, price, remainingVolume, executedVolume, 0,
+          0, 0, uuid);
+  }
+
+  /**
+   * 체결을 기록합니다.
+   */
+  public void recordFill(String market, byte side, double price, double volume) {
+    append(JournalRecordType.FILL, market, side, 0, price, volume, 0, 0, 0, 0, null);
+  }
+
+  /**
+   * 보유 현황을 기록합니다. 재생 시 해당 종목의 보유 수량/평균 매수가를 이 값으로 맞춥니다.
+   */
+  public void recordPosition(String market, double avgBuyPrice, double quantity) {
+    append(JournalRecordType.POSITION, market, SIDE_NONE, 0, avgBuyPrice, quantity, 0, 0, 0, 0,
+          null);
+  }
+
+  /**
+   * 새 신호 기준값 버전을 기록합니다. 재생 시 이후 SIGNAL 기록은 이 기준값으로 판단된 것입니다.
+   */
+  public void recordThreshold(long version, double ratio, double takeProfitMultiplier,
+                              double minPurchaseAdx, double maxPurchaseAdx,
+                              double rsiBuyThreshold) {
+    append(JournalRecordType.THRESHOLD, null, SIDE_NONE, 0, takeProfitMultiplier, ratio,
+          minPurchaseAdx, maxPurchaseAdx, rsiBuyThreshold, version, null);
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setListener(JournalListener listener) {
+    this.listener = listener == null ? JournalListener.NONE : listener;
+  }
+
+  /**
+   * 기록 1건을 추가합니다. 문자열은 ASCII 로 한 글자씩 기록하여 객체를 생성하지 않습니다.
+   */
+  private synchronized void append(JournalRecordType type, String market, byte side, int code,
+                                   double price, double volume, double value1, double value2,
+                                   double value3, double value4, String uuid) {
+    long timestamp = System.currentTimeMillis();
+    listener.onRecord(type, timestamp, market, side, code, price, volume, value1, value2, value3,
+          value4, uuid);
+    if (!enabled) {
+      return;
+    }
+    int marketLength = market == null ? 0 : Math.min(market.length(), 255);
+    int uuidLength = uuid == null ? 0 : Math.min(uuid.length(), 255);
+    int length = FIXED_SIZE + marketLength + uuidLength;
+    // 끝 표시(길이 0) 를 쓸 공간까지 남겨둠
+    if (buffer.remaining() < length + 4) {
+      roll();
+    }
+
+    int start = buffer.position();
+    buffer.putInt(start + 4, 0);
+    buffer.position(start + HEADER_SIZE);
+    buffer.put(type.getCode());
+    buffer.put(side);
+    buffer.put((byte) code);
+    buffer.put((byte) marketLength);
+    buffer.put((byte) uuidLength);
+    buffer.putLong(timestamp);
+    buffer.putDouble(price);
+    buffer.putDouble(volume);
+    buffer.putDouble(value1);
+    buffer.putDouble(value2);
+    buffer.putDouble(value3);
+    buffer.putDouble(value4);
+    for (int i = 0; i < marketLength; i++) {
+      buffer.put((byte) market.charAt(i));
+    }
+    for (int i = 0; i < uuidLength; i++) {
+      buffer.put((byte) uuid.charAt(i));
+    }
+
+    // CRC 계산 후 길이를 마지막에 기록하여, 중간에 중단된 기록은 읽히지 않도록 함
+    int end = buffer.position();
+    crc.reset();
+    buffer.position(start + HEADER_SIZE);
+    buffer.limit(end);
+    crc.update(buffer);
+    buffer.limit(buffer.capacity());
+    buffer.position(end);
+    buffer.putInt(start + 4, (int) crc.getValue());
+    buffer.putInt(start, length);
+    dirty = true;
+  }
+
+  /**
+   * 기록된 내용을 디스크에 동기화합니다.
+   */
+  public void flush() {
+    if (!enabled || !dirty) {
+      return;
+    }
+    dirty = false;
+    MappedByteBuffer current;
+    synchronized (this) {
+      current = buffer;
+    }
+    current.force();
+  }
+
+  /**
+   * 종료 시 남은 기록을 동기화합니다.
+   */
+  @PreDestroy
+  public void close() {
+    if (!enabled) {
+      return;
+    }
+    flusher.shutdown();
+    dirty = true;
+    flush();
+  }
+
+  /**
+   * 현재 세그먼트를 닫고 다음 세그먼트를 엽니다.
+   */
+  private void roll() {
+    buffer.putInt(buffer.position(), 0);
+    buffer.force();
+    try {
+      openSegment(segmentIndex + 1);
+    } catch (IOException e) {
+      throw new UncheckedIOException("거래 기록 세그먼트를 열 수 없습니다.", e);
+    }
+  }
+
+  private void openSegment(int index) throws IOException {
+    Path path = directory.resolve(segmentName(index));
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+          StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+    }
+    segmentIndex = index;
+  }
+
+  /**
+   * 마지막 세그먼트의 유효한 기록 끝을 찾아 이어서 기록합니다.
+   */
+  private void recover(Path lastSegment) throws IOException {
+    openSegment(JournalReader.segmentIndex(lastSegment));
+    int end = JournalReader.scan(buffer, null);
+    buffer.position(end);
+    // 중단된 기록이 남아있으면 끝 표시로 덮어씀
+    buffer.putInt(end, 0);
+    ColorfulConsoleOutput.printWithColor(
+          String.format("거래 기록 이어쓰기: %s (%,d bytes)", lastSegment.getFileName(), end),
+          ColorfulConsoleOutput.GREEN);
+  }
+
+  static String segmentName(int index) {
+    return String.format("%s%06d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX);
+  }
+}
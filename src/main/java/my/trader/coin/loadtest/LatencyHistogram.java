@@ -0,0 +1,89 @@
+package my.trader.coin.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 지연 시간(ns) 히스토그램.
+ * 2의 거듭제곱 구간마다 32개 하위 구간으로 나누므로 백분위 오차는 약 3% 이며, 기록 중 객체를 생성하지 않습니다.
+ * 스레드 안전하지 않습니다.
+ */
+public class LatencyHistogram {
+  private static final int SUB_BITS = 5;
+  private static final int SUB_COUNT = 1 << SUB_BITS;
+
+  private final long[] counts = new long[SUB_COUNT + (63 - SUB_BITS) * SUB_COUNT];
+  private long count;
+  private long max;
+  private long total;
+
+  /**
+   * 지연 시간 1건을 기록합니다.
+   *
+   * @param nanos 지연 시간 (ns), 음수는 0 으로 기록
+   */
+  public void record(long nanos) {
+    long value = Math.max(0, nanos);
+    counts[indexOf(value)]++;
+    count++;
+    total += value;
+    max = Math.max(max, value);
+  }
+
+  /**
+   * 백분위 값. 해당 구간의 상한을 반환합니다.
+   *
+   * @param percentile 백분위 (0 ~ 100)
+   * @return 지연 시간 (ns), 기록이 없으면 0
+   */
+  public long percentile(double percentile) {
+    if (count == 0) {
+      return 0;
+    }
+    long target = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+    long cumulative = 0;
+    for (int i = 0; i < counts.length; i++) {
+      cumulative += counts[i];
+      if (cumulative >= target) {
+        return Math.min(max, upperBoundOf(i));
+      }
+    }
+    return max;
+  }
+
+  public long getCount() {
+    return count;
+  }
+
+  public long getMax() {
+    return max;
+  }
+
+  public double getMean() {
+    return count == 0 ? 0 : (double) total / count;
+  }
+
+  public void reset() {
+    Arrays.fill(counts, 0);
+    count = 0;
+    max = 0;
+    total = 0;
+  }
+
+  private static int indexOf(long value) {
+    if (value < SUB_COUNT) {
+      return (int) value;
+    }
+    int exponent = 63 - Long.numberOfLeadingZeros(value);
+    int mantissa = (int) (value >>> (exponent - SUB_BITS)) & (SUB_COUNT - 1);
+    return SUB_COUNT + (exponent - SUB_BITS) * SUB_COUNT + mantissa;
+  }
+
+  private static long upperBoundOf(int index) {
+    if (index < SUB_COUNT) {
+      return index;
+    }
+    int exponent = (index - SUB_COUNT) / SUB_COUNT + SUB_BITS;
+    int mantissa = (index - SUB_COUNT) % SUB_COUNT;
+    return ((long) (SUB_COUNT + mantissa + 1) << (exponent - SUB_BITS)) - 1;
+  }
+}
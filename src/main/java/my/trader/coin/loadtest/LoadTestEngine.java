@@ -0,0 +1,263 @@
+package my.trader.coin.loadtest;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Getter;
+import my.trader.coin.config.AppConfig;
+import my.trader.coin.dto.exchange.AccountResponseDto;
+import my.trader.coin.enums.Signal;
+import my.trader.coin.enums.UpbitType;
+import my.trader.coin.market.MarketRegistry;
+import my.trader.coin.market.MarketStateTable;
+import my.trader.coin.order.OrderDispatcher;
+import my.trader.coin.order.OrderPriority;
+import my.trader.coin.paper.PaperExchange;
+import my.trader.coin.service.UpbitService;
+import my.trader.coin.strategy.ScalpingStrategy;
+import my.trader.coin.strategy.SignalThresholdTable;
+import my.trader.coin.strategy.SignalThresholds;
+import my.trader.coin.timer.DeadlineScheduler;
+import my.trader.coin.trigger.ConditionalOrderEngine;
+import my.trader.coin.util.MathUtility;
+
+/**
+ * 합성 체결을 운영 빈으로 흘려보내며 단계별 지연 시간을 기록합니다.
+ * 체결은 {@link SyntheticQuotations} 의 1분 캔들과 모의 거래소 미체결 주문에 반영되고, 매수/매도 판단은
+ * {@link ScalpingStrategy} 가 운영과 같이 CandleWindowStore 캔들 구간 조회, RSI/ADX 계산을 거쳐 내립니다.
+ * 주문은 {@link OrderDispatcher} 에 넣어 발송 스레드가 UpbitService.executeOrder(정규화, 검증, 위험 점검) 로
+ * 모의 거래소에 접수하며, 보유 종목은 {@link ConditionalOrderEngine} 이 체결마다 평가합니다.
+ * 운영 빈(캔들 구간, 미체결 기한, 매수 대기, 위험 한도) 이 모두 실제 시각을 쓰므로 합성 체결도 실제 시각으로 찍습니다.
+ * 합성 시세에는 호가창이 없으므로 주문 가격은 현재가입니다. 체결 처리는 한 스레드에서만 호출합니다.
+ */
+public class LoadTestEngine {
+  private final SyntheticMarket feed;
+  private final SyntheticQuotations quotations;
+  private final PaperExchange paperExchange;
+  private final UpbitService upbitService;
+  private final ScalpingStrategy scalpingStrategy;
+  private final SignalThresholdTable signalThresholdTable;
+  private final OrderDispatcher orderDispatcher;
+  private final ConditionalOrderEngine conditionalOrderEngine;
+  private final DeadlineScheduler deadlineScheduler;
+  private final MarketStateTable marketStateTable;
+
+  // 종목 순번별 마켓 id
+  private final int[] marketIds;
+  // 매도 주문 후 다음 계좌 갱신 전까지 다시 매도하지 않음 (운영은 사이클마다 1회 판단)
+  private final boolean[] selling;
+
+  private final LatencyHistogram[] latencies =
+        new LatencyHistogram[LoadTestStage.values().length];
+
+  @Getter
+  private long ticks;
+  @Getter
+  private long buySignals;
+  @Getter
+  private long sellSignals;
+  // 주문 결과는 발송 스레드에서 집계
+  private final LongAdder orders = new LongAdder();
+  private final LongAdder rejectedOrders = new LongAdder();
+
+  /**
+   * this is constructor.
+   *
+   * @param feed                   합성 시세
+   * @param quotations             합성 시세로 만든 거래소 쪽 캔들/현재가
+   * @param paperExchange          PaperExchange
+   * @param upbitService           UpbitService
+   * @param scalpingStrategy       ScalpingStrategy
+   * @param signalThresholdTable   SignalThresholdTable
+   * @param orderDispatcher        OrderDispatcher
+   * @param conditionalOrderEngine ConditionalOrderEngine
+   * @param deadlineScheduler      DeadlineScheduler
+   * @param marketRegistry         MarketRegistry
+   * @param marketStateTable       MarketStateTable
+   */
+  public LoadTestEngine(SyntheticMarket feed, SyntheticQuotations quotations,
+                        PaperExchange paperExchange, UpbitService upbitService,
+                        ScalpingStrategy scalpingStrategy,
+                        SignalThresholdTable signalThresholdTable,
+                        OrderDispatcher orderDispatcher,
+                        ConditionalOrderEngine conditionalOrderEngine,
+                        DeadlineScheduler deadlineScheduler, MarketRegistry marketRegistry,
+                        MarketStateTable marketStateTable) {
+    this.feed = feed;
+    this.quotations = quotations;
+    this.paperExchange = paperExchange;
+    this.upbitService = upbitService;
+    this.scalpingStrategy = scalpingStrategy;
+    this.signalThresholdTable = signalThresholdTable;
+    this.orderDispatcher = orderDispatcher;
+    this.conditionalOrderEngine = conditionalOrderEngine;
+    this.deadlineScheduler = deadlineScheduler;
+    this.marketStateTable = marketStateTable;
+
+    int markets = feed.size();
+    this.marketIds = new int[markets];
+    this.selling = new boolean[markets];
+    for (int m = 0; m < markets; m++) {
+      marketIds[m] = marketRegistry.intern(feed.symbol(m));
+    }
+    for (int i = 0; i < latencies.length; i++) {
+      latencies[i] = new LatencyHistogram();
+    }
+  }
+
+  /**
+   * 모든 종목에 체결 1건씩을 처리합니다.
+   *
+   * @param nowMillis  체결 시각 (epoch ms)
+   * @param dtSeconds  직전 회차로부터 흐른 시간 (초)
+   * @param dueNanos   회차 예정 시각 (System.nanoTime 기준)
+   */
+  public void round(long nowMillis, double dtSeconds, long dueNanos) {
+    LatencyHistogram tickLatency = latencies[LoadTestStage.TICK.ordinal()];
+    for (int m = 0; m < marketIds.length; m++) {
+      tick(m, nowMillis, dtSeconds);
+      tickLatency.record(System.nanoTime() - dueNanos);
+    }
+  }
+
+  /**
+   * 운영의 사이클 시작 시 계좌 조회와 같이 계좌로 위험 한도, 보유 종목, 조건부 주문 묶음을 갱신합니다.
+   */
+  public void refreshPositions() {
+    long startedAt = System.nanoTime();
+    List<AccountResponseDto> accounts = upbitService.getAccountAndSynchronizeRisk();
+    marketStateTable.updatePositions(accounts);
+    conditionalOrderEngine.synchronize(accounts);
+    Arrays.fill(selling, false);
+    latencies[LoadTestStage.POSITIONS.ordinal()].record(System.nanoTime() - startedAt);
+  }
+
+  public LatencyHistogram latency(LoadTestStage stage) {
+    return latencies[stage.ordinal()];
+  }
+
+  public long getOrders() {
+    return orders.sum();
+  }
+
+  public long getRejectedOrders() {
+    return rejectedOrders.sum();
+  }
+
+  /**
+   * 예열 후 측정을 다시 시작합니다. 캔들 구간과 포지션 상태는 유지합니다.
+   */
+  public void resetStatistics() {
+    for (LatencyHistogram latency : latencies) {
+      latency.reset();
+    }
+    ticks = 0;
+    buySignals = 0;
+    sellSignals = 0;
+    orders.reset();
+    rejectedOrders.reset();
+  }
+
+  /**
+   * 주문 발송기, 기한 타이머, 조건부 주문 조회 스레드를 멈춥니다.
+   */
+  public void close() {
+    conditionalOrderEngine.close();
+    orderDispatcher.close();
+    deadlineScheduler.close();
+  }
+
+  private void tick(int m, long nowMillis, double dtSeconds) {
+    String market = feed.symbol(m);
+    int id = marketIds[m];
+
+    // 1. 합성 체결
+    long startedAt = System.nanoTime();
+    double price = feed.next(m, dtSeconds);
+    double tradeVolume = feed.volume(m);
+    long fed = System.nanoTime();
+    latencies[LoadTestStage.FEED.ordinal()].record(fed - startedAt);
+
+    // 2. 거래소 쪽 1분 캔들 반영, 모의 거래소 미체결 주문 체결
+    quotations.trade(market, nowMillis, price, tradeVolume);
+    paperExchange.onPrice(market, price);
+    long aggregated = System.nanoTime();
+    latencies[LoadTestStage.CANDLE.ordinal()].record(aggregated - fed);
+
+    // 3. 전략 (재매수 대기 중이 아니면 매수, 조건부 주문을 쓰지 않으면 보유 종목 익절 판단)
+    Signal buySignal = marketStateTable.isCoolingDown(id)
+          ? Signal.NO_ACTION : scalpingStrategy.shouldBuy(market);
+    Signal sellSignal = Signal.NO_ACTION;
+    if (!buySignal.isBuySignal() && !selling[m] && !conditionalOrderEngine.isEnabled()
+          && marketStateTable.hasPosition(id)) {
+      sellSignal = scalpingStrategy.shouldSell(market, price);
+    }
+    long decided = System.nanoTime();
+    latencies[LoadTestStage.STRATEGY.ordinal()].record(decided - aggregated);
+
+    // 4. 조건부 주문 (운영의 보유 종목 현재가 조회에 해당)
+    conditionalOrderEngine.onPrice(market, price);
+    long triggered = System.nanoTime();
+    latencies[LoadTestStage.TRIGGER.ordinal()].record(triggered - decided);
+
+    // 5. 주문 발송기에 넣기
+    if (buySignal.isBuySignal()) {
+      buySignals++;
+      submitBuy(market, id, nowMillis, price, buySignal);
+    } else if (sellSignal.isSellSignal()) {
+      sellSignals++;
+      submitSell(m, market, id, price, sellSignal);
+    }
+    latencies[LoadTestStage.ORDER.ordinal()].record(System.nanoTime() - triggered);
+    ticks++;
+  }
+
+  /**
+   * UpbitScheduler 매수와 같이 1회 거래 금액만큼 주문합니다. 재매수 대기는 주문을 넣을 때 시작하여 거절되면 해제하고,
+   * 접수되면 미체결 기한을 예약합니다.
+   */
+  private void submitBuy(String market, int id, long nowMillis, double price, Signal signal) {
+    SignalThresholds thresholds = signalThresholdTable.current();
+    double quantity =
+          MathUtility.calculateMinimumOrderQuantity(thresholds.getMinTradeAmount(), price);
+    long cooldown =
+          deadlineScheduler.startCooldown(id, nowMillis, thresholds.getBuyCooldownMillis());
+    orderDispatcher.submitOrder(OrderPriority.of(signal), market,
+          UpbitType.ORDER_SIDE_BID.getType(), price, quantity).thenAccept(result -> {
+            if (result == null) {
+              rejectedOrders.increment();
+              deadlineScheduler.cancelCooldown(id, cooldown);
+              return;
+            }
+            orders.increment();
+            deadlineScheduler.watchOrder(market, result.getUuid());
+          });
+  }
+
+  /**
+   * UpbitScheduler 매도와 같이 수량을 정하고, 최소 주문 금액 이상이면 주문합니다.
+   */
+  private void submitSell(int m, String market, int id, double price, Signal signal) {
+    double inventory = marketStateTable.getBalance(id);
+    double quantity = MathUtility.calculateMinimumOrderQuantity(
+          signalThresholdTable.current().getMinTradeAmount(), price);
+    if (signal == Signal.STOP_LOSS
+          || (signal == Signal.TAKE_PROFIT && AppConfig.wholeSellWhenProfit)) {
+      quantity = inventory;
+    }
+    if (price * quantity < AppConfig.minOrderAmount) {
+      return;
+    }
+    selling[m] = true;
+    marketStateTable.markAskPrice(id, price);
+    orderDispatcher.submitOrder(OrderPriority.of(signal), market,
+          UpbitType.ORDER_SIDE_ASK.getType(), price, quantity).thenAccept(result -> {
+            if (result == null) {
+              rejectedOrders.increment();
+              return;
+            }
+            orders.increment();
+            deadlineScheduler.watchOrder(market, result.getUuid());
+          });
+  }
+}
@@ -0,0 +1,124 @@
+package my.trader.coin.loadtest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import my.trader.coin.enums.ColorfulConsoleOutput;
+
+/**
+ * 부하 시험 결과. 지표 이름 -> 값을 기록 순서대로 보관하며, key=value 텍스트 파일로 저장하여 커밋 간 비교합니다.
+ * 첫 줄은 {@code # label} 주석입니다.
+ */
+public class LoadTestReport {
+  // 이 비율 이상 나빠지면 비교표에 표시
+  private static final double REGRESSION_RATIO = 0.1;
+
+  @Getter
+  private final String label;
+  private final Map<String, Double> metrics = new LinkedHashMap<>();
+
+  public LoadTestReport(String label) {
+    this.label = label;
+  }
+
+  public LoadTestReport put(String key, double value) {
+    metrics.put(key, value);
+    return this;
+  }
+
+  public Double get(String key) {
+    return metrics.get(key);
+  }
+
+  /**
+   * 파일로 저장합니다.
+   *
+   * @param path 파일 경로
+   */
+  public void write(Path path) {
+    List<String> lines = new ArrayList<>();
+    lines.add("# " + label);
+    metrics.forEach((key, value) -> lines.add(key + "=" + value));
+    try {
+      if (path.getParent() != null) {
+        Files.createDirectories(path.getParent());
+      }
+      Files.write(path, lines, StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new UncheckedIOException("부하 시험 결과를 저장할 수 없습니다: " + path, e);
+    }
+  }
+
+  /**
+   * 저장된 결과를 읽습니다.
+   *
+   * @param path 파일 경로
+   * @return 결과, 파일이 없으면 null
+   */
+  public static LoadTestReport read(Path path) {
+    if (!Files.exists(path)) {
+      return null;
+    }
+    try {
+      List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+      String label = !lines.isEmpty() && lines.get(0).startsWith("# ")
+            ? lines.get(0).substring(2) : path.getFileName().toString();
+      LoadTestReport report = new LoadTestReport(label);
+      for (String line : lines) {
+        int index = line.indexOf('=');
+        if (line.startsWith("#") || index < 0) {
+          continue;
+        }
+        report.put(line.substring(0, index), Double.parseDouble(line.substring(index + 1)));
+      }
+      return report;
+    } catch (IOException e) {
+      throw new UncheckedIOException("부하 시험 기준선을 읽을 수 없습니다: " + path, e);
+    }
+  }
+
+  /**
+   * 결과표를 출력합니다. 기준선이 있으면 기준선 대비 변화율을 함께 출력하고,
+   * 처리량이 10% 이상 줄거나 지연/할당/GC 가 10% 이상 늘어난 항목에 ! 를 표시합니다.
+   *
+   * @param baseline 기준선 (없으면 null)
+   */
+  public void print(LoadTestReport baseline) {
+    StringBuilder table = new StringBuilder();
+    if (baseline == null) {
+      table.append(String.format("%n%-28s %16s", "metric", label));
+      metrics.forEach((key, value) -> table.append(String.format("%n%-28s %16.3f", key, value)));
+    } else {
+      table.append(String.format("%n%-28s %16s %16s %9s", "metric", baseline.label, label,
+            "change"));
+      metrics.forEach((key, value) -> {
+        Double previous = baseline.get(key);
+        if (previous == null) {
+          table.append(String.format("%n%-28s %16s %16.3f", key, "-", value));
+          return;
+        }
+        double change = previous == 0 ? 0 : (value - previous) / Math.abs(previous);
+        table.append(String.format("%n%-28s %16.3f %16.3f %+8.1f%% %s", key, previous, value,
+              change * 100, isRegression(key, change) ? "!" : ""));
+      });
+    }
+    ColorfulConsoleOutput.printWithColor(table.toString(), ColorfulConsoleOutput.CYAN);
+  }
+
+  private static boolean isRegression(String key, double change) {
+    if (key.startsWith("throughput")) {
+      return change <= -REGRESSION_RATIO;
+    }
+    if (key.startsWith("latency") || key.startsWith("alloc") || key.startsWith("gc")) {
+      return change >= REGRESSION_RATIO;
+    }
+    return false;
+  }
+}
@@ -0,0 +1,333 @@
+package my.trader.coin.loadtest;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.sun.management.ThreadMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import javax.management.ListenerNotFoundException;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import my.trader.coin.config.AppConfig;
+import my.trader.coin.enums.ColorfulConsoleOutput;
+import my.trader.coin.journal.TradeJournal;
+import my.trader.coin.market.CandleWindowStore;
+import my.trader.coin.market.MarketRegistry;
+import my.trader.coin.market.MarketStateTable;
+import my.trader.coin.order.OrderDispatcher;
+import my.trader.coin.orderbook.OrderBookManager;
+import my.trader.coin.paper.PaperExchange;
+import my.trader.coin.regime.MarketRegimeService;
+import my.trader.coin.risk.PreTradeRiskGate;
+import my.trader.coin.scheduler.UpbitScheduler;
+import my.trader.coin.service.UpbitService;
+import my.trader.coin.strategy.ScalpingStrategy;
+import my.trader.coin.strategy.SignalThresholdTable;
+import my.trader.coin.timer.DeadlineScheduler;
+import my.trader.coin.transport.RequestCoalescer;
+import my.trader.coin.trigger.ConditionalOrderEngine;
+import my.trader.coin.util.AuthorizationGenerator;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 합성 시세 부하 시험 실행기.
+ * 사용 예: ./gradlew loadTest -Pargs="--markets=200 --rate=10 --seconds=60 --save=true"
+ * 종목 N개에 종목당 초당 rate 회 체결을 정해진 시각에 흘려보내고 (rate=0 이면 최대 속도),
+ * 처리량, 단계별 지연 백분위, 할당량, GC 멈춤을 출력한 뒤 기준선(--baseline) 과 비교합니다.
+ * --save=true 이면 이번 결과를 기준선으로 저장합니다. 위험 한도는 -Drisk.*, 조건부 주문은 -Dtrigger.* 설정을
+ * 그대로 사용합니다. 운영 빈을 모의투자 설정으로 직접 구성하며, 시세 API 만 합성 시세로 응답합니다.
+ * 체결마다 남기는 콘솔 출력은 측정 중에는 끄며, --verbose=true 이면 그대로 출력합니다.
+ */
+public class LoadTestRunner {
+  private static final double[] PERCENTILES = {50, 99, 99.9};
+  private static final String[] PERCENTILE_KEYS = {"p50", "p99", "p999"};
+
+  /**
+   * 부하 시험 실행.
+   *
+   * @param args --key=value 형식의 옵션
+   */
+  public static void main(String[] args) {
+    Map<String, String> options = parseOptions(args);
+
+    int markets = Integer.parseInt(options.getOrDefault("markets", "200"));
+    double rate = Double.parseDouble(options.getOrDefault("rate", "10"));
+    int seconds = Integer.parseInt(options.getOrDefault("seconds", "60"));
+    int warmupSeconds = Integer.parseInt(options.getOrDefault("warmup", "10"));
+    long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+    int historyMinutes = Integer.parseInt(options.getOrDefault("history", "200"));
+    double cash = Double.parseDouble(options.getOrDefault("cash", "10000000000"));
+    double amount = Double.parseDouble(
+          options.getOrDefault("amount", String.valueOf(AppConfig.baseTradeAmount)));
+    String label = options.getOrDefault("label", LocalDateTime.now().withNano(0).toString());
+    Path baselinePath = Path.of(options.getOrDefault("baseline", "loadtest/baseline.properties"));
+    boolean save = Boolean.parseBoolean(options.getOrDefault("save", "false"));
+    boolean verbose = Boolean.parseBoolean(options.getOrDefault("verbose", "false"));
+
+    // 가격 경로 : 연 드리프트 0, 연 50회 점프, 점프 크기 N(0, 3%)
+    SyntheticMarket feed = new SyntheticMarket(markets,
+          Double.parseDouble(options.getOrDefault("drift", "0")),
+          Double.parseDouble(options.getOrDefault("jumps", "50")), 0,
+          Double.parseDouble(options.getOrDefault("jump.std", "0.03")), seed);
+
+    // 시작 시각 이전 구간을 미리 만들어 캔들 구간이 처음부터 차 있도록 함
+    long startMillis = System.currentTimeMillis();
+    SyntheticQuotations quotations = new SyntheticQuotations(feed);
+    quotations.seed(feed, startMillis, historyMinutes);
+
+    AppConfig.paperTrading = true;
+    AppConfig.baseTradeAmount = amount;
+    AppConfig.scheduledMarket = symbols(feed);
+    PaperExchange paperExchange = new PaperExchange();
+    paperExchange.reset(cash);
+    LoadTestEngine engine = createEngine(feed, quotations, paperExchange);
+    GcPauseRecorder gcPauses = new GcPauseRecorder();
+
+    ColorfulConsoleOutput.printWithColor(
+          String.format("부하 시험 시작: 종목 %d개, 종목당 초당 %s회, 예열 %d초, 측정 %d초", markets,
+                rate > 0 ? rate : "최대", warmupSeconds, seconds),
+          ColorfulConsoleOutput.GREEN);
+
+    // 정해진 시각에 회차를 시작 (rate=0 이면 대기 없이 바로 다음 회차)
+    long intervalNanos = rate > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / rate) : 0;
+    Clock clock = new Clock();
+
+    Logger console = (Logger) LoggerFactory.getLogger(UpbitScheduler.class);
+    Level consoleLevel = console.getLevel();
+    if (!verbose) {
+      console.setLevel(Level.WARN);
+    }
+    engine.refreshPositions();
+    run(engine, clock, intervalNanos, warmupSeconds);
+    engine.resetStatistics();
+    gcPauses.reset();
+
+    // 할당량은 주문 발송, 기한 타이머, 조건부 주문 조회 스레드까지 모든 스레드 합계
+    ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    Map<Long, Long> allocatedBefore = allocatedBytes(threads);
+    long startedAt = System.nanoTime();
+    run(engine, clock, intervalNanos, seconds);
+    // 마지막 회차가 측정 시간 안에 끝나도 측정 시간 전체를 기준으로 처리량 계산
+    double elapsedSeconds =
+          Math.max(System.nanoTime() - startedAt, TimeUnit.SECONDS.toNanos(seconds)) / 1e9;
+    long allocated = 0;
+    for (Map.Entry<Long, Long> thread : allocatedBytes(threads).entrySet()) {
+      allocated += thread.getValue() - allocatedBefore.getOrDefault(thread.getKey(), 0L);
+    }
+    gcPauses.close();
+    engine.close();
+    console.setLevel(consoleLevel);
+
+    LoadTestReport report = new LoadTestReport(label)
+          .put("markets", markets)
+          .put("rate", rate)
+          .put("target.ticks_per_sec", rate > 0 ? markets * rate : 0)
+          .put("throughput.ticks_per_sec", engine.getTicks() / elapsedSeconds)
+          .put("ticks", engine.getTicks())
+          .put("signals.buy", engine.getBuySignals())
+          .put("signals.sell", engine.getSellSignals())
+          .put("orders.accepted", engine.getOrders())
+          .put("orders.rejected", engine.getRejectedOrders());
+    for (LoadTestStage stage : LoadTestStage.values()) {
+      LatencyHistogram latency = engine.latency(stage);
+      for (int i = 0; i < PERCENTILES.length; i++) {
+        report.put("latency." + stage.getKey() + "." + PERCENTILE_KEYS[i] + "_us",
+              latency.percentile(PERCENTILES[i]) / 1e3);
+      }
+      report.put("latency." + stage.getKey() + ".max_us", latency.getMax() / 1e3);
+    }
+    report.put("alloc.mb_per_sec", allocated / elapsedSeconds / (1024 * 1024))
+          .put("alloc.bytes_per_tick", engine.getTicks() == 0 ? 0
+                : (double) allocated / engine.getTicks())
+          .put("gc.count", gcPauses.getCount())
+          .put("gc.pause.total_ms", gcPauses.getTotalMillis())
+          .put("gc.pause.max_ms", gcPauses.getMaxMillis());
+
+    LoadTestReport baseline = LoadTestReport.read(baselinePath);
+    report.print(baseline);
+    if (rate > 0 && engine.getTicks() / elapsedSeconds < markets * rate * 0.99) {
+      ColorfulConsoleOutput.printWithColor("목표 처리량을 유지하지 못했습니다.",
+            ColorfulConsoleOutput.RED);
+    }
+    if (save) {
+      report.write(baselinePath);
+      ColorfulConsoleOutput.printWithColor("기준선 저장: " + baselinePath,
+            ColorfulConsoleOutput.GREEN);
+    }
+  }
+
+  /**
+   * 정해진 시간 동안 회차를 실행합니다. 늦어진 회차는 기다리지 않고 바로 실행하며, 지연은 tick 단계에 남습니다.
+   * 계좌 갱신은 운영 사이클의 계좌 조회에 해당하며 1초마다 실행합니다.
+   */
+  private static void run(LoadTestEngine engine, Clock clock, long intervalNanos, int seconds) {
+    long startedAt = System.nanoTime();
+    long endAt = startedAt + TimeUnit.SECONDS.toNanos(seconds);
+    for (long round = 0; ; round++) {
+      long due = intervalNanos > 0 ? startedAt + round * intervalNanos : System.nanoTime();
+      long now = System.nanoTime();
+      if (due >= endAt || now >= endAt) {
+        return;
+      }
+      if (due > now) {
+        LockSupport.parkNanos(due - now);
+      }
+
+      long nowNanos = System.nanoTime();
+      double dtSeconds = (nowNanos - clock.previousNanos) / 1e9;
+      clock.previousNanos = nowNanos;
+      long nowMillis = System.currentTimeMillis();
+      engine.round(nowMillis, dtSeconds, due);
+      if (nowMillis / 1000 != clock.refreshedSecond) {
+        clock.refreshedSecond = nowMillis / 1000;
+        engine.refreshPositions();
+      }
+    }
+  }
+
+  /**
+   * 운영과 같은 빈을 모의투자 설정으로 구성합니다. 시세 API 만 합성 시세로 응답합니다.
+   */
+  private static LoadTestEngine createEngine(SyntheticMarket feed, SyntheticQuotations quotations,
+                                             PaperExchange paperExchange) {
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    TradeJournal tradeJournal = new TradeJournal(false, Path.of(AppConfig.journalDirectory), 0, 0);
+    MarketRegistry marketRegistry = new MarketRegistry(feed.size() + 1024);
+    MarketStateTable marketStateTable = new MarketStateTable(marketRegistry, tradeJournal);
+    PreTradeRiskGate preTradeRiskGate = new PreTradeRiskGate(meterRegistry);
+    UpbitService upbitService = new UpbitService(new AuthorizationGenerator(),
+          new SyntheticExternalUtility(quotations, paperExchange,
+                new RequestCoalescer(meterRegistry)),
+          preTradeRiskGate, tradeJournal);
+    SignalThresholdTable signalThresholdTable =
+          new SignalThresholdTable(new MarketRegimeService(upbitService), tradeJournal);
+    ScalpingStrategy scalpingStrategy = new ScalpingStrategy(upbitService, signalThresholdTable,
+          marketRegistry, tradeJournal, new CandleWindowStore(upbitService));
+    OrderDispatcher orderDispatcher = new OrderDispatcher(upbitService, meterRegistry);
+    DeadlineScheduler deadlineScheduler = new DeadlineScheduler(orderDispatcher,
+          marketStateTable, upbitService, preTradeRiskGate, meterRegistry);
+    ConditionalOrderEngine conditionalOrderEngine = new ConditionalOrderEngine(orderDispatcher,
+          new OrderBookManager(upbitService), deadlineScheduler, marketRegistry,
+          marketStateTable, signalThresholdTable, upbitService, tradeJournal, meterRegistry);
+    return new LoadTestEngine(feed, quotations, paperExchange, upbitService, scalpingStrategy,
+          signalThresholdTable, orderDispatcher, conditionalOrderEngine, deadlineScheduler,
+          marketRegistry, marketStateTable);
+  }
+
+  /**
+   * 살아 있는 스레드별 누적 할당량. 종료된 스레드는 빠지므로 측정 중 계속 사는 스레드만 정확합니다.
+   */
+  private static Map<Long, Long> allocatedBytes(ThreadMXBean threads) {
+    long[] ids = threads.getAllThreadIds();
+    long[] bytes = threads.getThreadAllocatedBytes(ids);
+    Map<Long, Long> allocated = new HashMap<>(ids.length * 2);
+    for (int i = 0; i < ids.length; i++) {
+      if (bytes[i] >= 0) {
+        allocated.put(ids[i], bytes[i]);
+      }
+    }
+    return allocated;
+  }
+
+  private static List<String> symbols(SyntheticMarket feed) {
+    String[] symbols = new String[feed.size()];
+    for (int m = 0; m < symbols.length; m++) {
+      symbols[m] = feed.symbol(m);
+    }
+    return List.of(symbols);
+  }
+
+  private static Map<String, String> parseOptions(String[] args) {
+    Map<String, String> options = new HashMap<>();
+    for (String arg : args) {
+      if (arg.startsWith("--") && arg.contains("=")) {
+        int index = arg.indexOf('=');
+        options.put(arg.substring(2, index), arg.substring(index + 1));
+      }
+    }
+    return options;
+  }
+
+  /**
+   * 회차 시각. 운영 빈이 모두 실제 시각을 쓰므로 체결 시각은 실제 시각이고, 가격 경로는 직전 회차로부터 실제로 흐른
+   * 시간만큼 진행합니다. 예열과 측정이 이어지도록 공유합니다.
+   */
+  private static class Clock {
+    private long previousNanos = System.nanoTime();
+    private long refreshedSecond = System.currentTimeMillis() / 1000;
+  }
+
+  /**
+   * GC 알림으로 멈춤 시간을 기록합니다. 동시 수행 GC(G1 Concurrent, ZGC Cycles) 는 멈춤이 아니므로 제외합니다.
+   */
+  private static class GcPauseRecorder {
+    private final Map<NotificationEmitter, NotificationListener> listeners =
+          new HashMap<>();
+    private volatile long count;
+    private volatile long totalMillis;
+    private volatile long maxMillis;
+
+    GcPauseRecorder() {
+      for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+        if (!(gc instanceof NotificationEmitter emitter)
+              || gc.getName().contains("Concurrent") || gc.getName().contains("Cycles")) {
+          continue;
+        }
+        NotificationListener listener = (notification, handback) -> {
+          if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION
+                .equals(notification.getType())) {
+            return;
+          }
+          long duration = GarbageCollectionNotificationInfo
+                .from((CompositeData) notification.getUserData()).getGcInfo().getDuration();
+          synchronized (this) {
+            count++;
+            totalMillis += duration;
+            maxMillis = Math.max(maxMillis, duration);
+          }
+        };
+        emitter.addNotificationListener(listener, null, null);
+        listeners.put(emitter, listener);
+      }
+    }
+
+    synchronized void reset() {
+      count = 0;
+      totalMillis = 0;
+      maxMillis = 0;
+    }
+
+    void close() {
+      listeners.forEach((emitter, listener) -> {
+        try {
+          emitter.removeNotificationListener(listener);
+        } catch (ListenerNotFoundException e) {
+          // 이미 제거됨
+        }
+      });
+    }
+
+    long getCount() {
+      return count;
+    }
+
+    long getTotalMillis() {
+      return totalMillis;
+    }
+
+    long getMaxMillis() {
+      return maxMillis;
+    }
+  }
+}
@@ -0,0 +1,31 @@
+package my.trader.coin.loadtest;
+
+import lombok.Getter;
+
+/**
+ * 부하 시험 처리 단계. 단계별 지연 시간을 따로 기록합니다.
+ */
+@Getter
+public enum LoadTestStage {
+  // 합성 체결 1건 생성
+  FEED("feed"),
+  // 거래소 쪽 1분 캔들 집계, 모의 거래소 미체결 주문 체결
+  CANDLE("candle"),
+  // ScalpingStrategy 매수/익절 판단 (캔들 구간 조회, RSI/ADX 계산 포함)
+  STRATEGY("strategy"),
+  // ConditionalOrderEngine 조건부 주문 평가
+  TRIGGER("trigger"),
+  // OrderDispatcher 대기열에 주문 넣기 (정규화/위험 점검/접수는 발송 스레드)
+  ORDER("order"),
+  // 계좌 조회로 위험 한도/보유 종목/조건부 주문 묶음 갱신 (1초마다)
+  POSITIONS("positions"),
+  // 회차 예정 시각부터 체결 1건 처리 완료까지 (대기 포함)
+  TICK("tick");
+
+  // 보고서 키
+  private final String key;
+
+  LoadTestStage(String key) {
+    this.key = key;
+  }
+}
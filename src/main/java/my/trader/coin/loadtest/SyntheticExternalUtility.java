@@ -0,0 +1,59 @@
+package my.trader.coin.loadtest;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import my.trader.coin.paper.PaperExchange;
+import my.trader.coin.transport.RequestCoalescer;
+import my.trader.coin.util.ExternalUtility;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * 부하 시험용 외부 API. 시세 조회(분 캔들, 현재가, 호가) 는 {@link SyntheticQuotations} 에서 응답하고,
+ * 계좌/주문 API 는 모의투자 설정으로 {@link PaperExchange} 에서 처리하므로 네트워크를 사용하지 않습니다.
+ * 호가는 빈 목록을 돌려주어 주문 가격은 현재가 기준으로 정합니다. 운영과 같이 호출한 쪽이 정렬할 수 있는 복사본을 돌려줍니다.
+ */
+public class SyntheticExternalUtility extends ExternalUtility {
+  private final SyntheticQuotations quotations;
+
+  /**
+   * this is constructor.
+   *
+   * @param quotations       합성 시세
+   * @param paperExchange    PaperExchange
+   * @param requestCoalescer RequestCoalescer
+   */
+  public SyntheticExternalUtility(SyntheticQuotations quotations, PaperExchange paperExchange,
+                                  RequestCoalescer requestCoalescer) {
+    super(WebClient.builder(), paperExchange, requestCoalescer);
+    this.quotations = quotations;
+  }
+
+  @Override
+  public <T> List<T> getWithoutAuth(URI uri, Class<T> responseType) {
+    String path = uri.getPath();
+    MultiValueMap<String, String> query =
+          UriComponentsBuilder.fromUri(uri).build().getQueryParams();
+
+    List<?> result;
+    if (path.contains("/candles/minutes/")) {
+      result = quotations.minuteCandles(query.getFirst("market"),
+            Integer.parseInt(query.getFirst("count")));
+    } else if (path.endsWith("/ticker")) {
+      result = quotations.tickers(Arrays.asList(query.getFirst("markets").split(",")));
+    } else if (path.endsWith("/orderbook")) {
+      result = List.of();
+    } else {
+      throw new IllegalArgumentException("부하 시험에서 지원하지 않는 API: " + path);
+    }
+
+    List<T> copy = new ArrayList<>(result.size());
+    for (Object item : result) {
+      copy.add(responseType.cast(item));
+    }
+    return copy;
+  }
+}
@@ -0,0 +1,99 @@
+package my.trader.coin.loadtest;
+
+import java.util.SplittableRandom;
+
+/**
+ * 부하 시험용 합성 시세. 종목마다 점프가 있는 기하 브라운 운동(Merton jump-diffusion) 으로 가격을 만듭니다.
+ * log 수익률 = (drift - volatility² / 2) dt + volatility √dt Z
+ *             + (확률 jumpIntensity dt 로) N(jumpMean, jumpStd).
+ * 종목별 변동성과 기준가는 seed 로 정해지므로 같은 seed 는 같은 가격 경로를 만듭니다.
+ */
+public class SyntheticMarket {
+  private static final double SECONDS_PER_YEAR = 365.0 * 24 * 60 * 60;
+
+  private final String[] symbols;
+  private final double[] price;
+  private final double[] volatility;
+  private final double[] meanVolume;
+  // 연 기준 기대 수익률
+  private final double drift;
+  // 연 기준 점프 발생 횟수
+  private final double jumpIntensity;
+  // 점프 크기(log) 의 평균, 표준편차
+  private final double jumpMean;
+  private final double jumpStd;
+  private final SplittableRandom random;
+
+  /**
+   * this is constructor.
+   *
+   * @param markets       종목 수
+   * @param drift         연 기준 기대 수익률
+   * @param jumpIntensity 연 기준 점프 발생 횟수
+   * @param jumpMean      점프 크기(log) 평균
+   * @param jumpStd       점프 크기(log) 표준편차
+   * @param seed          난수 seed
+   */
+  public SyntheticMarket(int markets, double drift, double jumpIntensity, double jumpMean,
+                         double jumpStd, long seed) {
+    this.symbols = new String[markets];
+    this.price = new double[markets];
+    this.volatility = new double[markets];
+    this.meanVolume = new double[markets];
+    this.drift = drift;
+    this.jumpIntensity = jumpIntensity;
+    this.jumpMean = jumpMean;
+    this.jumpStd = jumpStd;
+    this.random = new SplittableRandom(seed);
+
+    for (int i = 0; i < markets; i++) {
+      // 대역 서버 합성 마켓과 같은 이름
+      symbols[i] = String.format("KRW-SYN%04d", i + 1);
+      // 10원 ~ 1억원 사이 기준가, 연 변동성 40% ~ 160%
+      price[i] = Math.pow(10, 1 + random.nextDouble() * 7);
+      volatility[i] = 0.4 + random.nextDouble() * 1.2;
+      meanVolume[i] = 1_000_000 / price[i];
+    }
+  }
+
+  public int size() {
+    return symbols.length;
+  }
+
+  public String symbol(int market) {
+    return symbols[market];
+  }
+
+  public double price(int market) {
+    return price[market];
+  }
+
+  /**
+   * 종목 가격을 dt 만큼 진행합니다.
+   *
+   * @param market    종목 순번
+   * @param dtSeconds 경과 시간 (초)
+   * @return 새 가격
+   */
+  public double next(int market, double dtSeconds) {
+    double dt = dtSeconds / SECONDS_PER_YEAR;
+    double sigma = volatility[market];
+    double logReturn = (drift - sigma * sigma / 2) * dt
+          + sigma * Math.sqrt(dt) * random.nextGaussian();
+    if (random.nextDouble() < jumpIntensity * dt) {
+      logReturn += jumpMean + jumpStd * random.nextGaussian();
+    }
+    price[market] *= Math.exp(logReturn);
+    return price[market];
+  }
+
+  /**
+   * 체결 1건의 거래량. 종목별 평균(약 100만원 어치) 의 지수 분포입니다.
+   *
+   * @param market 종목 순번
+   * @return 거래량
+   */
+  public double volume(int market) {
+    return -meanVolume[market] * Math.log(1 - random.nextDouble());
+  }
+}
@@ -0,0 +1,177 @@
+package my.trader.coin.loadtest;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import my.trader.coin.backtest.CandleSeries;
+import my.trader.coin.dto.quotation.CandleResponseDto;
+import my.trader.coin.dto.quotation.TickerResponseDto;
+import my.trader.coin.enums.Unit;
+import my.trader.coin.enums.UpbitType;
+
+/**
+ * 합성 체결로 만든 거래소 쪽 시세. 종목별 1분 캔들(최근 200개 + 진행 중 캔들) 과 현재가를 유지하고,
+ * 업비트 분 캔들/현재가 응답 형식으로 돌려줍니다. 부하 시험 스레드와 조건부 주문 조회 스레드가 함께 사용하므로
+ * 종목 단위로 동기화합니다.
+ */
+public class SyntheticQuotations {
+  private static final int CAPACITY = Integer.parseInt(UpbitType.MAX_CANDLE_SIZE.getType());
+  private static final long MINUTE_MILLIS = 60_000L;
+  // 과거 구간을 만들 때 1분을 나누는 체결 수
+  private static final int SEED_TRADES_PER_MINUTE = 4;
+
+  private final Map<String, Series> series = new HashMap<>();
+
+  /**
+   * 한 종목의 캔들. 완성 캔들은 오래된 순입니다.
+   */
+  private static final class Series {
+    private final ArrayDeque<CandleResponseDto> completed = new ArrayDeque<>();
+    // 진행 중 캔들
+    private long start = Long.MIN_VALUE;
+    private long lastTradeAt;
+    private double open;
+    private double high;
+    private double low;
+    private double close;
+    private double volume;
+    private double value;
+  }
+
+  /**
+   * this is constructor.
+   *
+   * @param feed 합성 시세 (종목 목록)
+   */
+  public SyntheticQuotations(SyntheticMarket feed) {
+    for (int m = 0; m < feed.size(); m++) {
+      series.put(feed.symbol(m), new Series());
+    }
+  }
+
+  /**
+   * 시작 시각 이전 minutes 분 동안의 완성 캔들을 합성 시세로 미리 만듭니다.
+   * 운영에서 기동 시 캔들 아카이브로 캔들 구간을 채우는 것에 해당하며, 지표가 처음부터 계산되도록 합니다.
+   *
+   * @param feed      합성 시세
+   * @param nowMillis 시작 시각 (epoch ms)
+   * @param minutes   만들 캔들 수
+   */
+  public void seed(SyntheticMarket feed, long nowMillis, int minutes) {
+    long from = nowMillis - Math.floorMod(nowMillis, MINUTE_MILLIS) - minutes * MINUTE_MILLIS;
+    double dtSeconds = 60.0 / SEED_TRADES_PER_MINUTE;
+    for (int m = 0; m < feed.size(); m++) {
+      for (int i = 0; i < minutes * SEED_TRADES_PER_MINUTE; i++) {
+        long tradeAt = from + (long) (i * dtSeconds * 1000);
+        trade(feed.symbol(m), tradeAt, feed.next(m, dtSeconds), feed.volume(m));
+      }
+    }
+  }
+
+  /**
+   * 체결 1건을 반영합니다. 새 분이면 진행 중 캔들을 완성 캔들로 넘깁니다.
+   *
+   * @param market      마켓코드
+   * @param tradeAt     체결 시각 (epoch ms)
+   * @param price       체결가
+   * @param tradeVolume 체결량
+   */
+  public void trade(String market, long tradeAt, double price, double tradeVolume) {
+    Series candles = series.get(market);
+    synchronized (candles) {
+      long start = tradeAt - Math.floorMod(tradeAt, MINUTE_MILLIS);
+      if (candles.start != start) {
+        if (candles.start != Long.MIN_VALUE) {
+          candles.completed.addLast(toCandle(market, candles));
+          if (candles.completed.size() > CAPACITY) {
+            candles.completed.pollFirst();
+          }
+        }
+        candles.start = start;
+        candles.open = price;
+        candles.high = price;
+        candles.low = price;
+        candles.volume = 0;
+        candles.value = 0;
+      }
+      candles.high = Math.max(candles.high, price);
+      candles.low = Math.min(candles.low, price);
+      candles.close = price;
+      candles.volume += tradeVolume;
+      candles.value += price * tradeVolume;
+      candles.lastTradeAt = tradeAt;
+    }
+  }
+
+  /**
+   * 최근 1분 캔들을 업비트와 같이 최신 캔들부터 내림차순으로 돌려줍니다 (진행 중 캔들 포함).
+   *
+   * @param market 마켓코드
+   * @param count  캔들 개수
+   * @return 분 캔들 리스트
+   */
+  public List<CandleResponseDto> minuteCandles(String market, int count) {
+    Series candles = series.get(market);
+    if (candles == null) {
+      return new ArrayList<>();
+    }
+    synchronized (candles) {
+      if (candles.start == Long.MIN_VALUE || count <= 0) {
+        return new ArrayList<>();
+      }
+      List<CandleResponseDto> result = new ArrayList<>(Math.min(count, CAPACITY + 1));
+      result.add(toCandle(market, candles));
+      Iterator<CandleResponseDto> iterator = candles.completed.descendingIterator();
+      while (result.size() < count && iterator.hasNext()) {
+        result.add(iterator.next());
+      }
+      return result;
+    }
+  }
+
+  /**
+   * 현재가 응답.
+   *
+   * @param markets 마켓코드 리스트
+   * @return 현재가 리스트 (체결이 없는 종목 제외)
+   */
+  public List<TickerResponseDto> tickers(List<String> markets) {
+    List<TickerResponseDto> result = new ArrayList<>(markets.size());
+    for (String market : markets) {
+      Series candles = series.get(market);
+      if (candles == null) {
+        continue;
+      }
+      synchronized (candles) {
+        if (candles.start == Long.MIN_VALUE) {
+          continue;
+        }
+        TickerResponseDto ticker = new TickerResponseDto();
+        ticker.setMarket(market);
+        ticker.setTradePrice(candles.close);
+        ticker.setTradeTimestamp(candles.lastTradeAt);
+        ticker.setTimestamp(candles.lastTradeAt);
+        result.add(ticker);
+      }
+    }
+    return result;
+  }
+
+  private static CandleResponseDto toCandle(String market, Series candles) {
+    CandleResponseDto candle = new CandleResponseDto();
+    candle.setMarket(market);
+    candle.setCandleDateTimeUtc(CandleSeries.formatStart(candles.start));
+    candle.setOpeningPrice(candles.open);
+    candle.setHighPrice(candles.high);
+    candle.setLowPrice(candles.low);
+    candle.setTradePrice(candles.close);
+    candle.setTimestamp(candles.lastTradeAt);
+    candle.setCandleAccTradeVolume(candles.volume);
+    candle.setCandleAccTradePrice(candles.value);
+    candle.setUnit(Unit.UNIT_1.getUnit());
+    return candle;
+  }
+}
@@ -0,0 +1,180 @@
+package my.trader.coin.market;
+
+import jakarta.annotation.PreDestroy;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import my.trader.coin.backtest.CandleArchive;
+import my.trader.coin.backtest.CandleSeries;
+import my.trader.coin.config.AppConfig;
+import my.trader.coin.dto.quotation.CandleResponseDto;
+import my.trader.coin.enums.ColorfulConsoleOutput;
+import my.trader.coin.enums.Unit;
+import my.trader.coin.enums.UpbitType;
+import my.trader.coin.service.UpbitService;
+import org.springframework.stereotype.Component;
+
+/**
+ * 종목별 최근 1분 캔들 200개를 메모리에 유지합니다.
+ * 매 조회마다 200개를 다시 받지 않고 마지막으로 받은 캔들 이후 구간(진행 중인 마지막 캔들 포함)만 받아 합칩니다.
+ * 기동 시 로컬 캔들 아카이브의 최근 구간으로 채울 수 있으며, 종료 시 완성된 캔들을 아카이브에 추가합니다.
+ */
+@Component
+public class CandleWindowStore {
+  private static final int CAPACITY = Integer.parseInt(UpbitType.MAX_CANDLE_SIZE.getType());
+  private static final long MINUTE_MILLIS = 60_000L;
+
+  private final UpbitService upbitService;
+  private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+  /**
+   * 한 종목의 캔들 구간. 조회와 병합은 종목 단위로 동기화합니다.
+   */
+  private static final class Window {
+    // 캔들 시작 시각 -> 캔들 (오름차순)
+    private final NavigableMap<Long, CandleResponseDto> candles = new TreeMap<>();
+    // 아카이브에 저장된 마지막 캔들 시작 시각
+    private long persistedUntil;
+  }
+
+  /**
+   * this is constructor.
+   *
+   * @param upbitService UpbitService
+   */
+  public CandleWindowStore(UpbitService upbitService) {
+    this.upbitService = upbitService;
+  }
+
+  /**
+   * 아카이브에 저장된 캔들로 구간을 채웁니다. 이미 받은 캔들이 있으면 덮어쓰지 않습니다.
+   *
+   * @param series 1분 캔들 시계열
+   * @return 채워진 캔들 수
+   */
+  public int seed(CandleSeries series) {
+    Window window = windows.computeIfAbsent(series.getMarket(), key -> new Window());
+    synchronized (window) {
+      int from = Math.max(0, series.size() - CAPACITY);
+      for (int i = from; i < series.size(); i++) {
+        window.candles.putIfAbsent(series.getTimestamp()[i], toCandle(series, i));
+      }
+      if (series.size() > 0) {
+        window.persistedUntil =
+              Math.max(window.persistedUntil, series.getTimestamp()[series.size() - 1]);
+      }
+      trim(window);
+      return series.size() - from;
+    }
+  }
+
+  /**
+   * 최근 1분 캔들을 timestamp 오름차순으로 조회합니다.
+   * 구간이 비어 있거나 덜 찼으면 200개를 받고, 그 외에는 마지막 캔들부터 현재까지만 받습니다.
+   *
+   * @param market 마켓코드
+   * @return 최근 캔들 (최대 200개)
+   */
+  public List<CandleResponseDto> recent(String market) {
+    Window window = windows.computeIfAbsent(market, key -> new Window());
+    synchronized (window) {
+      int count = missingCount(window, System.currentTimeMillis());
+      List<CandleResponseDto> fetched =
+            upbitService.getMinuteCandle(market, Unit.UNIT_1, count, "asc");
+      for (CandleResponseDto candle : fetched) {
+        window.candles.put(CandleSeries.startOf(candle), candle);
+      }
+      trim(window);
+      return new ArrayList<>(window.candles.values());
+    }
+  }
+
+  /**
+   * 보관 중인 캔들 수.
+   */
+  public int size(String market) {
+    Window window = windows.get(market);
+    if (window == null) {
+      return 0;
+    }
+    synchronized (window) {
+      return window.candles.size();
+    }
+  }
+
+  /**
+   * 아카이브에 아직 없는 완성된 캔들(진행 중인 현재 분 제외) 을 추가합니다.
+   *
+   * @param archive 캔들 아카이브
+   * @return 추가된 캔들 수
+   */
+  public int persist(CandleArchive archive) {
+    long currentMinute = System.currentTimeMillis() / MINUTE_MILLIS * MINUTE_MILLIS;
+    int persisted = 0;
+    for (Map.Entry<String, Window> entry : windows.entrySet()) {
+      Window window = entry.getValue();
+      synchronized (window) {
+        List<CandleResponseDto> completed = new ArrayList<>(window.candles
+              .subMap(window.persistedUntil, false, currentMinute, false).values());
+        if (completed.isEmpty()) {
+          continue;
+        }
+        archive.append(CandleSeries.of(entry.getKey(), Unit.UNIT_1.getUnit(), completed));
+        window.persistedUntil = CandleSeries.startOf(completed.get(completed.size() - 1));
+        persisted += completed.size();
+      }
+    }
+    return persisted;
+  }
+
+  /**
+   * 종료 시 완성된 캔들을 로컬 아카이브에 추가하여 다음 기동 때 사용합니다.
+   */
+  @PreDestroy
+  public void close() {
+    try {
+      int persisted = persist(new CandleArchive(Path.of(AppConfig.candleArchiveDirectory)));
+      ColorfulConsoleOutput.printWithColor(
+            String.format("캔들 아카이브 저장: %,d개", persisted), ColorfulConsoleOutput.GREEN);
+    } catch (RuntimeException e) {
+      ColorfulConsoleOutput.printWithColor("캔들 아카이브 저장 실패: " + e.getMessage(),
+            ColorfulConsoleOutput.YELLOW);
+    }
+  }
+
+  /**
+   * 받아야 할 캔들 개수. 마지막 캔들은 조회 당시 진행 중이었을 수 있으므로 함께 다시 받습니다.
+   */
+  private static int missingCount(Window window, long now) {
+    if (window.candles.size() < CAPACITY) {
+      return CAPACITY;
+    }
+    long minutes = (now - window.candles.lastKey()) / MINUTE_MILLIS + 1;
+    return (int) Math.max(1, Math.min(CAPACITY, minutes));
+  }
+
+  private static void trim(Window window) {
+    while (window.candles.size() > CAPACITY) {
+      window.candles.pollFirstEntry();
+    }
+  }
+
+  private static CandleResponseDto toCandle(CandleSeries series, int index) {
+    long start = series.getTimestamp()[index];
+    CandleResponseDto candle = new CandleResponseDto();
+    candle.setMarket(series.getMarket());
+    candle.setCandleDateTimeUtc(CandleSeries.formatStart(start));
+    candle.setOpeningPrice(series.getOpeningPrice()[index]);
+    candle.setHighPrice(series.getHighPrice()[index]);
+    candle.setLowPrice(series.getLowPrice()[index]);
+    candle.setTradePrice(series.getTradePrice()[index]);
+    candle.setTimestamp(start);
+    candle.setCandleAccTradeVolume(series.getVolume()[index]);
+    candle.setUnit(series.getUnit());
+    return candle;
+  }
+}
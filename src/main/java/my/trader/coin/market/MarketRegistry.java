@@ -0,0 +1,157 @@
+package my.trader.coin.market;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import my.trader.coin.dto.quotation.MarketResponseDto;
+import my.trader.coin.enums.MarketCode;
+import org.springframework.stereotype.Component;
+
+/**
+ * 마켓코드(ex: KRW-BTC) 를 0 부터 시작하는 조밀한 int id 로 한 번만 등록(intern)합니다.
+ * 종목별 상태는 이 id 를 인덱스로 하는 primitive 배열에 두어, 매 사이클 경로에서
+ * 문자열 생성/분리, 해시 계산, 박싱을 하지 않도록 합니다.
+ * 등록된 id 는 바뀌지 않으며, 최대 등록 수는 -Dmarket.registry.capacity 로 변경할 수 있습니다.
+ */
+@Component
+public class MarketRegistry {
+  // 등록되지 않은 마켓
+  public static final int UNKNOWN = -1;
+
+  private final int capacity;
+  private final String[] symbols;
+  private final String[] quoteCurrencies;
+  private final String[] baseCurrencies;
+  private final Map<String, Integer> idBySymbol = new ConcurrentHashMap<>();
+  // 화폐단위 -> (종목 화폐 -> id), 계좌 정보(unit_currency, currency) 조회용
+  private final Map<String, Map<String, Integer>> idByCurrency = new ConcurrentHashMap<>();
+  private volatile int size;
+
+  /**
+   * MarketCode 에 정의된 종목을 먼저 등록합니다.
+   */
+  public MarketRegistry() {
+    this(Integer.getInteger("market.registry.capacity", 2048));
+  }
+
+  /**
+   * this is constructor.
+   *
+   * @param capacity 최대 등록 수
+   */
+  public MarketRegistry(int capacity) {
+    this.capacity = capacity;
+    this.symbols = new String[capacity];
+    this.quoteCurrencies = new String[capacity];
+    this.baseCurrencies = new String[capacity];
+    for (MarketCode marketCode : MarketCode.values()) {
+      intern(marketCode.getSymbol());
+    }
+  }
+
+  /**
+   * 업비트 마켓 목록을 등록합니다.
+   *
+   * @param markets 마켓 목록 (GET /v1/market/all)
+   */
+  public void registerAll(List<MarketResponseDto> markets) {
+    for (MarketResponseDto market : markets) {
+      intern(market.getMarket());
+    }
+  }
+
+  /**
+   * 마켓코드를 등록하고 id 를 반환합니다. 이미 등록된 경우 기존 id 를 반환합니다.
+   *
+   * @param symbol 마켓코드 (화폐단위-종목, ex: KRW-BTC)
+   * @return id
+   */
+  public int intern(String symbol) {
+    Integer id = idBySymbol.get(symbol);
+    if (id != null) {
+      return id;
+    }
+    synchronized (this) {
+      id = idBySymbol.get(symbol);
+      if (id != null) {
+        return id;
+      }
+      int separator = symbol.indexOf('-');
+      if (separator <= 0) {
+        throw new IllegalArgumentException("마켓코드 형식이 올바르지 않습니다: " + symbol);
+      }
+      if (size >= capacity) {
+        throw new IllegalStateException("마켓 등록 가능 개수를 초과했습니다: " + capacity);
+      }
+
+      int newId = size;
+      symbols[newId] = symbol;
+      quoteCurrencies[newId] = symbol.substring(0, separator);
+      baseCurrencies[newId] = symbol.substring(separator + 1);
+      idByCurrency.computeIfAbsent(quoteCurrencies[newId], key -> new ConcurrentHashMap<>())
+            .put(baseCurrencies[newId], newId);
+      idBySymbol.put(symbol, newId);
+      size = newId + 1;
+      return newId;
+    }
+  }
+
+  /**
+   * 마켓코드의 id. 등록되지 않았으면 {@link #UNKNOWN}.
+   *
+   * @param symbol 마켓코드
+   * @return id
+   */
+  public int idOf(String symbol) {
+    Integer id = idBySymbol.get(symbol);
+    return id == null ? UNKNOWN : id;
+  }
+
+  /**
+   * 계좌 정보의 (화폐단위, 종목 화폐) 에 해당하는 id. 등록되지 않았으면 {@link #UNKNOWN}.
+   *
+   * @param quoteCurrency 화폐단위 (ex: KRW)
+   * @param baseCurrency  종목 화폐 (ex: BTC)
+   * @return id
+   */
+  public int idOf(String quoteCurrency, String baseCurrency) {
+    Map<String, Integer> byBase = idByCurrency.get(quoteCurrency);
+    if (byBase == null) {
+      return UNKNOWN;
+    }
+    Integer id = byBase.get(baseCurrency);
+    return id == null ? UNKNOWN : id;
+  }
+
+  public String symbolOf(int id) {
+    return symbols[id];
+  }
+
+  /**
+   * 화폐단위 (ex: KRW-BTC 의 KRW).
+   */
+  public String quoteCurrencyOf(int id) {
+    return quoteCurrencies[id];
+  }
+
+  /**
+   * 종목 화폐 (ex: KRW-BTC 의 BTC).
+   */
+  public String baseCurrencyOf(int id) {
+    return baseCurrencies[id];
+  }
+
+  /**
+   * 등록된 종목 수. id 는 0 ~ size - 1 입니다.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * 최대 등록 수. 종목별 상태 배열의 크기로 사용합니다.
+   */
+  public int capacity() {
+    return capacity;
+  }
+}
@@ -0,0 +1,238 @@
+package my.trader.coin.market;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.StampedLock;
+import my.trader.coin.dto.exchange.AccountResponseDto;
+import my.trader.coin.journal.TradeJournal;
+import org.springframework.stereotype.Component;
+
+/**
+ * 종목별 상태를 {@link MarketRegistry} id 로 인덱싱된 primitive 배열에 보관합니다.
+ * 매수 대기 시간(cooldown) 과 계좌 기준 보유 수량/평균 매수가를 관리합니다.
+ * 체결 알림을 받을 수 없으므로 회차 간 보유 수량(잔고 + 주문 중) 변화를 체결로 간주하여 거래 기록에 남깁니다.
+ * 여러 스레드에서 접근하므로 상태별로 다음과 같이 공개합니다.
+ * <ul>
+ *   <li>매수 시각/대기 상태: 주문 발송 스레드와 타이머 스레드({@link my.trader.coin.timer.DeadlineScheduler})
+ *       가 갱신하므로 원자 배열로 관리합니다.</li>
+ *   <li>매도 주문 가격: 스케줄러와 조건부 주문 감시 스레드가 기록하므로 원자 배열(double 비트) 로 관리합니다.</li>
+ *   <li>보유 수량/평균 매수가: 예열 작업 스레드와 스케줄러 스레드가 {@link #updatePositions} 로 갱신합니다.
+ *       갱신은 {@link StampedLock} 쓰기 잠금으로 직렬화하고, 조회는 낙관적 읽기(seqlock) 후 갱신이 겹쳤으면
+ *       읽기 잠금으로 다시 읽으므로 갱신 도중의 값을 보지 않습니다.</li>
+ * </ul>
+ */
+@Component
+public class MarketStateTable {
+  private final MarketRegistry marketRegistry;
+  private final TradeJournal tradeJournal;
+
+  // 마지막 매수 시각 (epoch millis, 0 이면 없음)
+  private final AtomicLongArray lastBuyTime;
+  // 매수 대기 세대 (0 이면 대기 중 아님). 만료 예약은 자신의 세대일 때만 해제
+  private final AtomicLongArray cooldownGeneration;
+  private final AtomicLong generationSequence = new AtomicLong();
+  // 보유 정보 갱신 잠금 (아래 보유 정보 배열과 회차는 쓰기 잠금 안에서만 갱신)
+  private final StampedLock positionLock = new StampedLock();
+  // 보유 수량 (balance)
+  private final double[] balance;
+  // 평균 매수가
+  private final double[] avgBuyPrice;
+  // 보유 정보를 갱신한 회차. 현재 회차와 다르면 미보유
+  private final long[] positionVersion;
+  private long currentPositionVersion;
+  // 체결 추정용 총 보유 수량 (balance + locked)
+  private final double[] quantity;
+  // 마지막 매도 주문 가격 (매도 체결가 추정용, Double.doubleToRawLongBits)
+  private final AtomicLongArray lastAskPrice;
+
+  /**
+   * this is constructor.
+   *
+   * @param marketRegistry MarketRegistry
+   * @param tradeJournal   TradeJournal
+   */
+  public MarketStateTable(MarketRegistry marketRegistry, TradeJournal tradeJournal) {
+    this.marketRegistry = marketRegistry;
+    this.tradeJournal = tradeJournal;
+    int capacity = marketRegistry.capacity();
+    this.lastBuyTime = new AtomicLongArray(capacity);
+    this.cooldownGeneration = new AtomicLongArray(capacity);
+    this.balance = new double[capacity];
+    this.avgBuyPrice = new double[capacity];
+    this.positionVersion = new long[capacity];
+    this.quantity = new double[capacity];
+    this.lastAskPrice = new AtomicLongArray(capacity);
+  }
+
+  /**
+   * 매수 시각을 기록하고 매수 대기 상태로 바꿉니다.
+   * 대기 해제는 {@link my.trader.coin.timer.DeadlineScheduler} 가 만료 시각에 {@link #endCooldown} 으로 합니다.
+   *
+   * @param id          마켓 id
+   * @param epochMillis 매수 시각
+   * @return 대기 세대 (해제 시 사용)
+   */
+  public long markBought(int id, long epochMillis) {
+    lastBuyTime.set(id, epochMillis);
+    long generation = generationSequence.incrementAndGet();
+    cooldownGeneration.set(id, generation);
+    return generation;
+  }
+
+  /**
+   * 매수 대기 상태를 해제합니다. 그 사이 다시 매수하여 세대가 바뀌었으면 그대로 둡니다.
+   *
+   * @param id         마켓 id
+   * @param generation {@link #markBought} 가 반환한 세대
+   */
+  public void endCooldown(int id, long generation) {
+    cooldownGeneration.compareAndSet(id, generation, 0);
+  }
+
+  /**
+   * 매수 대기 중인지 확인합니다.
+   *
+   * @param id 마켓 id
+   * @return 대기 중이면 true
+   */
+  public boolean isCoolingDown(int id) {
+    return cooldownGeneration.get(id) != 0;
+  }
+
+  public long getLastBuyTime(int id) {
+    return lastBuyTime.get(id);
+  }
+
+  /**
+   * 매도 주문 가격을 기록합니다. 다음 계좌 갱신에서 수량이 줄면 이 가격에 체결된 것으로 봅니다.
+   *
+   * @param id    마켓 id
+   * @param price 주문 가격
+   */
+  public void markAskPrice(int id, double price) {
+    lastAskPrice.set(id, Double.doubleToRawLongBits(price));
+  }
+
+  /**
+   * 계좌 정보로 종목별 보유 수량/평균 매수가를 갱신합니다. 목록에 없는 종목은 미보유가 됩니다.
+   *
+   * @param accounts 계좌 정보
+   */
+  public void updatePositions(List<AccountResponseDto> accounts) {
+    long stamp = positionLock.writeLock();
+    try {
+      applyPositions(accounts);
+    } finally {
+      positionLock.unlockWrite(stamp);
+    }
+  }
+
+  private void applyPositions(List<AccountResponseDto> accounts) {
+    long previousVersion = currentPositionVersion;
+    long version = ++currentPositionVersion;
+    for (AccountResponseDto account : accounts) {
+      if ("KRW".equals(account.getCurrency())) {
+        continue;
+      }
+      int id = marketRegistry.idOf(account.getUnitCurrency(), account.getCurrency());
+      if (id == MarketRegistry.UNKNOWN) {
+        id = marketRegistry.intern(account.getUnitCurrency() + "-" + account.getCurrency());
+      }
+      double held = account.getBalance() == null ? 0 : account.getBalance();
+      double locked = account.getLocked() == null ? 0 : account.getLocked();
+      double average = account.getAvgBuyPrice() == null ? 0 : account.getAvgBuyPrice();
+      double previousQuantity = positionVersion[id] == previousVersion ? quantity[id] : 0;
+      journalPosition(id, previousVersion == 0, previousQuantity, avgBuyPrice[id], held + locked,
+            average);
+
+      balance[id] = held;
+      avgBuyPrice[id] = average;
+      quantity[id] = held + locked;
+      positionVersion[id] = version;
+    }
+
+    // 지난 회차에 보유했으나 목록에서 사라진 종목은 전량 매도 체결
+    for (int id = 0; id < marketRegistry.size(); id++) {
+      if (previousVersion != 0 && positionVersion[id] == previousVersion && quantity[id] > 0) {
+        journalPosition(id, false, quantity[id], avgBuyPrice[id], 0, avgBuyPrice[id]);
+        quantity[id] = 0;
+      }
+    }
+  }
+
+  /**
+   * 보유 수량 변화를 거래 기록에 남깁니다.
+   * 기동 후 첫 계좌 갱신의 보유 종목은 기준 보유량(POSITION) 으로, 이후 수량 증가는 매수 FILL,
+   * 감소는 매도 FILL 로 기록합니다. 기동 후 처음 보유한 종목도 0 에서 늘어난 매수 FILL 입니다.
+   */
+  private void journalPosition(int id, boolean baseline, double previousQuantity,
+                               double previousAverage, double currentQuantity,
+                               double currentAverage) {
+    String market = marketRegistry.symbolOf(id);
+    if (baseline) {
+      tradeJournal.recordPosition(market, currentAverage, currentQuantity);
+      return;
+    }
+
+    double delta = currentQuantity - previousQuantity;
+    if (Math.abs(delta) < 1e-12) {
+      return;
+    }
+    if (delta > 0) {
+      // 평균 매수가 변화로부터 이번 매수 체결가 역산
+      double price =
+            (currentAverage * currentQuantity - previousAverage * previousQuantity) / delta;
+      if (!(price > 0) || Double.isInfinite(price)) {
+        price = currentAverage;
+      }
+      tradeJournal.recordFill(market, TradeJournal.SIDE_BID, price, delta);
+    } else {
+      double askPrice = Double.longBitsToDouble(lastAskPrice.get(id));
+      double price = askPrice > 0 ? askPrice : previousAverage;
+      tradeJournal.recordFill(market, TradeJournal.SIDE_ASK, price, -delta);
+    }
+  }
+
+  /**
+   * 마지막 계좌 갱신 기준 보유 여부.
+   */
+  public boolean hasPosition(int id) {
+    long stamp = positionLock.tryOptimisticRead();
+    boolean held = positionVersion[id] == currentPositionVersion && currentPositionVersion != 0;
+    if (!positionLock.validate(stamp)) {
+      stamp = positionLock.readLock();
+      try {
+        held = positionVersion[id] == currentPositionVersion && currentPositionVersion != 0;
+      } finally {
+        positionLock.unlockRead(stamp);
+      }
+    }
+    return held;
+  }
+
+  public double getBalance(int id) {
+    return readPosition(balance, id);
+  }
+
+  public double getAvgBuyPrice(int id) {
+    return readPosition(avgBuyPrice, id);
+  }
+
+  /**
+   * 보유 정보 배열 값을 낙관적으로 읽고, 그 사이 갱신이 있었으면 읽기 잠금으로 다시 읽습니다.
+   */
+  private double readPosition(double[] values, int id) {
+    long stamp = positionLock.tryOptimisticRead();
+    double value = values[id];
+    if (!positionLock.validate(stamp)) {
+      stamp = positionLock.readLock();
+      try {
+        value = values[id];
+      } finally {
+        positionLock.unlockRead(stamp);
+      }
+    }
+    return value;
+  }
+}
@@ -0,0 +1,300 @@
+package my.trader.coin.order;
+
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import my.trader.coin.config.AppConfig;
+import my.trader.coin.dto.exchange.CancelOrderResponseDto;
+import my.trader.coin.dto.exchange.OrderResponseDto;
+import my.trader.coin.enums.ColorfulConsoleOutput;
+import my.trader.coin.service.UpbitService;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 의도 발송기.
+ * 어느 스레드에서든 주문/취소 의도를 lock-free 대기열에 넣고 결과를 비동기로 받으며,
+ * 발송 스레드 하나만 거래소에 주문을 보냅니다(single writer).
+ * <ul>
+ *   <li>우선순위: 취소 &gt; 손절 &gt; 익절 &gt; 매수. 같은 우선순위는 먼저 들어온 순서입니다.</li>
+ *   <li>요청 수 제한: 신규 주문은 주문 API 제한(초당 {@code risk.max.orders.per.second}) 안에서 보내며,
+ *       허가를 받은 뒤에 가장 높은 우선순위를 고르므로 기다리는 동안 들어온 매도가 매수를 앞지릅니다.</li>
+ *   <li>합치기: 아직 보내지 않은 같은 마켓/방향 주문은 최신 가격과 수량으로 대체하고(우선순위는 높은 쪽),
+ *       같은 주문의 중복 취소는 한 번만 보냅니다. 대체된 의도의 결과는 null 입니다.
+ *       조건 발동처럼 수량의 일부씩 들어오는 누적 주문({@link #submitIncrement}) 은 대체하지 않고 수량을 더하며,
+ *       가격은 우선순위가 높은(같으면 나중) 의도를 따릅니다. 누적 주문과 전체 수량 주문은 서로 합치지 않습니다.</li>
+ *   <li>지표: trader.order.queue.delay{priority}, trader.order.coalesced{priority},
+ *       trader.order.queue.depth</li>
+ * </ul>
+ */
+@Component
+public class OrderDispatcher {
+  // 대기열이 비었을 때 발송 스레드가 깨어나 확인하는 주기
+  private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+  private final UpbitService upbitService;
+  private final RateLimiter orderRateLimiter;
+  // 생산자 -> 발송 스레드 (다중 생산자, 단일 소비자)
+  private final Queue<OrderIntent> inbound = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger depth = new AtomicInteger();
+  private final Thread dispatcher;
+  private volatile boolean running = true;
+
+  // 아래 필드는 발송 스레드에서만 사용
+  // 우선순위별 대기 의도 (합치기 기준 -> 의도, 들어온 순서)
+  private final Map<OrderPriority, LinkedHashMap<String, OrderIntent>> waiting =
+        new EnumMap<>(OrderPriority.class);
+  // 합치기 기준 -> 대기 의도
+  private final Map<String, OrderIntent> byKey = new HashMap<>();
+  // 받아 둔 신규 주문 허가 (허가를 받은 뒤 취소가 먼저 나갔으면 다음 주문에 사용)
+  private boolean permitHeld = false;
+
+  private final Map<OrderPriority, Timer> queueDelay = new EnumMap<>(OrderPriority.class);
+  private final Map<OrderPriority, Counter> coalesced = new EnumMap<>(OrderPriority.class);
+
+  /**
+   * this is constructor. 생성과 동시에 발송 스레드를 시작합니다.
+   *
+   * @param upbitService  UpbitService
+   * @param meterRegistry MeterRegistry
+   */
+  public OrderDispatcher(UpbitService upbitService, MeterRegistry meterRegistry) {
+    this.upbitService = upbitService;
+    this.orderRateLimiter = RateLimiter.of("OrderRateLimiter", RateLimiterConfig.custom()
+          .limitForPeriod(AppConfig.riskMaxOrdersPerSecond)
+          .limitRefreshPeriod(Duration.ofSeconds(1))
+          // 허가를 기다리는 동안에도 새 취소를 확인하도록 짧게 기다림
+          .timeoutDuration(Duration.ofNanos(IDLE_PARK_NANOS))
+          .build());
+
+    for (OrderPriority priority : OrderPriority.values()) {
+      waiting.put(priority, new LinkedHashMap<>());
+      queueDelay.put(priority, Timer.builder("trader.order.queue.delay")
+            .description("주문 의도가 대기열에 들어간 뒤 발송되기까지의 지연")
+            .tag("priority", priority.getTag())
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry));
+      coalesced.put(priority, Counter.builder("trader.order.coalesced")
+            .description("같은 마켓/방향 또는 같은 주문으로 합쳐진 의도 수")
+            .tag("priority", priority.getTag())
+            .register(meterRegistry));
+    }
+    Gauge.builder("trader.order.queue.depth", depth, AtomicInteger::get)
+          .description("발송 대기 중인 주문 의도 수")
+          .register(meterRegistry);
+
+    this.dispatcher = new Thread(this::dispatch, "order-dispatcher");
+    this.dispatcher.setDaemon(true);
+    this.dispatcher.start();
+  }
+
+  /**
+   * 신규 주문 의도를 넣습니다.
+   *
+   * @param priority 우선순위
+   * @param market   마켓코드
+   * @param side     매수 또는 매도 방향
+   * @param price    주문 가격
+   * @param quantity 주문 수량
+   * @return 주문 결과 (거절/대체 시 null)
+   */
+  public CompletableFuture<OrderResponseDto> submitOrder(OrderPriority priority, String market,
+                                                         String side, double price,
+                                                         double quantity) {
+    if (priority == OrderPriority.CANCEL) {
+      throw new IllegalArgumentException("취소는 submitCancel 을 사용합니다.");
+    }
+    return enqueueOrder(OrderIntent.order(priority, market, side, price, quantity, false));
+  }
+
+  /**
+   * 누적 주문 의도를 넣습니다. 아직 보내지 않은 같은 마켓/방향 누적 주문이 있으면 수량을 더해 한 번에 보냅니다.
+   * 조건 발동(손절, 익절 단계) 처럼 발동마다 서로 다른 수량을 파는 경우에 사용합니다.
+   *
+   * @param priority 우선순위
+   * @param market   마켓코드
+   * @param side     매수 또는 매도 방향
+   * @param price    주문 가격
+   * @param quantity 이번에 더할 주문 수량
+   * @return 주문 결과 (거절/합쳐짐 시 null, 합쳐진 주문의 결과는 마지막 의도가 받음)
+   */
+  public CompletableFuture<OrderResponseDto> submitIncrement(OrderPriority priority, String market,
+                                                             String side, double price,
+                                                             double quantity) {
+    if (priority == OrderPriority.CANCEL) {
+      throw new IllegalArgumentException("취소는 submitCancel 을 사용합니다.");
+    }
+    return enqueueOrder(OrderIntent.order(priority, market, side, price, quantity, true));
+  }
+
+  /**
+   * 주문 취소 의도를 넣습니다.
+   *
+   * @param market 마켓코드
+   * @param uuid   주문 uuid
+   * @return 취소 결과 (실패/중복 시 null)
+   */
+  public CompletableFuture<CancelOrderResponseDto> submitCancel(String market, String uuid) {
+    OrderIntent intent = OrderIntent.cancel(market, uuid);
+    enqueue(intent);
+    return intent.cancelResult;
+  }
+
+  @PreDestroy
+  public void close() {
+    running = false;
+    LockSupport.unpark(dispatcher);
+    try {
+      dispatcher.join(TimeUnit.SECONDS.toMillis(5));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private CompletableFuture<OrderResponseDto> enqueueOrder(OrderIntent intent) {
+    CompletableFuture<OrderResponseDto> result = intent.orderResult;
+    enqueue(intent);
+    return result;
+  }
+
+  private void enqueue(OrderIntent intent) {
+    if (!running) {
+      intent.discard();
+      return;
+    }
+    depth.incrementAndGet();
+    inbound.add(intent);
+    LockSupport.unpark(dispatcher);
+  }
+
+  private void dispatch() {
+    while (running) {
+      drain();
+      if (byKey.isEmpty()) {
+        LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+        continue;
+      }
+
+      // 신규 주문만 있으면 허가를 기다린 뒤, 그 사이 들어온 의도까지 포함하여 가장 높은 우선순위를 고름
+      // 기다리는 중에 취소가 들어오면 취소는 허가 없이 먼저 보냄
+      while (running && !permitHeld && waiting.get(OrderPriority.CANCEL).isEmpty()) {
+        permitHeld = orderRateLimiter.acquirePermission();
+        drain();
+      }
+      if (!running) {
+        break;
+      }
+
+      OrderIntent intent = next();
+      if (intent != null) {
+        if (!intent.isCancel()) {
+          permitHeld = false;
+        }
+        execute(intent);
+      }
+    }
+
+    // 종료 시 남은 의도는 보내지 않음
+    drain();
+    byKey.values().forEach(OrderIntent::discard);
+    byKey.clear();
+    waiting.values().forEach(Map::clear);
+    OrderIntent intent;
+    while ((intent = inbound.poll()) != null) {
+      intent.discard();
+    }
+  }
+
+  /**
+   * 들어온 의도를 우선순위별 대기 목록으로 옮기며 같은 의도를 합칩니다.
+   */
+  private void drain() {
+    OrderIntent incoming;
+    while ((incoming = inbound.poll()) != null) {
+      OrderIntent pending = byKey.get(incoming.key());
+      if (pending == null) {
+        byKey.put(incoming.key(), incoming);
+        waiting.get(incoming.priority).put(incoming.key(), incoming);
+        continue;
+      }
+
+      depth.decrementAndGet();
+      coalesced.get(incoming.priority).increment();
+      if (incoming.isCancel()) {
+        // 중복 취소
+        incoming.discard();
+        continue;
+      }
+
+      // 대기 중인 주문을 최신 가격/수량으로 대체 (대기 순서와 대기 시작 시각은 유지)
+      // 누적 주문은 수량을 더하고 가격은 우선순위가 낮지 않은 쪽을 따름
+      pending.orderResult.complete(null);
+      pending.orderResult = incoming.orderResult;
+      if (!pending.increment) {
+        pending.price = incoming.price;
+        pending.quantity = incoming.quantity;
+      } else {
+        if (!pending.priority.isHigherThan(incoming.priority)) {
+          pending.price = incoming.price;
+        }
+        pending.quantity += incoming.quantity;
+      }
+      if (incoming.priority.isHigherThan(pending.priority)) {
+        waiting.get(pending.priority).remove(pending.key());
+        pending.priority = incoming.priority;
+        waiting.get(pending.priority).put(pending.key(), pending);
+      }
+    }
+  }
+
+  /**
+   * 가장 높은 우선순위 대기 목록에서 가장 먼저 들어온 의도를 꺼냅니다.
+   */
+  private OrderIntent next() {
+    for (LinkedHashMap<String, OrderIntent> intents : waiting.values()) {
+      Iterator<OrderIntent> iterator = intents.values().iterator();
+      if (iterator.hasNext()) {
+        OrderIntent intent = iterator.next();
+        iterator.remove();
+        byKey.remove(intent.key());
+        depth.decrementAndGet();
+        return intent;
+      }
+    }
+    return null;
+  }
+
+  private void execute(OrderIntent intent) {
+    queueDelay.get(intent.priority).record(System.nanoTime() - intent.enqueuedAt,
+          TimeUnit.NANOSECONDS);
+    try {
+      if (intent.isCancel()) {
+        intent.cancelResult.complete(upbitService.cancelOrder(intent.uuid));
+      } else {
+        intent.orderResult.complete(upbitService.executeOrder(intent.market, intent.price,
+              intent.quantity, intent.side));
+      }
+    } catch (RuntimeException e) {
+      ColorfulConsoleOutput.printWithColor(
+            String.format("[%s] %s 주문 발송 실패: %s", intent.market, intent.priority.getTag(),
+                  e.getMessage()),
+            ColorfulConsoleOutput.YELLOW);
+      intent.discard();
+    }
+  }
+}
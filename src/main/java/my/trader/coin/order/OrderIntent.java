@@ -0,0 +1,75 @@
+package my.trader.coin.order;
+
+import java.util.concurrent.CompletableFuture;
+import my.trader.coin.dto.exchange.CancelOrderResponseDto;
+import my.trader.coin.dto.exchange.OrderResponseDto;
+
+/**
+ * 주문 의도 1건. 생산자 스레드가 만들어 {@link OrderDispatcher} 대기열에 넣고, 이후에는 발송 스레드만 수정합니다.
+ * 신규 주문은 orderResult, 취소는 cancelResult 로 결과를 받으며, 같은 주문으로 합쳐져 대체되면 null 로 완료됩니다.
+ * 누적 주문(increment) 은 조건 발동처럼 한 번에 보낼 수량의 일부이므로, 대체하지 않고 수량을 더해 합칩니다.
+ */
+final class OrderIntent {
+  OrderPriority priority;
+  final String market;
+  final String side;
+  double price;
+  double quantity;
+  // 누적 주문 여부 (합칠 때 수량을 더함)
+  final boolean increment;
+  // 취소 대상 주문 uuid
+  final String uuid;
+  // 대기열에 들어간 시각 (ns)
+  final long enqueuedAt;
+  CompletableFuture<OrderResponseDto> orderResult;
+  final CompletableFuture<CancelOrderResponseDto> cancelResult;
+
+  private OrderIntent(OrderPriority priority, String market, String side, double price,
+                      double quantity, boolean increment, String uuid) {
+    this.priority = priority;
+    this.market = market;
+    this.side = side;
+    this.price = price;
+    this.quantity = quantity;
+    this.increment = increment;
+    this.uuid = uuid;
+    this.enqueuedAt = System.nanoTime();
+    this.orderResult = uuid == null ? new CompletableFuture<>() : null;
+    this.cancelResult = uuid == null ? null : new CompletableFuture<>();
+  }
+
+  static OrderIntent order(OrderPriority priority, String market, String side, double price,
+                           double quantity, boolean increment) {
+    return new OrderIntent(priority, market, side, price, quantity, increment, null);
+  }
+
+  static OrderIntent cancel(String market, String uuid) {
+    return new OrderIntent(OrderPriority.CANCEL, market, null, 0, 0, false, uuid);
+  }
+
+  boolean isCancel() {
+    return uuid != null;
+  }
+
+  /**
+   * 합치기 기준. 신규 주문은 마켓 + 방향(누적 주문은 따로), 취소는 주문 uuid 입니다.
+   * 누적 주문과 전체 수량 주문은 서로 합치지 않습니다.
+   */
+  String key() {
+    if (isCancel()) {
+      return uuid;
+    }
+    return (increment ? "+" : "") + side + ":" + market;
+  }
+
+  /**
+   * 처리하지 않고 버립니다 (대체, 종료).
+   */
+  void discard() {
+    if (isCancel()) {
+      cancelResult.complete(null);
+    } else {
+      orderResult.complete(null);
+    }
+  }
+}
@@ -0,0 +1,194 @@
+package my.trader.coin.order;
+
+import my.trader.coin.config.AppConfig;
+import org.springframework.stereotype.Component;
+
+/**
+ * 업비트 주문 가격/수량 정규화기.
+ * 가격과 수량을 소수점 8자리 고정소수점(long, 1e-8 단위)으로 바꾸어 호가 단위 계산을 정수 연산으로
+ * 처리하며, 호가 단위 구간표는 클래스 로딩 시 한 번만 생성합니다.
+ * 주문 경로에서 객체를 생성하지 않도록 모든 메서드는 primitive 와 enum 상수만 주고받습니다.
+ * <a href="https://docs.upbit.com/docs/market-info-trade-price-detail">...</a>
+ */
+@Component
+public class OrderNormalizer {
+  // 1e-8 단위 배율
+  public static final long SCALE = 100_000_000L;
+
+  // 최대 가격/수량. 가격은 1e-8 단위 long(최대 약 9.2e10) 으로 바꾸고, 수량은 정수부를 나누어 처리하므로 넘치지 않음
+  private static final double MAX_VALUE = 1e10;
+
+  // 원화 마켓 호가 구간 하한 (내림차순, 1e-8 단위)
+  private static final long[] KRW_BAND_FLOORS = {
+      2_000_000 * SCALE,
+      1_000_000 * SCALE,
+      500_000 * SCALE,
+      100_000 * SCALE,
+      10_000 * SCALE,
+      1_000 * SCALE,
+      100 * SCALE,
+      10 * SCALE,
+      SCALE,
+      SCALE / 10,
+      SCALE / 100,
+      SCALE / 1_000,
+      SCALE / 10_000,
+      0
+  };
+
+  // 원화 마켓 구간별 호가 단위 (1e-8 단위)
+  private static final long[] KRW_TICK_UNITS = {
+      1_000 * SCALE,
+      500 * SCALE,
+      100 * SCALE,
+      50 * SCALE,
+      10 * SCALE,
+      SCALE,
+      SCALE / 10,
+      SCALE / 100,
+      SCALE / 1_000,
+      SCALE / 10_000,
+      SCALE / 100_000,
+      SCALE / 1_000_000,
+      SCALE / 10_000_000,
+      1
+  };
+
+  // BTC, USDT 마켓은 소수점 8자리 단위
+  private static final long DEFAULT_TICK_UNITS = 1;
+
+  /**
+   * 값을 1e-8 단위 고정소수점으로 반올림합니다.
+   *
+   * @param value 값
+   * @return 1e-8 단위 값
+   */
+  public static long toUnits(double value) {
+    return Math.round(value * SCALE);
+  }
+
+  /**
+   * 1e-8 단위 고정소수점을 double 로 변환합니다.
+   *
+   * @param units 1e-8 단위 값
+   * @return 값
+   */
+  public static double fromUnits(long units) {
+    return units / (double) SCALE;
+  }
+
+  /**
+   * 가격이 속한 구간의 호가 단위 (1e-8 단위).
+   *
+   * @param market     마켓코드
+   * @param priceUnits 가격 (1e-8 단위)
+   * @return 호가 단위 (1e-8 단위)
+   */
+  public static long tickUnits(String market, long priceUnits) {
+    if (!isKrwMarket(market)) {
+      return DEFAULT_TICK_UNITS;
+    }
+    for (int i = 0; i < KRW_BAND_FLOORS.length; i++) {
+      if (priceUnits >= KRW_BAND_FLOORS[i]) {
+        return KRW_TICK_UNITS[i];
+      }
+    }
+    return KRW_TICK_UNITS[KRW_TICK_UNITS.length - 1];
+  }
+
+  /**
+   * 가격이 속한 구간의 호가 단위.
+   *
+   * @param market 마켓코드
+   * @param price  가격
+   * @return 호가 단위
+   */
+  public static double tickSize(String market, double price) {
+    return fromUnits(tickUnits(market, toUnits(price)));
+  }
+
+  /**
+   * 가격을 호가 단위에 맞춰 내림(매수) 또는 올림(매도) 처리합니다.
+   * 구간 경계에서 올림한 결과가 상위 구간에 들어가더라도 상위 구간의 호가 단위에 맞습니다.
+   *
+   * @param market  마켓코드
+   * @param price   가격
+   * @param roundUp true 면 올림, false 면 내림
+   * @return 호가 단위에 맞춘 가격, 유효하지 않은 가격이면 NaN
+   */
+  public static double normalizePrice(String market, double price, boolean roundUp) {
+    if (!(price > 0) || price >= MAX_VALUE) {
+      return Double.NaN;
+    }
+    long units = toUnits(price);
+    long tick = tickUnits(market, units);
+    long remainder = units % tick;
+    if (remainder != 0) {
+      units = roundUp ? units - remainder + tick : units - remainder;
+    }
+    return fromUnits(units);
+  }
+
+  /**
+   * 수량을 소수점 8자리로 절사합니다.
+   *
+   * @param volume 수량
+   * @return 절사된 수량, 유효하지 않은 수량이면 NaN
+   */
+  public static double normalizeVolume(double volume) {
+    if (!(volume > 0) || volume >= MAX_VALUE) {
+      return Double.NaN;
+    }
+    return roundUnits(volume, false);
+  }
+
+  /**
+   * 최소 주문금액을 만족하는 최소 수량. 소수점 8자리에서 올림합니다.
+   *
+   * @param amount 주문금액
+   * @param price  가격
+   * @return 최소 수량
+   */
+  public static double minimumVolume(double amount, double price) {
+    return roundUnits(amount / price, true);
+  }
+
+  /**
+   * 정규화된 주문을 검증합니다.
+   *
+   * @param market 마켓코드
+   * @param price  주문 가격
+   * @param volume 주문 수량
+   * @return 검증 결과
+   */
+  public static OrderRejectReason validate(String market, double price, double volume) {
+    if (!(price > 0) || price >= MAX_VALUE) {
+      return OrderRejectReason.INVALID_PRICE;
+    }
+    long priceUnits = toUnits(price);
+    if (priceUnits % tickUnits(market, priceUnits) != 0) {
+      return OrderRejectReason.OFF_TICK;
+    }
+    if (!(volume > 0) || volume >= MAX_VALUE) {
+      return OrderRejectReason.INVALID_VOLUME;
+    }
+    if (isKrwMarket(market) && price * volume < AppConfig.minOrderAmount) {
+      return OrderRejectReason.BELOW_MIN_ORDER_AMOUNT;
+    }
+    return OrderRejectReason.NONE;
+  }
+
+  /**
+   * 소수점 8자리에서 절사 또는 올림합니다. 정수부를 떼어 소수부만 1e-8 단위로 바꾸므로 큰 수량도 long 범위를 넘지 않습니다.
+   * 0.12345678 * 1e8 = 12345677.999... 처럼 한 단위 밀리지 않도록 소수부는 1e-10 단위로 반올림한 뒤 처리합니다.
+   */
+  private static double roundUnits(double value, boolean roundUp) {
+    double whole = Math.floor(value);
+    double fraction = Math.round((value - whole) * SCALE * 100) / 100.0;
+    return whole + fromUnits((long) (roundUp ? Math.ceil(fraction) : Math.floor(fraction)));
+  }
+
+  private static boolean isKrwMarket(String market) {
+    return market != null && market.startsWith("KRW-");
+  }
+}
@@ -0,0 +1,45 @@
+package my.trader.coin.order;
+
+import lombok.Getter;
+import my.trader.coin.enums.Signal;
+
+/**
+ * 주문 의도 우선순위. 선언 순서가 높은 우선순위입니다.
+ */
+@Getter
+public enum OrderPriority {
+  CANCEL("cancel"),
+  STOP_LOSS("stop_loss"),
+  TAKE_PROFIT("take_profit"),
+  BUY("buy");
+
+  // 지표 태그
+  private final String tag;
+
+  OrderPriority(String tag) {
+    this.tag = tag;
+  }
+
+  /**
+   * 신호에 대응하는 우선순위.
+   *
+   * @param signal 매수/매도 신호
+   * @return 우선순위
+   */
+  public static OrderPriority of(Signal signal) {
+    switch (signal) {
+      case STOP_LOSS:
+        return STOP_LOSS;
+      case TAKE_PROFIT:
+        return TAKE_PROFIT;
+      case BUY:
+        return BUY;
+      default:
+        throw new IllegalArgumentException("주문 신호가 아닙니다: " + signal);
+    }
+  }
+
+  public boolean isHigherThan(OrderPriority other) {
+    return ordinal() < other.ordinal();
+  }
+}
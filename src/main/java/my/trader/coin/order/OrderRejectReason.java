@@ -0,0 +1,25 @@
+package my.trader.coin.order;
+
+import lombok.Getter;
+
+/**
+ * 주문 정규화/검증 결과.
+ */
+@Getter
+public enum OrderRejectReason {
+  NONE("정상"),
+  INVALID_PRICE("주문 가격이 유효하지 않습니다."),
+  OFF_TICK("주문 가격이 호가 단위에 맞지 않습니다."),
+  INVALID_VOLUME("주문 수량이 유효하지 않습니다."),
+  BELOW_MIN_ORDER_AMOUNT("주문 금액이 최소 주문금액보다 작습니다.");
+
+  private final String message;
+
+  OrderRejectReason(String message) {
+    this.message = message;
+  }
+
+  public boolean isRejected() {
+    return this != NONE;
+  }
+}
@@ -0,0 +1,82 @@
+package my.trader.coin.orderbook;
+
+import java.util.Arrays;
+
+/**
+ * 한 종목의 로컬 L2 호가창.
+ * 매수 호가는 가격 내림차순, 매도 호가는 가격 오름차순으로 정렬된 primitive 배열에 보관하며 스냅샷으로 갱신합니다.
+ * 최우선 호가는 {@link #topOfBook()} 으로 한 번에 읽어 매수/매도 호가가 서로 다른 스냅샷에서 오지 않도록 합니다.
+ */
+public class OrderBook {
+  private static final int INITIAL_CAPACITY = 32;
+
+  private final String market;
+
+  private double[] bidPrices = new double[INITIAL_CAPACITY];
+  private double[] bidSizes = new double[INITIAL_CAPACITY];
+  private int bidCount;
+
+  private double[] askPrices = new double[INITIAL_CAPACITY];
+  private double[] askSizes = new double[INITIAL_CAPACITY];
+  private int askCount;
+
+  // 마지막 갱신 시각 (거래소 timestamp)
+  private long updatedAt;
+
+  public OrderBook(String market) {
+    this.market = market;
+  }
+
+  public String getMarket() {
+    return market;
+  }
+
+  public synchronized long getUpdatedAt() {
+    return updatedAt;
+  }
+
+  /**
+   * 스냅샷으로 호가창 전체를 교체합니다. 입력 배열은 최우선 호가부터 정렬되어 있어야 합니다.
+   *
+   * @param bidPrice  매수 호가 (내림차순)
+   * @param bidSize   매수 잔량
+   * @param askPrice  매도 호가 (오름차순)
+   * @param askSize   매도 잔량
+   * @param levels    호가 단계 수
+   * @param timestamp 거래소 timestamp
+   */
+  public synchronized void applySnapshot(double[] bidPrice, double[] bidSize, double[] askPrice,
+                                         double[] askSize, int levels, long timestamp) {
+    ensureCapacity(levels);
+    System.arraycopy(bidPrice, 0, bidPrices, 0, levels);
+    System.arraycopy(bidSize, 0, bidSizes, 0, levels);
+    System.arraycopy(askPrice, 0, askPrices, 0, levels);
+    System.arraycopy(askSize, 0, askSizes, 0, levels);
+    bidCount = levels;
+    askCount = levels;
+    updatedAt = timestamp;
+  }
+
+  /**
+   * 최우선 매수/매도 호가를 같은 스냅샷에서 읽습니다.
+   *
+   * @return 최우선 호가, 매수나 매도 호가가 비어 있으면 null
+   */
+  public synchronized TopOfBook topOfBook() {
+    if (bidCount == 0 || askCount == 0) {
+      return null;
+    }
+    return new TopOfBook(bidPrices[0], bidSizes[0], askPrices[0], askSizes[0], updatedAt);
+  }
+
+  private void ensureCapacity(int capacity) {
+    if (capacity <= bidPrices.length && capacity <= askPrices.length) {
+      return;
+    }
+    int newCapacity = Math.max(capacity, bidPrices.length * 2);
+    bidPrices = Arrays.copyOf(bidPrices, newCapacity);
+    bidSizes = Arrays.copyOf(bidSizes, newCapacity);
+    askPrices = Arrays.copyOf(askPrices, newCapacity);
+    askSizes = Arrays.copyOf(askSizes, newCapacity);
+  }
+}
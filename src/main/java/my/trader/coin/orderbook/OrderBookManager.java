@@ -0,0 +1,137 @@
+package my.trader.coin.orderbook;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import my.trader.coin.dto.quotation.OrderbookResponseDto;
+import my.trader.coin.order.OrderNormalizer;
+import my.trader.coin.service.UpbitService;
+import org.springframework.stereotype.Component;
+
+/**
+ * 종목별 로컬 호가창을 관리하고, 호가창 기준으로 체결 가능성이 높은 지정가를 선택합니다.
+ */
+@Component
+public class OrderBookManager {
+  // 호가창을 신뢰할 수 있는 최대 경과 시간
+  private static final long STALE_MILLIS = 10_000;
+
+  private final UpbitService upbitService;
+  private final Map<String, OrderBook> books = new ConcurrentHashMap<>();
+
+  public OrderBookManager(UpbitService upbitService) {
+    this.upbitService = upbitService;
+  }
+
+  /**
+   * 호가 스냅샷을 조회하여 로컬 호가창을 갱신합니다.
+   *
+   * @param markets 갱신할 마켓코드 리스트
+   */
+  public void refresh(List<String> markets) {
+    List<OrderbookResponseDto> snapshots = upbitService.getOrderbook(markets);
+    for (OrderbookResponseDto snapshot : snapshots) {
+      apply(snapshot);
+    }
+  }
+
+  /**
+   * 호가 스냅샷을 로컬 호가창에 반영합니다.
+   *
+   * @param snapshot 호가 정보
+   */
+  public void apply(OrderbookResponseDto snapshot) {
+    List<OrderbookResponseDto.OrderbookUnit> units = snapshot.getOrderbookUnits();
+    int levels = units == null ? 0 : units.size();
+    double[] bidPrice = new double[levels];
+    double[] bidSize = new double[levels];
+    double[] askPrice = new double[levels];
+    double[] askSize = new double[levels];
+    for (int i = 0; i < levels; i++) {
+      OrderbookResponseDto.OrderbookUnit unit = units.get(i);
+      bidPrice[i] = unit.getBidPrice();
+      bidSize[i] = unit.getBidSize();
+      askPrice[i] = unit.getAskPrice();
+      askSize[i] = unit.getAskSize();
+    }
+
+    long timestamp = snapshot.getTimestamp() == null
+          ? System.currentTimeMillis() : snapshot.getTimestamp();
+    bookOf(snapshot.getMarket())
+          .applySnapshot(bidPrice, bidSize, askPrice, askSize, levels, timestamp);
+  }
+
+  /**
+   * 종목의 호가창을 조회합니다. 없으면 빈 호가창을 생성합니다.
+   *
+   * @param market 마켓코드
+   * @return 호가창
+   */
+  public OrderBook bookOf(String market) {
+    return books.computeIfAbsent(market, OrderBook::new);
+  }
+
+  /**
+   * 매수 지정가 선택.
+   * 스프레드가 1호가 이하이고 최우선 매도 잔량이 충분하면 최우선 매도호가로 즉시 체결시키고,
+   * 스프레드가 넓으면 최우선 매수호가보다 1호가 높게 주문하여 대기열 맨 앞에 섭니다.
+   * 호가창이 없거나 오래된 경우 현재가를 호가 단위로 내림한 값을 사용합니다.
+   *
+   * @param market       마켓코드
+   * @param currentPrice 현재가
+   * @param quantity     주문 수량
+   * @return 주문 가격
+   */
+  public double selectBidPrice(String market, double currentPrice, double quantity) {
+    TopOfBook top = usableTopOf(market);
+    if (top == null) {
+      return OrderNormalizer.normalizePrice(market, currentPrice, false);
+    }
+
+    double bestBid = top.bidPrice();
+    double bestAsk = top.askPrice();
+    double tickSize = OrderNormalizer.tickSize(market, bestBid);
+
+    if (bestAsk - bestBid <= tickSize + tickSize * 1e-6) {
+      return top.askSize() >= quantity ? bestAsk : bestBid;
+    }
+    return OrderNormalizer.normalizePrice(market, Math.min(bestBid + tickSize, bestAsk), false);
+  }
+
+  /**
+   * 매도 지정가 선택. 매수 지정가 선택과 대칭입니다.
+   *
+   * @param market       마켓코드
+   * @param currentPrice 현재가
+   * @param quantity     주문 수량
+   * @return 주문 가격
+   */
+  public double selectAskPrice(String market, double currentPrice, double quantity) {
+    TopOfBook top = usableTopOf(market);
+    if (top == null) {
+      return OrderNormalizer.normalizePrice(market, currentPrice, true);
+    }
+
+    double bestBid = top.bidPrice();
+    double bestAsk = top.askPrice();
+    double tickSize = OrderNormalizer.tickSize(market, bestBid);
+
+    if (bestAsk - bestBid <= tickSize + tickSize * 1e-6) {
+      return top.bidSize() >= quantity ? bestBid : bestAsk;
+    }
+    double improved = bestAsk - OrderNormalizer.tickSize(market, bestAsk);
+    return OrderNormalizer.normalizePrice(market, Math.max(improved, bestBid), true);
+  }
+
+  /**
+   * 호가창이 있고 오래되지 않았으면 최우선 호가, 아니면 null.
+   */
+  private TopOfBook usableTopOf(String market) {
+    OrderBook book = books.get(market);
+    TopOfBook top = book == null ? null : book.topOfBook();
+    if (top == null || System.currentTimeMillis() - top.updatedAt() > STALE_MILLIS) {
+      return null;
+    }
+    return top;
+  }
+}
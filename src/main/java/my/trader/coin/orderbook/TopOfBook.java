@@ -0,0 +1,14 @@
+package my.trader.coin.orderbook;
+
+/**
+ * 한 시점의 최우선 호가. 매수/매도 호가를 같은 스냅샷에서 읽으므로 갱신 중에도 서로 어긋나지 않습니다.
+ *
+ * @param bidPrice  최우선 매수 호가
+ * @param bidSize   최우선 매수 호가 잔량
+ * @param askPrice  최우선 매도 호가
+ * @param askSize   최우선 매도 호가 잔량
+ * @param updatedAt 마지막 갱신 시각 (거래소 timestamp)
+ */
+public record TopOfBook(double bidPrice, double bidSize, double askPrice, double askSize,
+                        long updatedAt) {
+}
@@ -0,0 +1,371 @@
+package my.trader.coin.paper;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.Data;
+import my.trader.coin.config.AppConfig;
+import my.trader.coin.dto.exchange.AccountResponseDto;
+import my.trader.coin.dto.exchange.CancelOrderResponseDto;
+import my.trader.coin.dto.exchange.OpenOrderResponseDto;
+import my.trader.coin.dto.exchange.OrderRequestDto;
+import my.trader.coin.dto.exchange.OrderResponseDto;
+import my.trader.coin.dto.quotation.TickerResponseDto;
+import my.trader.coin.enums.ColorfulConsoleOutput;
+import my.trader.coin.enums.UpbitType;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모의투자용 프로세스 내 거래소.
+ * 잔고, 미체결 주문, 체결을 직접 관리하며 실제 업비트 API 와 같은 응답 DTO 를 반환합니다.
+ * 지정가 주문은 최근 체결가가 주문가에 도달하면 주문가로 전량 체결됩니다.
+ */
+@Component
+public class PaperExchange {
+  private static final String KRW = "KRW";
+  private static final String STATE_WAIT = "wait";
+  private static final String STATE_DONE = "done";
+  private static final String STATE_CANCEL = "cancel";
+  // 수량 비교 단위 (소수점 8자리)
+  private static final double VOLUME_UNITS = 1e8;
+
+  // 화폐 단위별 보유 잔고
+  private final Map<String, Holding> holdings = new LinkedHashMap<>();
+  // uuid 별 미체결 주문
+  private final Map<String, PaperOrder> openOrders = new LinkedHashMap<>();
+  // 마켓코드별 최근 체결가
+  private final Map<String, Double> lastPrices = new HashMap<>();
+
+  public PaperExchange() {
+    reset(AppConfig.paperInitialBalance);
+  }
+
+  /**
+   * 모든 잔고와 주문을 초기화합니다.
+   *
+   * @param krwBalance 초기 원화 잔고
+   */
+  public synchronized void reset(double krwBalance) {
+    holdings.clear();
+    openOrders.clear();
+    lastPrices.clear();
+
+    Holding krw = new Holding();
+    krw.setBalance(krwBalance);
+    holdings.put(KRW, krw);
+  }
+
+  /**
+   * 계좌 정보를 조회합니다. 원화 이외의 잔고가 없는 화폐는 제외됩니다.
+   *
+   * @return 계좌 정보 리스트
+   */
+  public synchronized List<AccountResponseDto> getAccounts() {
+    List<AccountResponseDto> accounts = new ArrayList<>();
+    for (Map.Entry<String, Holding> entry : holdings.entrySet()) {
+      Holding holding = entry.getValue();
+      if (!KRW.equals(entry.getKey()) && holding.getBalance() + holding.getLocked() <= 0) {
+        continue;
+      }
+
+      AccountResponseDto account = new AccountResponseDto();
+      account.setCurrency(entry.getKey());
+      account.setBalance(holding.getBalance());
+      account.setLocked(holding.getLocked());
+      account.setAvgBuyPrice(holding.getAvgBuyPrice());
+      account.setAvgBuyPriceModified(false);
+      account.setUnitCurrency(KRW);
+      accounts.add(account);
+    }
+    return accounts;
+  }
+
+  /**
+   * 지정가 주문을 접수합니다. 주문가능 잔고가 부족하면 업비트와 같은 형식의 오류를 발생시킵니다.
+   *
+   * @param request 주문 요청
+   * @return 주문 접수 결과
+   */
+  public synchronized OrderResponseDto placeOrder(OrderRequestDto request) {
+    boolean isBid = UpbitType.ORDER_SIDE_BID.getType().equals(request.getSide());
+    double price = request.getPrice();
+    double volume = request.getVolume();
+    String currency = request.getMarket().split("-")[1];
+    double feeRate = AppConfig.exchangeFeeRatio - 1;
+
+    PaperOrder order = new PaperOrder();
+    order.setUuid(UUID.randomUUID().toString());
+    order.setMarket(request.getMarket());
+    order.setSide(request.getSide());
+    order.setPrice(price);
+    order.setVolume(volume);
+    order.setRemainingVolume(volume);
+    order.setCreatedAt(OffsetDateTime.now().toString());
+
+    if (isBid) {
+      // 매수 : 주문금액 + 수수료 만큼 원화 잠금
+      double funds = price * volume;
+      double reservedFee = funds * feeRate;
+      Holding krw = holdings.get(KRW);
+      if (krw.getBalance() < funds + reservedFee) {
+        throw new PaperExchangeException("insufficient_funds_bid",
+              "주문가능한 금액(KRW)이 부족합니다.");
+      }
+      krw.setBalance(krw.getBalance() - funds - reservedFee);
+      krw.setLocked(krw.getLocked() + funds + reservedFee);
+      order.setReservedFee(reservedFee);
+      order.setLocked(funds + reservedFee);
+    } else {
+      // 매도 : 주문수량 만큼 코인 잠금
+      // 수량은 소수점 8자리 단위로 비교 (전량 매도 시 double 표현 차이로 거절되지 않도록)
+      Holding holding = holdings.get(currency);
+      if (holding == null
+            || toVolumeUnits(holding.getBalance()) < toVolumeUnits(volume)) {
+        throw new PaperExchangeException("insufficient_funds_ask",
+              "주문가능한 금액(" + currency + ")이 부족합니다.");
+      }
+      holding.setBalance(Math.max(0, holding.getBalance() - volume));
+      holding.setLocked(holding.getLocked() + volume);
+      order.setReservedFee(price * volume * feeRate);
+      order.setLocked(volume);
+    }
+
+    openOrders.put(order.getUuid(), order);
+
+    // 최근 체결가가 있다면 즉시 체결 여부 확인
+    Double lastPrice = lastPrices.get(request.getMarket());
+    if (lastPrice != null) {
+      match(order, lastPrice);
+    }
+
+    return toOrderResponse(order);
+  }
+
+  /**
+   * 지정된 시장의 미체결 주문을 업비트와 같이 쪽으로 나누어 조회합니다.
+   *
+   * @param market 마켓코드, null 인 경우 전체
+   * @param page   쪽 번호 (1부터)
+   * @param limit  쪽 크기
+   * @return 미체결 주문 리스트 (최신순)
+   */
+  public synchronized List<OpenOrderResponseDto> getOpenOrders(String market, int page,
+                                                               int limit) {
+    return openOrders.values().stream()
+          .filter(order -> market == null || market.equals(order.getMarket()))
+          .sorted(Comparator.comparing(PaperOrder::getCreatedAt).reversed())
+          .skip((long) (Math.max(1, page) - 1) * limit)
+          .limit(limit)
+          .map(this::toOpenOrderResponse)
+          .toList();
+  }
+
+  /**
+   * 미체결 주문을 취소하고 잠긴 잔고를 해제합니다.
+   *
+   * @param uuid 주문 uuid
+   * @return 주문 취소 결과
+   */
+  public synchronized CancelOrderResponseDto cancelOrder(String uuid) {
+    PaperOrder order = openOrders.remove(uuid);
+    if (order == null) {
+      throw new PaperExchangeException("order_not_found", "주문을 찾지 못했습니다.");
+    }
+
+    if (UpbitType.ORDER_SIDE_BID.getType().equals(order.getSide())) {
+      Holding krw = holdings.get(KRW);
+      krw.setLocked(krw.getLocked() - order.getLocked());
+      krw.setBalance(krw.getBalance() + order.getLocked());
+    } else {
+      Holding holding = holdings.get(order.getMarket().split("-")[1]);
+      holding.setLocked(holding.getLocked() - order.getLocked());
+      holding.setBalance(holding.getBalance() + order.getLocked());
+    }
+    order.setLocked(0);
+    order.setState(STATE_CANCEL);
+
+    CancelOrderResponseDto response = new CancelOrderResponseDto();
+    response.setUuid(order.getUuid());
+    response.setSide(order.getSide());
+    response.setOrdType(UpbitType.ORDER_TYPE_LIMIT.getType());
+    response.setPrice(order.getPrice());
+    response.setState(STATE_CANCEL);
+    response.setMarket(order.getMarket());
+    response.setCreatedAt(order.getCreatedAt());
+    response.setVolume(order.getVolume());
+    response.setRemainingVolume(order.getRemainingVolume());
+    response.setReservedFee(order.getReservedFee());
+    response.setRemainingFee(order.getReservedFee());
+    response.setPaidFee(0.0);
+    response.setLocked(0.0);
+    response.setExecutedVolume(order.getVolume() - order.getRemainingVolume());
+    response.setTradesCount(0);
+    return response;
+  }
+
+  /**
+   * 현재가 목록을 반영하여 미체결 주문을 체결합니다.
+   *
+   * @param tickers 현재가 정보 리스트
+   */
+  public void onTickers(List<TickerResponseDto> tickers) {
+    if (tickers == null) {
+      return;
+    }
+    for (TickerResponseDto ticker : tickers) {
+      if (ticker.getTradePrice() != null) {
+        onPrice(ticker.getMarket(), ticker.getTradePrice());
+      }
+    }
+  }
+
+  /**
+   * 최근 체결가를 갱신하고 해당 시장의 미체결 주문을 체결합니다.
+   * 실시간 현재가 조회 결과 또는 저장된 가격 데이터를 재생할 때 사용합니다.
+   *
+   * @param market 마켓코드
+   * @param price  최근 체결가
+   */
+  public synchronized void onPrice(String market, double price) {
+    lastPrices.put(market, price);
+
+    List<PaperOrder> candidates = new ArrayList<>();
+    for (PaperOrder order : openOrders.values()) {
+      if (market.equals(order.getMarket())) {
+        candidates.add(order);
+      }
+    }
+    for (PaperOrder order : candidates) {
+      match(order, price);
+    }
+  }
+
+  /**
+   * 체결 조건을 만족하면 주문가로 전량 체결합니다.
+   * 매수는 최근 체결가가 주문가 이하, 매도는 최근 체결가가 주문가 이상일 때 체결됩니다.
+   */
+  private void match(PaperOrder order, double lastPrice) {
+    boolean isBid = UpbitType.ORDER_SIDE_BID.getType().equals(order.getSide());
+    if (isBid ? lastPrice > order.getPrice() : lastPrice < order.getPrice()) {
+      return;
+    }
+
+    double volume = order.getRemainingVolume();
+    double funds = order.getPrice() * volume;
+    double fee = funds * (AppConfig.exchangeFeeRatio - 1);
+    String currency = order.getMarket().split("-")[1];
+    Holding krw = holdings.get(KRW);
+    Holding holding = holdings.computeIfAbsent(currency, key -> new Holding());
+
+    if (isBid) {
+      // 잠금 해제 후 코인 잔고와 평균매수가 갱신
+      krw.setLocked(krw.getLocked() - order.getLocked());
+      krw.setBalance(krw.getBalance() + order.getLocked() - funds - fee);
+      double total = holding.getBalance() + holding.getLocked();
+      holding.setAvgBuyPrice(
+            (holding.getAvgBuyPrice() * total + order.getPrice() * volume) / (total + volume));
+      holding.setBalance(holding.getBalance() + volume);
+    } else {
+      holding.setLocked(Math.max(0, holding.getLocked() - volume));
+      krw.setBalance(krw.getBalance() + funds - fee);
+      if (holding.getBalance() + holding.getLocked() <= 0) {
+        holding.setAvgBuyPrice(0);
+      }
+    }
+
+    order.setRemainingVolume(0);
+    order.setPaidFee(fee);
+    order.setLocked(0);
+    order.setState(STATE_DONE);
+    openOrders.remove(order.getUuid());
+
+    ColorfulConsoleOutput.printWithColor(
+          String.format("[%s] 모의투자 %s 체결: %s x %s", order.getMarket(),
+                isBid ? "매수" : "매도", order.getPrice(), volume),
+          ColorfulConsoleOutput.PURPLE);
+  }
+
+  /**
+   * 수량을 업비트 최소 수량 단위(소수점 8자리) 정수로 바꿉니다.
+   */
+  private static long toVolumeUnits(double volume) {
+    return Math.round(volume * VOLUME_UNITS);
+  }
+
+  private OrderResponseDto toOrderResponse(PaperOrder order) {
+    OrderResponseDto response = new OrderResponseDto();
+    response.setUuid(order.getUuid());
+    response.setSide(order.getSide());
+    response.setOrdType(UpbitType.ORDER_TYPE_LIMIT.getType());
+    response.setPrice(order.getPrice());
+    response.setState(order.getState());
+    response.setMarket(order.getMarket());
+    response.setCreatedAt(order.getCreatedAt());
+    response.setVolume(order.getVolume());
+    response.setRemainingVolume(order.getRemainingVolume());
+    response.setReservedFee(order.getReservedFee());
+    response.setRemainingFee(order.getReservedFee() - order.getPaidFee());
+    response.setPaidFee(order.getPaidFee());
+    response.setLocked(order.getLocked());
+    response.setExecutedVolume(order.getVolume() - order.getRemainingVolume());
+    response.setTradesCount(STATE_DONE.equals(order.getState()) ? 1 : 0);
+    return response;
+  }
+
+  private OpenOrderResponseDto toOpenOrderResponse(PaperOrder order) {
+    OpenOrderResponseDto response = new OpenOrderResponseDto();
+    response.setUuid(order.getUuid());
+    response.setSide(order.getSide());
+    response.setOrdType(UpbitType.ORDER_TYPE_LIMIT.getType());
+    response.setPrice(order.getPrice());
+    response.setState(order.getState());
+    response.setMarket(order.getMarket());
+    response.setCreatedAt(order.getCreatedAt());
+    response.setVolume(String.valueOf(order.getVolume()));
+    response.setRemainingVolume(order.getRemainingVolume());
+    response.setReservedFee(order.getReservedFee());
+    response.setRemainingFee(order.getReservedFee());
+    response.setPaidFee(0.0);
+    response.setLocked(order.getLocked());
+    response.setExecutedVolume(0.0);
+    response.setExecutedFunds(0.0);
+    response.setTradesCount(0);
+    return response;
+  }
+
+  /**
+   * 화폐 단위별 잔고.
+   */
+  @Data
+  private static class Holding {
+    // 주문가능 수량
+    private double balance;
+    // 주문 중 묶여있는 수량
+    private double locked;
+    // 매수평균가
+    private double avgBuyPrice;
+  }
+
+  /**
+   * 모의투자 주문.
+   */
+  @Data
+  private static class PaperOrder {
+    private String uuid;
+    private String market;
+    private String side;
+    private double price;
+    private double volume;
+    private double remainingVolume;
+    private double reservedFee;
+    private double paidFee;
+    private double locked;
+    private String state = STATE_WAIT;
+    private String createdAt;
+  }
+}
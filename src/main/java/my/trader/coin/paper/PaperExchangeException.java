@@ -0,0 +1,27 @@
+package my.trader.coin.paper;
+
+import lombok.Getter;
+
+/**
+ * 모의 거래소 주문 오류. 업비트 오류 응답과 같은 형식의 본문을 보관합니다.
+ */
+@Getter
+public class PaperExchangeException extends RuntimeException {
+  // 업비트 오류 응답 본문 (ex: {"error":{"name":"...","message":"..."}})
+  private final String errorBody;
+
+  /**
+   * this is constructor.
+   *
+   * @param name    오류 이름
+   * @param message 오류 메시지
+   */
+  public PaperExchangeException(String name, String message) {
+    this(String.format("{\"error\":{\"name\":\"%s\",\"message\":\"%s\"}}", name, message));
+  }
+
+  private PaperExchangeException(String errorBody) {
+    super("API call failed: " + errorBody);
+    this.errorBody = errorBody;
+  }
+}
@@ -0,0 +1,28 @@
+package my.trader.coin.regime;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 시장 국면 스냅샷.
+ * UBMI 변동률과 그로부터 파생되는 매수/매도 금액을 한 번에 게시하기 위한 불변 객체이며,
+ * 읽는 쪽은 한 번 가져온 스냅샷의 값만 사용하므로 중간에 일부 값만 바뀐 상태를 보지 않습니다.
+ */
+@Getter
+@Builder
+public class MarketRegime {
+  // 게시 순번 (게시할 때마다 1씩 증가)
+  private final long version;
+  // 적용된 UBMI 변동률 (%)
+  private final double ratio;
+  // 적용된 값의 출처
+  private final MarketRegimeSource source;
+  // 현재가 기반으로 직접 계산한 변동률 (%), 계산 불가 시 NaN
+  private final double localRatio;
+  // 외부 UBMI 변동률 (%), 없거나 오래된 경우 NaN
+  private final double externalRatio;
+  // 1회당 매수/매도 금액
+  private final double minTradeAmount;
+  // 게시 시각
+  private final long updatedAt;
+}
@@ -0,0 +1,212 @@
+package my.trader.coin.regime;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import my.trader.coin.config.AppConfig;
+import my.trader.coin.dto.quotation.TickerResponseDto;
+import my.trader.coin.enums.ColorfulConsoleOutput;
+import my.trader.coin.service.UpbitService;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시장 국면 관리.
+ * UBMI 10 구성 종목의 현재가 전일대비 변동률을 24시간 거래대금으로 가중 평균하여 직접 계산하고,
+ * 외부 UBMI API 는 별도 스레드에서 조회하여 교차 검증 및 대체값으로만 사용합니다.
+ * 변동률과 파생값은 {@link MarketRegime} 스냅샷으로 원자적으로 게시되며,
+ * 신호 판단 기준값은 이 스냅샷으로부터 {@link my.trader.coin.strategy.SignalThresholdTable} 이 계산합니다.
+ */
+@Component
+public class MarketRegimeService {
+  // 외부 UBMI 값을 대체값으로 사용할 수 있는 최대 경과 시간
+  private static final long EXTERNAL_MAX_AGE_MILLIS = 30 * 60 * 1000;
+  // 직접 계산값과 외부값의 차이가 이 값(%p)을 넘으면 경고
+  private static final double DIVERGENCE_WARNING = 1.0;
+  // 매수/매도 금액 증감 비율 (UBMI 1% 당 20% 복리)
+  private static final double ADJUSTMENT_RATE = 0.2;
+
+  private final UpbitService upbitService;
+  private final AtomicReference<MarketRegime> current = new AtomicReference<>();
+  private final AtomicBoolean externalFetching = new AtomicBoolean();
+  private final ExecutorService externalExecutor = Executors.newSingleThreadExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "market-index");
+    thread.setDaemon(true);
+    return thread;
+  });
+  private final DecimalFormat df = new DecimalFormat("#,##0.00");
+
+  // 마지막으로 조회된 외부 UBMI 변동률과 조회 시각
+  private volatile double externalRatio = Double.NaN;
+  private volatile long externalFetchedAt;
+
+  /**
+   * this is constructor.
+   *
+   * @param upbitService UpbitService
+   */
+  public MarketRegimeService(UpbitService upbitService) {
+    this.upbitService = upbitService;
+    publish(0.0, MarketRegimeSource.DEFAULT, Double.NaN, Double.NaN);
+  }
+
+  /**
+   * 현재 시장 국면.
+   *
+   * @return 스냅샷
+   */
+  public MarketRegime current() {
+    return current.get();
+  }
+
+  /**
+   * 구성 종목 현재가를 조회하여 시장 국면을 갱신합니다.
+   * 현재가 조회에 실패하면 외부값 또는 이전 스냅샷을 유지하며 예외를 전파하지 않습니다.
+   *
+   * @return 갱신된 스냅샷
+   */
+  public MarketRegime update() {
+    List<TickerResponseDto> tickers;
+    try {
+      tickers = upbitService.getTicker(AppConfig.marketIndexConstituents);
+    } catch (RuntimeException e) {
+      ColorfulConsoleOutput.printWithColor("UBMI 구성 종목 현재가 조회 실패: " + e.getMessage(),
+            ColorfulConsoleOutput.YELLOW);
+      tickers = List.of();
+    }
+    return update(tickers);
+  }
+
+  /**
+   * 주어진 현재가로 시장 국면을 갱신합니다.
+   *
+   * @param tickers 구성 종목 현재가
+   * @return 갱신된 스냅샷
+   */
+  public MarketRegime update(List<TickerResponseDto> tickers) {
+    double localRatio = calculateLocalRatio(tickers);
+    double external = freshExternalRatio();
+
+    if (!Double.isNaN(localRatio) && !Double.isNaN(external)
+          && Math.abs(localRatio - external) > DIVERGENCE_WARNING) {
+      ColorfulConsoleOutput.printWithColor(
+            String.format("UBMI 10 직접 계산값과 외부값 차이 발생: %s%% / %s%%",
+                  df.format(localRatio), df.format(external)), ColorfulConsoleOutput.YELLOW);
+    }
+
+    if (!Double.isNaN(localRatio)) {
+      return publish(localRatio, MarketRegimeSource.LOCAL, localRatio, external);
+    }
+    if (!Double.isNaN(external)) {
+      return publish(external, MarketRegimeSource.EXTERNAL, localRatio, external);
+    }
+    // 둘 다 없으면 이전 값 유지
+    return current.get();
+  }
+
+  /**
+   * 외부 UBMI 를 별도 스레드에서 조회합니다. 이미 조회 중이면 건너뛰며, 호출 스레드를 막지 않습니다.
+   */
+  public void refreshExternal() {
+    if (!externalFetching.compareAndSet(false, true)) {
+      return;
+    }
+    externalExecutor.execute(() -> {
+      try {
+        externalRatio = upbitService.getUpbitMarketIndexTop10();
+        externalFetchedAt = System.currentTimeMillis();
+      } catch (RuntimeException e) {
+        ColorfulConsoleOutput.printWithColor("외부 UBMI 10 조회 실패: " + e.getMessage(),
+              ColorfulConsoleOutput.YELLOW);
+      } finally {
+        externalFetching.set(false);
+      }
+    });
+  }
+
+  /**
+   * 구성 종목의 전일대비 변동률을 24시간 거래대금으로 가중 평균합니다.
+   * 외부 UBMI 와 같은 자릿수 처리(소수점 셋째 자리 올림 후 둘째 자리까지 유지)를 적용합니다.
+   *
+   * @param tickers 구성 종목 현재가
+   * @return 변동률 (%), 계산 불가 시 NaN
+   */
+  public static double calculateLocalRatio(List<TickerResponseDto> tickers) {
+    double weightedSum = 0;
+    double totalWeight = 0;
+    for (TickerResponseDto ticker : tickers) {
+      BigDecimal tradePrice24h = ticker.getAccTradePrice24h();
+      Double signedChangeRate = ticker.getSignedChangeRate();
+      if (tradePrice24h == null || signedChangeRate == null) {
+        continue;
+      }
+      double weight = tradePrice24h.doubleValue();
+      weightedSum += weight * signedChangeRate;
+      totalWeight += weight;
+    }
+    if (totalWeight <= 0) {
+      return Double.NaN;
+    }
+
+    double value = weightedSum / totalWeight * 100;
+    double roundedUp = Math.ceil(value * 1000) / 1000;
+    return Math.floor(roundedUp * 100) / 100;
+  }
+
+  private double freshExternalRatio() {
+    long age = System.currentTimeMillis() - externalFetchedAt;
+    return age <= EXTERNAL_MAX_AGE_MILLIS ? externalRatio : Double.NaN;
+  }
+
+  /**
+   * 변동률로부터 파생값을 계산하여 스냅샷을 게시합니다.
+   */
+  private MarketRegime publish(double ratio, MarketRegimeSource source, double localRatio,
+                               double external) {
+    double minTradeAmount = calculateTradeAmount(ratio);
+
+    MarketRegime previous = current.get();
+    MarketRegime regime = MarketRegime.builder()
+          .version(previous == null ? 0 : previous.getVersion() + 1)
+          .ratio(ratio)
+          .source(source)
+          .localRatio(localRatio)
+          .externalRatio(external)
+          .minTradeAmount(minTradeAmount)
+          .updatedAt(System.currentTimeMillis())
+          .build();
+    current.set(regime);
+
+    // 기존 설정값을 읽는 코드를 위해 함께 반영
+    AppConfig.upbitMarketIndexRatio = ratio;
+    AppConfig.minTradeAmount = minTradeAmount;
+
+    if (previous == null || previous.getMinTradeAmount() != minTradeAmount
+          || previous.getRatio() != ratio) {
+      ColorfulConsoleOutput.printWithColor(
+            String.format("매수/매도 금액 설정: %s, UBMI 10: %s%% (%s)",
+                  df.format(minTradeAmount), df.format(ratio), source),
+            ColorfulConsoleOutput.GREEN);
+    }
+    return regime;
+  }
+
+  /**
+   * UBMI 변동률에 따른 1회당 매수/매도 금액. 1,000원 단위로 반올림합니다.
+   */
+  private static double calculateTradeAmount(double ratio) {
+    double baseAmount = AppConfig.baseTradeAmount;
+    double adjustedAmount;
+    if (ratio > 0) {
+      // 상승 시 복리 증가
+      adjustedAmount = baseAmount * Math.pow(1 + ADJUSTMENT_RATE, ratio);
+    } else {
+      // 하락 시 복리 감소
+      adjustedAmount = baseAmount * Math.pow(1 - ADJUSTMENT_RATE, Math.abs(ratio));
+    }
+    return Math.round(adjustedAmount / 1000.0) * 1000.0;
+  }
+}
@@ -0,0 +1,13 @@
+package my.trader.coin.regime;
+
+/**
+ * 시장 국면 변동률의 출처.
+ */
+public enum MarketRegimeSource {
+  // 초기값 (변동률 0)
+  DEFAULT,
+  // 구성 종목 현재가로 직접 계산
+  LOCAL,
+  // 외부 UBMI API
+  EXTERNAL
+}
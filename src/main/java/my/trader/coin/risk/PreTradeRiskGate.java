@@ -0,0 +1,329 @@
+package my.trader.coin.risk;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import my.trader.coin.config.AppConfig;
+import my.trader.coin.dto.exchange.AccountResponseDto;
+import my.trader.coin.dto.exchange.OpenOrderResponseDto;
+import my.trader.coin.enums.UpbitType;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 전 위험 한도 점검.
+ * 종목별/전체 보유금액(원), 미체결 주문 수, 초당 주문 수를 원자 변수로 관리하며
+ * 한도 확인과 예약을 CAS 기반의 선예약 후 되돌리기 방식으로 처리하므로 전역 잠금이 없습니다.
+ * <ul>
+ *   <li>보유금액 = 계좌 기준 보유금액 + 미체결 매수 주문금액. 계좌 기준 보유금액은
+ *       {@link #synchronize(List, List, long)} 가 새로 만든 불변 스냅샷으로 한 번에 교체하고,
+ *       미체결 매수 주문금액과 미체결 주문 수는 증감으로만 바꾸므로 동기화 중 접수된 예약이 사라지지 않습니다.</li>
+ *   <li>접수된 주문은 uuid 별로 예약을 추적합니다. 취소(시한 만료 포함)되면 {@link #settle(String, double)}
+ *       로 미체결 수량만큼 바로 반환하고, 체결분은 다음 동기화에서 계좌 보유금액으로 넘어갑니다.</li>
+ *   <li>동기화는 거래소 미체결 주문 목록으로 미체결 주문 수를 다시 세고, 목록에 없는 주문(체결 완료)의 예약을
+ *       정리합니다. 목록 조회 이후 접수/종료된 주문은 다음 동기화까지 그대로 둡니다.</li>
+ * </ul>
+ */
+@Component
+public class PreTradeRiskGate {
+  // 계좌 기준 보유금액 스냅샷 (동기화 시 통째로 교체)
+  private volatile Holdings holdings = Holdings.EMPTY;
+  // 종목별 미체결 매수 주문금액 (원)
+  private final Map<String, AtomicLong> reservedExposure = new ConcurrentHashMap<>();
+  // 전체 미체결 매수 주문금액 (원)
+  private final AtomicLong reservedTotal = new AtomicLong();
+  // 미체결 주문 수 (접수 중인 주문 포함)
+  private final AtomicInteger openOrders = new AtomicInteger();
+  // 초당 주문 수 카운터 (초 << 20 | 주문 수)
+  private final AtomicLong orderRate = new AtomicLong();
+  // uuid 별 접수된 주문의 예약
+  private final Map<String, Reservation> reservations = new ConcurrentHashMap<>();
+  // 예약 등록/종료 순번 (동기화 기준 시점 비교용)
+  private final AtomicLong sequence = new AtomicLong();
+
+  private final Map<RiskRejectReason, Counter> rejections = new EnumMap<>(RiskRejectReason.class);
+
+  /**
+   * this is constructor.
+   *
+   * @param meterRegistry 메트릭 레지스트리
+   */
+  public PreTradeRiskGate(MeterRegistry meterRegistry) {
+    for (RiskRejectReason reason : RiskRejectReason.values()) {
+      if (reason.isRejected()) {
+        rejections.put(reason, Counter.builder("trader.risk.rejections")
+              .description("사전 위험 점검에서 거절된 주문 수")
+              .tag("reason", reason.getTag())
+              .register(meterRegistry));
+      }
+    }
+    Gauge.builder("trader.risk.exposure", this, PreTradeRiskGate::getTotalExposure)
+          .description("전체 보유금액 + 미체결 매수 주문금액 (원)")
+          .register(meterRegistry);
+    Gauge.builder("trader.risk.open.orders", openOrders, AtomicInteger::get)
+          .description("미체결 주문 수")
+          .register(meterRegistry);
+  }
+
+  /**
+   * 주문 한도를 점검하고, 통과하면 한도를 예약합니다.
+   * 초당 주문 수는 다른 한도를 모두 통과한 주문만 세므로 거절된 주문이 주문 수를 쓰지 않습니다.
+   * 통과한 주문이 접수되면 {@link #confirm(String, String, boolean, double, double)} 로 uuid 를 등록하고,
+   * 실패하면 {@link #release(String, boolean, double)} 로 예약을 되돌려야 합니다.
+   *
+   * @param market   마켓코드
+   * @param isBid    매수 여부
+   * @param notional 주문금액
+   * @return 점검 결과
+   */
+  public RiskRejectReason tryAcquire(String market, boolean isBid, double notional) {
+    // 미체결 주문 수 (매도 포함)
+    if (openOrders.incrementAndGet() > AppConfig.riskMaxOpenOrders) {
+      openOrders.decrementAndGet();
+      return reject(RiskRejectReason.OPEN_ORDERS);
+    }
+
+    // 보유금액은 매수만 점검 (매도는 위험을 줄이므로 막지 않음)
+    long amount = isBid ? (long) Math.ceil(notional) : 0;
+    if (isBid) {
+      Holdings current = holdings;
+      AtomicLong reserved = reservedOf(market);
+      if (current.of(market) + reserved.addAndGet(amount) > AppConfig.riskMaxMarketNotional) {
+        reserved.addAndGet(-amount);
+        openOrders.decrementAndGet();
+        return reject(RiskRejectReason.MARKET_NOTIONAL);
+      }
+      if (current.total() + reservedTotal.addAndGet(amount) > AppConfig.riskMaxTotalNotional) {
+        reservedTotal.addAndGet(-amount);
+        reserved.addAndGet(-amount);
+        openOrders.decrementAndGet();
+        return reject(RiskRejectReason.TOTAL_NOTIONAL);
+      }
+    }
+
+    // 초당 주문 수 (매도 포함). 넘으면 앞에서 예약한 한도를 되돌림
+    long second = System.currentTimeMillis() / 1000;
+    long rate = orderRate.updateAndGet(current ->
+          (current >>> 20) == second ? current + 1 : (second << 20) | 1);
+    if ((rate & 0xFFFFF) > AppConfig.riskMaxOrdersPerSecond) {
+      openOrders.decrementAndGet();
+      releaseExposure(market, amount);
+      return reject(RiskRejectReason.ORDER_RATE);
+    }
+    return RiskRejectReason.NONE;
+  }
+
+  /**
+   * 접수에 실패한 주문의 예약을 되돌립니다.
+   *
+   * @param market   마켓코드
+   * @param isBid    매수 여부
+   * @param notional 주문금액
+   */
+  public void release(String market, boolean isBid, double notional) {
+    openOrders.decrementAndGet();
+    if (isBid) {
+      releaseExposure(market, (long) Math.ceil(notional));
+    }
+  }
+
+  /**
+   * 접수된 주문의 예약을 uuid 로 등록합니다.
+   * 동기화가 거래소 미체결 주문 목록에서 먼저 등록한 주문이면 이번 예약은 되돌립니다.
+   *
+   * @param uuid     주문 uuid
+   * @param market   마켓코드
+   * @param isBid    매수 여부
+   * @param price    주문가
+   * @param notional 주문금액 ({@link #tryAcquire(String, boolean, double)} 에 넘긴 값)
+   */
+  public void confirm(String uuid, String market, boolean isBid, double price, double notional) {
+    Reservation reservation = new Reservation(market, isBid, price,
+          isBid ? (long) Math.ceil(notional) : 0, sequence.incrementAndGet());
+    if (reservations.putIfAbsent(uuid, reservation) != null) {
+      release(market, isBid, notional);
+    }
+  }
+
+  /**
+   * 주문이 끝나면(취소, 시한 만료 취소, 접수 즉시 체결) 미체결 주문 수와 미체결 수량의 매수 예약을 반환합니다.
+   * 체결된 수량의 예약은 다음 동기화에서 계좌 보유금액으로 넘어갈 때까지 유지합니다.
+   *
+   * @param uuid            주문 uuid
+   * @param remainingVolume 체결되지 않은 수량
+   */
+  public void settle(String uuid, double remainingVolume) {
+    Reservation reservation = reservations.get(uuid);
+    if (reservation == null) {
+      return;
+    }
+    synchronized (reservation) {
+      if (!reservation.open) {
+        return;
+      }
+      reservation.open = false;
+      reservation.sequence = sequence.incrementAndGet();
+      openOrders.decrementAndGet();
+      if (reservation.bid) {
+        long unfilled = Math.min(reservation.amount,
+              (long) Math.ceil(Math.max(0, remainingVolume) * reservation.price));
+        reservation.amount -= unfilled;
+        releaseExposure(reservation.market, unfilled);
+      }
+    }
+  }
+
+  /**
+   * 동기화 기준 시점. 거래소 미체결 주문 목록을 조회하기 직전에 구하여
+   * {@link #synchronize(List, List, long)} 에 넘깁니다.
+   *
+   * @return 현재 순번
+   */
+  public long mark() {
+    return sequence.get();
+  }
+
+  /**
+   * 계좌 잔고와 거래소 미체결 주문 목록으로 보유금액과 미체결 주문을 다시 맞춥니다.
+   * 미체결 주문 목록을 계좌보다 먼저 조회해야 그 사이 체결된 주문이 빠지지 않습니다 (중복 집계는 다음 동기화에서 해소).
+   *
+   * @param accounts 계좌 정보
+   * @param orders   거래소 미체결 주문 목록 (전체 마켓)
+   * @param mark     미체결 주문 목록 조회 직전의 {@link #mark()}
+   */
+  public void synchronize(List<AccountResponseDto> accounts, List<OpenOrderResponseDto> orders,
+                          long mark) {
+    Map<String, OpenOrderResponseDto> listed = new HashMap<>();
+    for (OpenOrderResponseDto order : orders) {
+      listed.put(order.getUuid(), order);
+    }
+
+    // 목록에 있는 주문 : 처음 보는 주문(재시작 전 접수 등)은 등록하고, 부분 체결분은 예약에서 뺌
+    for (OpenOrderResponseDto order : listed.values()) {
+      boolean isBid = UpbitType.ORDER_SIDE_BID.getType().equals(order.getSide());
+      double price = nullToZero(order.getPrice());
+      long remaining = isBid
+            ? (long) Math.ceil(nullToZero(order.getRemainingVolume()) * price) : 0;
+      Reservation reservation = reservations.computeIfAbsent(order.getUuid(), uuid -> {
+        openOrders.incrementAndGet();
+        if (isBid) {
+          reservedOf(order.getMarket()).addAndGet(remaining);
+          reservedTotal.addAndGet(remaining);
+        }
+        return new Reservation(order.getMarket(), isBid, price, remaining, mark);
+      });
+      synchronized (reservation) {
+        if (reservation.open && reservation.amount > remaining) {
+          releaseExposure(reservation.market, reservation.amount - remaining);
+          reservation.amount = remaining;
+        }
+      }
+    }
+
+    // 목록 조회 전에 접수되었는데 목록에 없는 주문(체결 완료) 과 목록 조회 전에 끝난 주문은 정리
+    for (Map.Entry<String, Reservation> entry : reservations.entrySet()) {
+      Reservation reservation = entry.getValue();
+      synchronized (reservation) {
+        if (reservation.sequence > mark
+              || (reservation.open && listed.containsKey(entry.getKey()))) {
+          continue;
+        }
+        if (reservation.open) {
+          reservation.open = false;
+          openOrders.decrementAndGet();
+        }
+        releaseExposure(reservation.market, reservation.amount);
+        reservation.amount = 0;
+        reservations.remove(entry.getKey(), reservation);
+      }
+    }
+
+    Map<String, Long> byMarket = new HashMap<>();
+    long total = 0;
+    for (AccountResponseDto account : accounts) {
+      if ("KRW".equals(account.getCurrency()) || account.getAvgBuyPrice() == null) {
+        continue;
+      }
+      double quantity = nullToZero(account.getBalance()) + nullToZero(account.getLocked());
+      long amount = (long) Math.ceil(quantity * account.getAvgBuyPrice());
+      byMarket.merge(account.getUnitCurrency() + "-" + account.getCurrency(), amount, Long::sum);
+      total += amount;
+    }
+    holdings = new Holdings(Map.copyOf(byMarket), total);
+  }
+
+  public long getMarketExposure(String market) {
+    AtomicLong reserved = reservedExposure.get(market);
+    return holdings.of(market) + (reserved == null ? 0 : reserved.get());
+  }
+
+  public long getTotalExposure() {
+    return holdings.total() + reservedTotal.get();
+  }
+
+  public int getOpenOrders() {
+    return openOrders.get();
+  }
+
+  private AtomicLong reservedOf(String market) {
+    return reservedExposure.computeIfAbsent(market, key -> new AtomicLong());
+  }
+
+  private void releaseExposure(String market, long amount) {
+    if (amount != 0) {
+      reservedOf(market).addAndGet(-amount);
+      reservedTotal.addAndGet(-amount);
+    }
+  }
+
+  private RiskRejectReason reject(RiskRejectReason reason) {
+    rejections.get(reason).increment();
+    return reason;
+  }
+
+  private static double nullToZero(Double value) {
+    return value == null ? 0 : value;
+  }
+
+  /**
+   * 계좌 기준 보유금액 스냅샷.
+   *
+   * @param byMarket 종목별 보유금액 (원)
+   * @param total    전체 보유금액 (원)
+   */
+  private record Holdings(Map<String, Long> byMarket, long total) {
+    private static final Holdings EMPTY = new Holdings(Map.of(), 0);
+
+    long of(String market) {
+      return byMarket.getOrDefault(market, 0L);
+    }
+  }
+
+  /**
+   * 접수된 주문 1건의 예약. 필드는 인스턴스 잠금 안에서만 바꿉니다.
+   */
+  private static final class Reservation {
+    private final String market;
+    private final boolean bid;
+    private final double price;
+    // 예약 중인 매수 주문금액 (원), 매도는 0
+    private long amount;
+    private boolean open = true;
+    // 등록 순번, 끝난 뒤에는 종료 순번
+    private long sequence;
+
+    private Reservation(String market, boolean bid, double price, long amount, long sequence) {
+      this.market = market;
+      this.bid = bid;
+      this.price = price;
+      this.amount = amount;
+      this.sequence = sequence;
+    }
+  }
+}
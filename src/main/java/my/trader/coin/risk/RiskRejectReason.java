@@ -0,0 +1,28 @@
+package my.trader.coin.risk;
+
+import lombok.Getter;
+
+/**
+ * 사전 위험 점검 결과.
+ */
+@Getter
+public enum RiskRejectReason {
+  NONE("정상", "none"),
+  MARKET_NOTIONAL("종목별 최대 보유금액을 초과합니다.", "market_notional"),
+  TOTAL_NOTIONAL("전체 최대 보유금액을 초과합니다.", "total_notional"),
+  OPEN_ORDERS("최대 미체결 주문 수를 초과합니다.", "open_orders"),
+  ORDER_RATE("초당 최대 주문 수를 초과합니다.", "order_rate");
+
+  private final String message;
+  // 메트릭 태그 값
+  private final String tag;
+
+  RiskRejectReason(String message, String tag) {
+    this.message = message;
+    this.tag = tag;
+  }
+
+  public boolean isRejected() {
+    return this != NONE;
+  }
+}
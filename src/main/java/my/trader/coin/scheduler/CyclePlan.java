@@ -0,0 +1,39 @@
+package my.trader.coin.scheduler;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 사이클 1회의 실행 계획. {@link TradingLoop} 가 직전 사이클 소요 시간과 요청 수 제한 여유를 보고 정합니다.
+ * 부하가 높으면 종목 선정(전체 현재가 조회) 부터, 그 다음 매수를 덜어내며 매도는 항상 실행합니다.
+ */
+@Getter
+@Builder
+public class CyclePlan {
+  // 사이클 번호
+  private final long sequence;
+  // 예정 시각 (epoch ms)
+  private final long scheduledAt;
+  // 종목 선정 실행 여부 (건너뛰면 직전 종목 목록을 그대로 사용)
+  private final boolean screener;
+  // 매수 실행 여부
+  private final boolean buy;
+  // 매도를 매수보다 먼저 실행할지 여부
+  private final boolean sellFirst;
+  // 이 시각 (epoch ms) 이 지나면 남은 매수 종목은 다음 사이클로 넘김
+  private final long deadline;
+
+  /**
+   * 매수 예산 시간이 지났는지 여부.
+   */
+  public boolean isExpired() {
+    return System.currentTimeMillis() >= deadline;
+  }
+
+  /**
+   * 덜어낸 작업이 있는지 여부.
+   */
+  public boolean isShedding() {
+    return !screener || !buy;
+  }
+}
@@ -0,0 +1,282 @@
+package my.trader.coin.scheduler;
+
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import my.trader.coin.config.AppConfig;
+import my.trader.coin.enums.ColorfulConsoleOutput;
+import my.trader.coin.transport.ConnectionWarmer;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 매매 사이클 실행 루프.
+ * 고정 cron 대신 전용 스레드 하나가 사이클을 순서대로 실행하며, 사이클이 주기를 넘기면(overrun)
+ * 놓친 주기 수를 세고 설정에 따라 즉시 한 번으로 합치거나(coalesce) 다음 정시 주기까지 건너뜁니다(skip).
+ * <ul>
+ *   <li>주기 조정: 사이클 소요 시간(지수 이동 평균) 과 사이클당 API 요청 수가 주기의 일정 비율을 넘지 않도록
+ *       주기를 기본값에서 최대값 사이로 늘리고, 부하가 줄면 다시 줄입니다.</li>
+ *   <li>부하 덜어내기: 최대 주기로도 부족하면 종목 선정, 그 다음 매수를 건너뛰며 매도는 먼저 실행합니다.
+ *       매수는 주기 내 예산 시간이 지나면 남은 종목을 다음 사이클로 넘깁니다.</li>
+ *   <li>커넥션 예열: 다음 사이클을 예약할 때 {@link ConnectionWarmer} 예열도 예정 시각 직전으로 예약합니다.</li>
+ *   <li>요청 수: 사이클 안에서 보낸 요청만 셉니다. 루프 스레드와, 사이클 중 루프 스레드가 Reactor 스케줄러에
+ *       넘긴 작업(시세 병렬 조회 등) 의 요청이며, 조건 주문 감시·예열·주문 송신 스레드의 요청은 빠집니다.</li>
+ *   <li>사이클이 Error(AssertionError, OutOfMemoryError 등) 로 끝나도 기록만 하고 다음 주기를 예약합니다.</li>
+ *   <li>지표: trader.loop.cycle.duration, trader.loop.lag, trader.loop.ticks.skipped,
+ *       trader.loop.shed, trader.loop.interval</li>
+ * </ul>
+ */
+@Component
+public class TradingLoop {
+  // 소요 시간 지수 이동 평균 가중치
+  private static final double EWMA_ALPHA = 0.3;
+  private static final String CYCLE_HOOK = "trading-loop-cycle-";
+
+  private final UpbitScheduler upbitScheduler;
+  private final RateLimiter rateLimiter;
+  private final ConnectionWarmer connectionWarmer;
+  private final ScheduledExecutorService executor;
+
+  private final Timer cycleDuration;
+  private final Timer lag;
+  private final Counter skippedTicks;
+  private final Counter shedScreener;
+  private final Counter shedBuy;
+  // 현재 주기 (ms)
+  private final AtomicLong interval = new AtomicLong(AppConfig.loopIntervalMillis);
+  // 사이클 안에서 요청 수 제한을 통과한 API 요청 수
+  private final LongAdder requests = new LongAdder();
+  // 현재 스레드가 사이클 작업 중인지 여부
+  private final ThreadLocal<Boolean> inCycle = new ThreadLocal<>();
+  // Reactor 스케줄 훅 키 (인스턴스마다 달라 다른 루프의 훅을 덮어쓰거나 지우지 않음)
+  private final String cycleHook = CYCLE_HOOK + System.identityHashCode(this);
+
+  // 아래 필드는 루프 스레드에서만 사용
+  private boolean started;
+  private long sequence;
+  // 사이클 소요 시간 지수 이동 평균 (ms)
+  private double averageDuration;
+  // 직전 사이클 API 요청 수
+  private long lastRequests;
+  // 직전 사이클이 주기를 넘겼는지 여부
+  private boolean overran;
+
+  /**
+   * this is constructor.
+   *
+   * @param upbitScheduler   UpbitScheduler
+   * @param rateLimiter      업비트 API 요청 수 제한
+   * @param connectionWarmer ConnectionWarmer
+   * @param meterRegistry    MeterRegistry
+   */
+  public TradingLoop(UpbitScheduler upbitScheduler, RateLimiter rateLimiter,
+                     ConnectionWarmer connectionWarmer, MeterRegistry meterRegistry) {
+    this.upbitScheduler = upbitScheduler;
+    this.rateLimiter = rateLimiter;
+    this.connectionWarmer = connectionWarmer;
+    this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "trading-loop");
+      thread.setDaemon(true);
+      return thread;
+    });
+    rateLimiter.getEventPublisher().onSuccess(event -> {
+      if (inCycle.get() != null) {
+        requests.increment();
+      }
+    });
+
+    this.cycleDuration = Timer.builder("trader.loop.cycle.duration")
+          .description("매매 사이클 소요 시간")
+          .register(meterRegistry);
+    this.lag = Timer.builder("trader.loop.lag")
+          .description("예정 시각 대비 사이클 시작 지연")
+          .register(meterRegistry);
+    this.skippedTicks = Counter.builder("trader.loop.ticks.skipped")
+          .description("사이클이 주기를 넘겨 놓친 주기 수")
+          .register(meterRegistry);
+    this.shedScreener = Counter.builder("trader.loop.shed")
+          .description("부하로 건너뛴 작업 수")
+          .tag("work", "screener")
+          .register(meterRegistry);
+    this.shedBuy = Counter.builder("trader.loop.shed")
+          .description("부하로 건너뛴 작업 수")
+          .tag("work", "buy")
+          .register(meterRegistry);
+    Gauge.builder("trader.loop.interval", interval, AtomicLong::get)
+          .description("현재 사이클 주기 (ms)")
+          .register(meterRegistry);
+  }
+
+  /**
+   * 기동 예열이 끝나 트래픽을 받을 수 있게 되면 다음 정시 주기부터 루프를 시작합니다.
+   *
+   * @param event readiness 변경 이벤트
+   */
+  @EventListener
+  public synchronized void onReadiness(AvailabilityChangeEvent<ReadinessState> event) {
+    if (started || executor.isShutdown()
+          || event.getState() != ReadinessState.ACCEPTING_TRAFFIC) {
+      return;
+    }
+    started = true;
+    // 사이클 중 예약된 Reactor 작업도 사이클 작업으로 표시. 훅은 프로세스 전역이므로 루프가 도는 동안만 등록하며,
+    // 이 루프의 사이클 작업이 예약한 작업만 감싸고 나머지는 그대로 돌려줍니다.
+    Schedulers.onScheduleHook(cycleHook, task -> {
+      if (inCycle.get() == null) {
+        return task;
+      }
+      return () -> {
+        inCycle.set(Boolean.TRUE);
+        try {
+          task.run();
+        } finally {
+          inCycle.remove();
+        }
+      };
+    });
+    schedule(align(System.currentTimeMillis(), interval.get()));
+  }
+
+  @PreDestroy
+  public synchronized void close() {
+    Schedulers.resetOnScheduleHook(cycleHook);
+    executor.shutdownNow();
+  }
+
+  private void schedule(long due) {
+    connectionWarmer.warmUpBefore(due);
+    executor.schedule(() -> tick(due), Math.max(0, due - System.currentTimeMillis()),
+          TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * 사이클 1회 실행 후 다음 주기를 예약합니다.
+   * 어떤 예외나 Error 로 끝나도 집계와 다음 주기 예약은 항상 실행합니다.
+   */
+  private void tick(long due) {
+    long startedAt = System.currentTimeMillis();
+    long currentInterval = interval.get();
+    long requestsBefore = requests.sum();
+    try {
+      lag.record(Math.max(0, startedAt - due), TimeUnit.MILLISECONDS);
+      CyclePlan plan = plan(due, currentInterval);
+      inCycle.set(Boolean.TRUE);
+      upbitScheduler.runStrategy(plan);
+    } catch (Throwable e) {
+      ColorfulConsoleOutput.printWithColor("사이클 실패: " + e, ColorfulConsoleOutput.RED);
+    } finally {
+      inCycle.remove();
+      schedule(complete(due, startedAt, currentInterval, requestsBefore));
+    }
+  }
+
+  /**
+   * 사이클 소요 시간과 요청 수를 집계하고 주기를 조정합니다.
+   *
+   * @return 다음 사이클 예정 시각
+   */
+  private long complete(long due, long startedAt, long currentInterval, long requestsBefore) {
+    long endedAt = System.currentTimeMillis();
+    long duration = endedAt - startedAt;
+    cycleDuration.record(duration, TimeUnit.MILLISECONDS);
+    lastRequests = requests.sum() - requestsBefore;
+    averageDuration = averageDuration == 0
+          ? duration : averageDuration + EWMA_ALPHA * (duration - averageDuration);
+
+    long nextInterval = adapt();
+    long next = due + currentInterval;
+    overran = endedAt > next;
+    if (overran) {
+      // 끝난 시각까지 지나간 주기 수
+      long missed = (endedAt - next) / currentInterval + 1;
+      skippedTicks.increment(missed);
+      ColorfulConsoleOutput.printWithColor(
+            String.format("사이클 %d 주기 초과: %,d ms (주기 %,d ms), 놓친 주기 %d, %s", sequence,
+                  duration, currentInterval, missed,
+                  AppConfig.loopCoalesceMissedTicks ? "즉시 1회 실행" : "다음 주기까지 건너뜀"),
+            ColorfulConsoleOutput.YELLOW);
+      next = AppConfig.loopCoalesceMissedTicks ? endedAt : align(endedAt, nextInterval);
+    } else if (nextInterval != currentInterval) {
+      next = align(endedAt, nextInterval);
+    }
+    return next;
+  }
+
+  /**
+   * 직전 사이클 부하로 이번 사이클에서 실행할 작업을 정합니다.
+   * 부하는 소요 시간 평균과 요청 수 제한상 최소 소요 시간 중 큰 값의 주기 대비 비율입니다.
+   */
+  private CyclePlan plan(long due, long currentInterval) {
+    double load = Math.max(averageDuration, requiredMillis(lastRequests)) / currentInterval;
+    boolean screener = load < AppConfig.loopShedScreenerLoad && !overran;
+    boolean buy = load < AppConfig.loopShedBuyLoad;
+    if (!screener) {
+      shedScreener.increment();
+    }
+    if (!buy) {
+      shedBuy.increment();
+    }
+    CyclePlan plan = CyclePlan.builder()
+          .sequence(++sequence)
+          .scheduledAt(due)
+          .screener(screener)
+          .buy(buy)
+          .sellFirst(!screener || !buy)
+          .deadline(due + (long) (currentInterval * AppConfig.loopBudgetRatio))
+          .build();
+    if (plan.isShedding()) {
+      ColorfulConsoleOutput.printWithColor(
+            String.format("사이클 %d 부하 %.2f: 종목 선정 %s, 매수 %s", sequence, load,
+                  screener ? "실행" : "건너뜀", buy ? "실행" : "건너뜀"),
+            ColorfulConsoleOutput.YELLOW);
+    }
+    return plan;
+  }
+
+  /**
+   * 소요 시간 평균과 요청 수가 주기의 목표 비율 이내가 되도록 주기를 초 단위로 조정합니다.
+   *
+   * @return 다음 주기 (ms)
+   */
+  private long adapt() {
+    double needed = Math.max(averageDuration, requiredMillis(lastRequests))
+          / AppConfig.loopTargetLoad;
+    long next = (long) Math.ceil(needed / 1000) * 1000;
+    next = Math.max(AppConfig.loopIntervalMillis, Math.min(AppConfig.loopMaxIntervalMillis, next));
+    long previous = interval.getAndSet(next);
+    if (previous != next) {
+      ColorfulConsoleOutput.printWithColor(
+            String.format("사이클 주기 조정: %,d ms -> %,d ms (평균 소요 %,.0f ms, 요청 %d건)",
+                  previous, next, averageDuration, lastRequests),
+            ColorfulConsoleOutput.CYAN);
+    }
+    return next;
+  }
+
+  /**
+   * 요청 수 제한을 지키며 요청을 보내는 데 필요한 최소 시간 (ms).
+   */
+  private double requiredMillis(long requestCount) {
+    long limit = rateLimiter.getRateLimiterConfig().getLimitForPeriod();
+    long period = rateLimiter.getRateLimiterConfig().getLimitRefreshPeriod().toMillis();
+    return (double) requestCount / limit * period;
+  }
+
+  /**
+   * 주기의 배수가 되는 다음 시각. 기본 주기 30초면 매 0초, 30초입니다.
+   */
+  private static long align(long now, long interval) {
+    return (now / interval + 1) * interval;
+  }
+}
@@ -2,16 +2,36 @@ package my.trader.coin.scheduler;
 
 import java.text.DecimalFormat;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import my.trader.coin.config.AppConfig;
 import my.trader.coin.dto.exchange.AccountResponseDto;
 import my.trader.coin.dto.exchange.CancelOrderResponseDto;
-import my.trader.coin.dto.exchange.OrderResponseDto;
+import my.trader.coin.dto.exchange.OpenOrderResponseDto;
 import my.trader.coin.dto.quotation.TickerResponseDto;
 import my.trader.coin.enums.*;
+import my.trader.coin.market.MarketRegistry;
+import my.trader.coin.market.MarketStateTable;
+import my.trader.coin.order.OrderDispatcher;
+import my.trader.coin.order.OrderPriority;
+import my.trader.coin.orderbook.OrderBookManager;
+import my.trader.coin.regime.MarketRegime;
+import my.trader.coin.regime.MarketRegimeService;
 import my.trader.coin.service.UpbitService;
+import my.trader.coin.shard.ShardCoordinator;
 import my.trader.coin.strategy.ScalpingStrategy;
+import my.trader.coin.strategy.SignalThresholdTable;
+import my.trader.coin.timer.DeadlineScheduler;
+import my.trader.coin.trace.Span;
+import my.trader.coin.trace.TraceKind;
+import my.trader.coin.trace.Tracer;
+import my.trader.coin.trigger.ConditionalOrderEngine;
 import my.trader.coin.util.MathUtility;
 import my.trader.coin.util.TimeUtility;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -20,8 +40,11 @@ import org.springframework.stereotype.Component;
  */
 @Component
 public class UpbitScheduler {
-  // market 별 마지막 매수 시간을 저장하는 Map
-  private final Map<String, Long> lastBuyTimeMap = new HashMap<>();
+  // 사이클 시작 시 일괄 취소 결과를 기다리는 최대 시간 (ms)
+  private static final long SWEEP_WAIT_MILLIS = 5_000;
+
+  // 업비트 마켓 목록 등록 여부
+  private boolean marketListRegistered = false;
   // 스케줄러 사이클 카운트
   private int schedulerExecutedCount = 0;
   // 콘솔 데이터 출력용 formatter
@@ -29,53 +52,121 @@ public class UpbitScheduler {
 
   private final UpbitService upbitService;
   private final ScalpingStrategy scalpingStrategy;
+  private final OrderBookManager orderBookManager;
+  private final MarketRegimeService marketRegimeService;
+  private final MarketRegistry marketRegistry;
+  private final MarketStateTable marketStateTable;
+  private final ShardCoordinator shardCoordinator;
+  private final SignalThresholdTable signalThresholdTable;
+  private final ApplicationAvailability applicationAvailability;
+  private final DeadlineScheduler deadlineScheduler;
+  private final OrderDispatcher orderDispatcher;
+  private final ConditionalOrderEngine conditionalOrderEngine;
 
   /**
    * this is constructor.
    *
    * @param upbitService     UpbitService
    * @param scalpingStrategy ScalpingStrategy
+   * @param orderBookManager OrderBookManager
+   * @param marketRegimeService MarketRegimeService
+   * @param marketRegistry   MarketRegistry
+   * @param marketStateTable MarketStateTable
+   * @param shardCoordinator ShardCoordinator
+   * @param signalThresholdTable SignalThresholdTable
+   * @param applicationAvailability ApplicationAvailability
+   * @param deadlineScheduler DeadlineScheduler
+   * @param orderDispatcher  OrderDispatcher
+   * @param conditionalOrderEngine ConditionalOrderEngine
    */
   public UpbitScheduler(
         UpbitService upbitService,
-        ScalpingStrategy scalpingStrategy
+        ScalpingStrategy scalpingStrategy,
+        OrderBookManager orderBookManager,
+        MarketRegimeService marketRegimeService,
+        MarketRegistry marketRegistry,
+        MarketStateTable marketStateTable,
+        ShardCoordinator shardCoordinator,
+        SignalThresholdTable signalThresholdTable,
+        ApplicationAvailability applicationAvailability,
+        DeadlineScheduler deadlineScheduler,
+        OrderDispatcher orderDispatcher,
+        ConditionalOrderEngine conditionalOrderEngine
   ) {
     this.upbitService = upbitService;
     this.scalpingStrategy = scalpingStrategy;
+    this.orderBookManager = orderBookManager;
+    this.marketRegimeService = marketRegimeService;
+    this.marketRegistry = marketRegistry;
+    this.marketStateTable = marketStateTable;
+    this.shardCoordinator = shardCoordinator;
+    this.signalThresholdTable = signalThresholdTable;
+    this.applicationAvailability = applicationAvailability;
+    this.deadlineScheduler = deadlineScheduler;
+    this.orderDispatcher = orderDispatcher;
+    this.conditionalOrderEngine = conditionalOrderEngine;
   }
 
   /**
-   * 매 5분 마다 UBMI 인덱스를 계산합니다.
+   * 매 5분 마다 외부 UBMI 인덱스를 조회합니다. (별도 스레드, 교차 검증용)
    */
   @Scheduled(cron = "0 */5 * * * *")
   public void updateUpbitMarketIndex() {
-    this.calculateUpbitMarketIndex();
+    marketRegimeService.refreshExternal();
   }
 
   /**
-   * 매 30초 마다 시장 데이터를 가져오고 스캘핑 전략을 실행합니다.
+   * 시장 데이터를 가져오고 스캘핑 전략을 실행합니다. 주기와 실행할 작업은 {@link TradingLoop} 가 정합니다.
+   *
+   * @param plan 사이클 실행 계획
    */
-  @Scheduled(cron = "0,30 * * * * *")
-  public void runStrategy() {
-    if (AppConfig.upbitMarketIndexRatio == 0.0) {
-      this.calculateUpbitMarketIndex();
+  public void runStrategy(CyclePlan plan) {
+    // 기동 예열(WarmupPipeline) 이 끝나기 전에는 실행하지 않음
+    if (applicationAvailability.getReadinessState() != ReadinessState.ACCEPTING_TRAFFIC) {
+      ColorfulConsoleOutput.printWithColor("예열 중이므로 이번 사이클은 건너뜁니다.",
+            ColorfulConsoleOutput.YELLOW);
+      return;
     }
 
-    // 스케줄러 실행전 미체결된 매도 주문 취소 접수
-    List<CancelOrderResponseDto> cancelSellOrders = upbitService.beforeTaskExecution();
-    if (!cancelSellOrders.isEmpty()) {
-      ColorfulConsoleOutput.printWithColor("매수/매도 주문 잔여 수량 취소 작업 진행 완료",
-            ColorfulConsoleOutput.GREEN);
-    }
+    // 이번 사이클의 구간 추적 번호
+    Tracer.nextCycle();
+    try (Span cycle = Tracer.start(TraceKind.CYCLE_PHASE, "cycle")) {
+      // 최초 1회 업비트 마켓 목록을 id 로 등록
+      try (Span span = Tracer.start(TraceKind.CYCLE_PHASE, "registerMarketList")) {
+        registerMarketList();
+      }
 
-    // 종목 선정
-    upbitService.addScheduledMarket();
+      // 시장 국면 갱신 (UBMI 10 구성 종목 현재가 기준)
+      MarketRegime regime;
+      try (Span span = Tracer.start(TraceKind.CYCLE_PHASE, "regime")) {
+        regime = marketRegimeService.update();
+      }
 
-    // 매수 프로세스 실행
-    runBuy();
+      // 스케줄러 실행전 개별 취소 기한이 없는 미체결 주문 취소 접수
+      try (Span span = Tracer.start(TraceKind.CYCLE_PHASE, "beforeTaskExecution")) {
+        cancelUnwatchedOrders();
+      }
 
-    // 매도 프로세스 실행
-    runSell();
+      // 종목 선정 (부하가 높으면 직전 종목 목록 사용)
+      if (plan.isScreener()) {
+        try (Span span = Tracer.start(TraceKind.CYCLE_PHASE, "addScheduledMarket")) {
+          upbitService.addScheduledMarket();
+        }
+      }
+
+      // 부하가 높으면 매도를 먼저 실행하고 매수는 건너뛰거나 예산 시간 내에서만 실행
+      if (plan.isSellFirst()) {
+        sell(regime, plan);
+      }
+      if (plan.isBuy()) {
+        try (Span span = Tracer.start(TraceKind.CYCLE_PHASE, "buy")) {
+          runBuy(regime, plan);
+        }
+      }
+      if (!plan.isSellFirst()) {
+        sell(regime, plan);
+      }
+    }
 
     // 완료 로깅
     ColorfulConsoleOutput.printWithColor(++schedulerExecutedCount + " set cleared",
@@ -83,73 +174,128 @@ public class UpbitScheduler {
   }
 
   /**
-   * UBMI 인덱스를 계산합니다.
+   * 업비트 마켓 목록을 MarketRegistry 에 등록합니다. 실패하면 다음 사이클에 다시 시도합니다.
    */
-  private void calculateUpbitMarketIndex() {
-    double baseAmount = AppConfig.baseTradeAmount;
-    double newUpbitMarketIndexRatio = upbitService.getUpbitMarketIndexTop10();
-
-    AppConfig.upbitMarketIndexRatio = newUpbitMarketIndexRatio;
-
-    // 20% 증감 비율
-    double adjustmentRate = 0.2;
-    double adjustedAmount;
-
-    // UBMI 10 인덱스
-    if (newUpbitMarketIndexRatio > 0) {
-      // 상승 시 복리 증가
-      adjustedAmount = baseAmount * Math.pow(1 + adjustmentRate, newUpbitMarketIndexRatio);
-    } else {
-      // 하락 시 복리 감소
-      adjustedAmount =
-            baseAmount * Math.pow(1 - adjustmentRate, Math.abs(newUpbitMarketIndexRatio));
+  public void registerMarketList() {
+    if (marketListRegistered) {
+      return;
     }
+    try {
+      marketRegistry.registerAll(upbitService.getMarket());
+      marketListRegistered = true;
+    } catch (RuntimeException e) {
+      ColorfulConsoleOutput.printWithColor("마켓 목록 등록 실패: " + e.getMessage(),
+            ColorfulConsoleOutput.YELLOW);
+    }
+  }
 
-    // 1,000원 단위로 반올림
-    AppConfig.minTradeAmount = Math.round(adjustedAmount / 1000.0) * 1000.0;
+  /**
+   * 개별 취소 기한이 없는 미체결 주문의 취소를 {@link OrderDispatcher} 에 넣고 결과를 기다립니다.
+   * 취소가 다른 주문과 같은 발송 스레드와 우선순위를 거치므로 주문 요청 수 제한을 함께 지키며,
+   * 기다린 뒤 조회하는 계좌에는 취소로 풀린 잔고가 반영됩니다. 제한 시간을 넘기면 기다리지 않고 진행합니다.
+   */
+  private void cancelUnwatchedOrders() {
+    List<CompletableFuture<CancelOrderResponseDto>> cancels = new ArrayList<>();
+    for (OpenOrderResponseDto order :
+          upbitService.getUnwatchedOpenOrders(deadlineScheduler::isWatching)) {
+      cancels.add(orderDispatcher.submitCancel(order.getMarket(), order.getUuid())
+            .thenApply(result -> {
+              // 조회 직후 기한이 예약된 주문이 함께 취소되었으면 기한 해제
+              if (result != null) {
+                deadlineScheduler.forgetOrder(result.getUuid());
+              }
+              return result;
+            }));
+    }
+    if (cancels.isEmpty()) {
+      return;
+    }
 
-    // 완료 로깅
-    ColorfulConsoleOutput.printWithColor(
-          String.format("매수/매도 금액 설정: %s, UBMI 10: %s%%", df.format(AppConfig.minTradeAmount),
-                df.format(AppConfig.upbitMarketIndexRatio)), ColorfulConsoleOutput.GREEN);
+    try {
+      CompletableFuture.allOf(cancels.toArray(CompletableFuture[]::new))
+            .get(SWEEP_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+      ColorfulConsoleOutput.printWithColor("매수/매도 주문 잔여 수량 취소 작업 진행 완료",
+            ColorfulConsoleOutput.GREEN);
+    } catch (TimeoutException e) {
+      ColorfulConsoleOutput.printWithColor(
+            String.format("미체결 주문 취소 대기 시간 초과: %d 건 중 일부 미완료", cancels.size()),
+            ColorfulConsoleOutput.YELLOW);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      // 발송 스레드가 예외를 처리하고 null 로 완료하므로 발생하지 않음
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  /**
+   * 매도 프로세스 실행 (추적 구간 포함).
+   */
+  private void sell(MarketRegime regime, CyclePlan plan) {
+    try (Span span = Tracer.start(TraceKind.CYCLE_PHASE, "sell")) {
+      runSell(regime, plan);
+    }
   }
 
   /**
    * 매수 프로세스.
+   *
+   * @param regime 시장 국면
+   * @param plan   사이클 실행 계획 (예산 시간이 지나면 남은 종목은 다음 사이클로 넘김)
    */
-  private void runBuy() {
+  private void runBuy(MarketRegime regime, CyclePlan plan) {
     // 매수 프로세스 실행 시 현재 보유 현금량을 확인하고 최소주문금액보다 적게 있는 경우 프로세스를 종료
-    List<AccountResponseDto> accounts = upbitService.getAccount();
+    // 미체결 주문 취소 후의 잔고로 위험 한도 보유금액 갱신 (매도를 먼저 실행했으면 이미 갱신됨)
+    List<AccountResponseDto> accounts = plan.isSellFirst()
+          ? upbitService.getAccount() : upbitService.getAccountAndSynchronizeRisk();
     AccountResponseDto krwAccount = accounts.stream()
           .filter(account -> "KRW".equals(account.getCurrency()))
           .findFirst()
           .orElse(null);
 
     assert krwAccount != null;
-    if (krwAccount.getBalance() < AppConfig.minTradeAmount) {
+    if (krwAccount.getBalance() < regime.getMinTradeAmount()) {
       return;
     }
 
-    List<String> markets = AppConfig.scheduledMarket;
+    // 샤딩 시 이 샤드가 담당하는 마켓만 신규 매수 (보유 종목 매도는 계좌 기준으로 모두 처리)
+    List<String> markets = shardCoordinator.ownedMarkets(AppConfig.scheduledMarket);
+    if (markets.isEmpty()) {
+      return;
+    }
 
     // 주문 수량 계산
-    Double minimumOrderAmount = AppConfig.minTradeAmount;
+    Double minimumOrderAmount = regime.getMinTradeAmount();
+    // 동일 종목 재매수 대기 시간
+    long buyCooldownMillis = signalThresholdTable.current().getBuyCooldownMillis();
 
     // 시장 데이터 조회
     List<TickerResponseDto> tickerDataList = upbitService.getTicker(markets);
+    // 주문 가격 선택을 위한 호가창 갱신
+    orderBookManager.refresh(markets);
+    // 조회한 현재가로 보유 종목 조건부 주문 평가
+    conditionalOrderEngine.onTickers(tickerDataList);
 
     if (tickerDataList != null && !tickerDataList.isEmpty()) {
       for (TickerResponseDto tickerData : tickerDataList) {
 
         // 마켓코드(ex: KRW-BTC)
         String market = tickerData.getMarket();
+        int marketId = marketRegistry.intern(market);
+
+        // 주기 내 매수 예산 시간이 지나면 남은 종목은 다음 사이클에서 확인
+        if (plan.isExpired()) {
+          ColorfulConsoleOutput.printWithColor(
+                String.format("매수 예산 시간 초과로 [%s] 부터 다음 사이클로 넘김", market),
+                ColorfulConsoleOutput.YELLOW);
+          break;
+        }
 
         // 현재 시간
         long currentTime = System.currentTimeMillis();
 
-        // 마지막 매수 시간으로 부터 2분 이내 매수시도 시 건너뜀
-        Long lastBuyTime = lastBuyTimeMap.get(market);
-        if (lastBuyTime != null && (currentTime - lastBuyTime) < 2 * 60 * 1000) {
+        // 마지막 매수 후 대기 시간이 만료되지 않았으면 건너뜀
+        if (marketStateTable.isCoolingDown(marketId)) {
           continue;
         }
 
@@ -160,53 +306,81 @@ public class UpbitScheduler {
 
         // 매수 시그널 확인
         if (buySignal.isBuySignal()) {
-          Double quantity =
+          // 호가창 기준 체결 가능성이 높은 주문 가격 선택
+          Double estimatedQuantity =
                 MathUtility.calculateMinimumOrderQuantity(minimumOrderAmount, currentPrice);
-          OrderResponseDto result = upbitService.executeOrder(market, currentPrice, quantity,
-                UpbitType.ORDER_SIDE_BID.getType());
-
-          if (result != null) {
-            // 매수 성공 시 마지막 매수 시간 갱신
-            lastBuyTimeMap.put(market, currentTime);
-            ColorfulConsoleOutput.printWithColor(
-                  String.format("[%s] 매수 주문 발생: %s", market, df.format(currentPrice)),
-                  ColorfulConsoleOutput.RED
-            );
-          }
+          double orderPrice =
+                orderBookManager.selectBidPrice(market, currentPrice, estimatedQuantity);
+          Double quantity =
+                MathUtility.calculateMinimumOrderQuantity(minimumOrderAmount, orderPrice);
+          // 주문을 넣는 시점에 매수 대기를 시작하여 발송 전 다음 사이클이 같은 종목을 다시 사지 않도록 함
+          long cooldown =
+                deadlineScheduler.startCooldown(marketId, currentTime, buyCooldownMillis);
+          // 주문 발송기에 넣고 결과는 발송 스레드에서 처리
+          orderDispatcher.submitOrder(OrderPriority.of(buySignal), market,
+                UpbitType.ORDER_SIDE_BID.getType(), orderPrice, quantity).thenAccept(result -> {
+                  if (result == null) {
+                    // 거절/발송 실패 시 매수 대기 해제
+                    deadlineScheduler.cancelCooldown(marketId, cooldown);
+                    return;
+                  }
+                  // 미체결 취소 기한 예약
+                  deadlineScheduler.watchOrder(market, result.getUuid());
+                  ColorfulConsoleOutput.printWithColor(
+                        String.format("[%s] 매수 주문 발생: %s", market, df.format(orderPrice)),
+                        ColorfulConsoleOutput.RED
+                  );
+                });
+        }
+        try (Span span = Tracer.start(TraceKind.CYCLE_PHASE, "sleep").detail(market)) {
+          TimeUtility.sleep(0.5);
         }
-        TimeUtility.sleep(0.5);
       }
     }
   }
 
   /**
    * 매도 프로세스.
+   *
+   * @param regime 시장 국면
+   * @param plan   사이클 실행 계획
    */
-  private void runSell() {
+  private void runSell(MarketRegime regime, CyclePlan plan) {
     // 주문 수량 계산
-    double minimumOrderAmount = AppConfig.minTradeAmount;
-
-    // 계좌 조회
-    List<AccountResponseDto> accounts = upbitService.getAccount();
+    double minimumOrderAmount = regime.getMinTradeAmount();
+
+    // 계좌 조회 (매수보다 먼저 실행하면 미체결 주문 취소 후의 잔고로 위험 한도 보유금액 갱신)
+    List<AccountResponseDto> accounts = plan.isSellFirst()
+          ? upbitService.getAccountAndSynchronizeRisk() : upbitService.getAccount();
+    // 종목별 보유 수량 갱신
+    marketStateTable.updatePositions(accounts);
+
+    // 조건부 주문 사용 시 종목별 판단 대신 보유 종목의 손절/익절 조건을 맞추고 현재가로 평가
+    // (사이클 사이에는 ConditionalOrderEngine 이 보유 종목 현재가를 주기적으로 조회하여 평가)
+    if (conditionalOrderEngine.isEnabled()) {
+      conditionalOrderEngine.synchronize(accounts);
+      List<String> armedMarkets = conditionalOrderEngine.armedMarkets();
+      if (!armedMarkets.isEmpty()) {
+        orderBookManager.refresh(armedMarkets);
+        conditionalOrderEngine.onTickers(upbitService.getTicker(armedMarkets));
+      }
+      return;
+    }
 
     // 시장 데이터 조회
     List<TickerResponseDto> tickerDataList = upbitService.getTicker(AppConfig.scheduledMarket);
+    // 주문 가격 선택을 위한 호가창 갱신
+    orderBookManager.refresh(AppConfig.scheduledMarket);
 
     if (tickerDataList != null && !tickerDataList.isEmpty()) {
       for (TickerResponseDto tickerData : tickerDataList) {
         String market = tickerData.getMarket();
+        int marketId = marketRegistry.idOf(market);
 
-        // 현재 종목 조회
-        Optional<AccountResponseDto> account = accounts.stream()
-              .filter(x -> String.format("%s-%s", x.getUnitCurrency(), x.getCurrency())
-                    .equals(market))
-              .findFirst();
-
-        if (account.isPresent()) {
-          AccountResponseDto selectedAccount = account.get();
-
+        // 현재 종목 보유 여부 확인
+        if (marketId != MarketRegistry.UNKNOWN && marketStateTable.hasPosition(marketId)) {
           // 현재 보유량 조회
-          Double inventory = selectedAccount.getBalance();
+          Double inventory = marketStateTable.getBalance(marketId);
 
           // 매도 시그널 확인
           Signal sellSignal =
@@ -229,25 +403,34 @@ public class UpbitScheduler {
               quantity = inventory;
             }
 
+            // 호가창 기준 체결 가능성이 높은 주문 가격 선택
+            double orderPrice =
+                  orderBookManager.selectAskPrice(market, tickerData.getTradePrice(), quantity);
+
             // 매도 신호가 발생하면 매도 로직 실행
             // 매도금액은 최소주문 금액보다 많아야 처리 가능(업비트 정책)
-            if (tickerData.getTradePrice() * quantity >= AppConfig.minOrderAmount) {
-              OrderResponseDto result =
-                    upbitService.executeOrder(market, tickerData.getTradePrice(), quantity,
-                          UpbitType.ORDER_SIDE_ASK.getType());
-
-              // 매도 주문 실행 성공 후 처리 프로세스
-              if (result != null) {
-                ColorfulConsoleOutput.printWithColor(
-                      String.format("[%s] 매도 주문 발생: %s", market,
-                            df.format(tickerData.getTradePrice())),
-                      ColorfulConsoleOutput.BLUE
-                );
-              }
+            if (orderPrice * quantity >= AppConfig.minOrderAmount) {
+              // 매도 주문 가격은 다음 계좌 갱신 전에 기록되도록 접수 시점에 기록
+              // (접수되지 않으면 보유 수량이 줄지 않으므로 사용되지 않음)
+              marketStateTable.markAskPrice(marketId, orderPrice);
+              orderDispatcher.submitOrder(OrderPriority.of(sellSignal), market,
+                    UpbitType.ORDER_SIDE_ASK.getType(), orderPrice, quantity).thenAccept(result -> {
+                      // 매도 주문 실행 성공 후 처리 프로세스
+                      if (result != null) {
+                        deadlineScheduler.watchOrder(market, result.getUuid());
+                        ColorfulConsoleOutput.printWithColor(
+                              String.format("[%s] 매도 주문 발생: %s", market,
+                                    df.format(orderPrice)),
+                              ColorfulConsoleOutput.BLUE
+                        );
+                      }
+                    });
             }
           }
         }
-        TimeUtility.sleep(0.5);
+        try (Span span = Tracer.start(TraceKind.CYCLE_PHASE, "sleep").detail(market)) {
+          TimeUtility.sleep(0.5);
+        }
       }
     }
   }
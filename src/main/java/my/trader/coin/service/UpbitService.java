@@ -3,14 +3,27 @@ package my.trader.coin.service;
 import java.math.BigDecimal;
 import java.net.URI;
 import java.util.*;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import my.trader.coin.config.AppConfig;
 import my.trader.coin.dto.bootleg.UpbitMarketIndexTop10Dto;
 import my.trader.coin.dto.exchange.*;
 import my.trader.coin.dto.quotation.*;
 import my.trader.coin.enums.*;
+import my.trader.coin.journal.TradeJournal;
+import my.trader.coin.order.OrderNormalizer;
+import my.trader.coin.order.OrderRejectReason;
+import my.trader.coin.risk.PreTradeRiskGate;
+import my.trader.coin.risk.RiskRejectReason;
+import my.trader.coin.trace.Span;
+import my.trader.coin.trace.TraceKind;
+import my.trader.coin.trace.Tracer;
 import my.trader.coin.util.*;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * UpbitService 클래스는 Upbit 거래소와의 통신을 통해 다양한 거래 데이터를 가져오고,
@@ -18,19 +31,30 @@ import org.springframework.web.util.UriComponentsBuilder;
  */
 @Service
 public class UpbitService {
+  // 미체결 주문 조회 1회 최대 개수 (업비트 limit 최대값)
+  private static final int OPEN_ORDER_PAGE_SIZE = 100;
+
   private final AuthorizationGenerator authorizationGenerator;
   private final ExternalUtility externalUtility;
+  private final PreTradeRiskGate preTradeRiskGate;
+  private final TradeJournal tradeJournal;
 
   /**
    * UpbitService 생성자
    *
    * @param authorizationGenerator 인증 토큰 생성기
    * @param externalUtility        외부 유틸리티 서비스
+   * @param preTradeRiskGate       주문 전 위험 한도 점검
+   * @param tradeJournal           거래 기록
    */
   public UpbitService(AuthorizationGenerator authorizationGenerator,
-                      ExternalUtility externalUtility) {
+                      ExternalUtility externalUtility,
+                      PreTradeRiskGate preTradeRiskGate,
+                      TradeJournal tradeJournal) {
     this.authorizationGenerator = authorizationGenerator;
     this.externalUtility = externalUtility;
+    this.preTradeRiskGate = preTradeRiskGate;
+    this.tradeJournal = tradeJournal;
   }
 
   /**
@@ -46,7 +70,8 @@ public class UpbitService {
 
     URI uri = UriComponentsBuilder.fromHttpUrl(url + "?" + parameters).build().toUri();
 
-    return externalUtility.getWithoutAuth(uri, MarketResponseDto.class);
+    return traced(UpbitApi.GET_MARKET, null,
+          () -> externalUtility.getWithoutAuth(uri, MarketResponseDto.class));
   }
 
   /**
@@ -59,11 +84,29 @@ public class UpbitService {
 
     String authorizationToken = authorizationGenerator.generateTokenWithoutParameter();
 
-    return externalUtility.getWithAuth(uri, AccountResponseDto.class, authorizationToken);
+    return traced(UpbitApi.GET_ACCOUNT, null,
+          () -> externalUtility.getWithAuth(uri, AccountResponseDto.class, authorizationToken));
+  }
+
+  /**
+   * 전체 미체결 주문과 계좌 정보를 조회하여 위험 한도의 보유금액과 미체결 주문을 다시 맞춥니다.
+   * 그 사이 체결된 주문이 양쪽에서 빠지지 않도록 미체결 주문을 먼저 조회합니다.
+   *
+   * @return 사용자의 계좌 정보 리스트
+   */
+  public List<AccountResponseDto> getAccountAndSynchronizeRisk() {
+    long mark = preTradeRiskGate.mark();
+    List<OpenOrderResponseDto> openOrders = getOpenOrders(null);
+    List<AccountResponseDto> accounts = getAccount();
+    preTradeRiskGate.synchronize(accounts, openOrders, mark);
+    return accounts;
   }
 
   /**
    * 지정된 시장의 현재 가격 정보를 조회합니다.
+   * 시장이 많으면 {@code ticker.chunk.size} 개씩 나누어 최대 {@code ticker.parallelism} 개를 동시에 조회하고,
+   * 먼저 도착한 응답부터 합칩니다 (결과 순서는 요청 순서와 다를 수 있음).
+   * 요청 수 제한은 나눈 요청마다 WebClient 공통 제한이 적용됩니다.
    *
    * @param markets 조회할 시장의 리스트
    * @return 각 시장의 현재 가격 정보 리스트
@@ -73,6 +116,53 @@ public class UpbitService {
       return Collections.emptyList();
     }
 
+    int chunkSize = Math.max(1, AppConfig.tickerChunkSize);
+    if (markets.size() <= chunkSize) {
+      return fetchTicker(markets, null);
+    }
+
+    List<List<String>> chunks = new ArrayList<>();
+    for (int from = 0; from < markets.size(); from += chunkSize) {
+      chunks.add(markets.subList(from, Math.min(markets.size(), from + chunkSize)));
+    }
+
+    // 나눈 요청을 동시에 보내고 도착하는 대로 합침
+    return Flux.range(0, chunks.size())
+          .flatMap(index -> Mono.fromCallable(() ->
+                      fetchTicker(chunks.get(index), (index + 1) + "/" + chunks.size()))
+                .subscribeOn(Schedulers.boundedElastic()),
+                Math.max(1, AppConfig.tickerParallelism))
+          .flatMapIterable(tickers -> tickers)
+          .collectList()
+          .block();
+  }
+
+  /**
+   * 지정된 시장 중 호가 화폐(ex: KRW) 가 같은 시장의 현재 가격 정보만 조회합니다.
+   *
+   * @param markets       조회할 시장의 리스트
+   * @param quoteCurrency 호가 화폐 (ex: KRW, BTC, USDT)
+   * @return 각 시장의 현재 가격 정보 리스트
+   */
+  public List<TickerResponseDto> getTicker(List<String> markets, String quoteCurrency) {
+    if (markets == null || markets.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    String prefix = quoteCurrency + "-";
+    return this.getTicker(markets.stream()
+          .filter(market -> market.startsWith(prefix))
+          .toList());
+  }
+
+  /**
+   * 현재 가격 정보 요청 1건.
+   *
+   * @param markets 조회할 시장의 리스트
+   * @param chunk   나누어 조회할 때의 순번 (추적용)
+   * @return 각 시장의 현재 가격 정보 리스트
+   */
+  private List<TickerResponseDto> fetchTicker(List<String> markets, String chunk) {
     TickerRequestDto tickerRequestDto = TickerRequestDto.builder()
           .markets(String.join(",", markets))
           .build();
@@ -82,11 +172,39 @@ public class UpbitService {
 
     URI uri = UriComponentsBuilder.fromHttpUrl(url + "?" + parameters).build().toUri();
 
-    return externalUtility.getWithoutAuth(uri, TickerResponseDto.class);
+    List<TickerResponseDto> tickers = traced(UpbitApi.GET_TICKER, chunk,
+          () -> externalUtility.getWithoutAuth(uri, TickerResponseDto.class));
+    return tickers == null ? Collections.emptyList() : tickers;
+  }
+
+  /**
+   * 지정된 시장의 호가 정보를 조회합니다.
+   *
+   * @param markets 조회할 시장의 리스트
+   * @return 각 시장의 호가 정보 리스트
+   */
+  public List<OrderbookResponseDto> getOrderbook(List<String> markets) {
+    if (markets == null || markets.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    OrderbookRequestDto orderbookRequestDto = OrderbookRequestDto.builder()
+          .markets(String.join(",", markets))
+          .build();
+
+    String url = UpbitApi.GET_ORDERBOOK.getUrl();
+    String parameters = CharacterUtility.createQueryString(orderbookRequestDto, false);
+
+    URI uri = UriComponentsBuilder.fromHttpUrl(url + "?" + parameters).build().toUri();
+
+    return traced(UpbitApi.GET_ORDERBOOK, null,
+          () -> externalUtility.getWithoutAuth(uri, OrderbookResponseDto.class));
   }
 
   /**
    * 지정한 조건에 따라 주문을 실행합니다.
+   * 매수 가격은 호가 단위로 내림, 매도 가격은 올림하며 수량은 소수점 8자리로 절사합니다.
+   * 정규화 후에도 유효하지 않거나 위험 한도를 넘는 주문은 API 를 호출하지 않고 null 을 반환합니다.
    *
    * @param tickerSymbol 거래할 종목 코드
    * @param price        주문 가격
@@ -96,11 +214,58 @@ public class UpbitService {
    */
   public OrderResponseDto executeOrder(String tickerSymbol, double price, double quantity,
                                        String side) {
+    try (Span span = Tracer.start(TraceKind.ORDER, side).detail(tickerSymbol)) {
+      OrderResponseDto result = placeOrder(tickerSymbol, price, quantity, side, span);
+      if (result != null) {
+        span.outcome("ACCEPTED");
+      }
+      return result;
+    }
+  }
+
+  /**
+   * 주문 정규화, 검증, 위험 한도 점검 후 주문을 접수합니다. 거절 사유는 추적 구간 결과로 남깁니다.
+   */
+  private OrderResponseDto placeOrder(String tickerSymbol, double price, double quantity,
+                                      String side, Span span) {
+    // 호가 단위와 수량 자릿수를 맞춘 뒤 검증하여, 거래소에서 거절될 주문은 요청하지 않음
+    boolean isBid = UpbitType.ORDER_SIDE_BID.getType().equals(side);
+    byte journalSide = isBid ? TradeJournal.SIDE_BID : TradeJournal.SIDE_ASK;
+    double normalizedPrice = OrderNormalizer.normalizePrice(tickerSymbol, price, !isBid);
+    double normalizedQuantity = OrderNormalizer.normalizeVolume(quantity);
+    OrderRejectReason rejectReason =
+          OrderNormalizer.validate(tickerSymbol, normalizedPrice, normalizedQuantity);
+    if (rejectReason.isRejected()) {
+      ColorfulConsoleOutput.printWithColor(
+            String.format("[%s] 주문 거절: %s (가격: %s, 수량: %s)", tickerSymbol,
+                  rejectReason.getMessage(), price, quantity),
+            ColorfulConsoleOutput.RED);
+      tradeJournal.recordOrderReject(tickerSymbol, journalSide, rejectReason.ordinal(), price,
+            quantity);
+      span.outcome(rejectReason.name());
+      return null;
+    }
+
+    // 종목별/전체 보유금액, 미체결 주문 수, 초당 주문 수 한도 점검
+    double notional = normalizedPrice * normalizedQuantity;
+    RiskRejectReason riskRejectReason =
+          preTradeRiskGate.tryAcquire(tickerSymbol, isBid, notional);
+    if (riskRejectReason.isRejected()) {
+      ColorfulConsoleOutput.printWithColor(
+            String.format("[%s] 주문 거절: %s", tickerSymbol, riskRejectReason.getMessage()),
+            ColorfulConsoleOutput.RED);
+      tradeJournal.recordOrderReject(tickerSymbol, journalSide,
+            TradeJournal.RISK_REJECT_OFFSET + riskRejectReason.ordinal(), normalizedPrice,
+            normalizedQuantity);
+      span.outcome(riskRejectReason.name());
+      return null;
+    }
+
     OrderRequestDto orderRequestDto = OrderRequestDto.builder()
           .market(tickerSymbol)
           .side(side)
-          .volume(quantity)
-          .price(price)
+          .volume(normalizedQuantity)
+          .price(normalizedPrice)
           .ordType(UpbitType.ORDER_TYPE_LIMIT.getType())
           .build();
 
@@ -111,8 +276,34 @@ public class UpbitService {
 
     String authorizationToken = authorizationGenerator.generateTokenWithParameter(orderRequestDto);
 
-    return externalUtility.postWithAuth(uri, orderRequestDto, OrderResponseDto.class,
-          authorizationToken);
+    tradeJournal.recordOrderRequest(tickerSymbol, journalSide, normalizedPrice,
+          normalizedQuantity);
+    OrderResponseDto result = null;
+    try {
+      result = traced(UpbitApi.POST_ORDER, tickerSymbol,
+            () -> externalUtility.postWithAuth(uri, orderRequestDto, OrderResponseDto.class,
+                  authorizationToken));
+      if (result != null) {
+        tradeJournal.recordOrderResponse(tickerSymbol, journalSide, normalizedPrice,
+              normalizedQuantity, result.getUuid(),
+              result.getExecutedVolume() == null ? 0 : result.getExecutedVolume());
+        // 한도 예약을 uuid 로 추적 (접수 즉시 체결되었으면 미체결 주문에서 바로 제외)
+        preTradeRiskGate.confirm(result.getUuid(), tickerSymbol, isBid, normalizedPrice,
+              notional);
+        if (UpbitType.ORDER_STATE_DONE.getType().equals(result.getState())) {
+          preTradeRiskGate.settle(result.getUuid(), 0);
+        }
+      }
+      return result;
+    } finally {
+      // 접수되지 않은 주문의 한도 예약 반환
+      if (result == null) {
+        preTradeRiskGate.release(tickerSymbol, isBid, notional);
+        tradeJournal.recordOrderReject(tickerSymbol, journalSide, TradeJournal.EXCHANGE_REJECT,
+              normalizedPrice, normalizedQuantity);
+        span.outcome("EXCHANGE");
+      }
+    }
   }
 
   /**
@@ -144,8 +335,8 @@ public class UpbitService {
 
     URI uri = UriComponentsBuilder.fromHttpUrl(url + "?" + parameters).build().toUri();
 
-    List<CandleResponseDto> candleResponseDtos =
-          externalUtility.getWithoutAuth(uri, CandleResponseDto.class);
+    List<CandleResponseDto> candleResponseDtos = traced(UpbitApi.GET_MINUTE_CANDLE, market,
+          () -> externalUtility.getWithoutAuth(uri, CandleResponseDto.class));
 
     // orderBy 인자에 따라 정렬
     if (orderBy.equalsIgnoreCase("asc")) {
@@ -157,13 +348,40 @@ public class UpbitService {
 
   /**
    * 지정된 시장에서 미체결 주문 목록을 조회합니다.
+   * 업비트는 한 번에 최대 100개씩 나누어 응답하므로 모자란 쪽이 나올 때까지 모든 쪽을 조회하고 uuid 로 중복을 없앱니다.
+   * 조회 중 앞쪽 주문이 끝나 밀려 빠진 주문은 다음 조회에서 다시 나타납니다.
    *
-   * @param market 시장 코드
+   * @param market 시장 코드, null 이면 전체 시장
    * @return 미체결 주문 리스트
    */
   public List<OpenOrderResponseDto> getOpenOrders(String market) {
+    Map<String, OpenOrderResponseDto> orders = new LinkedHashMap<>();
+    for (int page = 1; ; page++) {
+      List<OpenOrderResponseDto> batch = getOpenOrders(market, page);
+      if (batch == null) {
+        return page == 1 ? null : new ArrayList<>(orders.values());
+      }
+      int before = orders.size();
+      for (OpenOrderResponseDto order : batch) {
+        orders.putIfAbsent(order.getUuid(), order);
+      }
+      // 마지막 쪽이거나, 쪽 나눔 없이 같은 목록을 다시 돌려주면 종료
+      if (batch.size() < OPEN_ORDER_PAGE_SIZE || orders.size() == before) {
+        return new ArrayList<>(orders.values());
+      }
+    }
+  }
+
+  /**
+   * 미체결 주문 목록 한 쪽을 조회합니다.
+   *
+   * @param market 시장 코드, null 이면 전체 시장
+   * @param page   쪽 번호 (1부터)
+   * @return 미체결 주문 리스트 (최대 {@link #OPEN_ORDER_PAGE_SIZE} 개)
+   */
+  private List<OpenOrderResponseDto> getOpenOrders(String market, int page) {
     OpenOrderRequestDto openOrderRequestDto = OpenOrderRequestDto.builder()
-          .market(market).build();
+          .market(market).page(page).limit(OPEN_ORDER_PAGE_SIZE).build();
 
     String url = UpbitApi.GET_OPEN_ORDER.getUrl();
 
@@ -174,7 +392,8 @@ public class UpbitService {
     String authorizationToken =
           authorizationGenerator.generateTokenWithParameter(openOrderRequestDto);
 
-    return externalUtility.getWithAuth(uri, OpenOrderResponseDto.class, authorizationToken);
+    return traced(UpbitApi.GET_OPEN_ORDER, market,
+          () -> externalUtility.getWithAuth(uri, OpenOrderResponseDto.class, authorizationToken));
   }
 
   /**
@@ -196,18 +415,34 @@ public class UpbitService {
     String authorizationToken =
           authorizationGenerator.generateTokenWithParameter(cancelOrderRequestDto);
 
-    return externalUtility.deleteWithAuth(uri, cancelOrderRequestDto,
-          CancelOrderResponseDto.class,
-          authorizationToken);
+    CancelOrderResponseDto result = traced(UpbitApi.DELETE_CANCEL_ORDER, uuid,
+          () -> externalUtility.deleteWithAuth(uri, cancelOrderRequestDto,
+                CancelOrderResponseDto.class,
+                authorizationToken));
+    if (result != null) {
+      preTradeRiskGate.settle(uuid,
+            result.getRemainingVolume() == null ? 0 : result.getRemainingVolume());
+      tradeJournal.recordCancel(result.getMarket(),
+            UpbitType.ORDER_SIDE_BID.getType().equals(result.getSide())
+                  ? TradeJournal.SIDE_BID : TradeJournal.SIDE_ASK,
+            result.getPrice() == null ? 0 : result.getPrice(),
+            result.getRemainingVolume() == null ? 0 : result.getRemainingVolume(),
+            result.getUuid(),
+            result.getExecutedVolume() == null ? 0 : result.getExecutedVolume());
+    }
+    return result;
   }
 
   /**
-   * 작업 수행 전 미체결 주문을 취소합니다.
+   * 작업 수행 전 취소할 미체결 주문을 조회합니다. 개별 취소 기한이 예약된 주문은 기한까지 두므로 제외하며,
+   * 기한을 쓰지 않거나 재시작 등으로 기한 없이 남은 주문만 반환합니다.
+   * 취소는 다른 주문과 같은 발송 순서를 따르도록 호출하는 쪽에서 OrderDispatcher 로 넣습니다.
    *
-   * @return 취소된 주문 리스트
+   * @param watched 개별 취소 기한이 예약된 주문 uuid 여부
+   * @return 취소할 미체결 주문 리스트
    */
-  public List<CancelOrderResponseDto> beforeTaskExecution() {
-    List<CancelOrderResponseDto> results = new ArrayList<>();
+  public List<OpenOrderResponseDto> getUnwatchedOpenOrders(Predicate<String> watched) {
+    List<OpenOrderResponseDto> results = new ArrayList<>();
 
     // 계좌 조회
     List<AccountResponseDto> accounts = this.getAccount();
@@ -224,18 +459,15 @@ public class UpbitService {
 
       // 미체결 주문 조회
       List<OpenOrderResponseDto> openOrders = this.getOpenOrders(market);
+      if (openOrders == null) {
+        continue;
+      }
 
-      // 각 uuid 기준으로 주문 취소 요청
+      // 기한이 없는 주문만 추가
       for (OpenOrderResponseDto openOrderResponseDto : openOrders) {
-        if (AppConfig.scheduledMarket.contains(openOrderResponseDto.getMarket())) {
-          // uuid 조회
-          String uuid = openOrderResponseDto.getUuid();
-
-          // 미체결 주문 취소 요청
-          CancelOrderResponseDto result = this.cancelOrder(uuid);
-
-          // 결과값 추가
-          results.add(result);
+        if (AppConfig.scheduledMarket.contains(openOrderResponseDto.getMarket())
+              && !watched.test(openOrderResponseDto.getUuid())) {
+          results.add(openOrderResponseDto);
         }
       }
     }
@@ -370,8 +602,8 @@ public class UpbitService {
             .map(MarketResponseDto::getMarket)
             .toList();
 
-      // 종목 단위 현재가 정보 조회
-      List<TickerResponseDto> tickers = this.getTicker(markets);
+      // 종목 단위 현재가 정보 조회 (원화 시장만, 거래대금 단위가 달라 BTC/USDT 시장은 제외)
+      List<TickerResponseDto> tickers = this.getTicker(markets, "KRW");
 
       // 24시간 누적 거래액 상위 10종목
       topTradingMarkets = tickers.stream()
@@ -419,19 +651,7 @@ public class UpbitService {
    * 거래대금 상위종목 포함 여부 결정 플래그 확인 후 종목 선정.
    */
   public void selectUbmi10MarketSelectStrategy() {
-    List<String> ubmi10Markets = new ArrayList<>(
-          Arrays.asList(
-                MarketCode.KRW_BTC.getSymbol(),
-                MarketCode.KRW_ETH.getSymbol(),
-                MarketCode.KRW_XRP.getSymbol(),
-                MarketCode.KRW_SOL.getSymbol(),
-                MarketCode.KRW_DOGE.getSymbol(),
-                MarketCode.KRW_ADA.getSymbol(),
-                MarketCode.KRW_TRX.getSymbol(),
-                MarketCode.KRW_AVAX.getSymbol(),
-                MarketCode.KRW_SHIB.getSymbol(),
-                MarketCode.KRW_XML.getSymbol()
-          ));
+    List<String> ubmi10Markets = new ArrayList<>(AppConfig.marketIndexConstituents);
 
     AppConfig.setScheduledMarket(ubmi10Markets);
 
@@ -490,8 +710,8 @@ public class UpbitService {
 
     URI uri = UriComponentsBuilder.fromHttpUrl(url).build().toUri();
 
-    UpbitMarketIndexTop10Dto result =
-          externalUtility.getWithoutAuth(uri, UpbitMarketIndexTop10Dto.class).get(0);
+    UpbitMarketIndexTop10Dto result = traced(UpbitApi.GET_UPBIT_MARKET_INDEX_TOP10, null,
+          () -> externalUtility.getWithoutAuth(uri, UpbitMarketIndexTop10Dto.class)).get(0);
 
     // 1. 상승률 조회 = (현재가 - 이전종가) / 이전종가 * 100
     double value = (result.getTradePrice() - result.getPrevClosingPrice()) / result.getPrevClosingPrice()
@@ -505,29 +725,22 @@ public class UpbitService {
   }
 
   /**
-   * 구매 기준 ADX 를 구합니다.
-   * 0.1 이상 값은 소숫점 첫번째 자리에서 올림처리 후 +5를 곱하여 기본 ADX 에 합산 (ADX * 5 = 5ADX)
-   * -0.99 ~ 0.99 값은 기본 ADX 리턴
-   * -1 이하 값은 소숫점 첫번째 자리에서 내림처리 후 -5를 곱하여 기본 ADX 에 합산 (-ADX * -5 = 5ADX)
-   * @return 최소 구매 ADX 값
+   * 업비트 API 호출을 추적 구간으로 감쌉니다. 실패하면 예외 이름을 구간 결과로 남깁니다.
+   *
+   * @param api    호출 API
+   * @param detail 대상 (ex: 마켓코드, 주문 uuid)
+   * @param call   API 호출
+   * @param <T>    응답 타입
+   * @return 응답
    */
-  public double calculatePurchaseAdx() {
-    double defaultAdx = 30.0;
-    double ratio = AppConfig.upbitMarketIndexRatio;
-
-    // -0.99 까지는 소숫점 첫번째 자리에서 올림처리
-    // -1 부터
-    int roundedValue;
-    if (ratio > 0) {
-      roundedValue = (int) Math.ceil(ratio);
-    } else if (ratio > -1) {
-      roundedValue = 0;
-    } else {
-      roundedValue = (int) Math.floor(ratio) * -1;
+  private static <T> T traced(UpbitApi api, String detail, Supplier<T> call) {
+    try (Span span = Tracer.start(TraceKind.UPBIT_API, api.name()).detail(detail)) {
+      try {
+        return call.get();
+      } catch (RuntimeException e) {
+        span.outcome(e.getClass().getSimpleName());
+        throw e;
+      }
     }
-
-    double multipliedValue = roundedValue * 4;
-
-    return defaultAdx + multipliedValue;
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,192 @@
+package my.trader.coin.shard;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+import my.trader.coin.config.AppConfig;
+import my.trader.coin.enums.ColorfulConsoleOutput;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여러 프로세스(샤드)가 마켓을 나누어 매수하도록 조정합니다.
+ * 각 샤드는 공유 디렉터리에 heartbeat 파일(shard-N.hb)을 주기적으로 기록하고,
+ * 최근 heartbeat 가 있는 샤드만으로 {@link ShardRing} 을 구성합니다.
+ * 샤드가 멈추면 그 샤드의 마켓은 남은 샤드로 옮겨지고, 돌아오면 다시 배정됩니다.
+ * 샤드마다 별도 프로세스이므로 API 키, 계좌, 요청 수 제한, 위험 한도도 샤드별로 분리됩니다.
+ */
+@Component
+public class ShardCoordinator {
+  // heartbeat 기록 주기
+  private static final long HEARTBEAT_MILLIS = 5_000;
+  // 이 시간 동안 heartbeat 가 없으면 중단된 샤드로 간주
+  private static final long EXPIRE_MILLIS = 3 * HEARTBEAT_MILLIS;
+  // 샤드당 가상 노드 수
+  static final int VIRTUAL_NODES = 128;
+
+  private final int shardIndex;
+  private final int shardCount;
+  private final Path directory;
+  private volatile List<Integer> members;
+  private volatile ShardRing ring;
+
+  /**
+   * this is constructor.
+   */
+  public ShardCoordinator() {
+    this.shardIndex = AppConfig.shardIndex;
+    this.shardCount = AppConfig.shardCount;
+    this.directory = Path.of(AppConfig.shardDirectory);
+    this.members = List.of(shardIndex);
+    this.ring = new ShardRing(members, VIRTUAL_NODES);
+
+    if (isEnabled()) {
+      if (shardIndex < 0 || shardIndex >= shardCount) {
+        throw new IllegalStateException(
+              String.format("shard.index(%d) 는 0 이상 shard.count(%d) 미만이어야 합니다.",
+                    shardIndex, shardCount));
+      }
+      heartbeat();
+    }
+  }
+
+  public boolean isEnabled() {
+    return shardCount > 1;
+  }
+
+  public int getShardIndex() {
+    return shardIndex;
+  }
+
+  public List<Integer> getMembers() {
+    return members;
+  }
+
+  /**
+   * heartbeat 를 기록하고 살아있는 샤드 목록으로 링을 갱신합니다.
+   */
+  @Scheduled(fixedDelay = HEARTBEAT_MILLIS)
+  public void heartbeat() {
+    if (!isEnabled()) {
+      return;
+    }
+    long now = System.currentTimeMillis();
+    try {
+      Files.createDirectories(directory);
+      // 다른 샤드가 쓰다 만 파일을 읽지 않도록 임시 파일에 쓴 뒤 교체
+      Path temp = directory.resolve(heartbeatFileName(shardIndex) + ".tmp");
+      Files.writeString(temp, now + " " + ProcessHandle.current().pid(),
+            StandardCharsets.UTF_8);
+      Files.move(temp, directory.resolve(heartbeatFileName(shardIndex)),
+            StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      ColorfulConsoleOutput.printWithColor("샤드 heartbeat 기록 실패: " + e.getMessage(),
+            ColorfulConsoleOutput.YELLOW);
+    }
+    refresh(now);
+  }
+
+  /**
+   * heartbeat 파일을 읽어 살아있는 샤드로 링을 다시 구성합니다. 자신은 항상 포함됩니다.
+   */
+  private void refresh(long now) {
+    TreeSet<Integer> alive = new TreeSet<>();
+    alive.add(shardIndex);
+    try (Stream<Path> files = Files.list(directory)) {
+      files.forEach(file -> {
+        int index = indexOf(file.getFileName().toString());
+        if (index >= 0 && index < shardCount && isAlive(file, now)) {
+          alive.add(index);
+        }
+      });
+    } catch (IOException e) {
+      ColorfulConsoleOutput.printWithColor("샤드 목록 조회 실패: " + e.getMessage(),
+            ColorfulConsoleOutput.YELLOW);
+      return;
+    }
+
+    List<Integer> current = new ArrayList<>(alive);
+    if (!current.equals(members)) {
+      ring = new ShardRing(current, VIRTUAL_NODES);
+      members = List.copyOf(current);
+      ColorfulConsoleOutput.printWithColor(
+            String.format("샤드 %d/%d 구성 변경: %s", shardIndex, shardCount, members),
+            ColorfulConsoleOutput.PURPLE);
+    }
+  }
+
+  private static boolean isAlive(Path file, long now) {
+    try {
+      String[] content = Files.readString(file, StandardCharsets.UTF_8).trim().split(" ");
+      return now - Long.parseLong(content[0]) <= EXPIRE_MILLIS;
+    } catch (IOException | RuntimeException e) {
+      return false;
+    }
+  }
+
+  /**
+   * 이 샤드가 마켓의 신규 매수를 담당하는지 여부. 샤딩을 사용하지 않으면 항상 true.
+   *
+   * @param market 마켓코드
+   * @return 담당 여부
+   */
+  public boolean owns(String market) {
+    return !isEnabled() || ring.ownerOf(market) == shardIndex;
+  }
+
+  /**
+   * 이 샤드가 담당하는 마켓만 남깁니다.
+   *
+   * @param markets 마켓코드 리스트
+   * @return 담당 마켓코드 리스트
+   */
+  public List<String> ownedMarkets(List<String> markets) {
+    if (!isEnabled()) {
+      return markets;
+    }
+    ShardRing snapshot = ring;
+    return markets.stream()
+          .filter(market -> snapshot.ownerOf(market) == shardIndex)
+          .toList();
+  }
+
+  /**
+   * 종료 시 heartbeat 를 지워 다른 샤드가 바로 마켓을 넘겨받도록 합니다.
+   */
+  @PreDestroy
+  public void close() {
+    if (!isEnabled()) {
+      return;
+    }
+    try {
+      Files.deleteIfExists(directory.resolve(heartbeatFileName(shardIndex)));
+    } catch (IOException e) {
+      // 삭제하지 못하면 만료 시간 후 제외됨
+    }
+  }
+
+  static String heartbeatFileName(int index) {
+    return "shard-" + index + ".hb";
+  }
+
+  /**
+   * heartbeat 파일명에서 샤드 번호 추출. 형식이 다르면 -1.
+   */
+  static int indexOf(String fileName) {
+    if (!fileName.startsWith("shard-") || !fileName.endsWith(".hb")) {
+      return -1;
+    }
+    try {
+      return Integer.parseInt(fileName.substring("shard-".length(), fileName.length() - 3));
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+}
@@ -0,0 +1,119 @@
+package my.trader.coin.shard;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import my.trader.coin.dto.exchange.AccountResponseDto;
+import my.trader.coin.enums.ColorfulConsoleOutput;
+import my.trader.coin.paper.PaperExchange;
+import my.trader.coin.standin.StandInMarketData;
+import my.trader.coin.standin.StandInScenario;
+import my.trader.coin.standin.UpbitStandInServer;
+
+/**
+ * 대역 서버 하나에 샤드 프로세스 여러 개를 붙여 샤딩 동작을 확인합니다.
+ * 샤드마다 다른 access key 를 사용하므로 대역 서버에서 계좌가 분리되며,
+ * 중간에 마지막 샤드를 종료하여 남은 샤드가 마켓을 넘겨받는 것을 로그로 확인할 수 있습니다.
+ * 사용 예: ./gradlew shardDemo -Pargs="3 95"
+ */
+public class ShardDemo {
+
+  /**
+   * 샤드 시험 실행.
+   *
+   * @param args [샤드 수] [실행 시간(초)]
+   */
+  public static void main(String[] args) throws IOException, InterruptedException {
+    int shards = args.length > 0 ? Integer.parseInt(args[0]) : 3;
+    long seconds = args.length > 1 ? Long.parseLong(args[1]) : 95;
+    Path work = Files.createTempDirectory("shard-demo");
+
+    // 샤드가 같은 IP 의 요청 수 제한을 나눠 쓰지 않도록 대역 서버 제한은 끔
+    StandInScenario scenario = new StandInScenario();
+    scenario.setRateLimitEnabled(false);
+    UpbitStandInServer standIn = new UpbitStandInServer(scenario, new StandInMarketData(),
+          new PaperExchange()).start(0);
+
+    List<Process> processes = new ArrayList<>();
+    for (int index = 0; index < shards; index++) {
+      processes.add(startShard(standIn.baseUrl(), work, index, shards));
+    }
+    ColorfulConsoleOutput.printWithColor(
+          String.format("샤드 %d개 시작, 로그 디렉터리: %s", shards, work),
+          ColorfulConsoleOutput.GREEN);
+
+    try {
+      Thread.sleep(seconds * 500);
+      if (shards > 1) {
+        processes.get(shards - 1).destroy();
+        ColorfulConsoleOutput.printWithColor(
+              String.format("샤드 %d 종료, 남은 샤드가 담당 마켓을 넘겨받습니다.", shards - 1),
+              ColorfulConsoleOutput.YELLOW);
+      }
+      Thread.sleep(seconds * 500);
+
+      ShardRing ring = new ShardRing(IntStream.range(0, shards).boxed().toList(),
+            ShardCoordinator.VIRTUAL_NODES);
+      for (int index = 0; index < shards; index++) {
+        printAccount(standIn.exchangeOf(accessKey(index)), ring, index);
+      }
+    } finally {
+      processes.forEach(Process::destroy);
+      for (Process process : processes) {
+        process.waitFor();
+      }
+      standIn.stop();
+    }
+  }
+
+  private static String accessKey(int index) {
+    return "shard-" + index;
+  }
+
+  /**
+   * 샤드 프로세스를 시작합니다. 각 샤드는 대역 서버의 별도 계좌와 별도 거래 기록 디렉터리를 사용합니다.
+   */
+  private static Process startShard(String baseUrl, Path work, int index, int shards)
+        throws IOException {
+    String java = ProcessHandle.current().info().command().orElse("java");
+    List<String> command = List.of(
+          java,
+          "-cp", System.getProperty("java.class.path"),
+          "-Dupbit.api.url=" + baseUrl,
+          "-Dupbit.index.url=" + baseUrl,
+          "-Dshard.index=" + index,
+          "-Dshard.count=" + shards,
+          "-Dshard.dir=" + work.resolve("shards"),
+          "-Daccess=" + accessKey(index),
+          "-Dsecret=" + accessKey(index),
+          "-Djournal.dir=" + work.resolve("journal-" + index),
+          "-Dserver.port=0",
+          "my.trader.coin.CoinApplication");
+
+    File log = work.resolve("shard-" + index + ".log").toFile();
+    return new ProcessBuilder(command)
+          .redirectErrorStream(true)
+          .redirectOutput(log)
+          .start();
+  }
+
+  /**
+   * 샤드 계좌의 보유 종목과 각 종목의 원래 담당 샤드를 출력합니다.
+   */
+  private static void printAccount(PaperExchange exchange, ShardRing ring, int index) {
+    StringBuilder line = new StringBuilder(String.format("샤드 %d 계좌:", index));
+    for (AccountResponseDto account : exchange.getAccounts()) {
+      if ("KRW".equals(account.getCurrency())) {
+        line.append(String.format(" KRW %,.0f", account.getBalance()));
+        continue;
+      }
+      String market = account.getUnitCurrency() + "-" + account.getCurrency();
+      line.append(String.format(" | %s (담당 샤드 %d)", market, ring.ownerOf(market)));
+    }
+    ColorfulConsoleOutput.printWithColor(line.toString(), ColorfulConsoleOutput.CYAN);
+  }
+}
@@ -0,0 +1,90 @@
+package my.trader.coin.shard;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 마켓코드를 샤드에 배정하는 일관된 해시(consistent hashing) 링.
+ * 샤드마다 가상 노드를 여러 개 두어 분포를 고르게 하고, 샤드가 추가/제거되면
+ * 해당 샤드 구간의 마켓만 이동합니다.
+ * 마켓 id 는 프로세스마다 등록 순서가 다를 수 있으므로 마켓코드 문자열을 해시합니다.
+ */
+public final class ShardRing {
+  private final long[] points;
+  private final int[] owners;
+
+  /**
+   * this is constructor.
+   *
+   * @param shards       살아있는 샤드 번호 목록
+   * @param virtualNodes 샤드당 가상 노드 수
+   */
+  public ShardRing(Collection<Integer> shards, int virtualNodes) {
+    if (shards.isEmpty()) {
+      throw new IllegalArgumentException("샤드가 하나 이상 필요합니다.");
+    }
+    int size = shards.size() * virtualNodes;
+    long[] unsortedPoints = new long[size];
+    Integer[] order = new Integer[size];
+    int[] unsortedOwners = new int[size];
+    int index = 0;
+    for (int shard : shards) {
+      for (int node = 0; node < virtualNodes; node++) {
+        unsortedPoints[index] = hash("shard-" + shard + "#" + node);
+        unsortedOwners[index] = shard;
+        order[index] = index;
+        index++;
+      }
+    }
+    Arrays.sort(order, (a, b) -> Long.compare(unsortedPoints[a], unsortedPoints[b]));
+
+    this.points = new long[size];
+    this.owners = new int[size];
+    for (int i = 0; i < size; i++) {
+      points[i] = unsortedPoints[order[i]];
+      owners[i] = unsortedOwners[order[i]];
+    }
+  }
+
+  /**
+   * 마켓 담당 샤드. 마켓 해시 이상인 첫 가상 노드의 샤드이며, 없으면 링의 처음으로 돌아갑니다.
+   *
+   * @param market 마켓코드
+   * @return 샤드 번호
+   */
+  public int ownerOf(String market) {
+    long key = hash(market);
+    int low = 0;
+    int high = points.length - 1;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      if (points[middle] < key) {
+        low = middle + 1;
+      } else {
+        high = middle - 1;
+      }
+    }
+    return owners[low == points.length ? 0 : low];
+  }
+
+  /**
+   * 64비트 FNV-1a 해시 후 murmur3 finalizer 로 비트를 섞습니다.
+   *
+   * @param value 문자열
+   * @return 해시
+   */
+  public static long hash(String value) {
+    long hash = 0xcbf29ce484222325L;
+    for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+      hash ^= b & 0xff;
+      hash *= 0x100000001b3L;
+    }
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb3fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+}
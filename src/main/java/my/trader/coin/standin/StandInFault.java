@@ -0,0 +1,23 @@
+package my.trader.coin.standin;
+
+import lombok.Getter;
+
+/**
+ * 대역 서버에서 주입할 수 있는 장애 유형.
+ */
+@Getter
+public enum StandInFault {
+  NONE(200),
+  // 요청 수 제한 초과
+  TOO_MANY_REQUESTS(429),
+  INTERNAL_SERVER_ERROR(500),
+  SERVICE_UNAVAILABLE(503),
+  // 정상 상태 코드와 깨진 JSON 본문
+  MALFORMED_JSON(200);
+
+  private final int status;
+
+  StandInFault(int status) {
+    this.status = status;
+  }
+}
@@ -0,0 +1,273 @@
+package my.trader.coin.standin;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import my.trader.coin.dto.bootleg.UpbitMarketIndexTop10Dto;
+import my.trader.coin.dto.quotation.CandleResponseDto;
+import my.trader.coin.dto.quotation.MarketResponseDto;
+import my.trader.coin.dto.quotation.OrderbookResponseDto;
+import my.trader.coin.dto.quotation.TickerResponseDto;
+import my.trader.coin.enums.MarketCode;
+import my.trader.coin.order.OrderNormalizer;
+
+/**
+ * 대역 서버용 합성 시세.
+ * 가격은 (마켓, 시각) 에 대한 결정적 함수이므로 같은 구간을 여러 번 조회해도 같은 캔들을 돌려줍니다.
+ */
+public class StandInMarketData {
+  private static final DateTimeFormatter CANDLE_TIME =
+        DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+  private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+  private static final long HOUR_MILLIS = 60L * 60 * 1000;
+  private static final long DAY_MILLIS = 24 * HOUR_MILLIS;
+
+  private final List<String> markets;
+
+  /**
+   * MarketCode 에 정의된 원화 마켓과 일부 BTC/USDT 마켓으로 구성합니다.
+   */
+  public StandInMarketData() {
+    this(0);
+  }
+
+  /**
+   * 부하 시험을 위해 합성 원화 마켓(KRW-SYN0001 ...)을 추가로 구성합니다.
+   *
+   * @param syntheticMarkets 추가할 합성 마켓 수
+   */
+  public StandInMarketData(int syntheticMarkets) {
+    List<String> result = new ArrayList<>();
+    for (MarketCode marketCode : MarketCode.values()) {
+      result.add(marketCode.getSymbol());
+    }
+    result.add("BTC-ETH");
+    result.add("BTC-XRP");
+    result.add("USDT-BTC");
+    for (int i = 1; i <= syntheticMarkets; i++) {
+      result.add(String.format("KRW-SYN%04d", i));
+    }
+    this.markets = List.copyOf(result);
+  }
+
+  public List<String> markets() {
+    return markets;
+  }
+
+  /**
+   * 마켓의 특정 시각 가격.
+   *
+   * @param market     마켓코드
+   * @param epochMilli 시각
+   * @return 가격
+   */
+  public double priceAt(String market, long epochMilli) {
+    int hash = market.hashCode();
+    // 1원 ~ 1억원 사이에서 마켓별 기준가 결정
+    double basePrice = Math.pow(10, Math.floorMod(hash, 800) / 100.0);
+    double phase = Math.floorMod(hash >>> 8, 628) / 100.0;
+    double trend = 0.01 * Math.sin(2 * Math.PI * epochMilli / (double) HOUR_MILLIS + phase);
+    double noise = 0.002 * noise(hash, epochMilli / 1000);
+    return basePrice * Math.exp(trend + noise);
+  }
+
+  /**
+   * 마켓 목록 응답.
+   */
+  public List<MarketResponseDto> marketList() {
+    List<MarketResponseDto> result = new ArrayList<>();
+    for (String market : markets) {
+      MarketResponseDto dto = new MarketResponseDto();
+      dto.setMarket(market);
+      dto.setKoreanName(market);
+      dto.setEnglishName(market);
+      MarketResponseDto.MarketEvent marketEvent = new MarketResponseDto.MarketEvent();
+      marketEvent.setCaution(new MarketResponseDto.MarketEvent.Caution());
+      dto.setMarketEvent(marketEvent);
+      result.add(dto);
+    }
+    return result;
+  }
+
+  /**
+   * 현재가 응답.
+   *
+   * @param requested  조회 마켓 목록
+   * @param epochMilli 기준 시각
+   * @return 현재가 리스트
+   */
+  public List<TickerResponseDto> tickers(List<String> requested, long epochMilli) {
+    List<TickerResponseDto> result = new ArrayList<>();
+    long dayStart = epochMilli - Math.floorMod(epochMilli, DAY_MILLIS);
+    for (String market : requested) {
+      if (!markets.contains(market)) {
+        continue;
+      }
+      double price = priceAt(market, epochMilli);
+      double open = priceAt(market, dayStart);
+      double prevClose = priceAt(market, dayStart - 1);
+      double change = price - prevClose;
+
+      TickerResponseDto dto = new TickerResponseDto();
+      Instant now = Instant.ofEpochMilli(epochMilli);
+      dto.setMarket(market);
+      dto.setTradeDate(DateTimeFormatter.ofPattern("yyyyMMdd").withZone(ZoneOffset.UTC)
+            .format(now));
+      dto.setTradeTime(DateTimeFormatter.ofPattern("HHmmss").withZone(ZoneOffset.UTC)
+            .format(now));
+      dto.setTradeDateKst(DateTimeFormatter.ofPattern("yyyyMMdd").withZone(KST).format(now));
+      dto.setTradeTimeKst(DateTimeFormatter.ofPattern("HHmmss").withZone(KST).format(now));
+      dto.setTradeTimestamp(epochMilli);
+      dto.setOpeningPrice(open);
+      dto.setHighPrice(Math.max(open, price) * 1.01);
+      dto.setLowPrice(Math.min(open, price) * 0.99);
+      dto.setTradePrice(price);
+      dto.setPrevClosingPrice(prevClose);
+      dto.setChange(change > 0 ? "RISE" : change < 0 ? "FALL" : "EVEN");
+      dto.setChangePrice(Math.abs(change));
+      dto.setChangeRate(Math.abs(change) / prevClose);
+      dto.setSignedChangePrice(change);
+      dto.setSignedChangeRate(change / prevClose);
+      dto.setTradeVolume(1.0);
+      double volume24h = 1_000_000_000.0 / price * (1 + Math.floorMod(market.hashCode(), 100));
+      dto.setAccTradePrice(volume24h * price / 2);
+      dto.setAccTradePrice24h(BigDecimal.valueOf(volume24h * price));
+      dto.setAccTradeVolume(volume24h / 2);
+      dto.setAccTradeVolume24h(volume24h);
+      dto.setHighest52WeekPrice(price * 2);
+      dto.setHighest52WeekDate("2024-03-14");
+      dto.setLowest52WeekPrice(price / 2);
+      dto.setLowest52WeekDate("2023-09-11");
+      dto.setTimestamp(epochMilli);
+      result.add(dto);
+    }
+    return result;
+  }
+
+  /**
+   * 호가 응답. 현재가를 기준으로 1호가 간격의 15단계 호가를 생성합니다.
+   *
+   * @param requested  조회 마켓 목록
+   * @param epochMilli 기준 시각
+   * @return 호가 리스트
+   */
+  public List<OrderbookResponseDto> orderbooks(List<String> requested, long epochMilli) {
+    List<OrderbookResponseDto> result = new ArrayList<>();
+    for (String market : requested) {
+      if (!markets.contains(market)) {
+        continue;
+      }
+      double price = priceAt(market, epochMilli);
+      double tickSize = OrderNormalizer.tickSize(market, price);
+      double bestBid = OrderNormalizer.normalizePrice(market, price, false);
+
+      List<OrderbookResponseDto.OrderbookUnit> units = new ArrayList<>();
+      double totalAsk = 0;
+      double totalBid = 0;
+      for (int level = 0; level < 15; level++) {
+        OrderbookResponseDto.OrderbookUnit unit = new OrderbookResponseDto.OrderbookUnit();
+        unit.setBidPrice(bestBid - level * tickSize);
+        unit.setAskPrice(bestBid + (level + 1) * tickSize);
+        unit.setBidSize((1 + noise(market.hashCode() + level, epochMilli / 1000)) * 50000 / price);
+        unit.setAskSize((1 + noise(market.hashCode() - level, epochMilli / 1000)) * 50000 / price);
+        totalAsk += unit.getAskSize();
+        totalBid += unit.getBidSize();
+        units.add(unit);
+      }
+
+      OrderbookResponseDto dto = new OrderbookResponseDto();
+      dto.setMarket(market);
+      dto.setTimestamp(epochMilli);
+      dto.setTotalAskSize(totalAsk);
+      dto.setTotalBidSize(totalBid);
+      dto.setLevel(0.0);
+      dto.setOrderbookUnits(units);
+      result.add(dto);
+    }
+    return result;
+  }
+
+  /**
+   * 분 캔들 응답. 업비트와 같이 최신 캔들부터 내림차순으로 반환합니다.
+   *
+   * @param market     마켓코드
+   * @param unit       캔들 단위 (분)
+   * @param toMilli    마지막 캔들 시각 (exclusive)
+   * @param count      캔들 개수
+   * @return 캔들 리스트
+   */
+  public List<CandleResponseDto> minuteCandles(String market, int unit, long toMilli, int count) {
+    List<CandleResponseDto> result = new ArrayList<>();
+    if (!markets.contains(market)) {
+      return result;
+    }
+
+    long unitMillis = unit * 60_000L;
+    long lastStart = (toMilli - 1) - Math.floorMod(toMilli - 1, unitMillis);
+    for (int i = 0; i < count; i++) {
+      long start = lastStart - i * unitMillis;
+      double open = priceAt(market, start);
+      double close = priceAt(market, start + unitMillis - 1000);
+      double middle = priceAt(market, start + unitMillis / 2);
+
+      CandleResponseDto dto = new CandleResponseDto();
+      dto.setMarket(market);
+      dto.setCandleDateTimeUtc(
+            CANDLE_TIME.withZone(ZoneOffset.UTC).format(Instant.ofEpochMilli(start)));
+      dto.setCandleDateTimeKst(CANDLE_TIME.withZone(KST).format(Instant.ofEpochMilli(start)));
+      dto.setOpeningPrice(open);
+      dto.setHighPrice(Math.max(Math.max(open, close), middle));
+      dto.setLowPrice(Math.min(Math.min(open, close), middle));
+      dto.setTradePrice(close);
+      dto.setTimestamp(start + unitMillis - 1000);
+      dto.setCandleAccTradeVolume(1000 / close);
+      dto.setCandleAccTradePrice(1000.0);
+      dto.setUnit(unit);
+      result.add(dto);
+    }
+    return result;
+  }
+
+  /**
+   * UBMI 10 인덱스 응답.
+   *
+   * @param epochMilli 기준 시각
+   * @return 인덱스 리스트
+   */
+  public List<UpbitMarketIndexTop10Dto> marketIndex(long epochMilli) {
+    long dayStart = epochMilli - Math.floorMod(epochMilli, DAY_MILLIS);
+    double price = priceAt("IDX.UPBIT.UTTI", epochMilli);
+    double prevClose = priceAt("IDX.UPBIT.UTTI", dayStart - 1);
+
+    UpbitMarketIndexTop10Dto dto = new UpbitMarketIndexTop10Dto();
+    dto.setCode("IDX.UPBIT.UTTI");
+    dto.setDateTime(Instant.ofEpochMilli(epochMilli).atOffset(ZoneOffset.UTC).toString());
+    dto.setOpeningPrice(priceAt("IDX.UPBIT.UTTI", dayStart));
+    dto.setHighPrice(Math.max(price, prevClose));
+    dto.setLowPrice(Math.min(price, prevClose));
+    dto.setTradePrice(price);
+    dto.setPrevClosingPrice(prevClose);
+    dto.setChange(price >= prevClose ? "RISE" : "FALL");
+    dto.setChangePrice(Math.abs(price - prevClose));
+    dto.setTimestamp(epochMilli);
+    dto.setSignedChangePrice(price - prevClose);
+    dto.setChangeRate(Math.abs(price - prevClose) / prevClose);
+    dto.setSignedChangeRate((price - prevClose) / prevClose);
+    return List.of(dto);
+  }
+
+  /**
+   * (seed, step) 에 대한 -1 ~ 1 사이의 결정적 잡음.
+   */
+  private static double noise(int seed, long step) {
+    long x = step * 0x9E3779B97F4A7C15L + seed;
+    x = (x ^ (x >>> 30)) * 0xBF58476D1CE4E5B9L;
+    x = (x ^ (x >>> 27)) * 0x94D049BB133111EBL;
+    x = x ^ (x >>> 31);
+    return (x >>> 11) * 0x1.0p-53 * 2 - 1;
+  }
+}
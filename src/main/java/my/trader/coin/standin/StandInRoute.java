@@ -0,0 +1,30 @@
+package my.trader.coin.standin;
+
+import lombok.Getter;
+
+/**
+ * 대역 서버가 제공하는 업비트 API 목록과 요청 수 제한 그룹.
+ * 그룹별 초당 요청 수는 업비트 정책(시세 10회, 주문 8회, 그 외 거래소 30회)을 따릅니다.
+ */
+@Getter
+public enum StandInRoute {
+  ACCOUNTS("default", 30),
+  TICKER("ticker", 10),
+  ORDERBOOK("orderbook", 10),
+  MINUTE_CANDLE("candles", 10),
+  ORDER("order", 8),
+  OPEN_ORDER("default", 30),
+  CANCEL_ORDER("default", 30),
+  MARKET("market", 10),
+  MARKET_INDEX("index", 10);
+
+  // Remaining-Req 헤더의 group 값
+  private final String group;
+  // 그룹별 초당 허용 요청 수
+  private final int limitPerSecond;
+
+  StandInRoute(String group, int limitPerSecond) {
+    this.group = group;
+    this.limitPerSecond = limitPerSecond;
+  }
+}
@@ -0,0 +1,89 @@
+package my.trader.coin.standin;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 대역 서버의 응답 지연과 장애 주입 시나리오.
+ * 실행 중에도 값을 바꿀 수 있으며, 예약된 장애가 확률 기반 장애보다 먼저 적용됩니다.
+ */
+@Getter
+@Setter
+public class StandInScenario {
+  // 모든 응답에 더해지는 기본 지연
+  private volatile Duration baseLatency = Duration.ZERO;
+  // 0 ~ jitter 사이의 무작위 추가 지연
+  private volatile Duration jitter = Duration.ZERO;
+  // 5xx 응답 확률 (0 ~ 1)
+  private volatile double serverErrorRate = 0;
+  // 깨진 JSON 응답 확률 (0 ~ 1)
+  private volatile double malformedJsonRate = 0;
+  // 그룹별 초당 요청 수 제한 적용 여부
+  private volatile boolean rateLimitEnabled = true;
+
+  // API 별 예약 장애
+  private final Map<StandInRoute, Queue<StandInFault>> scripted = new EnumMap<>(StandInRoute.class);
+
+  /**
+   * this is constructor.
+   */
+  public StandInScenario() {
+    for (StandInRoute route : StandInRoute.values()) {
+      scripted.put(route, new ConcurrentLinkedQueue<>());
+    }
+  }
+
+  /**
+   * 다음 요청들에 순서대로 적용될 장애를 예약합니다.
+   *
+   * @param route  대상 API
+   * @param faults 장애 목록
+   * @return this
+   */
+  public StandInScenario script(StandInRoute route, StandInFault... faults) {
+    for (StandInFault fault : faults) {
+      scripted.get(route).add(fault);
+    }
+    return this;
+  }
+
+  /**
+   * 이번 요청에 적용할 장애를 결정합니다.
+   *
+   * @param route 대상 API
+   * @return 장애 유형
+   */
+  public StandInFault nextFault(StandInRoute route) {
+    StandInFault fault = scripted.get(route).poll();
+    if (fault != null) {
+      return fault;
+    }
+
+    double random = ThreadLocalRandom.current().nextDouble();
+    if (random < serverErrorRate) {
+      return random < serverErrorRate / 2
+            ? StandInFault.INTERNAL_SERVER_ERROR : StandInFault.SERVICE_UNAVAILABLE;
+    }
+    if (random < serverErrorRate + malformedJsonRate) {
+      return StandInFault.MALFORMED_JSON;
+    }
+    return StandInFault.NONE;
+  }
+
+  /**
+   * 이번 요청의 응답 지연을 결정합니다.
+   *
+   * @return 응답 지연
+   */
+  public Duration nextLatency() {
+    long jitterMillis = jitter.toMillis();
+    long extra = jitterMillis > 0 ? ThreadLocalRandom.current().nextLong(jitterMillis + 1) : 0;
+    return baseLatency.plusMillis(extra);
+  }
+}
@@ -0,0 +1,324 @@
+package my.trader.coin.standin;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import lombok.Getter;
+import my.trader.coin.dto.exchange.OrderRequestDto;
+import my.trader.coin.dto.quotation.TickerResponseDto;
+import my.trader.coin.enums.ColorfulConsoleOutput;
+import my.trader.coin.paper.PaperExchange;
+import my.trader.coin.paper.PaperExchangeException;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+/**
+ * 통합/부하 시험용 업비트 API 대역 서버 (reactor-netty).
+ * 계좌, 현재가, 호가, 분 캔들, 주문, 미체결 주문, 주문 취소, 마켓 목록, UBMI 인덱스를 제공하며
+ * 주문/계좌는 {@link PaperExchange} 로 처리하며, 인증 토큰의 access_key 마다 별도 계좌를 둡니다.
+ * 애플리케이션은 -Dupbit.api.url, -Dupbit.index.url 을 이 서버 주소로 지정하여 연결합니다.
+ */
+public class UpbitStandInServer {
+  private static final String JSON_CONTENT_TYPE = "application/json; charset=utf-8";
+
+  @Getter
+  private final StandInScenario scenario;
+  @Getter
+  private final StandInMarketData marketData;
+  // 인증 토큰이 없거나 해석할 수 없는 요청이 사용하는 계좌
+  @Getter
+  private final PaperExchange exchange;
+  // access_key 별 계좌 (샤드별 계좌 분리 시험용)
+  private final Map<String, PaperExchange> exchanges = new ConcurrentHashMap<>();
+  private final ObjectMapper objectMapper;
+  // 요청 수 제한 그룹별 (초, 요청 수) 카운터
+  private final Map<StandInRoute, RequestBudget> budgets = new EnumMap<>(StandInRoute.class);
+  private DisposableServer server;
+
+  /**
+   * this is constructor.
+   *
+   * @param scenario   지연/장애 시나리오
+   * @param marketData 합성 시세
+   * @param exchange   주문/계좌 처리용 모의 거래소
+   */
+  public UpbitStandInServer(StandInScenario scenario, StandInMarketData marketData,
+                            PaperExchange exchange) {
+    this.scenario = scenario;
+    this.marketData = marketData;
+    this.exchange = exchange;
+    this.objectMapper = new ObjectMapper();
+    this.objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+    // 같은 그룹의 API 는 같은 카운터를 공유
+    Map<String, RequestBudget> byGroup = new HashMap<>();
+    for (StandInRoute route : StandInRoute.values()) {
+      budgets.put(route, byGroup.computeIfAbsent(route.getGroup(), group -> new RequestBudget()));
+    }
+  }
+
+  /**
+   * 서버를 시작합니다.
+   *
+   * @param port 포트 (0 이면 임의 포트)
+   * @return this
+   */
+  public UpbitStandInServer start(int port) {
+    server = HttpServer.create()
+          .host("127.0.0.1")
+          .port(port)
+          .route(routes -> routes
+                .get("/v1/accounts", (request, response) ->
+                      handle(StandInRoute.ACCOUNTS, request, response,
+                            query -> exchangeOf(request).getAccounts()))
+                .get("/v1/ticker", (request, response) ->
+                      handle(StandInRoute.TICKER, request, response, this::ticker))
+                .get("/v1/orderbook", (request, response) ->
+                      handle(StandInRoute.ORDERBOOK, request, response,
+                            query -> marketData.orderbooks(
+                                  Arrays.asList(first(query, "markets", "").split(",")),
+                                  System.currentTimeMillis())))
+                .get("/v1/candles/minutes/{unit}", (request, response) ->
+                      handle(StandInRoute.MINUTE_CANDLE, request, response,
+                            query -> marketData.minuteCandles(
+                                  first(query, "market", ""),
+                                  Integer.parseInt(request.param("unit")),
+                                  parseTo(first(query, "to", null)),
+                                  Integer.parseInt(first(query, "count", "1")))))
+                .post("/v1/orders", (request, response) ->
+                      handle(StandInRoute.ORDER, request, response,
+                            query -> placeOrder(exchangeOf(request), query)))
+                .get("/v1/orders/open", (request, response) ->
+                      handle(StandInRoute.OPEN_ORDER, request, response,
+                            query -> exchangeOf(request)
+                                  .getOpenOrders(first(query, "market", null),
+                                        Integer.parseInt(first(query, "page", "1")),
+                                        Integer.parseInt(first(query, "limit", "100")))))
+                .delete("/v1/order", (request, response) ->
+                      handle(StandInRoute.CANCEL_ORDER, request, response,
+                            query -> exchangeOf(request)
+                                  .cancelOrder(first(query, "uuid", null))))
+                .get("/v1/market/all", (request, response) ->
+                      handle(StandInRoute.MARKET, request, response,
+                            query -> marketData.marketList()))
+                .get("/v1/crix/index/recents", (request, response) ->
+                      handle(StandInRoute.MARKET_INDEX, request, response,
+                            query -> marketData.marketIndex(System.currentTimeMillis()))))
+          .bindNow();
+
+    ColorfulConsoleOutput.printWithColor("업비트 대역 서버 시작: " + baseUrl(),
+          ColorfulConsoleOutput.GREEN);
+    return this;
+  }
+
+  /**
+   * 서버를 종료합니다.
+   */
+  public void stop() {
+    if (server != null) {
+      server.disposeNow();
+    }
+  }
+
+  public String baseUrl() {
+    return "http://127.0.0.1:" + server.port();
+  }
+
+  /**
+   * access_key 의 계좌. 처음 조회되면 새 계좌를 만듭니다.
+   *
+   * @param accessKey access key
+   * @return 계좌
+   */
+  public PaperExchange exchangeOf(String accessKey) {
+    return exchanges.computeIfAbsent(accessKey, key -> new PaperExchange());
+  }
+
+  /**
+   * 요청의 Authorization 토큰(JWT) 에서 access_key 를 읽어 계좌를 찾습니다. 서명은 검증하지 않습니다.
+   */
+  private PaperExchange exchangeOf(HttpServerRequest request) {
+    String authorization = request.requestHeaders().get("Authorization");
+    if (authorization == null || !authorization.startsWith("Bearer ")) {
+      return exchange;
+    }
+    String[] token = authorization.substring("Bearer ".length()).split("\\.");
+    if (token.length < 2) {
+      return exchange;
+    }
+    try {
+      JsonNode accessKey = objectMapper.readTree(Base64.getUrlDecoder().decode(token[1]))
+            .get("access_key");
+      return accessKey == null ? exchange : exchangeOf(accessKey.asText());
+    } catch (IOException | IllegalArgumentException e) {
+      return exchange;
+    }
+  }
+
+  /**
+   * 현재가 조회. 조회된 가격으로 모든 계좌의 미체결 주문도 체결합니다.
+   */
+  private Object ticker(Map<String, List<String>> query) {
+    List<TickerResponseDto> tickers = marketData.tickers(
+          Arrays.asList(first(query, "markets", "").split(",")), System.currentTimeMillis());
+    exchange.onTickers(tickers);
+    exchanges.values().forEach(account -> account.onTickers(tickers));
+    return tickers;
+  }
+
+  /**
+   * 주문 접수. 주문 직전 합성 현재가를 반영하여 체결 가능 여부를 판단합니다.
+   */
+  private Object placeOrder(PaperExchange exchange, Map<String, List<String>> query) {
+    String market = first(query, "market", "");
+    exchange.onPrice(market, marketData.priceAt(market, System.currentTimeMillis()));
+
+    return exchange.placeOrder(OrderRequestDto.builder()
+          .market(market)
+          .side(first(query, "side", null))
+          .volume(Double.valueOf(first(query, "volume", "0")))
+          .price(Double.valueOf(first(query, "price", "0")))
+          .ordType(first(query, "ord_type", null))
+          .build());
+  }
+
+  /**
+   * 공통 응답 처리 : 지연 → 요청 수 제한 → 장애 주입 → 본문 직렬화.
+   */
+  private Publisher<Void> handle(StandInRoute route, HttpServerRequest request,
+                                 HttpServerResponse response,
+                                 Function<Map<String, List<String>>, Object> body) {
+    Map<String, List<String>> query = new QueryStringDecoder(request.uri()).parameters();
+
+    return Mono.delay(scenario.nextLatency()).then(Mono.defer(() -> {
+      RequestBudget budget = budgets.get(route);
+      int remaining = budget.acquire(route.getLimitPerSecond());
+      response.header("Content-Type", JSON_CONTENT_TYPE);
+      response.header("Remaining-Req", String.format("group=%s; min=%d; sec=%d",
+            route.getGroup(), route.getLimitPerSecond() * 60, Math.max(remaining, 0)));
+
+      if (scenario.isRateLimitEnabled() && remaining < 0) {
+        return send(response, HttpResponseStatus.TOO_MANY_REQUESTS,
+              error("too_many_requests", "요청 수 제한을 초과했습니다."));
+      }
+
+      StandInFault fault = scenario.nextFault(route);
+      switch (fault) {
+        case TOO_MANY_REQUESTS:
+          return send(response, HttpResponseStatus.TOO_MANY_REQUESTS,
+                error("too_many_requests", "요청 수 제한을 초과했습니다."));
+        case INTERNAL_SERVER_ERROR:
+        case SERVICE_UNAVAILABLE:
+          return send(response, HttpResponseStatus.valueOf(fault.getStatus()),
+                error("server_error", "대역 서버 장애 주입"));
+        case MALFORMED_JSON:
+          return send(response, HttpResponseStatus.OK, "[{\"market\":");
+        default:
+          break;
+      }
+
+      try {
+        return send(response, HttpResponseStatus.OK,
+              objectMapper.writeValueAsString(body.apply(query)));
+      } catch (PaperExchangeException e) {
+        return send(response, HttpResponseStatus.BAD_REQUEST, e.getErrorBody());
+      } catch (JsonProcessingException | RuntimeException e) {
+        return send(response, HttpResponseStatus.INTERNAL_SERVER_ERROR,
+              error("server_error", String.valueOf(e.getMessage())));
+      }
+    }));
+  }
+
+  private Mono<Void> send(HttpServerResponse response, HttpResponseStatus status, String body) {
+    return response.status(status).sendString(Mono.just(body)).then();
+  }
+
+  private static String error(String name, String message) {
+    return String.format("{\"error\":{\"name\":\"%s\",\"message\":\"%s\"}}", name,
+          message.replace("\"", "'"));
+  }
+
+  private static String first(Map<String, List<String>> query, String key, String defaultValue) {
+    List<String> values = query.get(key);
+    return values == null || values.isEmpty() ? defaultValue : values.get(0);
+  }
+
+  /**
+   * 캔들 조회 to 파라미터 해석. 시간대가 없으면 UTC 로 간주합니다.
+   */
+  private static long parseTo(String to) {
+    if (to == null || to.isBlank()) {
+      return System.currentTimeMillis();
+    }
+    String value = to.replace(' ', 'T');
+    if (value.endsWith("Z") || value.matches(".*[+-]\\d{2}:\\d{2}$")) {
+      return OffsetDateTime.parse(value).toInstant().toEpochMilli();
+    }
+    return LocalDateTime.parse(value).toInstant(ZoneOffset.UTC).toEpochMilli();
+  }
+
+  /**
+   * 초 단위 요청 수 카운터. 하나의 long 에 (초 << 20 | 요청 수) 를 담아 원자적으로 갱신합니다.
+   */
+  private static class RequestBudget {
+    private final AtomicLong state = new AtomicLong();
+
+    /**
+     * 요청 1건을 기록합니다.
+     *
+     * @param limit 초당 허용 요청 수
+     * @return 이번 초의 잔여 요청 수 (음수면 초과)
+     */
+    int acquire(int limit) {
+      long second = System.currentTimeMillis() / 1000;
+      long updated = state.updateAndGet(current ->
+            (current >>> 20) == second ? current + 1 : (second << 20) | 1);
+      return limit - (int) (updated & 0xFFFFF);
+    }
+  }
+
+  /**
+   * 대역 서버 단독 실행.
+   * 사용 예: ./gradlew standIn -Pargs="18080" -Dstandin.latency.ms=20 -Dstandin.error.rate=0.01
+   *
+   * @param args [포트]
+   */
+  public static void main(String[] args) {
+    int port = args.length > 0 ? Integer.parseInt(args[0]) : 18080;
+
+    StandInScenario scenario = new StandInScenario();
+    scenario.setBaseLatency(Duration.ofMillis(Long.getLong("standin.latency.ms", 0L)));
+    scenario.setJitter(Duration.ofMillis(Long.getLong("standin.jitter.ms", 0L)));
+    scenario.setServerErrorRate(Double.parseDouble(
+          System.getProperty("standin.error.rate", "0")));
+    scenario.setMalformedJsonRate(Double.parseDouble(
+          System.getProperty("standin.malformed.rate", "0")));
+
+    UpbitStandInServer standIn = new UpbitStandInServer(scenario,
+          new StandInMarketData(Integer.getInteger("standin.synthetic.markets", 0)),
+          new PaperExchange());
+    standIn.start(port);
+    standIn.server.onDispose().block();
+  }
+}
@@ -2,14 +2,17 @@ package my.trader.coin.strategy;
 
 import java.util.List;
 import java.util.Optional;
-import my.trader.coin.config.AppConfig;
 import my.trader.coin.dto.exchange.AccountResponseDto;
 import my.trader.coin.dto.quotation.CandleResponseDto;
 import my.trader.coin.enums.ColorfulConsoleOutput;
 import my.trader.coin.enums.Signal;
-import my.trader.coin.enums.Unit;
-import my.trader.coin.enums.UpbitType;
+import my.trader.coin.journal.TradeJournal;
+import my.trader.coin.market.CandleWindowStore;
+import my.trader.coin.market.MarketRegistry;
 import my.trader.coin.service.UpbitService;
+import my.trader.coin.trace.Span;
+import my.trader.coin.trace.TraceKind;
+import my.trader.coin.trace.Tracer;
 import org.springframework.stereotype.Service;
 
 /**
@@ -19,9 +22,28 @@ import org.springframework.stereotype.Service;
 public class ScalpingStrategy {
 
   private final UpbitService upbitService;
+  private final SignalThresholdTable signalThresholdTable;
+  private final MarketRegistry marketRegistry;
+  private final TradeJournal tradeJournal;
+  private final CandleWindowStore candleWindowStore;
 
-  public ScalpingStrategy(UpbitService upbitService) {
+  /**
+   * this is constructor.
+   *
+   * @param upbitService         UpbitService
+   * @param signalThresholdTable SignalThresholdTable
+   * @param marketRegistry       MarketRegistry
+   * @param tradeJournal         TradeJournal
+   * @param candleWindowStore    CandleWindowStore
+   */
+  public ScalpingStrategy(UpbitService upbitService, SignalThresholdTable signalThresholdTable,
+                          MarketRegistry marketRegistry, TradeJournal tradeJournal,
+                          CandleWindowStore candleWindowStore) {
     this.upbitService = upbitService;
+    this.signalThresholdTable = signalThresholdTable;
+    this.marketRegistry = marketRegistry;
+    this.tradeJournal = tradeJournal;
+    this.candleWindowStore = candleWindowStore;
   }
 
   /**
@@ -31,45 +53,62 @@ public class ScalpingStrategy {
    * @return 매수 결정시 true
    */
   public Signal shouldBuy(String market) {
+    try (Span span = Tracer.start(TraceKind.SIGNAL, "buy").detail(market)) {
+      Signal signal = evaluateBuy(market);
+      span.outcome(signal.name());
+      return signal;
+    }
+  }
+
+  /**
+   * 매도 의사결정.
+   *
+   * @param market       마켓코드
+   * @param currentPrice 현재가
+   * @return 매도 결정시 true
+   */
+  public Signal shouldSell(String market, Double currentPrice) {
+    try (Span span = Tracer.start(TraceKind.SIGNAL, "sell").detail(market)) {
+      Signal signal = evaluateSell(market, currentPrice);
+      span.outcome(signal.name());
+      return signal;
+    }
+  }
+
+  private Signal evaluateBuy(String market) {
     ColorfulConsoleOutput.printWithColor(String.format("[%s] 매수 의사결정을 위한 가격 확인", market),
           ColorfulConsoleOutput.RED);
 
-    // timestamp 기준 오름차순 정렬된 지수 이동 평균 데이터 조회
-    List<CandleResponseDto> candles =
-          upbitService.getMinuteCandle(market, Unit.UNIT_1,
-                Integer.parseInt(UpbitType.MAX_CANDLE_SIZE.getType()), "asc");
+    // timestamp 기준 오름차순 정렬된 최근 1분 캔들 조회 (마지막 캔들 이후 구간만 요청)
+    List<CandleResponseDto> candles = candleWindowStore.recent(market);
 
+    // 신호 기준값 스냅샷
+    SignalThresholds thresholds = signalThresholdTable.current();
     // RSI 계산
-    double rsi = upbitService.calculateRelativeStrengthIndex(candles, 14);
+    double rsi = upbitService.calculateRelativeStrengthIndex(candles, thresholds.getRsiPeriod());
     // ADX 계산
-    double adx = upbitService.calculateAverageDirectionalMovementIndex(candles, 14);
-    // 구매에 필요한 최소 ADX 계산
-    double minPurchaseAdx = upbitService.calculatePurchaseAdx();
-    double maxPurchaseAdx = upbitService.calculatePurchaseAdx() + 10;
+    double adx =
+          upbitService.calculateAverageDirectionalMovementIndex(candles, thresholds.getAdxPeriod());
 
     // RSI & ADX 로깅
     ColorfulConsoleOutput.printWithColor(
-          String.format("RSI: %s, ADX: %s/%s~%s", rsi, adx, minPurchaseAdx, maxPurchaseAdx),
+          String.format("RSI: %s, ADX: %s/%s~%s", rsi, adx, thresholds.getMinPurchaseAdx(),
+                thresholds.getMaxPurchaseAdx()),
           ColorfulConsoleOutput.RED);
 
     // 매수 조건 설정 후 플래그 응답
-    return (rsi <= 30 && adx >= minPurchaseAdx && adx <= maxPurchaseAdx) ? Signal.BUY :
-          Signal.NO_ACTION;
+    Signal signal = thresholds.isBuy(rsi, adx) ? Signal.BUY : Signal.NO_ACTION;
+    tradeJournal.recordSignal(market, signal.ordinal(), rsi, adx, thresholds.getMinPurchaseAdx(),
+          thresholds.getMaxPurchaseAdx());
+    return signal;
   }
 
-  /**
-   * 매도 의사결정.
-   *
-   * @param market       마켓코드
-   * @param currentPrice 현재가
-   * @return 매도 결정시 true
-   */
-  public Signal shouldSell(String market, Double currentPrice) {
+  private Signal evaluateSell(String market, Double currentPrice) {
     ColorfulConsoleOutput.printWithColor(String.format("[%s] 매도 의사결정을 위한 가격 확인", market),
           ColorfulConsoleOutput.BLUE);
 
     // 화폐 단위 확인
-    String currency = market.split("-")[1];
+    String currency = marketRegistry.baseCurrencyOf(marketRegistry.intern(market));
     // 보유 잔고 조회
     List<AccountResponseDto> accounts = upbitService.getAccount();
 
@@ -83,23 +122,22 @@ public class ScalpingStrategy {
       // 계좌 조회
       AccountResponseDto account = target.get();
 
+      // 신호 기준값 스냅샷
+      SignalThresholds thresholds = signalThresholdTable.current();
+
       // 현재 보유 금액이 최소주문금액 이하 종목은 추가 진행하지 않음.
       double buyAmount = account.getAvgBuyPrice() * account.getBalance();
-      if (buyAmount <= 5000) {
+      if (buyAmount <= thresholds.getMinSellableAmount()) {
         // 현재수익률/목표수익률 로깅
         ColorfulConsoleOutput.printWithColor("최소 주문 금액 이하 종목 추가 진행 불가", ColorfulConsoleOutput.BLUE);
         return Signal.NO_ACTION;
       }
 
-      // 익절 목표 퍼센티지 설정
-      double targetProfit = AppConfig.takeProfitPercentage;
-
-      // 거래소 수수료
-      double exchangeFeeRatio = AppConfig.exchangeFeeRatio;
+      // 익절 목표 퍼센티지
+      double targetProfit = thresholds.getTakeProfitPercentage();
 
       // 현재 수익률 계산 : (현재가 - (평균매수가 * 1.0005)) / 평균매수가 * 100
-      double profitRate = (currentPrice - (account.getAvgBuyPrice() * exchangeFeeRatio))
-            / account.getAvgBuyPrice() * 100;
+      double profitRate = thresholds.profitRate(currentPrice, account.getAvgBuyPrice());
 
       // 현재수익률/목표수익률 로깅
       ColorfulConsoleOutput.printWithColor(
@@ -112,7 +150,11 @@ public class ScalpingStrategy {
 //      }
 
       // 익절목표 금액에 도달한경우 매도 신호 발생
-      return (profitRate >= targetProfit) ? Signal.TAKE_PROFIT : Signal.NO_ACTION;
+      Signal signal = thresholds.isTakeProfit(currentPrice, account.getAvgBuyPrice())
+            ? Signal.TAKE_PROFIT : Signal.NO_ACTION;
+      tradeJournal.recordSignal(market, signal.ordinal(), profitRate, targetProfit, currentPrice,
+            account.getAvgBuyPrice());
+      return signal;
     } else {
       ColorfulConsoleOutput.printWithColor("미보유 종목 매도 불가", ColorfulConsoleOutput.BLUE);
     }
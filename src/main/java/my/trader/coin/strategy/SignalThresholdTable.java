@@ -0,0 +1,106 @@
+package my.trader.coin.strategy;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import my.trader.coin.backtest.StrategyParameters;
+import my.trader.coin.config.AppConfig;
+import my.trader.coin.enums.ColorfulConsoleOutput;
+import my.trader.coin.journal.TradeJournal;
+import my.trader.coin.regime.MarketRegime;
+import my.trader.coin.regime.MarketRegimeService;
+import org.springframework.stereotype.Component;
+
+/**
+ * 신호 판단 기준값 관리.
+ * 입력(UBMI 변동률, 1회 거래 금액, 익절율, 수수료율)이 바뀐 경우에만 {@link SignalThresholds} 를 다시 계산하여
+ * 원자적으로 게시하고, 버전별 이력을 메모리와 거래 기록에 남겨 사후 분석에 사용합니다.
+ */
+@Component
+public class SignalThresholdTable {
+  // 메모리에 보관하는 최근 이력 수
+  private static final int HISTORY_SIZE = 256;
+
+  private final MarketRegimeService marketRegimeService;
+  private final TradeJournal tradeJournal;
+  private final AtomicReference<SignalThresholds> current = new AtomicReference<>();
+  private final Deque<SignalThresholds> history = new ArrayDeque<>();
+
+  /**
+   * this is constructor.
+   *
+   * @param marketRegimeService MarketRegimeService
+   * @param tradeJournal        TradeJournal
+   */
+  public SignalThresholdTable(MarketRegimeService marketRegimeService,
+                              TradeJournal tradeJournal) {
+    this.marketRegimeService = marketRegimeService;
+    this.tradeJournal = tradeJournal;
+  }
+
+  /**
+   * 현재 시장 국면 기준의 기준값. 입력이 바뀌지 않았으면 이전 스냅샷을 그대로 돌려줍니다.
+   *
+   * @return 기준값 스냅샷
+   */
+  public SignalThresholds current() {
+    MarketRegime regime = marketRegimeService.current();
+    SignalThresholds thresholds = current.get();
+    if (thresholds != null && !isChanged(thresholds, regime)) {
+      return thresholds;
+    }
+    return recompute(regime);
+  }
+
+  /**
+   * 최근 기준값 이력 (오래된 순).
+   *
+   * @return 이력
+   */
+  public synchronized List<SignalThresholds> history() {
+    return new ArrayList<>(history);
+  }
+
+  private static boolean isChanged(SignalThresholds thresholds, MarketRegime regime) {
+    return thresholds.getRatio() != regime.getRatio()
+          || thresholds.getMinTradeAmount() != regime.getMinTradeAmount()
+          || thresholds.getTakeProfitPercentage() != AppConfig.takeProfitPercentage
+          || thresholds.getExchangeFeeRatio() != AppConfig.exchangeFeeRatio;
+  }
+
+  private synchronized SignalThresholds recompute(MarketRegime regime) {
+    SignalThresholds previous = current.get();
+    // 다른 스레드가 먼저 갱신한 경우
+    if (previous != null && !isChanged(previous, regime)) {
+      return previous;
+    }
+
+    // 운영 파라미터 : 익절율 외에는 전략 기본값
+    StrategyParameters parameters = StrategyParameters.builder()
+          .takeProfitPercentage(AppConfig.takeProfitPercentage)
+          .build();
+    SignalThresholds thresholds = SignalThresholds.derive(
+          previous == null ? 1 : previous.getVersion() + 1, regime.getVersion(),
+          regime.getRatio(), regime.getMinTradeAmount(), parameters, AppConfig.exchangeFeeRatio,
+          AppConfig.minOrderAmount);
+    current.set(thresholds);
+
+    history.addLast(thresholds);
+    if (history.size() > HISTORY_SIZE) {
+      history.removeFirst();
+    }
+    tradeJournal.recordThreshold(thresholds.getVersion(), thresholds.getRatio(),
+          thresholds.getTakeProfitMultiplier(), thresholds.getMinPurchaseAdx(),
+          thresholds.getMaxPurchaseAdx(), thresholds.getRsiBuyThreshold());
+
+    ColorfulConsoleOutput.printWithColor(
+          String.format("신호 기준값 v%d: ADX %s~%s, RSI <= %s, 익절 배수 %.4f",
+                thresholds.getVersion(), thresholds.getMinPurchaseAdx(),
+                thresholds.getMaxPurchaseAdx(), thresholds.getRsiBuyThreshold(),
+                thresholds.getTakeProfitMultiplier()),
+          ColorfulConsoleOutput.GREEN);
+    return thresholds;
+  }
+}
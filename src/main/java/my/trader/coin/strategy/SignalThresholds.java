@@ -0,0 +1,102 @@
+package my.trader.coin.strategy;
+
+import lombok.Builder;
+import lombok.Getter;
+import my.trader.coin.backtest.StrategyParameters;
+
+/**
+ * 신호 판단 기준값 스냅샷.
+ * 시장 국면과 전략 파라미터로부터 파생되는 기준값(구매 ADX 범위, 매수 RSI, 익절 기준가 배수 등)을
+ * 입력이 바뀔 때 한 번만 계산해 두는 불변 객체이며, 종목별 판단은 이 값에 대한 비교 연산만 수행합니다.
+ * 운영({@link SignalThresholdTable})과 백테스트가 같은 계산식을 사용합니다.
+ */
+@Getter
+@Builder
+public class SignalThresholds {
+  // 기준값 버전 (입력이 바뀔 때마다 1씩 증가)
+  private final long version;
+  // 계산에 사용된 시장 국면 버전
+  private final long regimeVersion;
+  // 입력: UBMI 변동률 (%)
+  private final double ratio;
+  // 입력: 거래소 수수료율 (ex: 1.0005)
+  private final double exchangeFeeRatio;
+  // 1회당 매수/매도 금액
+  private final double minTradeAmount;
+  // RSI 가중치
+  private final int rsiPeriod;
+  // ADX 가중치
+  private final int adxPeriod;
+  // 매수 기준 RSI (이하일 때 매수)
+  private final double rsiBuyThreshold;
+  // 구매 기준 최소 ADX
+  private final double minPurchaseAdx;
+  // 구매 기준 최대 ADX
+  private final double maxPurchaseAdx;
+  // 익절율 (%)
+  private final double takeProfitPercentage;
+  // 익절 기준가 배수 : 현재가 >= 평균매수가 * (수수료율 + 익절율 / 100)
+  private final double takeProfitMultiplier;
+  // 동일 종목 재매수 대기 시간
+  private final long buyCooldownMillis;
+  // 매도 판단 대상 최소 보유 금액 (이하이면 최소 주문 금액 미만이라 매도 불가)
+  private final double minSellableAmount;
+  // 계산 시각
+  private final long publishedAt;
+
+  /**
+   * 입력값으로 기준값을 계산합니다.
+   *
+   * @param version          기준값 버전
+   * @param regimeVersion    시장 국면 버전
+   * @param ratio            UBMI 변동률 (%)
+   * @param minTradeAmount   1회당 매수/매도 금액
+   * @param parameters       전략 파라미터
+   * @param exchangeFeeRatio 거래소 수수료율
+   * @param minOrderAmount   최소 주문 금액
+   * @return 기준값 스냅샷
+   */
+  public static SignalThresholds derive(long version, long regimeVersion, double ratio,
+                                        double minTradeAmount, StrategyParameters parameters,
+                                        double exchangeFeeRatio, double minOrderAmount) {
+    double minPurchaseAdx = parameters.calculatePurchaseAdx(ratio);
+    return SignalThresholds.builder()
+          .version(version)
+          .regimeVersion(regimeVersion)
+          .ratio(ratio)
+          .exchangeFeeRatio(exchangeFeeRatio)
+          .minTradeAmount(minTradeAmount)
+          .rsiPeriod(parameters.getRsiPeriod())
+          .adxPeriod(parameters.getAdxPeriod())
+          .rsiBuyThreshold(parameters.getRsiBuyThreshold())
+          .minPurchaseAdx(minPurchaseAdx)
+          .maxPurchaseAdx(minPurchaseAdx + parameters.getAdxBandWidth())
+          .takeProfitPercentage(parameters.getTakeProfitPercentage())
+          .takeProfitMultiplier(exchangeFeeRatio + parameters.getTakeProfitPercentage() / 100)
+          .buyCooldownMillis(parameters.getBuyCooldownMinutes() * 60L * 1000L)
+          .minSellableAmount(minOrderAmount - 1)
+          .publishedAt(System.currentTimeMillis())
+          .build();
+  }
+
+  /**
+   * 매수 조건 : RSI 가 기준 이하이고 ADX 가 구매 범위 안에 있음.
+   */
+  public boolean isBuy(double rsi, double adx) {
+    return rsi <= rsiBuyThreshold && adx >= minPurchaseAdx && adx <= maxPurchaseAdx;
+  }
+
+  /**
+   * 익절 조건 : 현재가가 평균매수가 * 익절 기준가 배수 이상.
+   */
+  public boolean isTakeProfit(double currentPrice, double avgBuyPrice) {
+    return currentPrice >= avgBuyPrice * takeProfitMultiplier;
+  }
+
+  /**
+   * 수수료를 반영한 현재 수익률 (%) : (현재가 - 평균매수가 * 수수료율) / 평균매수가 * 100.
+   */
+  public double profitRate(double currentPrice, double avgBuyPrice) {
+    return (currentPrice - avgBuyPrice * exchangeFeeRatio) / avgBuyPrice * 100;
+  }
+}
@@ -0,0 +1,35 @@
+package my.trader.coin.telemetry;
+
+import my.trader.coin.journal.JournalRecordType;
+
+/**
+ * 원격 측정 이벤트 1건. 구독자마다 하나를 만들어 두고 링 버퍼에서 읽을 때마다 덮어씁니다.
+ * 필드 의미는 {@link my.trader.coin.journal.JournalRecord} 와 같습니다.
+ */
+public class TelemetryEvent {
+  long sequence;
+  JournalRecordType type;
+  long timestamp;
+  String market;
+  byte side;
+  int code;
+  double price;
+  double volume;
+  double value1;
+  double value2;
+  double value3;
+  double value4;
+  String uuid;
+
+  public long getSequence() {
+    return sequence;
+  }
+
+  public JournalRecordType getType() {
+    return type;
+  }
+
+  public String getMarket() {
+    return market;
+  }
+}
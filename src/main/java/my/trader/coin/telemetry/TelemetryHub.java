@@ -0,0 +1,115 @@
+package my.trader.coin.telemetry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import my.trader.coin.config.AppConfig;
+import my.trader.coin.journal.TradeJournal;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+/**
+ * 지표 값, 매수/매도 신호, 주문/취소/거절, 체결, 보유 현황을 실시간으로 내보냅니다.
+ * 거래 기록({@link TradeJournal}) 에 남는 모든 기록을 링 버퍼에 함께 기록하고,
+ * 구독자는 각자의 위치에서 주기적으로 링 버퍼를 읽어 SSE 로 전송합니다.
+ * 구독자가 느리면 이벤트를 잃으며(lost 이벤트로 알림) 매매 루프는 기다리지 않습니다.
+ */
+@Component
+public class TelemetryHub {
+  // 한 번의 읽기에서 전송하는 최대 이벤트 수
+  private static final int MAX_BATCH = 512;
+  // 전송할 이벤트가 없을 때 연결 유지용 주석을 보내는 주기
+  private static final long KEEPALIVE_MILLIS = 15_000;
+
+  private final TelemetryRing ring;
+
+  /**
+   * this is constructor.
+   *
+   * @param tradeJournal 이벤트를 전달받을 거래 기록
+   */
+  public TelemetryHub(TradeJournal tradeJournal) {
+    this.ring = new TelemetryRing(AppConfig.telemetryBufferSize);
+    tradeJournal.setListener(ring::publish);
+  }
+
+  public TelemetryRing getRing() {
+    return ring;
+  }
+
+  /**
+   * 이벤트 스트림.
+   *
+   * @param market 마켓코드 필터 (null 이면 전체)
+   * @param replay 링 버퍼에 남아있는 이벤트부터 전송할지 여부
+   * @return SSE 스트림
+   */
+  public Flux<ServerSentEvent<String>> stream(String market, boolean replay) {
+    return Flux.defer(() -> {
+      Subscriber subscriber = new Subscriber(market,
+            replay ? Math.max(0, ring.head() - ring.capacity()) : ring.head());
+      return Flux.interval(Duration.ofMillis(AppConfig.telemetryPollMillis))
+            // 전송이 밀리면 읽기 주기를 건너뛰고, 그동안 덮어쓰인 이벤트는 잃음
+            .onBackpressureDrop()
+            .concatMap(tick -> Flux.fromIterable(subscriber.poll()), 1);
+    });
+  }
+
+  /**
+   * 구독자 1명의 읽기 위치와 직렬화 버퍼.
+   */
+  private class Subscriber {
+    private final String market;
+    private final TelemetryEvent event = new TelemetryEvent();
+    private final TelemetryWriter writer = new TelemetryWriter();
+    private long cursor;
+    private long lastSentAt = System.currentTimeMillis();
+
+    Subscriber(String market, long cursor) {
+      this.market = market;
+      this.cursor = cursor;
+    }
+
+    List<ServerSentEvent<String>> poll() {
+      List<ServerSentEvent<String>> batch = new ArrayList<>();
+      long head = ring.head();
+      long lost = 0;
+      long oldest = head - ring.capacity();
+      if (cursor < oldest) {
+        lost += oldest - cursor;
+        cursor = oldest;
+      }
+
+      while (cursor < head && batch.size() < MAX_BATCH) {
+        int status = ring.read(cursor, event);
+        if (status == TelemetryRing.NOT_READY) {
+          break;
+        }
+        cursor++;
+        if (status == TelemetryRing.LOST) {
+          lost++;
+          continue;
+        }
+        if (market == null || market.equals(event.getMarket())) {
+          batch.add(ServerSentEvent.builder(writer.write(event))
+                .id(Long.toString(event.getSequence()))
+                .event(event.getType().name())
+                .build());
+        }
+      }
+
+      long now = System.currentTimeMillis();
+      if (lost > 0) {
+        batch.add(0, ServerSentEvent.builder("{\"lost\":" + lost + "}").event("LOST").build());
+      }
+      if (!batch.isEmpty()) {
+        lastSentAt = now;
+      } else if (now - lastSentAt >= KEEPALIVE_MILLIS) {
+        lastSentAt = now;
+        batch.add(ServerSentEvent.<String>builder().comment("keepalive").build());
+      }
+      return batch;
+    }
+  }
+}
@@ -0,0 +1,121 @@
+package my.trader.coin.telemetry;
+
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLong;
+import my.trader.coin.journal.JournalRecordType;
+
+/**
+ * 고정 크기 손실 허용(lossy) 링 버퍼.
+ * 기록자는 구독자를 기다리지 않고 가장 오래된 칸을 덮어쓰며, 각 칸은 seqlock 으로 보호되어
+ * 구독자는 읽는 도중 덮어쓰인 이벤트를 버립니다. 느린 구독자는 이벤트를 잃을 뿐 기록자를 막지 않습니다.
+ * 기록은 거래 기록 스레드(동기화된 append) 에서만 일어나므로 같은 칸에 동시 기록은 없습니다.
+ */
+public final class TelemetryRing {
+  public static final int READ = 0;
+  public static final int NOT_READY = 1;
+  public static final int LOST = 2;
+
+  // 기록 중 표시
+  private static final long WRITING = -1;
+
+  private final Slot[] slots;
+  private final int mask;
+  // 다음에 기록할 순번
+  private final AtomicLong head = new AtomicLong();
+
+  /**
+   * this is constructor.
+   *
+   * @param capacity 칸 수 (2의 거듭제곱으로 올림)
+   */
+  public TelemetryRing(int capacity) {
+    int size = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+    this.slots = new Slot[size];
+    for (int i = 0; i < size; i++) {
+      slots[i] = new Slot();
+    }
+    this.mask = size - 1;
+  }
+
+  public int capacity() {
+    return slots.length;
+  }
+
+  /**
+   * 다음에 기록될 순번. 이 값 미만의 순번이 기록되었거나 기록 중입니다.
+   */
+  public long head() {
+    return head.get();
+  }
+
+  /**
+   * 이벤트를 기록합니다. 객체를 생성하지 않습니다.
+   */
+  public void publish(JournalRecordType type, long timestamp, String market, byte side, int code,
+                      double price, double volume, double value1, double value2, double value3,
+                      double value4, String uuid) {
+    long sequence = head.getAndIncrement();
+    Slot slot = slots[(int) (sequence & mask)];
+    slot.sequence = WRITING;
+    VarHandle.storeStoreFence();
+    slot.type = type;
+    slot.timestamp = timestamp;
+    slot.market = market;
+    slot.side = side;
+    slot.code = code;
+    slot.price = price;
+    slot.volume = volume;
+    slot.value1 = value1;
+    slot.value2 = value2;
+    slot.value3 = value3;
+    slot.value4 = value4;
+    slot.uuid = uuid;
+    slot.sequence = sequence;
+  }
+
+  /**
+   * 순번의 이벤트를 읽습니다.
+   *
+   * @param sequence 순번
+   * @param target   읽은 값을 담을 이벤트
+   * @return READ, 아직 기록되지 않았으면 NOT_READY, 덮어쓰였으면 LOST
+   */
+  public int read(long sequence, TelemetryEvent target) {
+    Slot slot = slots[(int) (sequence & mask)];
+    long before = slot.sequence;
+    if (before != sequence) {
+      return before > sequence ? LOST : NOT_READY;
+    }
+    target.sequence = sequence;
+    target.type = slot.type;
+    target.timestamp = slot.timestamp;
+    target.market = slot.market;
+    target.side = slot.side;
+    target.code = slot.code;
+    target.price = slot.price;
+    target.volume = slot.volume;
+    target.value1 = slot.value1;
+    target.value2 = slot.value2;
+    target.value3 = slot.value3;
+    target.value4 = slot.value4;
+    target.uuid = slot.uuid;
+    VarHandle.loadLoadFence();
+    return slot.sequence == sequence ? READ : LOST;
+  }
+
+  private static final class Slot {
+    private volatile long sequence = WRITING;
+    private JournalRecordType type;
+    private long timestamp;
+    private String market;
+    private byte side;
+    private int code;
+    private double price;
+    private double volume;
+    private double value1;
+    private double value2;
+    private double value3;
+    private double value4;
+    private String uuid;
+  }
+}
@@ -0,0 +1,109 @@
+package my.trader.coin.telemetry;
+
+import my.trader.coin.enums.Signal;
+import my.trader.coin.journal.JournalRecordType;
+import my.trader.coin.journal.TradeJournal;
+import my.trader.coin.order.OrderRejectReason;
+import my.trader.coin.risk.RiskRejectReason;
+
+/**
+ * 이벤트를 JSON 한 줄로 직렬화합니다. 버퍼를 재사용하므로 구독자마다 하나씩 사용해야 합니다.
+ *
+ * <pre>
+ * {"seq":12,"type":"SIGNAL","ts":1718000000000,"market":"KRW-BTC","side":"none","code":1,
+ *  "label":"BUY","price":0.0,"volume":0.0,"values":[28.1,31.5,25.0,45.0]}
+ * </pre>
+ */
+public class TelemetryWriter {
+  private final StringBuilder buffer = new StringBuilder(256);
+
+  /**
+   * 이벤트를 JSON 문자열로 변환합니다.
+   *
+   * @param event 이벤트
+   * @return JSON
+   */
+  public String write(TelemetryEvent event) {
+    StringBuilder json = buffer;
+    json.setLength(0);
+    json.append("{\"seq\":").append(event.sequence)
+          .append(",\"type\":\"").append(event.type.name())
+          .append("\",\"ts\":").append(event.timestamp);
+    json.append(",\"market\":");
+    string(event.market);
+    json.append(",\"side\":\"").append(side(event.side))
+          .append("\",\"code\":").append(event.code);
+    String label = label(event.type, event.code);
+    if (label != null) {
+      json.append(",\"label\":\"").append(label).append('"');
+    }
+    json.append(",\"price\":");
+    number(event.price);
+    json.append(",\"volume\":");
+    number(event.volume);
+    json.append(",\"values\":[");
+    number(event.value1);
+    json.append(',');
+    number(event.value2);
+    json.append(',');
+    number(event.value3);
+    json.append(',');
+    number(event.value4);
+    json.append(']');
+    if (event.uuid != null) {
+      json.append(",\"uuid\":");
+      string(event.uuid);
+    }
+    return json.append('}').toString();
+  }
+
+  private void number(double value) {
+    if (Double.isNaN(value) || Double.isInfinite(value)) {
+      buffer.append("null");
+    } else {
+      buffer.append(value);
+    }
+  }
+
+  private void string(String value) {
+    if (value == null) {
+      buffer.append("null");
+      return;
+    }
+    buffer.append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '"' || c == '\\') {
+        buffer.append('\\');
+      }
+      buffer.append(c < 0x20 ? ' ' : c);
+    }
+    buffer.append('"');
+  }
+
+  private static String side(byte side) {
+    return side == TradeJournal.SIDE_BID ? "bid" : side == TradeJournal.SIDE_ASK ? "ask" : "none";
+  }
+
+  /**
+   * 코드의 이름. 신호는 Signal, 주문 거절은 거절 사유 이름입니다.
+   */
+  private static String label(JournalRecordType type, int code) {
+    if (type == JournalRecordType.SIGNAL) {
+      return code >= 0 && code < Signal.values().length ? Signal.values()[code].name() : null;
+    }
+    if (type != JournalRecordType.ORDER_REJECT) {
+      return null;
+    }
+    if (code == TradeJournal.EXCHANGE_REJECT) {
+      return "EXCHANGE";
+    }
+    if (code >= TradeJournal.RISK_REJECT_OFFSET) {
+      int ordinal = code - TradeJournal.RISK_REJECT_OFFSET;
+      return ordinal < RiskRejectReason.values().length
+            ? RiskRejectReason.values()[ordinal].name() : null;
+    }
+    return code >= 0 && code < OrderRejectReason.values().length
+          ? OrderRejectReason.values()[code].name() : null;
+  }
+}
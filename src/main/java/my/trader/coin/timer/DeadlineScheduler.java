@@ -0,0 +1,200 @@
+package my.trader.coin.timer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import my.trader.coin.config.AppConfig;
+import my.trader.coin.dto.exchange.OpenOrderResponseDto;
+import my.trader.coin.enums.ColorfulConsoleOutput;
+import my.trader.coin.market.MarketStateTable;
+import my.trader.coin.order.OrderDispatcher;
+import my.trader.coin.risk.PreTradeRiskGate;
+import my.trader.coin.service.UpbitService;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문별 미체결 취소 기한과 종목별 매수 대기 시간 만료를 {@link HashedWheelTimer} 로 관리합니다.
+ * 주문은 기한이 지나면 미체결 주문 목록에 남아 있는지 확인하고, 남아 있으면 즉시 {@link OrderDispatcher} 에
+ * 취소를 넣으므로 다음 사이클의 일괄 취소를 기다리지 않습니다. 이미 체결되었거나 다른 경로로 취소된 주문은
+ * 취소를 보내지 않고 {@link PreTradeRiskGate} 의 예약만 정리합니다.
+ * 매수 대기 시간은 만료 시각에 {@link MarketStateTable} 의 대기 상태를 해제합니다.
+ */
+@Component
+public class DeadlineScheduler {
+  private final OrderDispatcher orderDispatcher;
+  private final MarketStateTable marketStateTable;
+  private final UpbitService upbitService;
+  private final PreTradeRiskGate preTradeRiskGate;
+  private final HashedWheelTimer timer;
+  // 미체결 조회는 타이머 스레드를 막지 않도록 별도 스레드에서 실행
+  private final ExecutorService checker;
+  // 주문 uuid -> 취소 기한
+  private final Map<String, WheelTimeout> orderDeadlines = new ConcurrentHashMap<>();
+  private final Counter expiredOrders;
+  private final Counter closedOrders;
+
+  /**
+   * this is constructor.
+   *
+   * @param orderDispatcher  OrderDispatcher
+   * @param marketStateTable MarketStateTable
+   * @param upbitService     UpbitService
+   * @param preTradeRiskGate PreTradeRiskGate
+   * @param meterRegistry    MeterRegistry
+   */
+  public DeadlineScheduler(OrderDispatcher orderDispatcher, MarketStateTable marketStateTable,
+                           UpbitService upbitService, PreTradeRiskGate preTradeRiskGate,
+                           MeterRegistry meterRegistry) {
+    this.orderDispatcher = orderDispatcher;
+    this.marketStateTable = marketStateTable;
+    this.upbitService = upbitService;
+    this.preTradeRiskGate = preTradeRiskGate;
+    this.timer = new HashedWheelTimer("deadline-timer", AppConfig.timerTickMillis,
+          TimeUnit.MILLISECONDS, AppConfig.timerWheelSize);
+    this.checker = Executors.newSingleThreadExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "deadline-checker");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.expiredOrders = Counter.builder("trader.order.deadline.expired")
+          .description("미체결 기한이 지나 취소를 요청한 주문 수")
+          .register(meterRegistry);
+    this.closedOrders = Counter.builder("trader.order.deadline.closed")
+          .description("기한 만료 시 이미 체결/취소되어 취소를 생략한 주문 수")
+          .register(meterRegistry);
+    Gauge.builder("trader.timer.pending", timer, HashedWheelTimer::pending)
+          .description("예약된 기한 수")
+          .register(meterRegistry);
+  }
+
+  /**
+   * 주문의 미체결 취소 기한을 예약합니다. 기한 설정이 0 이하면 예약하지 않습니다.
+   *
+   * @param market 마켓코드
+   * @param uuid   주문 uuid
+   */
+  public void watchOrder(String market, String uuid) {
+    if (AppConfig.orderTimeoutMillis <= 0 || uuid == null) {
+      return;
+    }
+    // 타이머 스레드는 확인 작업만 넘기고 바로 돌아옴
+    WheelTimeout timeout = timer.schedule(() -> checker.execute(() -> cancelExpired(market, uuid)),
+          AppConfig.orderTimeoutMillis, TimeUnit.MILLISECONDS);
+    WheelTimeout previous = orderDeadlines.put(uuid, timeout);
+    if (previous != null) {
+      previous.cancel();
+    }
+  }
+
+  /**
+   * 다른 경로(일괄 취소 등) 로 정리된 주문의 기한을 취소합니다.
+   *
+   * @param uuid 주문 uuid
+   */
+  public void forgetOrder(String uuid) {
+    if (uuid == null) {
+      return;
+    }
+    WheelTimeout timeout = orderDeadlines.remove(uuid);
+    if (timeout != null) {
+      timeout.cancel();
+    }
+  }
+
+  /**
+   * 주문의 미체결 취소 기한이 예약되어 있는지 확인합니다.
+   *
+   * @param uuid 주문 uuid
+   * @return 기한이 예약되어 있으면 true
+   */
+  public boolean isWatching(String uuid) {
+    return uuid != null && orderDeadlines.containsKey(uuid);
+  }
+
+  /**
+   * 매수 시각을 기록하고 매수 대기 시간 만료를 예약합니다. 이미 지난 대기 시간이면 바로 해제합니다.
+   *
+   * @param marketId       마켓 id
+   * @param boughtAt       매수 시각 (epoch ms)
+   * @param cooldownMillis 대기 시간
+   * @return 대기 세대 ({@link #cancelCooldown} 에 사용)
+   */
+  public long startCooldown(int marketId, long boughtAt, long cooldownMillis) {
+    long generation = marketStateTable.markBought(marketId, boughtAt);
+    long remaining = boughtAt + cooldownMillis - System.currentTimeMillis();
+    if (remaining <= 0) {
+      marketStateTable.endCooldown(marketId, generation);
+      return generation;
+    }
+    timer.schedule(() -> marketStateTable.endCooldown(marketId, generation), remaining,
+          TimeUnit.MILLISECONDS);
+    return generation;
+  }
+
+  /**
+   * 매수 주문이 거절되었을 때 주문 시점에 시작한 매수 대기를 바로 해제합니다.
+   * 그 사이 다시 매수하여 세대가 바뀌었으면 그대로 두며, 예약된 만료는 세대가 달라 아무 일도 하지 않습니다.
+   *
+   * @param marketId   마켓 id
+   * @param generation {@link #startCooldown} 이 반환한 세대
+   */
+  public void cancelCooldown(int marketId, long generation) {
+    marketStateTable.endCooldown(marketId, generation);
+  }
+
+  @PreDestroy
+  public void close() {
+    timer.stop();
+    checker.shutdownNow();
+  }
+
+  /**
+   * 기한이 지난 주문이 아직 미체결이면 취소를 넣습니다.
+   * 취소가 성공하면 {@link UpbitService#cancelOrder(String)} 가 한도 예약을 반환하고,
+   * 이미 끝난 주문이면 취소 없이 예약을 정리합니다(체결 수량 예약은 다음 동기화까지 유지).
+   */
+  private void cancelExpired(String market, String uuid) {
+    if (orderDeadlines.remove(uuid) == null) {
+      return;
+    }
+    if (!isOpen(market, uuid)) {
+      closedOrders.increment();
+      preTradeRiskGate.settle(uuid, 0);
+      return;
+    }
+    orderDispatcher.submitCancel(market, uuid).thenAccept(result -> {
+      if (result != null) {
+        expiredOrders.increment();
+        ColorfulConsoleOutput.printWithColor(
+              String.format("[%s] 미체결 기한 초과 주문 취소: %s (잔여 %s)", market, uuid,
+                    result.getRemainingVolume()),
+              ColorfulConsoleOutput.YELLOW);
+      } else {
+        // 확인과 취소 사이에 체결/취소된 주문
+        ColorfulConsoleOutput.printWithColor(
+              String.format("[%s] 기한 초과 주문 취소 생략: %s", market, uuid),
+              ColorfulConsoleOutput.PURPLE);
+      }
+    });
+  }
+
+  /**
+   * 주문이 미체결 주문 목록에 있는지 확인합니다. 조회에 실패하면 미체결로 보고 취소를 시도합니다.
+   */
+  private boolean isOpen(String market, String uuid) {
+    try {
+      List<OpenOrderResponseDto> openOrders = upbitService.getOpenOrders(market);
+      return openOrders == null
+            || openOrders.stream().anyMatch(order -> uuid.equals(order.getUuid()));
+    } catch (RuntimeException e) {
+      return true;
+    }
+  }
+}
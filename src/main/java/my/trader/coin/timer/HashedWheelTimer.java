@@ -0,0 +1,233 @@
+package my.trader.coin.timer;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import my.trader.coin.enums.ColorfulConsoleOutput;
+
+/**
+ * 해시 타이머 휠.
+ * 시간을 tick 단위 슬롯(버킷) 으로 나눈 원형 배열에 작업을 매달아 두고, 전용 스레드가 tick 마다 현재 버킷만 확인합니다.
+ * 예약과 취소는 lock-free 대기열에 넣기만 하므로 O(1) 이며, 버킷 반영과 제거는 타이머 스레드가 모아서 처리합니다.
+ * 휠 한 바퀴(tick x 버킷 수) 보다 먼 작업은 남은 바퀴 수를 세며 기다립니다.
+ * 만료 정밀도는 tick 이며, 작업은 타이머 스레드에서 실행되므로 오래 걸리는 작업은 별도 실행기로 넘겨야 합니다.
+ */
+public class HashedWheelTimer {
+  // tick 마다 버킷으로 옮기는 최대 예약 수 (예약이 몰려도 tick 이 밀리지 않도록)
+  private static final int MAX_TRANSFER_PER_TICK = 100_000;
+
+  private final long tickNanos;
+  private final Bucket[] wheel;
+  private final int mask;
+  private final Queue<WheelTimeout> scheduled = new ConcurrentLinkedQueue<>();
+  private final Queue<WheelTimeout> cancelled = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger pending = new AtomicInteger();
+  private final Thread worker;
+  private final long startNanos;
+  private volatile boolean running = true;
+  // 타이머 스레드에서만 사용
+  private long tick;
+
+  /**
+   * 휠의 한 칸. 이중 연결 리스트로 O(1) 제거합니다.
+   */
+  static final class Bucket {
+    private WheelTimeout head;
+    private WheelTimeout tail;
+
+    void add(WheelTimeout timeout) {
+      timeout.bucket = this;
+      if (head == null) {
+        head = tail = timeout;
+      } else {
+        tail.next = timeout;
+        timeout.prev = tail;
+        tail = timeout;
+      }
+    }
+
+    void remove(WheelTimeout timeout) {
+      WheelTimeout next = timeout.next;
+      if (timeout.prev != null) {
+        timeout.prev.next = next;
+      }
+      if (next != null) {
+        next.prev = timeout.prev;
+      }
+      if (timeout == head) {
+        head = next;
+      }
+      if (timeout == tail) {
+        tail = timeout.prev;
+      }
+      timeout.prev = null;
+      timeout.next = null;
+      timeout.bucket = null;
+    }
+
+    /**
+     * 이번 바퀴에 만료되는 작업을 실행하고, 나머지는 남은 바퀴 수를 줄입니다.
+     */
+    int expire(long deadline) {
+      int removed = 0;
+      WheelTimeout timeout = head;
+      while (timeout != null) {
+        WheelTimeout next = timeout.next;
+        if (timeout.remainingRounds <= 0 && timeout.deadline <= deadline) {
+          remove(timeout);
+          removed++;
+          timeout.expire();
+        } else if (timeout.isCancelled()) {
+          remove(timeout);
+          removed++;
+        } else {
+          timeout.remainingRounds--;
+        }
+        timeout = next;
+      }
+      return removed;
+    }
+  }
+
+  /**
+   * this is constructor. 생성과 동시에 타이머 스레드를 시작합니다.
+   *
+   * @param name       스레드 이름
+   * @param tick       tick 길이
+   * @param unit       tick 단위
+   * @param wheelSize  버킷 수 (2의 거듭제곱으로 올림)
+   */
+  public HashedWheelTimer(String name, long tick, TimeUnit unit, int wheelSize) {
+    if (tick <= 0 || wheelSize <= 0) {
+      throw new IllegalArgumentException("tick 과 버킷 수는 양수여야 합니다.");
+    }
+    this.tickNanos = unit.toNanos(tick);
+    int size = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+    this.wheel = new Bucket[size];
+    for (int i = 0; i < size; i++) {
+      wheel[i] = new Bucket();
+    }
+    this.mask = size - 1;
+    this.startNanos = System.nanoTime();
+    this.worker = new Thread(this::work, name);
+    this.worker.setDaemon(true);
+    this.worker.start();
+  }
+
+  /**
+   * 작업을 예약합니다.
+   *
+   * @param task  만료 시 타이머 스레드에서 실행할 작업
+   * @param delay 지연
+   * @param unit  지연 단위
+   * @return 취소용 핸들
+   */
+  public WheelTimeout schedule(Runnable task, long delay, TimeUnit unit) {
+    if (!running) {
+      throw new IllegalStateException("타이머가 종료되었습니다.");
+    }
+    long deadline = System.nanoTime() - startNanos + unit.toNanos(Math.max(0, delay));
+    WheelTimeout timeout = new WheelTimeout(this, task, deadline);
+    pending.incrementAndGet();
+    scheduled.add(timeout);
+    return timeout;
+  }
+
+  /**
+   * 실행 또는 취소되지 않은 예약 수.
+   */
+  public int pending() {
+    return pending.get();
+  }
+
+  /**
+   * 타이머 스레드를 멈춥니다. 남은 작업은 실행하지 않습니다.
+   */
+  public void stop() {
+    running = false;
+    worker.interrupt();
+    try {
+      worker.join(TimeUnit.SECONDS.toMillis(1));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  void onCancelled(WheelTimeout timeout) {
+    cancelled.add(timeout);
+  }
+
+  void run(Runnable task) {
+    try {
+      task.run();
+    } catch (RuntimeException e) {
+      ColorfulConsoleOutput.printWithColor("타이머 작업 실패: " + e.getMessage(),
+            ColorfulConsoleOutput.YELLOW);
+    }
+  }
+
+  private void work() {
+    while (running) {
+      long deadline = waitForNextTick();
+      if (deadline < 0) {
+        break;
+      }
+      removeCancelled();
+      transferScheduled();
+      pending.addAndGet(-wheel[(int) (tick & mask)].expire(deadline));
+      tick++;
+    }
+  }
+
+  /**
+   * 다음 tick 경계까지 기다립니다.
+   *
+   * @return 이번 tick 의 끝 시각 (타이머 시작 기준 ns), 종료 중이면 -1
+   */
+  private long waitForNextTick() {
+    long deadline = tickNanos * (tick + 1);
+    while (true) {
+      long current = System.nanoTime() - startNanos;
+      long sleepMillis = (deadline - current + 999_999) / 1_000_000;
+      if (sleepMillis <= 0) {
+        return current;
+      }
+      try {
+        Thread.sleep(sleepMillis);
+      } catch (InterruptedException e) {
+        if (!running) {
+          return -1;
+        }
+      }
+    }
+  }
+
+  private void removeCancelled() {
+    WheelTimeout timeout;
+    while ((timeout = cancelled.poll()) != null) {
+      // 아직 버킷에 옮기지 않은 예약은 옮길 때 버림
+      if (timeout.bucket != null) {
+        timeout.bucket.remove(timeout);
+        pending.decrementAndGet();
+      }
+    }
+  }
+
+  private void transferScheduled() {
+    for (int i = 0; i < MAX_TRANSFER_PER_TICK; i++) {
+      WheelTimeout timeout = scheduled.poll();
+      if (timeout == null) {
+        return;
+      }
+      if (timeout.isCancelled()) {
+        pending.decrementAndGet();
+        continue;
+      }
+      long expiryTick = timeout.deadline / tickNanos;
+      timeout.remainingRounds = (expiryTick - tick) / wheel.length;
+      // 이미 지난 작업은 현재 버킷에 넣어 이번 tick 에 실행
+      wheel[(int) (Math.max(expiryTick, tick) & mask)].add(timeout);
+    }
+  }
+}
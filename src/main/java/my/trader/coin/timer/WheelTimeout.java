@@ -0,0 +1,60 @@
+package my.trader.coin.timer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link HashedWheelTimer} 에 예약된 작업 1건. 취소는 상태만 바꾸고 버킷에서의 제거는 타이머 스레드가 합니다.
+ */
+public final class WheelTimeout {
+  private static final int INIT = 0;
+  private static final int CANCELLED = 1;
+  private static final int EXPIRED = 2;
+
+  private final HashedWheelTimer timer;
+  private final Runnable task;
+  // 타이머 시작 시각 기준 만료 시각 (ns)
+  final long deadline;
+  private final AtomicInteger state = new AtomicInteger(INIT);
+
+  // 아래 필드는 타이머 스레드에서만 사용
+  long remainingRounds;
+  WheelTimeout next;
+  WheelTimeout prev;
+  HashedWheelTimer.Bucket bucket;
+
+  WheelTimeout(HashedWheelTimer timer, Runnable task, long deadline) {
+    this.timer = timer;
+    this.task = task;
+    this.deadline = deadline;
+  }
+
+  /**
+   * 아직 실행되지 않았으면 취소합니다.
+   *
+   * @return 취소되었으면 true, 이미 실행되었거나 취소된 경우 false
+   */
+  public boolean cancel() {
+    if (!state.compareAndSet(INIT, CANCELLED)) {
+      return false;
+    }
+    timer.onCancelled(this);
+    return true;
+  }
+
+  public boolean isCancelled() {
+    return state.get() == CANCELLED;
+  }
+
+  public boolean isExpired() {
+    return state.get() == EXPIRED;
+  }
+
+  /**
+   * 만료 처리. 취소와 경합하면 먼저 상태를 바꾼 쪽만 유효합니다.
+   */
+  void expire() {
+    if (state.compareAndSet(INIT, EXPIRED)) {
+      timer.run(task);
+    }
+  }
+}
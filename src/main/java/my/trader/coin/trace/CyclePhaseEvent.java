@@ -0,0 +1,12 @@
+package my.trader.coin.trace;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 스케줄러 사이클 구간 (사이클 전체, 미체결 취소, 종목 선정, 매수, 매도, 대기 등).
+ */
+@Name("my.trader.CyclePhase")
+@Label("Cycle Phase")
+class CyclePhaseEvent extends TraceEvent {
+}
@@ -0,0 +1,12 @@
+package my.trader.coin.trace;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 주문 접수 1건 (정규화/위험 한도 점검 포함). outcome 은 접수 결과입니다.
+ */
+@Name("my.trader.OrderSubmission")
+@Label("Order Submission")
+class OrderSubmissionEvent extends TraceEvent {
+}
@@ -0,0 +1,12 @@
+package my.trader.coin.trace;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 종목별 매수/매도 신호 판단 1건. detail 은 마켓코드, outcome 은 신호입니다.
+ */
+@Name("my.trader.SignalEvaluation")
+@Label("Signal Evaluation")
+class SignalEvaluationEvent extends TraceEvent {
+}
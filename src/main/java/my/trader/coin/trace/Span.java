@@ -0,0 +1,78 @@
+package my.trader.coin.trace;
+
+/**
+ * 추적 구간 1개. try-with-resources 로 닫으면 JFR 이벤트를 기록하고 파일 내보내기에 전달합니다.
+ * 추적이 꺼져 있으면 {@link Tracer#start} 가 아무 일도 하지 않는 공용 인스턴스를 반환하므로
+ * 구간마다 객체를 만들거나 시각을 읽지 않습니다.
+ * 한 구간은 시작한 스레드에서만 사용합니다.
+ */
+public final class Span implements AutoCloseable {
+  static final Span DISABLED = new Span(null, null, null, 0, false);
+
+  private final TraceKind kind;
+  private final String name;
+  private final TraceEvent event;
+  private final long cycle;
+  private final boolean exporting;
+  private final long startMillis;
+  private final long startNanos;
+  private String detail;
+  private String outcome;
+
+  Span(TraceKind kind, String name, TraceEvent event, long cycle, boolean exporting) {
+    this.kind = kind;
+    this.name = name;
+    this.event = event;
+    this.cycle = cycle;
+    this.exporting = exporting;
+    this.startMillis = exporting ? System.currentTimeMillis() : 0;
+    this.startNanos = exporting ? System.nanoTime() : 0;
+    if (event != null) {
+      event.begin();
+    }
+  }
+
+  /**
+   * 대상 (ex: 마켓코드).
+   */
+  public Span detail(String detail) {
+    if (kind != null) {
+      this.detail = detail;
+    }
+    return this;
+  }
+
+  /**
+   * 결과 (ex: 신호, 주문 거절 사유).
+   */
+  public Span outcome(String outcome) {
+    if (kind != null) {
+      this.outcome = outcome;
+    }
+    return this;
+  }
+
+  /**
+   * 구간을 끝냅니다.
+   */
+  @Override
+  public void close() {
+    if (kind == null) {
+      return;
+    }
+    if (event != null) {
+      event.end();
+      if (event.shouldCommit()) {
+        event.name = name;
+        event.detail = detail;
+        event.outcome = outcome;
+        event.cycle = cycle;
+        event.commit();
+      }
+    }
+    if (exporting) {
+      Tracer.export(startMillis, (System.nanoTime() - startNanos) / 1000, kind, name, detail,
+            outcome, cycle);
+    }
+  }
+}
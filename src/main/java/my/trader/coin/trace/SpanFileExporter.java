@@ -0,0 +1,114 @@
+package my.trader.coin.trace;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import my.trader.coin.enums.ColorfulConsoleOutput;
+
+/**
+ * 끝난 구간을 CSV 파일({dir}/spans-{시작 epoch ms}.csv) 로 기록합니다.
+ * 매매 스레드는 제한된 대기열에 한 줄을 넣기만 하고, 전용 스레드가 파일에 씁니다.
+ * 대기열이 가득 차면 구간을 버리고 수만 셉니다.
+ *
+ * <pre>
+ * start_ms,duration_us,kind,name,detail,outcome,cycle,thread
+ * 1718000000000,15230,UPBIT_API,GET_TICKER,,,12,scheduling-1
+ * </pre>
+ */
+class SpanFileExporter {
+  private static final String HEADER = "start_ms,duration_us,kind,name,detail,outcome,cycle,thread";
+
+  private final Path file;
+  private final BlockingQueue<String> queue;
+  private final AtomicLong dropped = new AtomicLong();
+  private final BufferedWriter writer;
+  private final Thread thread;
+  private volatile boolean running = true;
+
+  SpanFileExporter(Path directory, int capacity) throws IOException {
+    Files.createDirectories(directory);
+    this.file = directory.resolve("spans-" + System.currentTimeMillis() + ".csv");
+    this.queue = new ArrayBlockingQueue<>(capacity);
+    this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+    this.writer.write(HEADER);
+    this.writer.newLine();
+    this.thread = new Thread(this::drain, "span-exporter");
+    this.thread.setDaemon(true);
+    this.thread.start();
+  }
+
+  Path getFile() {
+    return file;
+  }
+
+  long getDropped() {
+    return dropped.get();
+  }
+
+  void offer(long startMillis, long durationMicros, TraceKind kind, String name, String detail,
+             String outcome, long cycle) {
+    StringBuilder line = new StringBuilder(96)
+          .append(startMillis).append(',')
+          .append(durationMicros).append(',')
+          .append(kind.name()).append(',');
+    field(line, name).append(',');
+    field(line, detail).append(',');
+    field(line, outcome).append(',');
+    line.append(cycle).append(',');
+    field(line, Thread.currentThread().getName());
+    if (!queue.offer(line.toString())) {
+      dropped.incrementAndGet();
+    }
+  }
+
+  /**
+   * 기록 스레드를 멈추고 대기열에 남은 구간까지 기록한 뒤 파일을 닫습니다.
+   */
+  void close() {
+    running = false;
+    try {
+      thread.join(TimeUnit.SECONDS.toMillis(5));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void drain() {
+    try (writer) {
+      while (running || !queue.isEmpty()) {
+        String line = queue.poll(200, TimeUnit.MILLISECONDS);
+        if (line == null) {
+          writer.flush();
+          continue;
+        }
+        writer.write(line);
+        writer.newLine();
+      }
+    } catch (IOException e) {
+      ColorfulConsoleOutput.printWithColor("구간 추적 기록 실패: " + e.getMessage(),
+            ColorfulConsoleOutput.YELLOW);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * CSV 구분자와 줄바꿈은 공백으로 바꿉니다.
+   */
+  private static StringBuilder field(StringBuilder line, String value) {
+    if (value == null) {
+      return line;
+    }
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      line.append(c == ',' || c == '\n' || c == '\r' ? ' ' : c);
+    }
+    return line;
+  }
+}
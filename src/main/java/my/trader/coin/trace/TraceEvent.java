@@ -0,0 +1,25 @@
+package my.trader.coin.trace;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * 매매 루프 구간의 JFR 이벤트 공통 필드. 시작/종료 시각은 JFR 이 기록합니다.
+ * 녹화 중이 아니면 {@link Tracer} 가 이벤트 객체를 만들지 않습니다.
+ */
+@Category({"Trader"})
+@StackTrace(false)
+abstract class TraceEvent extends jdk.jfr.Event {
+  @Label("Name")
+  String name;
+
+  @Label("Detail")
+  String detail;
+
+  @Label("Outcome")
+  String outcome;
+
+  @Label("Cycle")
+  long cycle;
+}
@@ -0,0 +1,37 @@
+package my.trader.coin.trace;
+
+import java.util.function.Supplier;
+import jdk.jfr.EventType;
+
+/**
+ * 추적 구간 종류와 대응하는 JFR 이벤트.
+ */
+public enum TraceKind {
+  // 스케줄러 사이클 구간
+  CYCLE_PHASE(CyclePhaseEvent.class, CyclePhaseEvent::new),
+  // 업비트 API 호출
+  UPBIT_API(UpbitApiEvent.class, UpbitApiEvent::new),
+  // 종목별 신호 판단
+  SIGNAL(SignalEvaluationEvent.class, SignalEvaluationEvent::new),
+  // 주문 접수
+  ORDER(OrderSubmissionEvent.class, OrderSubmissionEvent::new);
+
+  private final EventType eventType;
+  private final Supplier<TraceEvent> factory;
+
+  TraceKind(Class<? extends TraceEvent> eventClass, Supplier<TraceEvent> factory) {
+    this.eventType = EventType.getEventType(eventClass);
+    this.factory = factory;
+  }
+
+  /**
+   * 이 종류의 JFR 이벤트를 기록 중인 녹화가 있는지 여부.
+   */
+  boolean isRecording() {
+    return eventType.isEnabled();
+  }
+
+  TraceEvent newEvent() {
+    return factory.get();
+  }
+}
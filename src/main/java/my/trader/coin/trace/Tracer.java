@@ -0,0 +1,115 @@
+package my.trader.coin.trace;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import my.trader.coin.config.AppConfig;
+import my.trader.coin.enums.ColorfulConsoleOutput;
+
+/**
+ * 매매 루프 구간 추적.
+ * 사용 예:
+ * <pre>
+ * try (Span span = Tracer.start(TraceKind.UPBIT_API, "GET_TICKER")) {
+ *   ...
+ * }
+ * </pre>
+ * 구간은 두 곳으로 기록됩니다.
+ * <ul>
+ *   <li>JDK Flight Recorder: 녹화 중일 때만 기록 (ex: jcmd {pid} JFR.start name=trader
+ *       filename=trader.jfr). 이벤트는 JMC 의 Trader 분류에서 확인합니다.</li>
+ *   <li>파일 내보내기: {@link #enable} 이후 {@link SpanFileExporter} 가 CSV 로 기록.</li>
+ * </ul>
+ * 둘 다 꺼져 있으면 {@link #start} 는 종류별 녹화 여부와 플래그만 확인하고 공용 인스턴스를 반환합니다.
+ */
+public final class Tracer {
+  private static volatile SpanFileExporter exporter;
+  // 현재 스케줄러 사이클 번호 (구간을 사이클별로 묶는 용도)
+  private static volatile long cycle;
+
+  static {
+    if (AppConfig.traceEnabled) {
+      enable(Path.of(AppConfig.traceDirectory));
+    }
+  }
+
+  private Tracer() {
+  }
+
+  /**
+   * 구간을 시작합니다.
+   *
+   * @param kind 구간 종류
+   * @param name 구간 이름 (ex: UpbitApi 이름, 사이클 구간 이름)
+   * @return 구간 (추적이 꺼져 있으면 아무 일도 하지 않는 공용 인스턴스)
+   */
+  public static Span start(TraceKind kind, String name) {
+    boolean recording = kind.isRecording();
+    boolean exporting = exporter != null;
+    if (!recording && !exporting) {
+      return Span.DISABLED;
+    }
+    return new Span(kind, name, recording ? kind.newEvent() : null, cycle, exporting);
+  }
+
+  /**
+   * 새 스케줄러 사이클 번호를 부여합니다. 이후 시작하는 구간은 이 번호로 묶입니다.
+   *
+   * @return 사이클 번호
+   */
+  public static long nextCycle() {
+    return ++cycle;
+  }
+
+  /**
+   * 파일 내보내기를 시작합니다. 이미 켜져 있으면 그대로 둡니다.
+   *
+   * @param directory 추적 파일 디렉터리
+   * @return 기록 중인 파일
+   */
+  public static synchronized Path enable(Path directory) {
+    if (exporter == null) {
+      try {
+        exporter = new SpanFileExporter(directory, AppConfig.traceQueueSize);
+      } catch (IOException e) {
+        throw new IllegalStateException("추적 파일을 열 수 없습니다: " + directory, e);
+      }
+      ColorfulConsoleOutput.printWithColor("구간 추적 기록 시작: " + exporter.getFile(),
+            ColorfulConsoleOutput.GREEN);
+    }
+    return exporter.getFile();
+  }
+
+  /**
+   * 파일 내보내기를 멈추고 남은 구간을 기록한 뒤 파일을 닫습니다.
+   *
+   * @return 버려진 구간 수 (대기열이 가득 차서 기록하지 못한 수)
+   */
+  public static synchronized long disable() {
+    SpanFileExporter current = exporter;
+    if (current == null) {
+      return 0;
+    }
+    exporter = null;
+    current.close();
+    ColorfulConsoleOutput.printWithColor(
+          String.format("구간 추적 기록 종료: %s (버림 %d건)", current.getFile(),
+                current.getDropped()), ColorfulConsoleOutput.GREEN);
+    return current.getDropped();
+  }
+
+  /**
+   * 파일 내보내기 중인 파일 (꺼져 있으면 null).
+   */
+  public static Path exportFile() {
+    SpanFileExporter current = exporter;
+    return current == null ? null : current.getFile();
+  }
+
+  static void export(long startMillis, long durationMicros, TraceKind kind, String name,
+                     String detail, String outcome, long cycle) {
+    SpanFileExporter current = exporter;
+    if (current != null) {
+      current.offer(startMillis, durationMicros, kind, name, detail, outcome, cycle);
+    }
+  }
+}
@@ -0,0 +1,12 @@
+package my.trader.coin.trace;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 업비트 API 호출 1건. name 은 UpbitApi 이름입니다.
+ */
+@Name("my.trader.UpbitApi")
+@Label("Upbit API Call")
+class UpbitApiEvent extends TraceEvent {
+}
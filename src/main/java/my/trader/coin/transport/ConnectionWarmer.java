@@ -0,0 +1,107 @@
+package my.trader.coin.transport;
+
+import jakarta.annotation.PreDestroy;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import my.trader.coin.config.AppConfig;
+import my.trader.coin.enums.ColorfulConsoleOutput;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 매매 사이클 예정 시각 직전에 업비트 API 커넥션을 미리 맺어 둡니다.
+ * 주기가 부하에 따라 바뀌므로 {@link my.trader.coin.scheduler.TradingLoop} 가 다음 사이클을 예약할 때
+ * {@link #warmUpBefore(long)} 로 예열 시각을 함께 예약하며, 예열은 전용 스레드에서 실행되어
+ * Spring 공용 스케줄러를 막지 않습니다.
+ * 주기 첫 요청이 DNS 조회, TCP 연결, TLS 협상을 기다리지 않도록 가벼운 현재가 조회를 동시에 보내
+ * 커넥션 풀에 커넥션을 채웁니다. HTTP/2 로 협상되면 하나의 커넥션을 모든 요청이 공유합니다.
+ */
+@Component
+public class ConnectionWarmer {
+  private final WebClient webClient;
+  private final TransportTimings transportTimings;
+  private final ScheduledExecutorService executor;
+  // 예약된 다음 예열 (새 사이클이 예약되면 취소)
+  private final AtomicReference<ScheduledFuture<?>> pending = new AtomicReference<>();
+
+  /**
+   * this is constructor.
+   *
+   * @param webClientBuilder ExternalUtility 와 같은 커넥션 풀을 사용하는 WebClient.Builder
+   * @param transportTimings TransportTimings
+   */
+  public ConnectionWarmer(WebClient.Builder webClientBuilder, TransportTimings transportTimings) {
+    this.webClient = webClientBuilder.build();
+    this.transportTimings = transportTimings;
+    this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "connection-warmer");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * 사이클 예정 시각보다 {@code http.warmup.lead.ms} 앞서 예열을 예약합니다.
+   * 앞서 예약된 예열은 취소하며, 예열할 시간이 없으면(밀린 사이클 즉시 실행) 예약하지 않습니다.
+   *
+   * @param due 사이클 예정 시각 (epoch ms)
+   */
+  public void warmUpBefore(long due) {
+    long delay = due - AppConfig.httpWarmupLeadMillis - System.currentTimeMillis();
+    ScheduledFuture<?> next = delay < 0 ? null
+          : executor.schedule(this::warmUp, delay, TimeUnit.MILLISECONDS);
+    ScheduledFuture<?> previous = pending.getAndSet(next);
+    if (previous != null) {
+      previous.cancel(false);
+    }
+  }
+
+  @PreDestroy
+  public void close() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * 직전 주기의 구간별 지연을 출력하고 커넥션을 미리 맺습니다.
+   */
+  public void warmUp() {
+    transportTimings.report();
+
+    int connections = AppConfig.httpWarmupConnections;
+    if (connections <= 0) {
+      return;
+    }
+
+    URI uri = UriComponentsBuilder.fromHttpUrl(AppConfig.upbitApiBaseUrl + "/v1/ticker")
+          .queryParam("markets", "KRW-BTC")
+          .build()
+          .toUri();
+
+    // 동시에 보내야 HTTP/1.1 에서 커넥션이 connections 개 만큼 생성됨
+    try {
+      Flux.range(0, connections)
+            .flatMap(i -> webClient.get()
+                  .uri(uri)
+                  .retrieve()
+                  .toBodilessEntity()
+                  .onErrorResume(e -> {
+                    ColorfulConsoleOutput.printWithColor("커넥션 예열 실패: " + e.getMessage(),
+                          ColorfulConsoleOutput.YELLOW);
+                    return Mono.empty();
+                  }), connections)
+            .then()
+            .block(Duration.ofSeconds(5));
+    } catch (IllegalStateException e) {
+      // 예열이 늦어져도 주기 실행은 막지 않음
+      ColorfulConsoleOutput.printWithColor("커넥션 예열 시간 초과", ColorfulConsoleOutput.YELLOW);
+    }
+  }
+}
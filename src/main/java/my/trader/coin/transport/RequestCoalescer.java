@@ -0,0 +1,145 @@
+package my.trader.coin.transport;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import my.trader.coin.config.AppConfig;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+/**
+ * 시세 조회 요청 병합(single-flight) 및 단기 결과 캐시.
+ * 같은 (endpoint, 파라미터) 요청이 동시에 들어오면 진행 중인 하나의 Mono 를 공유하고,
+ * 완료된 결과는 {@link AppConfig#quotationCacheMillis} 동안 재사용합니다.
+ * 호출자가 결과를 정렬하는 등 변경할 수 있으므로 리스트는 매번 복사하여 돌려줍니다.
+ */
+@Component
+public class RequestCoalescer {
+  // 만료 항목 정리를 시작하는 항목 수
+  private static final int PURGE_THRESHOLD = 1024;
+
+  private final Map<String, Flight> flights = new ConcurrentHashMap<>();
+  private final Counter hits;
+  private final Counter merges;
+  private final Counter misses;
+
+  /**
+   * this is constructor.
+   *
+   * @param meterRegistry 캐시/병합 지표 기록용 MeterRegistry
+   */
+  public RequestCoalescer(MeterRegistry meterRegistry) {
+    this.hits = requestCounter(meterRegistry, "hit");
+    this.merges = requestCounter(meterRegistry, "merged");
+    this.misses = requestCounter(meterRegistry, "miss");
+    Gauge.builder("trader.quotation.coalesced.ratio", this, RequestCoalescer::coalescedRatio)
+          .description("HTTP 호출 없이 처리된 시세 조회 비율")
+          .register(meterRegistry);
+  }
+
+  private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("trader.quotation.requests")
+          .tag("result", result)
+          .register(meterRegistry);
+  }
+
+  /**
+   * 요청 키. 쿼리 파라미터를 이름순으로 정렬하여 파라미터 순서가 달라도 같은 키가 되도록 합니다.
+   *
+   * @param uri          요청 uri
+   * @param responseType 응답 타입
+   * @return 키
+   */
+  public static String keyOf(URI uri, Class<?> responseType) {
+    StringBuilder key = new StringBuilder(responseType.getName())
+          .append(' ').append(uri.getHost()).append(uri.getPath());
+    UriComponentsBuilder.fromUri(uri).build().getQueryParams().entrySet().stream()
+          .sorted(Map.Entry.comparingByKey())
+          .forEach(param -> key.append('&').append(param.getKey()).append('=')
+                .append(param.getValue()));
+    return key.toString();
+  }
+
+  /**
+   * 진행 중이거나 캐시된 결과가 있으면 공유하고, 없으면 fetch 로 새로 조회합니다.
+   * 실패한 조회는 캐시하지 않으며, 함께 기다리던 요청에는 같은 예외가 전달됩니다.
+   *
+   * @param key   요청 키
+   * @param fetch 실제 조회
+   * @param <T>   응답 타입
+   * @return 조회 결과 복사본
+   */
+  @SuppressWarnings("unchecked")
+  public <T> List<T> get(String key, Supplier<Mono<List<T>>> fetch) {
+    long now = System.nanoTime();
+    long ttlNanos = AppConfig.quotationCacheMillis * 1_000_000L;
+    Flight[] created = new Flight[1];
+
+    Flight flight = flights.compute(key, (k, existing) -> {
+      if (existing != null && existing.isReusable(now, ttlNanos)) {
+        return existing;
+      }
+      Flight fresh = new Flight();
+      fresh.result = fetch.get()
+            .<List<?>>map(list -> list)
+            .doOnSuccess(list -> fresh.completedAt = System.nanoTime())
+            .doOnError(e -> flights.remove(k, fresh))
+            .cache();
+      created[0] = fresh;
+      return fresh;
+    });
+
+    if (created[0] != null) {
+      misses.increment();
+      if (flights.size() > PURGE_THRESHOLD) {
+        flights.values().removeIf(entry -> !entry.isReusable(now, ttlNanos));
+      }
+    } else if (flight.completedAt == 0) {
+      merges.increment();
+    } else {
+      hits.increment();
+    }
+
+    List<?> result = flight.result.block();
+    return result == null ? null : new ArrayList<>((List<T>) result);
+  }
+
+  public double getHitCount() {
+    return hits.count();
+  }
+
+  public double getMergeCount() {
+    return merges.count();
+  }
+
+  public double getMissCount() {
+    return misses.count();
+  }
+
+  /**
+   * HTTP 호출 없이 처리된 (캐시 적중 + 병합) 요청 비율.
+   */
+  public double coalescedRatio() {
+    double total = hits.count() + merges.count() + misses.count();
+    return total == 0 ? 0 : (hits.count() + merges.count()) / total;
+  }
+
+  /**
+   * 하나의 조회. completedAt 이 0 이면 진행 중입니다.
+   */
+  private static class Flight {
+    private Mono<List<?>> result;
+    private volatile long completedAt;
+
+    boolean isReusable(long now, long ttlNanos) {
+      return completedAt == 0 || now - completedAt < ttlNanos;
+    }
+  }
+}
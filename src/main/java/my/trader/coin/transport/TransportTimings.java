@@ -0,0 +1,75 @@
+package my.trader.coin.transport;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import my.trader.coin.enums.ColorfulConsoleOutput;
+import org.springframework.stereotype.Component;
+
+/**
+ * HTTP 요청 지연을 DNS 조회, TCP 연결, TLS 협상, 첫 바이트 수신(TTFB), 응답 완료 구간으로 나누어 집계합니다.
+ * reactor-netty 가 기록한 지표와 WebClient 필터가 기록한 TTFB 를 직전 보고 이후 증가분으로 출력합니다.
+ */
+@Component
+public class TransportTimings {
+  // WebClient 필터가 기록하는 TTFB 지표 이름
+  public static final String FIRST_BYTE_METER = "trader.http.client.ttfb";
+
+  // 구간 이름 → 지표 이름
+  private static final Map<String, String> PHASES = new LinkedHashMap<>();
+
+  static {
+    PHASES.put("dns", "reactor.netty.http.client.address.resolver");
+    PHASES.put("connect", "reactor.netty.http.client.connect.time");
+    PHASES.put("tls", "reactor.netty.http.client.tls.handshake.time");
+    PHASES.put("ttfb", FIRST_BYTE_METER);
+    PHASES.put("response", "reactor.netty.http.client.response.time");
+  }
+
+  private final MeterRegistry meterRegistry;
+  // 구간별 직전 보고 시점의 (건수, 누적 나노초)
+  private final Map<String, long[]> previous = new LinkedHashMap<>();
+
+  public TransportTimings(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * 직전 보고 이후 구간별 건수와 평균/최대 지연을 출력합니다.
+   * 새 커넥션이 없었다면 dns/connect/tls 건수가 0 이므로 커넥션 재사용 여부도 확인할 수 있습니다.
+   */
+  public synchronized void report() {
+    StringBuilder line = new StringBuilder("전송 구간별 지연");
+    boolean recorded = false;
+    for (Map.Entry<String, String> phase : PHASES.entrySet()) {
+      long count = 0;
+      long totalNanos = 0;
+      double maxMillis = 0;
+      for (Timer timer : meterRegistry.find(phase.getValue()).timers()) {
+        count += timer.count();
+        totalNanos += (long) timer.totalTime(TimeUnit.NANOSECONDS);
+        maxMillis = Math.max(maxMillis, timer.max(TimeUnit.MILLISECONDS));
+      }
+
+      long[] last = previous.computeIfAbsent(phase.getKey(), key -> new long[2]);
+      long deltaCount = count - last[0];
+      long deltaNanos = totalNanos - last[1];
+      last[0] = count;
+      last[1] = totalNanos;
+
+      if (deltaCount > 0) {
+        recorded = true;
+        line.append(String.format(" | %s %d건 평균 %.1fms 최대 %.1fms", phase.getKey(), deltaCount,
+              deltaNanos / 1e6 / deltaCount, maxMillis));
+      } else {
+        line.append(String.format(" | %s 0건", phase.getKey()));
+      }
+    }
+
+    if (recorded) {
+      ColorfulConsoleOutput.printWithColor(line.toString(), ColorfulConsoleOutput.CYAN);
+    }
+  }
+}
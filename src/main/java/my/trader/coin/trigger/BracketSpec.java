@@ -0,0 +1,13 @@
+package my.trader.coin.trigger;
+
+/**
+ * 포지션 1개에 거는 조건부 주문 묶음(bracket) 설정. 기준가는 평균 매수가에 곱하는 배수입니다.
+ *
+ * @param stopMultiplier        손절 기준가 배수 (0 이면 사용 안함)
+ * @param trailingRatio         추적 손절 비율, 최고가 * (1 - 비율) 이하면 발동 (0 이면 사용 안함)
+ * @param takeProfitMultipliers 익절 단계별 기준가 배수 (오름차순)
+ * @param takeProfitFractions   익절 단계별 매도 비율 (보유 수량 기준, 마지막 단계는 남은 수량 전부)
+ */
+record BracketSpec(double stopMultiplier, double trailingRatio, double[] takeProfitMultipliers,
+                   double[] takeProfitFractions) {
+}
@@ -0,0 +1,423 @@
+package my.trader.coin.trigger;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import my.trader.coin.config.AppConfig;
+import my.trader.coin.dto.exchange.AccountResponseDto;
+import my.trader.coin.dto.exchange.CancelOrderResponseDto;
+import my.trader.coin.dto.exchange.OpenOrderResponseDto;
+import my.trader.coin.dto.quotation.TickerResponseDto;
+import my.trader.coin.enums.ColorfulConsoleOutput;
+import my.trader.coin.enums.UpbitType;
+import my.trader.coin.journal.TradeJournal;
+import my.trader.coin.market.MarketRegistry;
+import my.trader.coin.market.MarketStateTable;
+import my.trader.coin.order.OrderDispatcher;
+import my.trader.coin.order.OrderNormalizer;
+import my.trader.coin.order.OrderPriority;
+import my.trader.coin.orderbook.OrderBookManager;
+import my.trader.coin.service.UpbitService;
+import my.trader.coin.strategy.SignalThresholdTable;
+import my.trader.coin.strategy.SignalThresholds;
+import my.trader.coin.timer.DeadlineScheduler;
+import my.trader.coin.trace.Span;
+import my.trader.coin.trace.TraceKind;
+import my.trader.coin.trace.Tracer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 보유 종목별 조건부 주문(손절, 추적 손절, 익절 단계, OCO 묶음) 엔진.
+ * 매 사이클 계좌 조회 결과로 종목마다 {@link TriggerBook} 을 걸고, 현재가가 들어올 때마다(사이클 중 조회한 현재가와
+ * {@code trigger.poll.ms} 주기의 보유 종목 현재가) 해당 종목 묶음에서 가격이 넘은 조건만 꺼내 평가합니다.
+ * 발동한 조건은 바로 {@link OrderDispatcher} 에 매도 의도로 넣으며, 손절은 익절보다 높은 우선순위로 발송됩니다.
+ * <ul>
+ *   <li>묶음은 종목 선정 목록과 관계없이 모든 보유 종목에 걸고, 미체결 매도에 묶인 수량(locked) 까지 보유로 봅니다.</li>
+ *   <li>발동 시에는 아직 매도 주문을 내지 않은 수량(balance) 만 팝니다. 손절/추적 손절은 거래소에 걸린 익절 단계
+ *       매도 주문을 먼저 취소하고, 취소로 풀린 수량을 더해 팝니다.</li>
+ *   <li>재시작 후 처음 거는 묶음은 그 종목의 미체결 매도 주문을 익절 단계 주문으로 넘겨받습니다.</li>
+ *   <li>손절/추적 손절은 현재가를 호가 단위로 내림한 가격, 익절은 호가창 기준 매도 가격으로 주문합니다.</li>
+ *   <li>지표: trader.trigger.fired{type}, trader.trigger.armed</li>
+ * </ul>
+ */
+@Component
+public class ConditionalOrderEngine {
+  private final OrderDispatcher orderDispatcher;
+  private final OrderBookManager orderBookManager;
+  private final DeadlineScheduler deadlineScheduler;
+  private final MarketRegistry marketRegistry;
+  private final MarketStateTable marketStateTable;
+  private final SignalThresholdTable signalThresholdTable;
+  private final UpbitService upbitService;
+  private final TradeJournal tradeJournal;
+
+  // 마켓코드 -> 조건부 주문 묶음
+  private final Map<String, TriggerBook> books = new ConcurrentHashMap<>();
+  // 익절 단계 설정 (수익률 %, 매도 비율). 비어 있으면 신호 기준값 익절율에서 전량 매도
+  private final double[] ladderPercents;
+  private final double[] ladderFractions;
+  // 마지막으로 묶음 설정을 만든 신호 기준값 (스케줄러 스레드에서만 사용)
+  private SignalThresholds specThresholds;
+  private BracketSpec spec;
+
+  private final Map<TriggerType, Counter> fired = new EnumMap<>(TriggerType.class);
+  private ScheduledExecutorService poller;
+
+  /**
+   * this is constructor. 보유 종목 현재가 조회 주기가 설정되어 있으면 조회 스레드를 시작합니다.
+   *
+   * @param orderDispatcher      OrderDispatcher
+   * @param orderBookManager     OrderBookManager
+   * @param deadlineScheduler    DeadlineScheduler
+   * @param marketRegistry       MarketRegistry
+   * @param marketStateTable     MarketStateTable
+   * @param signalThresholdTable SignalThresholdTable
+   * @param upbitService         UpbitService
+   * @param tradeJournal         TradeJournal
+   * @param meterRegistry        MeterRegistry
+   */
+  public ConditionalOrderEngine(OrderDispatcher orderDispatcher,
+                                OrderBookManager orderBookManager,
+                                DeadlineScheduler deadlineScheduler,
+                                MarketRegistry marketRegistry,
+                                MarketStateTable marketStateTable,
+                                SignalThresholdTable signalThresholdTable,
+                                UpbitService upbitService,
+                                TradeJournal tradeJournal,
+                                MeterRegistry meterRegistry) {
+    this.orderDispatcher = orderDispatcher;
+    this.orderBookManager = orderBookManager;
+    this.deadlineScheduler = deadlineScheduler;
+    this.marketRegistry = marketRegistry;
+    this.marketStateTable = marketStateTable;
+    this.signalThresholdTable = signalThresholdTable;
+    this.upbitService = upbitService;
+    this.tradeJournal = tradeJournal;
+
+    double[][] ladder = parseLadder(AppConfig.triggerTakeProfitLadder);
+    this.ladderPercents = ladder[0];
+    this.ladderFractions = ladder[1];
+
+    for (TriggerType type : TriggerType.values()) {
+      fired.put(type, Counter.builder("trader.trigger.fired")
+            .description("발동하여 매도 주문을 낸 조건부 주문 수")
+            .tag("type", type.getTag())
+            .register(meterRegistry));
+    }
+    Gauge.builder("trader.trigger.armed", books, Map::size)
+          .description("조건부 주문이 걸린 종목 수")
+          .register(meterRegistry);
+
+    if (AppConfig.triggerEnabled && AppConfig.triggerPollMillis > 0) {
+      poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "trigger-price-poll");
+        thread.setDaemon(true);
+        return thread;
+      });
+      poller.scheduleWithFixedDelay(this::poll, AppConfig.triggerPollMillis,
+            AppConfig.triggerPollMillis, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  public boolean isEnabled() {
+    return AppConfig.triggerEnabled;
+  }
+
+  /**
+   * 계좌 조회 결과로 종목별 묶음을 걸거나 맞춥니다. 보유하지 않게 된 종목의 묶음은 제거합니다.
+   * 스케줄러 스레드에서 호출합니다.
+   *
+   * @param accounts 계좌 정보
+   */
+  public void synchronize(List<AccountResponseDto> accounts) {
+    if (!isEnabled()) {
+      return;
+    }
+    SignalThresholds thresholds = signalThresholdTable.current();
+    BracketSpec current = specOf(thresholds);
+
+    Set<String> held = new HashSet<>();
+    for (AccountResponseDto account : accounts) {
+      if ("KRW".equals(account.getCurrency())) {
+        continue;
+      }
+      String market = account.getUnitCurrency() + "-" + account.getCurrency();
+      double balance = account.getBalance() == null ? 0 : account.getBalance();
+      double locked = account.getLocked() == null ? 0 : account.getLocked();
+      double average = account.getAvgBuyPrice() == null ? 0 : account.getAvgBuyPrice();
+      // 미체결 매도에 묶인 수량도 보유 수량. 최소 주문 금액 이하 종목은 매도할 수 없음
+      double position = balance + locked;
+      if (position * average <= thresholds.getMinSellableAmount()) {
+        continue;
+      }
+
+      TriggerBook book = books.get(market);
+      if (book == null) {
+        book = new TriggerBook(market);
+        // 재시작 전에 낸 매도 주문이 남아 있으면 손절 시 함께 취소하도록 넘겨받음
+        if (locked > 0) {
+          adoptOpenAsks(book, market);
+        }
+        books.put(market, book);
+      }
+      held.add(market);
+
+      boolean armed;
+      String summary = null;
+      synchronized (book) {
+        armed = book.synchronize(average, position, balance, current, AppConfig.minOrderAmount);
+        if (armed) {
+          summary = String.format("손절 %s, 추적 손절 %s, 익절 %s",
+                book.levels(TriggerType.STOP_LOSS), book.levels(TriggerType.TRAILING_STOP),
+                book.levels(TriggerType.TAKE_PROFIT));
+        }
+      }
+      if (armed) {
+        ColorfulConsoleOutput.printWithColor(
+              String.format("[%s] 조건부 주문 설정 (평균 매수가 %s, 수량 %s): %s", market, average,
+                    position, summary),
+              ColorfulConsoleOutput.PURPLE);
+      }
+    }
+    books.keySet().removeIf(market -> !held.contains(market));
+  }
+
+  /**
+   * 묶음이 걸린 종목 목록.
+   */
+  public List<String> armedMarkets() {
+    return new ArrayList<>(books.keySet());
+  }
+
+  /**
+   * 현재가 목록으로 조건을 평가합니다.
+   *
+   * @param tickers 현재가 정보
+   */
+  public void onTickers(List<TickerResponseDto> tickers) {
+    if (tickers == null) {
+      return;
+    }
+    for (TickerResponseDto ticker : tickers) {
+      if (ticker.getTradePrice() != null) {
+        onPrice(ticker.getMarket(), ticker.getTradePrice());
+      }
+    }
+  }
+
+  /**
+   * 현재가 1건으로 해당 종목 묶음을 평가하고, 발동하면 매도 의도를 넣습니다.
+   *
+   * @param market 마켓코드
+   * @param price  현재가
+   */
+  public void onPrice(String market, double price) {
+    TriggerBook book = books.get(market);
+    if (book == null || !(price > 0)) {
+      return;
+    }
+    TriggerFire fire;
+    synchronized (book) {
+      fire = book.evaluate(price);
+    }
+    if (fire != null) {
+      submit(market, price, fire);
+    }
+  }
+
+  @PreDestroy
+  public void close() {
+    if (poller != null) {
+      poller.shutdownNow();
+    }
+  }
+
+  private void poll() {
+    if (books.isEmpty()) {
+      return;
+    }
+    try {
+      onTickers(upbitService.getTicker(armedMarkets()));
+    } catch (RuntimeException e) {
+      ColorfulConsoleOutput.printWithColor("조건부 주문 현재가 조회 실패: " + e.getMessage(),
+            ColorfulConsoleOutput.YELLOW);
+    }
+  }
+
+  private void submit(String market, double price, TriggerFire fire) {
+    TriggerType type = fire.type();
+    try (Span span = Tracer.start(TraceKind.SIGNAL, "trigger").detail(market)) {
+      span.outcome(type.name());
+      // 손절은 바로 체결되도록 현재가를 호가 단위로 내리고, 익절은 호가창 기준으로 선택
+      double orderPrice = type.isStop()
+            ? OrderNormalizer.normalizePrice(market, price, false)
+            : orderBookManager.selectAskPrice(market, price, fire.quantity());
+      tradeJournal.recordSignal(market, type.getSignal().ordinal(), price, fire.level(),
+            fire.quantity(), orderPrice);
+
+      if (fire.cancels().isEmpty()) {
+        sell(market, type, orderPrice, fire.level(), fire.quantity());
+        return;
+      }
+
+      // 거래소에 걸린 익절 단계 매도 주문을 먼저 취소하고, 취소로 풀린 수량까지 매도
+      // (취소는 발송 대기열에서 손절보다 먼저 나가며, 매도는 모든 취소 결과가 나온 뒤 넣음)
+      List<CompletableFuture<CancelOrderResponseDto>> cancels = new ArrayList<>();
+      for (String uuid : fire.cancels()) {
+        cancels.add(orderDispatcher.submitCancel(market, uuid));
+      }
+      CompletableFuture.allOf(cancels.toArray(CompletableFuture[]::new)).thenRun(() -> {
+        double released = 0;
+        for (CompletableFuture<CancelOrderResponseDto> cancel : cancels) {
+          // 이미 체결되었거나 취소된 주문은 null (풀린 수량 없음)
+          CancelOrderResponseDto result = cancel.join();
+          if (result != null) {
+            deadlineScheduler.forgetOrder(result.getUuid());
+            released += result.getRemainingVolume() == null ? 0 : result.getRemainingVolume();
+          }
+        }
+        sell(market, type, orderPrice, fire.level(), fire.quantity() + released);
+      });
+    }
+  }
+
+  /**
+   * 발동한 조건의 매도 의도를 넣습니다. 익절 단계 매도 주문은 묶음에 기록하여 손절 시 취소합니다.
+   */
+  private void sell(String market, TriggerType type, double orderPrice, double level,
+                    double quantity) {
+    // 매도금액은 최소주문 금액보다 많아야 처리 가능(업비트 정책)
+    if (!(orderPrice * quantity >= AppConfig.minOrderAmount)) {
+      ColorfulConsoleOutput.printWithColor(
+            String.format("[%s] %s 발동, 최소 주문 금액 미만으로 매도 생략: %s x %s", market,
+                  type.getTag(), orderPrice, quantity),
+            ColorfulConsoleOutput.YELLOW);
+      return;
+    }
+    fired.get(type).increment();
+
+    // 매도 주문 가격은 다음 계좌 갱신 전에 기록되도록 접수 시점에 기록
+    int marketId = marketRegistry.idOf(market);
+    if (marketId != MarketRegistry.UNKNOWN) {
+      marketStateTable.markAskPrice(marketId, orderPrice);
+    }
+    // 발동마다 묶음의 서로 다른 수량이므로 앞서 발동한 수량과 합쳐지도록 누적 주문으로 넣음
+    orderDispatcher.submitIncrement(OrderPriority.of(type.getSignal()), market,
+          UpbitType.ORDER_SIDE_ASK.getType(), orderPrice, quantity).thenAccept(result -> {
+            if (result == null) {
+              return;
+            }
+            deadlineScheduler.watchOrder(market, result.getUuid());
+            TriggerBook book = books.get(market);
+            if (type == TriggerType.TAKE_PROFIT && book != null) {
+              synchronized (book) {
+                book.trackOrder(result.getUuid());
+              }
+            }
+            ColorfulConsoleOutput.printWithColor(
+                  String.format("[%s] %s 발동 매도 주문: %s x %s (기준가 %s)", market,
+                        type.getTag(), orderPrice, quantity, level),
+                  ColorfulConsoleOutput.BLUE);
+          });
+  }
+
+  /**
+   * 종목의 미체결 매도 주문을 묶음의 익절 단계 주문으로 넘겨받습니다. 조회에 실패하면 넘겨받지 않습니다.
+   */
+  private void adoptOpenAsks(TriggerBook book, String market) {
+    try {
+      List<OpenOrderResponseDto> openOrders = upbitService.getOpenOrders(market);
+      if (openOrders == null) {
+        return;
+      }
+      for (OpenOrderResponseDto order : openOrders) {
+        if (UpbitType.ORDER_SIDE_ASK.getType().equals(order.getSide())) {
+          book.trackOrder(order.getUuid());
+        }
+      }
+    } catch (RuntimeException e) {
+      ColorfulConsoleOutput.printWithColor(
+            String.format("[%s] 미체결 매도 주문 조회 실패: %s", market, e.getMessage()),
+            ColorfulConsoleOutput.YELLOW);
+    }
+  }
+
+  /**
+   * 신호 기준값이 바뀌었을 때만 묶음 설정을 새로 만듭니다. (설정이 바뀐 묶음은 다음 동기화에서 다시 걸림)
+   * 손절/익절 기준가 배수는 수수료를 반영합니다: 평균 매수가 * (수수료율 -/+ 수익률 / 100).
+   */
+  private BracketSpec specOf(SignalThresholds thresholds) {
+    if (thresholds == specThresholds) {
+      return spec;
+    }
+    double stopMultiplier = AppConfig.triggerStopLossPercent > 0
+          ? AppConfig.exchangeFeeRatio - AppConfig.triggerStopLossPercent / 100 : 0;
+    double trailingRatio = Math.max(0, AppConfig.triggerTrailingPercent) / 100;
+
+    double[] multipliers;
+    double[] fractions;
+    if (ladderPercents.length == 0) {
+      multipliers = new double[] {thresholds.getTakeProfitMultiplier()};
+      fractions = new double[] {1};
+    } else {
+      multipliers = new double[ladderPercents.length];
+      for (int i = 0; i < multipliers.length; i++) {
+        multipliers[i] = AppConfig.exchangeFeeRatio + ladderPercents[i] / 100;
+      }
+      fractions = ladderFractions;
+    }
+
+    specThresholds = thresholds;
+    spec = new BracketSpec(stopMultiplier, trailingRatio, multipliers, fractions);
+    return spec;
+  }
+
+  /**
+   * 익절 단계 설정 파싱. "수익률%:매도비율" 을 쉼표로 구분하며 수익률 오름차순으로 정렬합니다.
+   *
+   * @param ladder 설정 문자열 (ex: 0.3:0.5,0.6:0.5)
+   * @return [수익률 목록, 매도 비율 목록]
+   */
+  static double[][] parseLadder(String ladder) {
+    if (ladder == null || ladder.isBlank()) {
+      return new double[][] {new double[0], new double[0]};
+    }
+    String[] legs = ladder.split(",");
+    double[][] parsed = new double[legs.length][];
+    for (int i = 0; i < legs.length; i++) {
+      String[] parts = legs[i].trim().split(":");
+      try {
+        double percent = Double.parseDouble(parts[0].trim());
+        double fraction = parts.length > 1 ? Double.parseDouble(parts[1].trim()) : 1;
+        if (parts.length > 2 || !(percent > 0) || !(fraction > 0)) {
+          throw new NumberFormatException(legs[i]);
+        }
+        parsed[i] = new double[] {percent, fraction};
+      } catch (NumberFormatException e) {
+        throw new IllegalArgumentException("익절 단계 설정이 올바르지 않습니다: " + ladder, e);
+      }
+    }
+    Arrays.sort(parsed, (left, right) -> Double.compare(left[0], right[0]));
+
+    double[] percents = new double[parsed.length];
+    double[] fractions = new double[parsed.length];
+    for (int i = 0; i < parsed.length; i++) {
+      percents[i] = parsed[i][0];
+      fractions[i] = parsed[i][1];
+    }
+    return new double[][] {percents, fractions};
+  }
+}
@@ -0,0 +1,264 @@
+package my.trader.coin.trigger;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 종목 1개의 조건부 주문 묶음(bracket). 손절과 익절을 기준가 순으로 정렬된 TreeMap 에 따로 색인하므로,
+ * 현재가 1건 평가는 가격이 넘은 기준가 구간만 꺼내는 O(log n + k) 입니다.
+ * <ul>
+ *   <li>손절/추적 손절: 가격이 기준가 이하면 발동하여 남은 수량 전부를 팔고 나머지 조건을 모두 취소합니다 (OCO).
+ *       거래소에 걸려 있는 익절 단계 매도 주문도 취소 대상으로 넘겨, 취소로 풀린 수량까지 팝니다.</li>
+ *   <li>익절 단계: 가격이 기준가 이상이면 해당 단계 수량을 팔고, 마지막 단계면 남은 수량 전부를 팔고 손절도 취소합니다.</li>
+ *   <li>추적 손절: 가격이 최고가를 넘을 때만 기준가를 올려 다시 색인합니다.</li>
+ * </ul>
+ * 스레드 안전하지 않으므로 {@link ConditionalOrderEngine} 이 묶음마다 동기화합니다.
+ */
+final class TriggerBook {
+  // 수량 비교 허용 오차
+  private static final double EPSILON = 1e-12;
+
+  private final String market;
+  // 기준가 -> 손절/추적 손절 (가격이 기준가 이하로 내려가면 발동)
+  private final TreeMap<Double, List<PriceTrigger>> stops = new TreeMap<>();
+  // 기준가 -> 익절 단계 (가격이 기준가 이상으로 올라가면 발동)
+  private final TreeMap<Double, List<PriceTrigger>> targets = new TreeMap<>();
+  // 추적 손절 (묶음당 최대 1개)
+  private PriceTrigger trailing;
+  private double trailingRatio;
+  // 추적 손절 기준 최고가
+  private double highWater;
+
+  // 묶음을 건 설정과 평균 매수가
+  private BracketSpec spec;
+  private double avgBuyPrice;
+  // 아직 매도 주문을 내지 않은 수량
+  private double remaining;
+  // 남은 익절 단계 수
+  private int takeProfitLegs;
+  // 거래소에 낸 익절 단계 매도 주문 uuid (손절 발동 시 취소). 다시 걸어도 주문은 남아 있으므로 유지
+  private final LinkedHashSet<String> ladderOrders = new LinkedHashSet<>();
+
+  TriggerBook(String market) {
+    this.market = market;
+  }
+
+  String market() {
+    return market;
+  }
+
+  /**
+   * 남은 조건 수.
+   */
+  int size() {
+    int size = takeProfitLegs;
+    for (List<PriceTrigger> level : stops.values()) {
+      size += level.size();
+    }
+    return size;
+  }
+
+  /**
+   * 계좌 기준 보유 정보로 묶음을 맞춥니다.
+   * 처음 보거나, 설정이나 평균 매수가가 바뀌었거나(추가 매수), 매도 주문을 낸 수량보다 매도 가능 수량이 많으면
+   * (미체결 매도 취소, 부분 체결) 다시 겁니다. 익절 단계는 보유 수량 기준으로 나누고 남은 수량은 매도 가능 수량으로
+   * 두므로, 미체결 매도에 묶인 수량은 다시 팔지 않습니다. 그 외에는 남은 수량만 매도 가능 수량 이하로 줄입니다.
+   *
+   * @param avgBuyPrice    평균 매수가
+   * @param position       보유 수량 (미체결 매도에 묶인 수량 포함)
+   * @param balance        매도 가능 수량
+   * @param spec           묶음 설정
+   * @param minOrderAmount 최소 주문금액 (이보다 작은 익절 단계는 다음 단계에 합침)
+   * @return 다시 걸었으면 true
+   */
+  boolean synchronize(double avgBuyPrice, double position, double balance, BracketSpec spec,
+                      double minOrderAmount) {
+    boolean rearm = spec != this.spec
+          || Math.abs(avgBuyPrice - this.avgBuyPrice) > avgBuyPrice * 1e-9
+          || balance > remaining * (1 + 1e-9) + EPSILON;
+    if (rearm) {
+      arm(avgBuyPrice, position, spec, minOrderAmount);
+    }
+    remaining = Math.min(remaining, balance);
+    return rearm;
+  }
+
+  /**
+   * 거래소에 낸 익절 단계 매도 주문을 기록합니다. 손절이 발동하면 취소 대상으로 넘깁니다.
+   * 재시작 후 처음 거는 묶음은 미체결 매도 주문을 이 메서드로 넘겨받습니다.
+   *
+   * @param uuid 주문 uuid
+   */
+  void trackOrder(String uuid) {
+    if (uuid != null) {
+      ladderOrders.add(uuid);
+    }
+  }
+
+  /**
+   * 기록된 익절 단계 매도 주문 uuid (입력 순서).
+   */
+  List<String> trackedOrders() {
+    return new ArrayList<>(ladderOrders);
+  }
+
+  /**
+   * 현재가로 조건을 평가합니다. 발동한 조건은 묶음에서 제거합니다.
+   *
+   * @param price 현재가
+   * @return 발동 결과, 없으면 null
+   */
+  TriggerFire evaluate(double price) {
+    if (remaining <= EPSILON) {
+      return null;
+    }
+
+    // 최고가를 넘으면 추적 손절 기준가를 올림
+    if (trailing != null && price > highWater) {
+      remove(stops, trailing);
+      highWater = price;
+      trailing.level = price * (1 - trailingRatio);
+      add(stops, trailing);
+    }
+
+    // 기준가가 현재가 이상인 손절 전부. 가장 높은 기준가가 가격이 내려오며 처음 넘은 조건
+    NavigableMap<Double, List<PriceTrigger>> crossedStops = stops.tailMap(price, true);
+    if (!crossedStops.isEmpty()) {
+      PriceTrigger first = crossedStops.lastEntry().getValue().get(0);
+      TriggerFire fire =
+            new TriggerFire(first.type, first.level, remaining, true, trackedOrders());
+      ladderOrders.clear();
+      close();
+      return fire;
+    }
+
+    // 기준가가 현재가 이하인 익절 단계 전부를 매도 1건으로 합침
+    NavigableMap<Double, List<PriceTrigger>> crossedTargets = targets.headMap(price, true);
+    if (crossedTargets.isEmpty()) {
+      return null;
+    }
+    double quantity = 0;
+    double level = 0;
+    for (List<PriceTrigger> legs : crossedTargets.values()) {
+      for (PriceTrigger leg : legs) {
+        quantity += leg.quantity;
+        level = leg.level;
+        takeProfitLegs--;
+      }
+    }
+    crossedTargets.clear();
+
+    if (takeProfitLegs == 0 || quantity >= remaining - EPSILON) {
+      TriggerFire fire =
+            new TriggerFire(TriggerType.TAKE_PROFIT, level, remaining, true, List.of());
+      close();
+      return fire;
+    }
+    remaining -= quantity;
+    return new TriggerFire(TriggerType.TAKE_PROFIT, level, quantity, false, List.of());
+  }
+
+  /**
+   * 남은 조건의 기준가 (상태 출력용).
+   *
+   * @param type 조건 종류
+   * @return 기준가 목록 (오름차순)
+   */
+  List<Double> levels(TriggerType type) {
+    List<Double> levels = new ArrayList<>();
+    TreeMap<Double, List<PriceTrigger>> index = type.isStop() ? stops : targets;
+    index.forEach((level, triggers) -> {
+      for (PriceTrigger trigger : triggers) {
+        if (trigger.type == type) {
+          levels.add(level);
+        }
+      }
+    });
+    return levels;
+  }
+
+  double remaining() {
+    return remaining;
+  }
+
+  private void arm(double avgBuyPrice, double position, BracketSpec spec, double minOrderAmount) {
+    // 같은 매수 건이면 추적 손절 최고가를 이어감
+    double previousHigh = Math.abs(avgBuyPrice - this.avgBuyPrice) <= avgBuyPrice * 1e-9
+          ? highWater : 0;
+    close();
+    this.spec = spec;
+    this.avgBuyPrice = avgBuyPrice;
+    this.remaining = position;
+
+    if (spec.stopMultiplier() > 0) {
+      add(stops, new PriceTrigger(TriggerType.STOP_LOSS, avgBuyPrice * spec.stopMultiplier(), 0));
+    }
+    if (spec.trailingRatio() > 0) {
+      trailingRatio = spec.trailingRatio();
+      highWater = Math.max(avgBuyPrice, previousHigh);
+      trailing = new PriceTrigger(TriggerType.TRAILING_STOP, highWater * (1 - trailingRatio), 0);
+      add(stops, trailing);
+    }
+
+    // 최소 주문금액에 못 미치는 단계는 다음 단계에 합치고, 마지막 단계는 남은 수량 전부
+    double[] multipliers = spec.takeProfitMultipliers();
+    double[] fractions = spec.takeProfitFractions();
+    double allocated = 0;
+    double carry = 0;
+    for (int i = 0; i < multipliers.length; i++) {
+      double level = avgBuyPrice * multipliers[i];
+      boolean last = i == multipliers.length - 1;
+      double quantity = last ? position - allocated
+            : Math.min(position - allocated, position * fractions[i] + carry);
+      if (quantity <= EPSILON || (!last && level * quantity < minOrderAmount)) {
+        carry = Math.max(0, quantity);
+        continue;
+      }
+      add(targets, new PriceTrigger(TriggerType.TAKE_PROFIT, level, quantity));
+      takeProfitLegs++;
+      allocated += quantity;
+      carry = 0;
+    }
+  }
+
+  /**
+   * 남은 조건을 모두 취소합니다.
+   */
+  private void close() {
+    stops.clear();
+    targets.clear();
+    trailing = null;
+    takeProfitLegs = 0;
+    remaining = 0;
+  }
+
+  private static void add(TreeMap<Double, List<PriceTrigger>> index, PriceTrigger trigger) {
+    index.computeIfAbsent(trigger.level, level -> new ArrayList<>(1)).add(trigger);
+  }
+
+  private static void remove(TreeMap<Double, List<PriceTrigger>> index, PriceTrigger trigger) {
+    List<PriceTrigger> triggers = index.get(trigger.level);
+    if (triggers != null && triggers.remove(trigger) && triggers.isEmpty()) {
+      index.remove(trigger.level);
+    }
+  }
+
+  /**
+   * 조건 1개. 기준가는 색인 키이므로 색인에서 뺀 뒤에만 바꿉니다.
+   */
+  private static final class PriceTrigger {
+    private final TriggerType type;
+    private double level;
+    // 익절 단계 매도 수량 (손절은 남은 수량 전부)
+    private final double quantity;
+
+    private PriceTrigger(TriggerType type, double level, double quantity) {
+      this.type = type;
+      this.level = level;
+      this.quantity = quantity;
+    }
+  }
+}
@@ -0,0 +1,16 @@
+package my.trader.coin.trigger;
+
+import java.util.List;
+
+/**
+ * 한 번의 가격 평가에서 발동한 조건부 주문. 같은 가격에 여러 조건이 발동하면 매도 주문 1건으로 합칩니다.
+ *
+ * @param type     발동한 조건 중 가장 우선하는 종류 (손절 &gt; 익절)
+ * @param level    그 조건의 기준가
+ * @param quantity 매도 수량
+ * @param closed   포지션 전체를 정리하여 남은 조건이 없는지 여부
+ * @param cancels  매도 전에 취소할 익절 단계 매도 주문 uuid (손절 발동 시, 그 외에는 빈 목록)
+ */
+record TriggerFire(TriggerType type, double level, double quantity, boolean closed,
+                   List<String> cancels) {
+}
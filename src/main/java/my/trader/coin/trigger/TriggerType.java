@@ -0,0 +1,34 @@
+package my.trader.coin.trigger;
+
+import lombok.Getter;
+import my.trader.coin.enums.Signal;
+
+/**
+ * 조건부 주문 종류.
+ */
+@Getter
+public enum TriggerType {
+  // 가격이 기준가 이하로 내려가면 전량 매도
+  STOP_LOSS(Signal.STOP_LOSS, "stop_loss"),
+  // 최고가에서 일정 비율 내려가면 전량 매도 (최고가를 따라 기준가가 올라감)
+  TRAILING_STOP(Signal.STOP_LOSS, "trailing_stop"),
+  // 가격이 기준가 이상으로 올라가면 해당 단계 수량 매도
+  TAKE_PROFIT(Signal.TAKE_PROFIT, "take_profit");
+
+  // 주문 발송 우선순위와 거래 기록에 사용하는 신호
+  private final Signal signal;
+  // 메트릭 태그 값
+  private final String tag;
+
+  TriggerType(Signal signal, String tag) {
+    this.signal = signal;
+    this.tag = tag;
+  }
+
+  /**
+   * 가격이 내려가서 발동하는 조건인지 여부.
+   */
+  public boolean isStop() {
+    return this != TAKE_PROFIT;
+  }
+}
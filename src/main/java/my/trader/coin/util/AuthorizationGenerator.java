@@ -7,6 +7,7 @@ import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.UUID;
+import my.trader.coin.config.AppConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -24,10 +25,10 @@ public class AuthorizationGenerator {
    * @return Bearer ${Authorization}
    */
   public String generateTokenWithoutParameter() {
-    Algorithm algorithm = Algorithm.HMAC256(System.getProperty("secret"));
+    Algorithm algorithm = Algorithm.HMAC256(secretKey());
 
     String jwtToken = JWT.create()
-          .withClaim("access_key", System.getProperty("access"))
+          .withClaim("access_key", accessKey())
           .withClaim("nonce", UUID.randomUUID().toString())
           .sign(algorithm);
 
@@ -51,9 +52,9 @@ public class AuthorizationGenerator {
       byte[] digest = md.digest();
       String queryHash = String.format("%0128x", new BigInteger(1, digest));
 
-      Algorithm algorithm = Algorithm.HMAC256(System.getProperty("secret"));
+      Algorithm algorithm = Algorithm.HMAC256(secretKey());
       jwtToken = JWT.create()
-            .withClaim("access_key", System.getProperty("access"))
+            .withClaim("access_key", accessKey())
             .withClaim("nonce", UUID.randomUUID().toString())
             .withClaim("query_hash", queryHash)
             .withClaim("query_hash_alg", "SHA512")
@@ -66,4 +67,26 @@ public class AuthorizationGenerator {
 
     return jwtToken;
   }
+
+  /**
+   * access key 조회. 샤드 전용 키(-Daccess.N)가 있으면 우선 사용하며,
+   * 모의투자 시 키가 없으면 임의의 값을 사용합니다.
+   *
+   * @return access key
+   */
+  private String accessKey() {
+    return System.getProperty("access." + AppConfig.shardIndex,
+          System.getProperty("access", AppConfig.paperTrading ? "paper-access" : null));
+  }
+
+  /**
+   * secret key 조회. 샤드 전용 키(-Dsecret.N)가 있으면 우선 사용하며,
+   * 모의투자 시 키가 없으면 임의의 값을 사용합니다.
+   *
+   * @return secret key
+   */
+  private String secretKey() {
+    return System.getProperty("secret." + AppConfig.shardIndex,
+          System.getProperty("secret", AppConfig.paperTrading ? "paper-secret" : null));
+  }
 }
@@ -2,6 +2,7 @@ package my.trader.coin.util;
 
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
+import java.math.BigDecimal;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
@@ -106,7 +107,9 @@ public class CharacterUtility {
 
   private static void processSingleValue(Map<String, Object> params, String fieldName, Object value,
                                          boolean isEncodingRequired) {
-    String element = value.toString();
+    // 1.0E-5 와 같은 지수 표기는 업비트에서 거절되므로 실수는 일반 표기로 변환
+    String element = value instanceof Double number
+          ? BigDecimal.valueOf(number).toPlainString() : value.toString();
     addParam(params, fieldName, element, isEncodingRequired);
   }
 
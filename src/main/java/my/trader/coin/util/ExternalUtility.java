@@ -5,11 +5,20 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.type.CollectionType;
 import java.net.URI;
 import java.util.List;
+import my.trader.coin.config.AppConfig;
+import my.trader.coin.dto.exchange.CancelOrderRequestDto;
+import my.trader.coin.dto.exchange.OrderRequestDto;
+import my.trader.coin.dto.quotation.TickerResponseDto;
 import my.trader.coin.enums.ColorfulConsoleOutput;
+import my.trader.coin.paper.PaperExchange;
+import my.trader.coin.paper.PaperExchangeException;
+import my.trader.coin.transport.RequestCoalescer;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Mono;
 
 /**
@@ -19,12 +28,17 @@ import reactor.core.publisher.Mono;
 public class ExternalUtility {
   private final WebClient webClient;
   private final ObjectMapper objectMapper;
+  private final PaperExchange paperExchange;
+  private final RequestCoalescer requestCoalescer;
 
   /**
    * constructor.
    */
-  public ExternalUtility(WebClient.Builder webClientBuilder) {
+  public ExternalUtility(WebClient.Builder webClientBuilder, PaperExchange paperExchange,
+                         RequestCoalescer requestCoalescer) {
     this.webClient = webClientBuilder.build();
+    this.paperExchange = paperExchange;
+    this.requestCoalescer = requestCoalescer;
     this.objectMapper = new ObjectMapper();
     this.objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
   }
@@ -43,6 +57,12 @@ public class ExternalUtility {
                               String authorizationToken) {
     // ColorfulConsoleOutput.printWithColor("DELETE Request Uri: " + uri, ColorfulConsoleOutput.PURPLE);
 
+    // 모의투자 시 주문 취소는 모의 거래소에서 처리
+    if (AppConfig.paperTrading) {
+      return responseType.cast(
+            paperExchange.cancelOrder(((CancelOrderRequestDto) requestBody).getUuid()));
+    }
+
     return webClient.delete()
           .uri(uri)
           .header("Content-Type", "application/json; charset=utf-8")
@@ -55,6 +75,7 @@ public class ExternalUtility {
 
   /**
    * 조회 API without 인증.
+   * 동시에 들어온 같은 요청은 하나의 호출로 병합되고, 직후 반복 요청은 단기 캐시에서 응답합니다.
    *
    * @param uri          api endpoint
    * @param responseType response type
@@ -64,14 +85,21 @@ public class ExternalUtility {
   public <T> List<T> getWithoutAuth(URI uri, Class<T> responseType) {
     // ColorfulConsoleOutput.printWithColor("GET Request Uri: " + uri, ColorfulConsoleOutput.PURPLE);
 
-    return webClient.get()
-          .uri(uri)
-          .header("Content-Type", "application/json; charset=utf-8")
-          .retrieve()
-          .onStatus(HttpStatusCode::isError, this::handleError)
-          .bodyToMono(String.class)
-          .flatMap(json -> parseJsonList(json, responseType))
-          .block();
+    List<T> result = requestCoalescer.get(RequestCoalescer.keyOf(uri, responseType),
+          () -> webClient.get()
+                .uri(uri)
+                .header("Content-Type", "application/json; charset=utf-8")
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, this::handleError)
+                .bodyToMono(String.class)
+                .flatMap(json -> parseJsonList(json, responseType)));
+
+    // 모의투자 시 실시간 현재가로 미체결 주문 체결
+    if (AppConfig.paperTrading && responseType == TickerResponseDto.class && result != null) {
+      paperExchange.onTickers(result.stream().map(TickerResponseDto.class::cast).toList());
+    }
+
+    return result;
   }
 
   /**
@@ -86,6 +114,11 @@ public class ExternalUtility {
   public <T> List<T> getWithAuth(URI uri, Class<T> responseType, String authorizationToken) {
     // ColorfulConsoleOutput.printWithColor("GET Request Uri: " + uri, ColorfulConsoleOutput.PURPLE);
 
+    // 모의투자 시 계좌/미체결 주문 조회는 모의 거래소에서 처리
+    if (AppConfig.paperTrading) {
+      return getFromPaperExchange(uri, responseType);
+    }
+
     return webClient.get()
           .uri(uri)
           .header("Content-Type", "application/json; charset=utf-8")
@@ -110,6 +143,11 @@ public class ExternalUtility {
                             String authorizationToken) {
     // ColorfulConsoleOutput.printWithColor("POST Request Uri: " + uri, ColorfulConsoleOutput.PURPLE);
 
+    // 모의투자 시 주문은 모의 거래소에서 처리
+    if (AppConfig.paperTrading) {
+      return responseType.cast(paperExchange.placeOrder((OrderRequestDto) requestBody));
+    }
+
     return webClient.post()
           .uri(uri)
           .header("Content-Type", "application/json; charset=utf-8")
@@ -121,6 +159,38 @@ public class ExternalUtility {
           .block();
   }
 
+  /**
+   * 모의 거래소 조회 API.
+   *
+   * @param uri          api endpoint
+   * @param responseType response type
+   * @param <T>          T
+   * @return T
+   */
+  private <T> List<T> getFromPaperExchange(URI uri, Class<T> responseType) {
+    String path = uri.getPath();
+
+    List<?> result;
+    if (path.endsWith("/orders/open")) {
+      MultiValueMap<String, String> query = UriComponentsBuilder.fromUri(uri).build()
+            .getQueryParams();
+      result = paperExchange.getOpenOrders(query.getFirst("market"),
+            intParam(query, "page", 1), intParam(query, "limit", 100));
+    } else if (path.endsWith("/accounts")) {
+      result = paperExchange.getAccounts();
+    } else {
+      throw new PaperExchangeException("unsupported_api", "모의투자에서 지원하지 않는 API: " + path);
+    }
+
+    return result.stream().map(responseType::cast).toList();
+  }
+
+  private static int intParam(MultiValueMap<String, String> query, String name,
+                              int defaultValue) {
+    String value = query.getFirst(name);
+    return value == null ? defaultValue : Integer.parseInt(value);
+  }
+
   /**
    * 에러 핸들링.
    *
@@ -1,6 +1,7 @@
 package my.trader.coin.util;
 
 import java.util.List;
+import my.trader.coin.order.OrderNormalizer;
 import org.apache.commons.math3.stat.descriptive.moment.Mean;
 import org.springframework.stereotype.Component;
 
@@ -12,6 +13,7 @@ import org.springframework.stereotype.Component;
 public class MathUtility {
   /**
    * 소수점 8자리까지 계산하고 그 뒤는 절사하며, 소수점 8자리에서 무조건 올림 처리합니다.
+   * 올림 처리하므로 (수량 * 현재가격) 은 항상 최소 주문금액 이상입니다.
    *
    * @param minimumOrderAmount 최소 주문금액
    * @param currentPrice       현재가격
@@ -19,7 +21,7 @@ public class MathUtility {
    */
   public static Double calculateMinimumOrderQuantity(Double minimumOrderAmount,
                                                      Double currentPrice) {
-    return minimumOrderAmount / currentPrice;
+    return OrderNormalizer.minimumVolume(minimumOrderAmount, currentPrice);
   }
 
   /**
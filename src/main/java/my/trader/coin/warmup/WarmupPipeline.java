@@ -0,0 +1,298 @@
+package my.trader.coin.warmup;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import my.trader.coin.backtest.CandleArchive;
+import my.trader.coin.config.AppConfig;
+import my.trader.coin.dto.exchange.AccountResponseDto;
+import my.trader.coin.dto.quotation.CandleResponseDto;
+import my.trader.coin.enums.ColorfulConsoleOutput;
+import my.trader.coin.enums.Unit;
+import my.trader.coin.enums.UpbitType;
+import my.trader.coin.journal.JournalReader;
+import my.trader.coin.journal.JournalRecordType;
+import my.trader.coin.journal.TradeJournal;
+import my.trader.coin.market.CandleWindowStore;
+import my.trader.coin.market.MarketRegistry;
+import my.trader.coin.market.MarketStateTable;
+import my.trader.coin.regime.MarketRegimeService;
+import my.trader.coin.scheduler.UpbitScheduler;
+import my.trader.coin.service.UpbitService;
+import my.trader.coin.strategy.SignalThresholds;
+import my.trader.coin.strategy.SignalThresholdTable;
+import my.trader.coin.timer.DeadlineScheduler;
+import my.trader.coin.transport.ConnectionWarmer;
+import my.trader.coin.util.MathUtility;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 직후 첫 사이클이 바로 유효한 신호를 낼 수 있도록 필요한 상태를 미리 준비합니다.
+ * <ol>
+ *   <li>서로 독립적인 작업을 병렬 실행: 마켓 목록 등록과 종목 선정, 시장 국면과 신호 기준값 계산,
+ *   커넥션 예열, 계좌 기준 보유 현황, 거래 기록 기준 매수 대기 시간 복원, 주요 계산 경로 JIT 예열</li>
+ *   <li>대상 종목(선정 종목 + 보유 종목) 별로 로컬 캔들 아카이브의 최근 구간을 불러오고
+ *   마지막 캔들 이후 구간만 병렬로 받아 채운 뒤 RSI/ADX 를 한 번 계산하여 확인</li>
+ * </ol>
+ * {@link my.trader.coin.CoinApplication} 의 기동 작업에서 실행되므로 Spring Boot 는 완료 후에 readiness 를
+ * ACCEPTING_TRAFFIC 으로 바꾸며, 스케줄러는 그 전까지 사이클을 건너뜁니다.
+ * 요청 수 제한은 WebClient 필터가 전역으로 적용하므로 병렬 작업도 제한을 넘지 않습니다.
+ */
+@Component
+public class WarmupPipeline {
+  private static final int CANDLE_COUNT = Integer.parseInt(UpbitType.MAX_CANDLE_SIZE.getType());
+
+  private final UpbitService upbitService;
+  private final UpbitScheduler upbitScheduler;
+  private final MarketRegimeService marketRegimeService;
+  private final SignalThresholdTable signalThresholdTable;
+  private final MarketRegistry marketRegistry;
+  private final MarketStateTable marketStateTable;
+  private final CandleWindowStore candleWindowStore;
+  private final ConnectionWarmer connectionWarmer;
+  private final TradeJournal tradeJournal;
+  private final DeadlineScheduler deadlineScheduler;
+
+  // 계좌 기준 보유 종목 (캔들 준비 대상)
+  private volatile List<String> heldMarkets = List.of();
+  // JIT 예열 결과 (계산이 제거되지 않도록 보관)
+  private volatile double jitSink;
+
+  /**
+   * this is constructor.
+   *
+   * @param upbitService         UpbitService
+   * @param upbitScheduler       UpbitScheduler
+   * @param marketRegimeService  MarketRegimeService
+   * @param signalThresholdTable SignalThresholdTable
+   * @param marketRegistry       MarketRegistry
+   * @param marketStateTable     MarketStateTable
+   * @param candleWindowStore    CandleWindowStore
+   * @param connectionWarmer     ConnectionWarmer
+   * @param tradeJournal         TradeJournal
+   * @param deadlineScheduler    DeadlineScheduler
+   */
+  public WarmupPipeline(UpbitService upbitService, UpbitScheduler upbitScheduler,
+                        MarketRegimeService marketRegimeService,
+                        SignalThresholdTable signalThresholdTable, MarketRegistry marketRegistry,
+                        MarketStateTable marketStateTable,
+                        CandleWindowStore candleWindowStore, ConnectionWarmer connectionWarmer,
+                        TradeJournal tradeJournal, DeadlineScheduler deadlineScheduler) {
+    this.upbitService = upbitService;
+    this.upbitScheduler = upbitScheduler;
+    this.marketRegimeService = marketRegimeService;
+    this.signalThresholdTable = signalThresholdTable;
+    this.marketRegistry = marketRegistry;
+    this.marketStateTable = marketStateTable;
+    this.candleWindowStore = candleWindowStore;
+    this.connectionWarmer = connectionWarmer;
+    this.tradeJournal = tradeJournal;
+    this.deadlineScheduler = deadlineScheduler;
+  }
+
+  /**
+   * 예열을 실행합니다. 실패한 단계는 경고만 남기고, 제한 시간을 넘기면 남은 작업을 기다리지 않습니다.
+   */
+  public void run() {
+    long startedAt = System.currentTimeMillis();
+    ExecutorService executor =
+          Executors.newFixedThreadPool(Math.max(1, AppConfig.warmupParallelism), runnable -> {
+            Thread thread = new Thread(runnable, "warmup");
+            thread.setDaemon(true);
+            return thread;
+          });
+    long deadline = startedAt + TimeUnit.SECONDS.toMillis(AppConfig.warmupTimeoutSeconds);
+
+    try {
+      await("상태 복원", deadline, List.of(
+            stage("종목 선정", executor, () -> {
+              upbitScheduler.registerMarketList();
+              upbitService.addScheduledMarket();
+            }),
+            stage("시장 국면", executor, () -> {
+              marketRegimeService.refreshExternal();
+              marketRegimeService.update();
+              signalThresholdTable.current();
+            }),
+            stage("커넥션 예열", executor, connectionWarmer::warmUp),
+            stage("보유 현황", executor, this::restorePositions),
+            stage("매수 대기", executor, this::restoreCooldowns),
+            stage("JIT 예열", executor, this::warmHotPaths)));
+
+      Set<String> markets = new LinkedHashSet<>(AppConfig.scheduledMarket);
+      markets.addAll(heldMarkets);
+      CandleArchive archive = new CandleArchive(Path.of(AppConfig.candleArchiveDirectory));
+      AtomicInteger ready = new AtomicInteger();
+      List<CompletableFuture<Void>> candleStages = new ArrayList<>();
+      for (String market : markets) {
+        candleStages.add(stage("캔들 " + market, executor,
+              () -> prepareCandles(archive, market, ready)));
+      }
+      await("캔들 준비", deadline, candleStages);
+
+      ColorfulConsoleOutput.printWithColor(
+            String.format("예열 완료: %,d ms, 신호 계산 가능 종목 %d/%d",
+                  System.currentTimeMillis() - startedAt, ready.get(), markets.size()),
+            ColorfulConsoleOutput.GREEN);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * 아카이브의 최근 캔들로 구간을 채우고 이후 구간을 받아 지표를 한 번 계산합니다.
+   */
+  private void prepareCandles(CandleArchive archive, String market, AtomicInteger ready) {
+    int seeded = candleWindowStore.seed(
+          archive.tail(market, Unit.UNIT_1.getUnit(), CANDLE_COUNT));
+    List<CandleResponseDto> candles = candleWindowStore.recent(market);
+
+    SignalThresholds thresholds = signalThresholdTable.current();
+    if (candles.size() >= thresholds.getAdxPeriod() * 2) {
+      upbitService.calculateRelativeStrengthIndex(candles, thresholds.getRsiPeriod());
+      upbitService.calculateAverageDirectionalMovementIndex(candles, thresholds.getAdxPeriod());
+      ready.incrementAndGet();
+    }
+    ColorfulConsoleOutput.printWithColor(
+          String.format("[%s] 캔들 준비: 아카이브 %d개, 보관 %d개", market, seeded, candles.size()),
+          ColorfulConsoleOutput.GREEN);
+  }
+
+  /**
+   * 계좌 기준 보유 현황과 위험 한도 보유금액을 맞춥니다.
+   */
+  private void restorePositions() {
+    List<AccountResponseDto> accounts = upbitService.getAccountAndSynchronizeRisk();
+    marketStateTable.updatePositions(accounts);
+
+    List<String> held = new ArrayList<>();
+    for (AccountResponseDto account : accounts) {
+      if (!"KRW".equals(account.getCurrency())) {
+        held.add(account.getUnitCurrency() + "-" + account.getCurrency());
+      }
+    }
+    heldMarkets = held;
+  }
+
+  /**
+   * 거래 기록에서 대기 시간 안에 접수된 매수 주문을 찾아 종목별 마지막 매수 시각을 복원합니다.
+   * 재시작 직후 같은 종목을 다시 매수하지 않도록 합니다.
+   */
+  private void restoreCooldowns() {
+    if (!tradeJournal.isEnabled()) {
+      return;
+    }
+    long cooldownMillis = signalThresholdTable.current().getBuyCooldownMillis();
+    long since = System.currentTimeMillis() - cooldownMillis;
+    Map<String, Long> lastBuyTime = new HashMap<>();
+    try {
+      JournalReader.read(Path.of(AppConfig.journalDirectory), record -> {
+        if (record.getType() == JournalRecordType.ORDER_RESPONSE && record.isBid()
+              && record.getTimestamp() >= since) {
+          lastBuyTime.merge(record.getMarket(), record.getTimestamp(), Math::max);
+        }
+      });
+    } catch (IOException e) {
+      throw new IllegalStateException("거래 기록을 읽을 수 없습니다.", e);
+    }
+
+    lastBuyTime.forEach((market, time) ->
+          deadlineScheduler.startCooldown(marketRegistry.intern(market), time, cooldownMillis));
+    if (!lastBuyTime.isEmpty()) {
+      ColorfulConsoleOutput.printWithColor("매수 대기 복원: " + lastBuyTime.keySet(),
+            ColorfulConsoleOutput.GREEN);
+    }
+  }
+
+  /**
+   * 매 사이클 실행되는 지표 계산과 신호 판단 경로를 합성 캔들로 반복 실행하여
+   * 첫 사이클이 인터프리터로 실행되지 않도록 JIT 컴파일을 유도합니다. 외부 호출이나 기록은 하지 않습니다.
+   */
+  private void warmHotPaths() {
+    SignalThresholds thresholds = signalThresholdTable.current();
+    List<CandleResponseDto> candles = syntheticCandles(CANDLE_COUNT);
+    double sink = 0;
+    for (int i = 0; i < AppConfig.warmupJitIterations; i++) {
+      double rsi = upbitService.calculateRelativeStrengthIndex(candles, thresholds.getRsiPeriod());
+      double adx = upbitService.calculateAverageDirectionalMovementIndex(candles,
+            thresholds.getAdxPeriod());
+      double price = candles.get(i % candles.size()).getTradePrice();
+      sink += thresholds.isBuy(rsi, adx) ? 1 : 0;
+      sink += thresholds.isTakeProfit(price, 100) ? 1 : 0;
+      sink += thresholds.profitRate(price, 100);
+      sink += MathUtility.calculateMinimumOrderQuantity(thresholds.getMinTradeAmount(), price);
+    }
+    jitSink = sink;
+  }
+
+  /**
+   * 100 근처에서 움직이는 임의 보행 캔들.
+   */
+  private static List<CandleResponseDto> syntheticCandles(int size) {
+    Random random = new Random(42);
+    List<CandleResponseDto> candles = new ArrayList<>(size);
+    double price = 100;
+    for (int i = 0; i < size; i++) {
+      double open = price;
+      price = Math.max(1, price * (1 + random.nextGaussian() * 0.002));
+      CandleResponseDto candle = new CandleResponseDto();
+      candle.setOpeningPrice(open);
+      candle.setHighPrice(Math.max(open, price) * (1 + random.nextDouble() * 0.001));
+      candle.setLowPrice(Math.min(open, price) * (1 - random.nextDouble() * 0.001));
+      candle.setTradePrice(price);
+      candle.setTimestamp((long) i * 60_000L);
+      candles.add(candle);
+    }
+    return candles;
+  }
+
+  private static CompletableFuture<Void> stage(String name, ExecutorService executor,
+                                               Runnable task) {
+    return CompletableFuture.runAsync(() -> {
+      long startedAt = System.currentTimeMillis();
+      try {
+        task.run();
+        ColorfulConsoleOutput.printWithColor(
+              String.format("예열 단계 완료 [%s]: %,d ms", name,
+                    System.currentTimeMillis() - startedAt), ColorfulConsoleOutput.CYAN);
+      } catch (RuntimeException e) {
+        ColorfulConsoleOutput.printWithColor(
+              String.format("예열 단계 실패 [%s]: %s", name, e.getMessage()),
+              ColorfulConsoleOutput.YELLOW);
+      }
+    }, executor);
+  }
+
+  /**
+   * 모든 단계를 기다립니다. 제한 시간을 넘기면 경고 후 반환합니다.
+   */
+  private static void await(String name, long deadline, List<CompletableFuture<Void>> stages) {
+    long remaining = Math.max(0, deadline - System.currentTimeMillis());
+    try {
+      CompletableFuture.allOf(stages.toArray(CompletableFuture[]::new))
+            .get(remaining, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      ColorfulConsoleOutput.printWithColor(
+            String.format("예열 시간 초과 [%s]: 남은 작업을 기다리지 않고 시작합니다.", name),
+            ColorfulConsoleOutput.YELLOW);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      // 각 단계에서 예외를 처리하므로 발생하지 않음
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+}
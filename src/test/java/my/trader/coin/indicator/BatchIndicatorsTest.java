@@ -0,0 +1,151 @@
+package my.trader.coin.indicator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import my.trader.coin.dto.quotation.CandleResponseDto;
+import my.trader.coin.service.UpbitService;
+import my.trader.coin.util.MathUtility;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 여러 종목을 한 번에 계산한 RSI/ADX/EMA 가 ScalpingStrategy 가 쓰는 종목별 계산
+ * (UpbitService, MathUtility) 과 모든 캔들 시점에서 같은지 확인합니다.
+ * 종목 수는 병렬 구간이 여러 개가 되도록 잡았습니다.
+ */
+class BatchIndicatorsTest {
+  private static final int MARKETS = 150;
+  private static final int BARS = 700;
+  private static final int RSI_PERIOD = 14;
+  private static final int ADX_PERIOD = 14;
+
+  private static final UpbitService UPBIT_SERVICE = new UpbitService(null, null, null, null);
+
+  private static BarMatrix matrix;
+  private static List<List<CandleResponseDto>> candlesByMarket;
+
+  /**
+   * 호가 단위로 반올림한 랜덤 워크 캔들. 반올림으로 종가가 그대로인 캔들(변화량 0)도 섞입니다.
+   */
+  @BeforeAll
+  static void generateCandles() {
+    Random random = new Random(20_240_601L);
+    List<String> codes = new ArrayList<>();
+    for (int m = 0; m < MARKETS; m++) {
+      codes.add(String.format("KRW-SYN%04d", m));
+    }
+    matrix = new BarMatrix(codes, BARS);
+    candlesByMarket = new ArrayList<>();
+
+    for (int m = 0; m < MARKETS; m++) {
+      List<CandleResponseDto> candles = new ArrayList<>();
+      double close = 1_000 + random.nextInt(100_000);
+      for (int bar = 0; bar < BARS; bar++) {
+        double open = close;
+        close = Math.max(1, Math.round(open * (1 + random.nextGaussian() * 0.004)));
+        double high = Math.max(open, close) + random.nextInt(3);
+        double low = Math.max(0.5, Math.min(open, close) - random.nextInt(3));
+
+        matrix.set(bar, m, high, low, close);
+        candles.add(candle(codes.get(m), bar, high, low, close));
+      }
+      candlesByMarket.add(candles);
+    }
+  }
+
+  @Test
+  void relativeStrengthIndexMatchesScalarPath() {
+    double[] rsi = BatchIndicators.relativeStrengthIndex(matrix.getTradePrice(), MARKETS,
+          RSI_PERIOD);
+
+    for (int m = 0; m < MARKETS; m++) {
+      List<CandleResponseDto> candles = candlesByMarket.get(m);
+      for (int bar = 0; bar < BARS; bar++) {
+        double batch = matrix.valueAt(rsi, bar, m);
+        if (bar < RSI_PERIOD) {
+          assertThat(batch).isNaN();
+          continue;
+        }
+        double scalar =
+              UPBIT_SERVICE.calculateRelativeStrengthIndex(candles.subList(0, bar + 1), RSI_PERIOD);
+        assertThat(batch).as("market %d bar %d", m, bar).isEqualTo(scalar);
+      }
+    }
+  }
+
+  @Test
+  void averageDirectionalMovementIndexMatchesScalarPath() {
+    double[] adx = BatchIndicators.averageDirectionalMovementIndex(matrix.getHighPrice(),
+          matrix.getLowPrice(), matrix.getTradePrice(), MARKETS, ADX_PERIOD);
+
+    for (int m = 0; m < MARKETS; m++) {
+      List<CandleResponseDto> candles = candlesByMarket.get(m);
+      for (int bar = 0; bar < BARS; bar++) {
+        double batch = matrix.valueAt(adx, bar, m);
+        if (bar < ADX_PERIOD * 2 - 1) {
+          assertThat(batch).isNaN();
+          continue;
+        }
+        double scalar = UPBIT_SERVICE.calculateAverageDirectionalMovementIndex(
+              candles.subList(0, bar + 1), ADX_PERIOD);
+        assertThat(batch).as("market %d bar %d", m, bar).isEqualTo(scalar);
+      }
+    }
+  }
+
+  @Test
+  void exponentialMovingAverageMatchesScalarPath() {
+    double[] ema = BatchIndicators.exponentialMovingAverage(matrix.getTradePrice(), MARKETS,
+          1.0 / RSI_PERIOD);
+
+    for (int m = 0; m < MARKETS; m++) {
+      List<Double> closes = new ArrayList<>();
+      for (int bar = 0; bar < BARS; bar++) {
+        closes.add(candlesByMarket.get(m).get(bar).getTradePrice());
+        double scalar = MathUtility.calculateExponentialMovingAverage(closes, RSI_PERIOD);
+        assertThat(matrix.valueAt(ema, bar, m)).as("market %d bar %d", m, bar)
+              .isEqualTo(scalar);
+      }
+    }
+  }
+
+  @Test
+  void latestReturnsTheLastBarOfEveryMarket() {
+    double[] rsi = BatchIndicators.relativeStrengthIndex(matrix.getTradePrice(), MARKETS,
+          RSI_PERIOD);
+    double[] latest = matrix.latest(rsi);
+
+    for (int m = 0; m < MARKETS; m++) {
+      assertThat(latest[m]).isEqualTo(
+            UPBIT_SERVICE.calculateRelativeStrengthIndex(candlesByMarket.get(m), RSI_PERIOD));
+    }
+  }
+
+  @Test
+  void tooFewBarsYieldNaN() {
+    BarMatrix shortMatrix = new BarMatrix(List.of("KRW-A", "KRW-B"), ADX_PERIOD * 2 - 1);
+    for (int bar = 0; bar < shortMatrix.getBars(); bar++) {
+      shortMatrix.set(bar, 0, 101 + bar, 99 + bar, 100 + bar);
+      shortMatrix.set(bar, 1, 201 - bar, 199 - bar, 200 - bar);
+    }
+
+    double[] adx = BatchIndicators.averageDirectionalMovementIndex(shortMatrix.getHighPrice(),
+          shortMatrix.getLowPrice(), shortMatrix.getTradePrice(), 2, ADX_PERIOD);
+
+    assertThat(adx).containsOnly(Double.NaN);
+  }
+
+  private static CandleResponseDto candle(String market, int bar, double high, double low,
+                                          double close) {
+    CandleResponseDto candle = new CandleResponseDto();
+    candle.setMarket(market);
+    candle.setTimestamp(bar * 60_000L);
+    candle.setHighPrice(high);
+    candle.setLowPrice(low);
+    candle.setTradePrice(close);
+    return candle;
+  }
+}
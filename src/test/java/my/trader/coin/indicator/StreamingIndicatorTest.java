@@ -0,0 +1,204 @@
+package my.trader.coin.indicator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 스트리밍 지표가 오래 갱신해도 창 전체를 다시 계산한 값과 같고, 배치 계산과 같은 값을 내며,
+ * peek 이 상태를 바꾸지 않는지 확인합니다.
+ */
+class StreamingIndicatorTest {
+  private static final int UPDATES = 2_000_000;
+  private static final int JUMP_AT = UPDATES / 2;
+  private static final int CHECK_EVERY = 50_000;
+  private static final double RELATIVE_ERROR = 1e-12;
+
+  /**
+   * 2백만 번 갱신하는 동안 (도중에 가격이 1e-10 배로 떨어짐) 이동 합계가 누적 오차 없이
+   * 최근 창을 처음부터 다시 더한 값과 같은지 확인합니다. 볼린저 표준편차는 급락 뒤 창이 두 바퀴 돌아
+   * 기준값이 새 가격 수준으로 옮겨진 뒤부터 확인합니다.
+   */
+  @Test
+  void windowedSumsDoNotDriftOverManyUpdates() {
+    SimpleMovingAverage sma = new SimpleMovingAverage(50);
+    int bandPeriod = 20;
+    BollingerBands bands = new BollingerBands(bandPeriod, 2);
+    VolumeWeightedAveragePrice vwap = new VolumeWeightedAveragePrice(30);
+    int keep = 50;
+    double[] highs = new double[keep];
+    double[] lows = new double[keep];
+    double[] closes = new double[keep];
+    double[] volumes = new double[keep];
+
+    Random random = new Random(7L);
+    double price = 1e6;
+    int checks = 0;
+    for (int i = 0; i < UPDATES; i++) {
+      price *= i == JUMP_AT ? 1e-10 : 1 + random.nextGaussian() * 0.002;
+      double high = price * (1 + random.nextDouble() * 0.001);
+      double low = price * (1 - random.nextDouble() * 0.001);
+      double volume = random.nextDouble() * 1_000;
+      int slot = i % keep;
+      highs[slot] = high;
+      lows[slot] = low;
+      closes[slot] = price;
+      volumes[slot] = volume;
+
+      sma.update(high, low, price, volume);
+      bands.update(high, low, price, volume);
+      vwap.update(high, low, price, volume);
+
+      boolean afterJump = i > JUMP_AT && i - JUMP_AT <= keep;
+      if (i >= keep && (i % CHECK_EVERY == 0 || afterJump || i == UPDATES - 1)) {
+        double[] window = recent(closes, i, 50);
+        assertRelativelyClose(sma.value(), mean(window), "SMA", i);
+
+        window = recent(closes, i, bandPeriod);
+        double mean = mean(window);
+        assertRelativelyClose(bands.getMiddle(), mean, "볼린저 중심선", i);
+        if (!afterJump || i - JUMP_AT > bandPeriod * 2) {
+          assertRelativelyClose(bands.getStandardDeviation(), standardDeviation(window, mean),
+                "볼린저 표준편차", i);
+        }
+
+        assertRelativelyClose(vwap.value(),
+              volumeWeightedAverage(recent(highs, i, 30), recent(lows, i, 30),
+                    recent(closes, i, 30), recent(volumes, i, 30)), "VWAP", i);
+        checks++;
+      }
+    }
+    assertThat(checks).isGreaterThan(UPDATES / CHECK_EVERY);
+  }
+
+  /**
+   * 같은 캔들을 처음부터 반영하면 스트리밍 RSI/ADX/EMA 가 배치 계산의 각 캔들 값과 같습니다.
+   */
+  @Test
+  void streamingMatchesBatchKernels() {
+    int bars = 500;
+    double[] high = new double[bars];
+    double[] low = new double[bars];
+    double[] close = new double[bars];
+    Random random = new Random(11L);
+    double price = 50_000;
+    for (int bar = 0; bar < bars; bar++) {
+      price = Math.round(price * (1 + random.nextGaussian() * 0.005));
+      high[bar] = price + random.nextInt(30);
+      low[bar] = price - random.nextInt(30);
+      close[bar] = price;
+    }
+
+    double[] rsi = BatchIndicators.relativeStrengthIndex(close, 1, 14);
+    double[] adx = BatchIndicators.averageDirectionalMovementIndex(high, low, close, 1, 14);
+    double[] ema = BatchIndicators.exponentialMovingAverage(close, 1, 1.0 / 14);
+    RelativeStrengthIndex streamingRsi = new RelativeStrengthIndex(14);
+    AverageDirectionalIndex streamingAdx = new AverageDirectionalIndex(14);
+    ExponentialMovingAverage streamingEma = ExponentialMovingAverage.upbit(14);
+
+    for (int bar = 0; bar < bars; bar++) {
+      double r = streamingRsi.update(high[bar], low[bar], close[bar], 1);
+      double a = streamingAdx.update(high[bar], low[bar], close[bar], 1);
+      double e = streamingEma.update(high[bar], low[bar], close[bar], 1);
+
+      assertSame(r, rsi[bar], "RSI", bar);
+      assertSame(a, adx[bar], "ADX", bar);
+      if (bar >= 13) {
+        assertThat(e).as("EMA bar %d", bar).isCloseTo(ema[bar], within(1e-9));
+      }
+    }
+  }
+
+  /**
+   * peek 은 상태를 바꾸지 않고, 같은 캔들로 update 한 결과와 같습니다.
+   */
+  @Test
+  void peekMatchesUpdateWithoutChangingState() {
+    List<Supplier<StreamingIndicator>> factories = List.of(
+          () -> new SimpleMovingAverage(10),
+          () -> new BollingerBands(10, 2),
+          () -> new VolumeWeightedAveragePrice(10),
+          () -> ExponentialMovingAverage.upbit(10),
+          () -> new RelativeStrengthIndex(10),
+          () -> new AverageDirectionalIndex(5));
+
+    for (Supplier<StreamingIndicator> factory : factories) {
+      StreamingIndicator indicator = factory.get();
+      Random random = new Random(3L);
+      double price = 100;
+      for (int bar = 0; bar < 200; bar++) {
+        price *= 1 + random.nextGaussian() * 0.01;
+        double high = price + random.nextDouble();
+        double low = price - random.nextDouble();
+        double volume = 1 + random.nextDouble() * 10;
+        double before = indicator.value();
+
+        double peeked = indicator.peek(high, low, price, volume);
+        double peekedAgain = indicator.peek(high, low, price, volume);
+        assertSame(indicator.value(), before, indicator.getClass().getSimpleName(), bar);
+        assertSame(peekedAgain, peeked, indicator.getClass().getSimpleName(), bar);
+
+        double updated = indicator.update(high, low, price, volume);
+        if (Double.isNaN(updated)) {
+          assertThat(peeked).as("%s bar %d", indicator.getClass().getSimpleName(), bar).isNaN();
+        } else {
+          assertThat(peeked).as("%s bar %d", indicator.getClass().getSimpleName(), bar)
+                .isCloseTo(updated, within(Math.abs(updated) * 1e-12));
+        }
+      }
+    }
+  }
+
+  private static double[] recent(double[] ring, int last, int count) {
+    double[] window = new double[count];
+    for (int k = 0; k < count; k++) {
+      window[k] = ring[(last - count + 1 + k) % ring.length];
+    }
+    return window;
+  }
+
+  private static double mean(double[] values) {
+    double total = 0;
+    for (double value : values) {
+      total += value;
+    }
+    return total / values.length;
+  }
+
+  private static double standardDeviation(double[] values, double mean) {
+    double total = 0;
+    for (double value : values) {
+      total += (value - mean) * (value - mean);
+    }
+    return Math.sqrt(total / values.length);
+  }
+
+  private static double volumeWeightedAverage(double[] highs, double[] lows, double[] closes,
+                                              double[] volumes) {
+    double priceVolume = 0;
+    double volume = 0;
+    for (int k = 0; k < closes.length; k++) {
+      priceVolume += (highs[k] + lows[k] + closes[k]) / 3 * volumes[k];
+      volume += volumes[k];
+    }
+    return priceVolume / volume;
+  }
+
+  private static void assertRelativelyClose(double actual, double expected, String name,
+                                            int update) {
+    assertThat(actual).as("%s update %d", name, update)
+          .isCloseTo(expected, within(Math.abs(expected) * RELATIVE_ERROR));
+  }
+
+  private static void assertSame(double actual, double expected, String name, int bar) {
+    if (Double.isNaN(expected)) {
+      assertThat(actual).as("%s bar %d", name, bar).isNaN();
+    } else {
+      assertThat(actual).as("%s bar %d", name, bar).isEqualTo(expected);
+    }
+  }
+}
@@ -0,0 +1,165 @@
+package my.trader.coin.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+import my.trader.coin.config.AppConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * 호가 단위 구간표의 모든 경계, 경계에서의 가격 올림/내림, 수량 절사와 최소 수량 올림, 큰 수량을 확인합니다.
+ */
+class OrderNormalizerTest {
+  private static final String KRW = "KRW-BTC";
+
+  /**
+   * 구간 하한과 그 바로 아래 가격의 호가 단위.
+   */
+  @ParameterizedTest
+  @CsvSource({
+      "2000000,    1000",
+      "1999999,    500",
+      "1000000,    500",
+      "999999,     100",
+      "500000,     100",
+      "499999,     50",
+      "100000,     50",
+      "99999,      10",
+      "10000,      10",
+      "9999,       1",
+      "1000,       1",
+      "999.9,      0.1",
+      "100,        0.1",
+      "99.99,      0.01",
+      "10,         0.01",
+      "9.999,      0.001",
+      "1,          0.001",
+      "0.9999,     0.0001",
+      "0.1,        0.0001",
+      "0.09999,    0.00001",
+      "0.01,       0.00001",
+      "0.009999,   0.000001",
+      "0.001,      0.000001",
+      "0.0009999,  0.0000001",
+      "0.0001,     0.0000001",
+      "0.00009999, 0.00000001",
+      "0.00000001, 0.00000001"
+  })
+  void tickSizeFollowsKrwBands(double price, double tick) {
+    assertThat(OrderNormalizer.tickSize(KRW, price)).isEqualTo(tick);
+  }
+
+  @Test
+  void nonKrwMarketsUseEightDecimals() {
+    assertThat(OrderNormalizer.tickSize("BTC-ETH", 0.05)).isEqualTo(0.00000001);
+    assertThat(OrderNormalizer.tickSize("USDT-BTC", 60_000)).isEqualTo(0.00000001);
+  }
+
+  /**
+   * 경계 부근 가격의 내림(매수) / 올림(매도). 올림 결과가 상위 구간에 들어가도 상위 구간 호가 단위에 맞아야 합니다.
+   */
+  @ParameterizedTest
+  @CsvSource({
+      "2000499,    2000000,   2001000",
+      "2000000,    2000000,   2000000",
+      "1999999,    1999500,   2000000",
+      "1000001,    1000000,   1000500",
+      "999999,     999900,    1000000",
+      "100001,     100000,    100050",
+      "99999,      99990,     100000",
+      "10000.5,    10000,     10010",
+      "9999.5,     9999,      10000",
+      "999.95,     999.9,     1000",
+      "100.05,     100,       100.1",
+      "99.995,     99.99,     100",
+      "9.9995,     9.999,     10",
+      "0.99995,    0.9999,    1",
+      "0.099995,   0.09999,   0.1",
+      "0.0099995,  0.009999,  0.01",
+      "0.00099995, 0.0009999, 0.001",
+      "0.00012345, 0.0001234, 0.0001235",
+      "0.00009999, 0.00009999, 0.00009999"
+  })
+  void priceRoundsToTheBandTick(double price, double down, double up) {
+    double roundedDown = OrderNormalizer.normalizePrice(KRW, price, false);
+    double roundedUp = OrderNormalizer.normalizePrice(KRW, price, true);
+
+    assertThat(roundedDown).isEqualTo(down);
+    assertThat(roundedUp).isEqualTo(up);
+    assertThat(OrderNormalizer.validate(KRW, roundedDown, 1e9))
+          .isNotEqualTo(OrderRejectReason.OFF_TICK);
+    assertThat(OrderNormalizer.validate(KRW, roundedUp, 1e9))
+          .isNotEqualTo(OrderRejectReason.OFF_TICK);
+  }
+
+  @ParameterizedTest
+  @ValueSource(doubles = {0, -1, Double.NaN, Double.POSITIVE_INFINITY, 1e10})
+  void invalidPriceIsNaN(double price) {
+    assertThat(OrderNormalizer.normalizePrice(KRW, price, false)).isNaN();
+    assertThat(OrderNormalizer.validate(KRW, price, 1))
+          .isEqualTo(OrderRejectReason.INVALID_PRICE);
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "0.12345678,     0.12345678",
+      "0.123456789,    0.12345678",
+      "1.999999999,    1.99999999",
+      "0.00000001,     0.00000001",
+      "0.000000019,    0.00000001",
+      "123456.789,     123456.789",
+      "5000,           5000"
+  })
+  void volumeIsTruncatedToEightDecimals(double volume, double expected) {
+    assertThat(OrderNormalizer.normalizeVolume(volume)).isEqualTo(expected);
+  }
+
+  /**
+   * 낮은 가격 종목은 수량이 9.2e8 을 넘을 수 있으며, 1e-10 배율로 바꿀 때 long 범위를 넘으면 안 됩니다.
+   */
+  @ParameterizedTest
+  @ValueSource(doubles = {9.3e8, 1e9 + 0.5, 5e9, 9_999_999_999.0})
+  void largeVolumeIsNotClamped(double volume) {
+    assertThat(OrderNormalizer.normalizeVolume(volume)).isCloseTo(volume, offset(1e-6));
+  }
+
+  @ParameterizedTest
+  @ValueSource(doubles = {0, -1, Double.NaN, 1e10, 1e12})
+  void invalidVolumeIsNaN(double volume) {
+    assertThat(OrderNormalizer.normalizeVolume(volume)).isNaN();
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "5000,  3,        1666.66666667",
+      "6000,  3,        2000",
+      "5000,  0.5,      10000",
+      "5001,  100000,   0.05001",
+      "5001,  90000000, 0.00005557",
+      "5000,  0.000001, 5000000000"
+  })
+  void minimumVolumeRoundsUpToEightDecimals(double amount, double price, double expected) {
+    double volume = OrderNormalizer.minimumVolume(amount, price);
+
+    assertThat(volume).isEqualTo(expected);
+    assertThat(volume * price).isGreaterThanOrEqualTo(amount - 1e-6);
+  }
+
+  @Test
+  void validateChecksTickVolumeAndMinimumAmount() {
+    assertThat(OrderNormalizer.validate(KRW, 100.05, 100))
+          .isEqualTo(OrderRejectReason.OFF_TICK);
+    assertThat(OrderNormalizer.validate(KRW, 100.1, 0))
+          .isEqualTo(OrderRejectReason.INVALID_VOLUME);
+    assertThat(OrderNormalizer.validate(KRW, 1000, (AppConfig.minOrderAmount - 1) / 1000))
+          .isEqualTo(OrderRejectReason.BELOW_MIN_ORDER_AMOUNT);
+    assertThat(OrderNormalizer.validate(KRW, 1000, AppConfig.minOrderAmount / 1000))
+          .isEqualTo(OrderRejectReason.NONE);
+    // 원화 마켓이 아니면 최소 주문금액을 점검하지 않음
+    assertThat(OrderNormalizer.validate("BTC-ETH", 0.05, 0.0001))
+          .isEqualTo(OrderRejectReason.NONE);
+  }
+}
@@ -0,0 +1,266 @@
+package my.trader.coin.risk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import my.trader.coin.config.AppConfig;
+import my.trader.coin.dto.exchange.AccountResponseDto;
+import my.trader.coin.dto.exchange.OpenOrderResponseDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 위험 한도의 예약/반환, 동기화 시 재구성, 동시 점검에서 한도를 넘지 않는지 확인합니다.
+ */
+class PreTradeRiskGateTest {
+  private static final String BTC = "KRW-BTC";
+  private static final String ETH = "KRW-ETH";
+
+  private long maxMarketNotional;
+  private long maxTotalNotional;
+  private int maxOpenOrders;
+  private int maxOrdersPerSecond;
+
+  private PreTradeRiskGate gate;
+
+  @BeforeEach
+  void setUp() {
+    maxMarketNotional = AppConfig.riskMaxMarketNotional;
+    maxTotalNotional = AppConfig.riskMaxTotalNotional;
+    maxOpenOrders = AppConfig.riskMaxOpenOrders;
+    maxOrdersPerSecond = AppConfig.riskMaxOrdersPerSecond;
+    AppConfig.riskMaxMarketNotional = 100_000;
+    AppConfig.riskMaxTotalNotional = 150_000;
+    AppConfig.riskMaxOpenOrders = 10;
+    AppConfig.riskMaxOrdersPerSecond = 100;
+    gate = new PreTradeRiskGate(new SimpleMeterRegistry());
+  }
+
+  @AfterEach
+  void restoreConfig() {
+    AppConfig.riskMaxMarketNotional = maxMarketNotional;
+    AppConfig.riskMaxTotalNotional = maxTotalNotional;
+    AppConfig.riskMaxOpenOrders = maxOpenOrders;
+    AppConfig.riskMaxOrdersPerSecond = maxOrdersPerSecond;
+  }
+
+  @Test
+  void acquireReservesAndReleaseReturns() {
+    assertThat(gate.tryAcquire(BTC, true, 60_000)).isEqualTo(RiskRejectReason.NONE);
+    assertThat(gate.tryAcquire(BTC, false, 30_000)).isEqualTo(RiskRejectReason.NONE);
+
+    // 매도는 미체결 주문 수만 예약
+    assertThat(gate.getMarketExposure(BTC)).isEqualTo(60_000);
+    assertThat(gate.getTotalExposure()).isEqualTo(60_000);
+    assertThat(gate.getOpenOrders()).isEqualTo(2);
+
+    gate.release(BTC, true, 60_000);
+    gate.release(BTC, false, 30_000);
+
+    assertThat(gate.getTotalExposure()).isZero();
+    assertThat(gate.getOpenOrders()).isZero();
+  }
+
+  @Test
+  void notionalLimitsRejectOnlyBids() {
+    assertThat(gate.tryAcquire(BTC, true, 90_000)).isEqualTo(RiskRejectReason.NONE);
+    assertThat(gate.tryAcquire(BTC, true, 20_000))
+          .isEqualTo(RiskRejectReason.MARKET_NOTIONAL);
+    assertThat(gate.tryAcquire(ETH, true, 70_000))
+          .isEqualTo(RiskRejectReason.TOTAL_NOTIONAL);
+    assertThat(gate.tryAcquire(BTC, false, 1_000_000)).isEqualTo(RiskRejectReason.NONE);
+
+    // 거절된 매수의 예약은 남지 않음
+    assertThat(gate.getMarketExposure(BTC)).isEqualTo(90_000);
+    assertThat(gate.getMarketExposure(ETH)).isZero();
+    assertThat(gate.getOpenOrders()).isEqualTo(2);
+  }
+
+  @Test
+  void openOrderLimitFreesOnSettle() {
+    AppConfig.riskMaxOpenOrders = 2;
+    assertThat(gate.tryAcquire(BTC, false, 10_000)).isEqualTo(RiskRejectReason.NONE);
+    gate.confirm("a", BTC, false, 1_000, 10_000);
+    assertThat(gate.tryAcquire(ETH, false, 10_000)).isEqualTo(RiskRejectReason.NONE);
+    gate.confirm("b", ETH, false, 1_000, 10_000);
+
+    assertThat(gate.tryAcquire(BTC, false, 10_000)).isEqualTo(RiskRejectReason.OPEN_ORDERS);
+
+    gate.settle("a", 0);
+    assertThat(gate.tryAcquire(BTC, false, 10_000)).isEqualTo(RiskRejectReason.NONE);
+  }
+
+  @Test
+  void rejectedOrdersDoNotUseTheRateLimit() {
+    awaitFreshSecond();
+    AppConfig.riskMaxOrdersPerSecond = 2;
+    assertThat(gate.tryAcquire(BTC, true, 90_000)).isEqualTo(RiskRejectReason.NONE);
+    for (int i = 0; i < 5; i++) {
+      assertThat(gate.tryAcquire(BTC, true, 20_000))
+            .isEqualTo(RiskRejectReason.MARKET_NOTIONAL);
+    }
+    assertThat(gate.tryAcquire(BTC, false, 10_000)).isEqualTo(RiskRejectReason.NONE);
+
+    // 세 번째 통과 주문은 초당 주문 수에 걸리고, 먼저 예약한 한도는 되돌림
+    assertThat(gate.tryAcquire(ETH, true, 10_000)).isEqualTo(RiskRejectReason.ORDER_RATE);
+    assertThat(gate.getMarketExposure(ETH)).isZero();
+    assertThat(gate.getTotalExposure()).isEqualTo(90_000);
+    assertThat(gate.getOpenOrders()).isEqualTo(2);
+  }
+
+  @Test
+  void settleReturnsOnlyTheUnfilledPartOnce() {
+    assertThat(gate.tryAcquire(BTC, true, 50_000)).isEqualTo(RiskRejectReason.NONE);
+    gate.confirm("a", BTC, true, 1_000, 50_000);
+
+    // 50개 중 20개 미체결로 취소 : 체결된 30,000 원은 다음 동기화까지 유지
+    gate.settle("a", 20);
+    assertThat(gate.getMarketExposure(BTC)).isEqualTo(30_000);
+    assertThat(gate.getOpenOrders()).isZero();
+
+    gate.settle("a", 20);
+    gate.settle("unknown", 10);
+    assertThat(gate.getMarketExposure(BTC)).isEqualTo(30_000);
+    assertThat(gate.getOpenOrders()).isZero();
+  }
+
+  @Test
+  void confirmAfterSynchronizeDoesNotDoubleCount() {
+    assertThat(gate.tryAcquire(BTC, true, 10_000)).isEqualTo(RiskRejectReason.NONE);
+    // 접수 응답보다 동기화가 먼저 주문을 본 경우
+    gate.synchronize(List.of(), List.of(openOrder("a", BTC, "bid", 1_000, 10)), gate.mark());
+    gate.confirm("a", BTC, true, 1_000, 10_000);
+
+    assertThat(gate.getMarketExposure(BTC)).isEqualTo(10_000);
+    assertThat(gate.getOpenOrders()).isEqualTo(1);
+  }
+
+  @Test
+  void synchronizeRebuildsFromAccountsAndOpenOrders() {
+    acquireAndConfirm("filled", BTC, true, 1_000, 20_000);
+    acquireAndConfirm("partial", BTC, true, 1_000, 30_000);
+    acquireAndConfirm("ask", ETH, false, 2_000, 0);
+    long mark = gate.mark();
+    // 목록 조회 이후 접수된 주문은 목록에 없어도 유지
+    acquireAndConfirm("late", ETH, true, 1_000, 5_000);
+
+    gate.synchronize(
+          List.of(account("KRW", 1_000_000, 0, null),
+                account("BTC", 0.25, 0.125, 80_000),
+                account("ETH", 0.5, 0, 40_000)),
+          List.of(openOrder("partial", BTC, "bid", 1_000, 12),
+                openOrder("restarted", ETH, "bid", 500, 10)),
+          mark);
+
+    // BTC : 계좌 (0.25 + 0.125) x 80,000 = 30,000, 부분 체결 주문 잔량 12 x 1,000 = 12,000
+    assertThat(gate.getMarketExposure(BTC)).isEqualTo(30_000 + 12_000);
+    // ETH : 계좌 20,000, 재시작 전 주문 5,000, 목록 조회 이후 주문 5,000
+    assertThat(gate.getMarketExposure(ETH)).isEqualTo(20_000 + 5_000 + 5_000);
+    assertThat(gate.getTotalExposure()).isEqualTo(42_000 + 30_000);
+    // partial, restarted, late
+    assertThat(gate.getOpenOrders()).isEqualTo(3);
+
+    // 다음 동기화에서 late 도 목록에 없으면 정리
+    gate.synchronize(List.of(), List.of(openOrder("partial", BTC, "bid", 1_000, 12)),
+          gate.mark());
+    assertThat(gate.getTotalExposure()).isEqualTo(12_000);
+    assertThat(gate.getOpenOrders()).isEqualTo(1);
+  }
+
+  @Test
+  void concurrentAcquireNeverExceedsLimits() throws Exception {
+    AppConfig.riskMaxOpenOrders = 1_000;
+    AppConfig.riskMaxOrdersPerSecond = 1_000_000;
+    AppConfig.riskMaxMarketNotional = 1_000_000;
+    AppConfig.riskMaxTotalNotional = 370_000;
+    int threads = 8;
+    int attempts = 500;
+
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<Integer>> results = new ArrayList<>();
+    for (int t = 0; t < threads; t++) {
+      String market = t % 2 == 0 ? BTC : ETH;
+      results.add(executor.submit(() -> {
+        start.await();
+        int accepted = 0;
+        for (int i = 0; i < attempts; i++) {
+          if (gate.tryAcquire(market, true, 1_000) == RiskRejectReason.NONE) {
+            accepted++;
+          }
+        }
+        return accepted;
+      }));
+    }
+    start.countDown();
+    int accepted = 0;
+    for (Future<Integer> result : results) {
+      accepted += result.get(10, TimeUnit.SECONDS);
+    }
+    executor.shutdown();
+
+    // 전체 보유금액 한도 370,000 원 / 주문당 1,000 원을 넘지 않고, 거절된 예약은 모두 되돌림
+    assertThat(accepted).isLessThanOrEqualTo(370);
+    assertThat(gate.getTotalExposure()).isEqualTo(accepted * 1_000L);
+    assertThat(gate.getMarketExposure(BTC) + gate.getMarketExposure(ETH))
+          .isEqualTo(accepted * 1_000L);
+    assertThat(gate.getOpenOrders()).isEqualTo(accepted);
+
+    // 동시 선예약끼리 겹쳐 한도 직전에 거절될 수는 있으나, 남은 한도는 그대로 쓸 수 있음
+    while (gate.tryAcquire(BTC, true, 1_000) == RiskRejectReason.NONE) {
+      accepted++;
+    }
+    assertThat(accepted).isEqualTo(370);
+    assertThat(gate.getTotalExposure()).isEqualTo(370_000);
+  }
+
+  private void acquireAndConfirm(String uuid, String market, boolean isBid, double price,
+                                 double notional) {
+    assertThat(gate.tryAcquire(market, isBid, notional)).isEqualTo(RiskRejectReason.NONE);
+    gate.confirm(uuid, market, isBid, price, notional);
+  }
+
+  /**
+   * 초당 주문 수가 시험 도중 초가 바뀌어 초기화되지 않도록 초 앞부분에서 시작합니다.
+   */
+  private static void awaitFreshSecond() {
+    long millis = System.currentTimeMillis() % 1000;
+    if (millis > 500) {
+      try {
+        Thread.sleep(1000 - millis + 10);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private static OpenOrderResponseDto openOrder(String uuid, String market, String side,
+                                                double price, double remainingVolume) {
+    OpenOrderResponseDto order = new OpenOrderResponseDto();
+    order.setUuid(uuid);
+    order.setMarket(market);
+    order.setSide(side);
+    order.setPrice(price);
+    order.setRemainingVolume(remainingVolume);
+    return order;
+  }
+
+  private static AccountResponseDto account(String currency, double balance, double locked,
+                                            Integer avgBuyPrice) {
+    AccountResponseDto account = new AccountResponseDto();
+    account.setCurrency(currency);
+    account.setUnitCurrency("KRW");
+    account.setBalance(balance);
+    account.setLocked(locked);
+    account.setAvgBuyPrice(avgBuyPrice == null ? null : avgBuyPrice.doubleValue());
+    return account;
+  }
+}
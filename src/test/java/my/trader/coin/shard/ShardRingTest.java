@@ -0,0 +1,139 @@
+package my.trader.coin.shard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+import my.trader.coin.config.AppConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * 샤드 구성이 바뀌어도(추가/제거) 모든 마켓이 살아있는 샤드 정확히 하나에 배정되는지 확인합니다.
+ */
+class ShardRingTest {
+  private static final List<String> MARKETS = IntStream.rangeClosed(1, 500)
+        .mapToObj(i -> String.format("KRW-SYN%04d", i))
+        .toList();
+
+  @TempDir
+  Path directory;
+
+  private int shardIndex;
+  private int shardCount;
+  private String shardDirectory;
+
+  @BeforeEach
+  void saveConfig() {
+    shardIndex = AppConfig.shardIndex;
+    shardCount = AppConfig.shardCount;
+    shardDirectory = AppConfig.shardDirectory;
+  }
+
+  @AfterEach
+  void restoreConfig() {
+    AppConfig.shardIndex = shardIndex;
+    AppConfig.shardCount = shardCount;
+    AppConfig.shardDirectory = shardDirectory;
+  }
+
+  @Test
+  void everyMarketHasExactlyOneLiveOwner() {
+    for (List<Integer> members : List.of(List.of(0), List.of(0, 1), List.of(0, 1, 2),
+          List.of(0, 2), List.of(1, 2, 3, 4))) {
+      ShardRing ring = new ShardRing(members, ShardCoordinator.VIRTUAL_NODES);
+      Map<Integer, Integer> counts = new HashMap<>();
+      for (String market : MARKETS) {
+        int owner = ring.ownerOf(market);
+        assertThat(members).as("%s 의 담당 샤드", market).contains(owner);
+        counts.merge(owner, 1, Integer::sum);
+      }
+      // 가상 노드로 분포가 고르게 나뉘어 모든 샤드가 마켓을 받음
+      assertThat(counts.keySet()).containsExactlyInAnyOrderElementsOf(members);
+    }
+  }
+
+  @Test
+  void leaveMovesOnlyTheDepartedShardsMarkets() {
+    ShardRing before = new ShardRing(List.of(0, 1, 2), ShardCoordinator.VIRTUAL_NODES);
+    ShardRing after = new ShardRing(List.of(0, 1), ShardCoordinator.VIRTUAL_NODES);
+
+    for (String market : MARKETS) {
+      int previous = before.ownerOf(market);
+      if (previous != 2) {
+        assertThat(after.ownerOf(market)).as(market).isEqualTo(previous);
+      } else {
+        assertThat(after.ownerOf(market)).as(market).isIn(0, 1);
+      }
+    }
+  }
+
+  @Test
+  void joinTakesMarketsOnlyForTheNewShard() {
+    ShardRing before = new ShardRing(List.of(0, 1), ShardCoordinator.VIRTUAL_NODES);
+    ShardRing after = new ShardRing(List.of(0, 1, 2), ShardCoordinator.VIRTUAL_NODES);
+
+    for (String market : MARKETS) {
+      int owner = after.ownerOf(market);
+      if (owner != 2) {
+        assertThat(owner).as(market).isEqualTo(before.ownerOf(market));
+      }
+    }
+  }
+
+  @Test
+  void coordinatorsPartitionMarketsAcrossLeaveAndRejoin() {
+    AppConfig.shardCount = 3;
+    AppConfig.shardDirectory = directory.toString();
+    List<ShardCoordinator> coordinators = new ArrayList<>();
+    for (int index = 0; index < 3; index++) {
+      coordinators.add(coordinator(index));
+    }
+    heartbeat(coordinators);
+    assertPartition(coordinators);
+
+    // 샤드 2 종료 : heartbeat 삭제 후 남은 샤드가 마켓을 넘겨받음
+    coordinators.remove(2).close();
+    heartbeat(coordinators);
+    assertThat(coordinators.get(0).getMembers()).containsExactly(0, 1);
+    assertPartition(coordinators);
+
+    // 샤드 2 재시작 : 다시 3개로 나눔
+    coordinators.add(coordinator(2));
+    heartbeat(coordinators);
+    assertThat(coordinators.get(0).getMembers()).containsExactly(0, 1, 2);
+    assertPartition(coordinators);
+  }
+
+  private static ShardCoordinator coordinator(int index) {
+    AppConfig.shardIndex = index;
+    return new ShardCoordinator();
+  }
+
+  private static void heartbeat(List<ShardCoordinator> coordinators) {
+    coordinators.forEach(ShardCoordinator::heartbeat);
+  }
+
+  /**
+   * 샤드별 담당 마켓이 서로 겹치지 않고, 합치면 전체 마켓이 되는지 확인합니다.
+   */
+  private static void assertPartition(List<ShardCoordinator> coordinators) {
+    Set<String> owned = new HashSet<>();
+    for (ShardCoordinator coordinator : coordinators) {
+      for (String market : coordinator.ownedMarkets(MARKETS)) {
+        assertThat(owned.add(market))
+              .as("%s 가 둘 이상의 샤드에 배정됨", market)
+              .isTrue();
+      }
+    }
+    assertThat(owned).containsExactlyInAnyOrderElementsOf(MARKETS);
+  }
+}
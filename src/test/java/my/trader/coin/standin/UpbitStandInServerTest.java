@@ -0,0 +1,176 @@
+package my.trader.coin.standin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import my.trader.coin.dto.exchange.AccountResponseDto;
+import my.trader.coin.dto.exchange.CancelOrderResponseDto;
+import my.trader.coin.dto.exchange.OpenOrderResponseDto;
+import my.trader.coin.dto.exchange.OrderResponseDto;
+import my.trader.coin.paper.PaperExchange;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.UriBuilder;
+import reactor.core.publisher.Mono;
+
+/**
+ * 업비트 대역 서버를 임의 포트로 띄우고 HTTP 로 주문 → 미체결 조회 → 취소 → 계좌 조회를 왕복합니다.
+ */
+class UpbitStandInServerTest {
+  private static final String MARKET = "KRW-BTC";
+  private static final double INITIAL_KRW = 1_000_000;
+  private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+  private UpbitStandInServer standIn;
+  private WebClient webClient;
+
+  @BeforeEach
+  void setUp() {
+    StandInScenario scenario = new StandInScenario();
+    // 한 시험 안에서 주문이 몰려도 429 가 나지 않도록
+    scenario.setRateLimitEnabled(false);
+    PaperExchange exchange = new PaperExchange();
+    exchange.reset(INITIAL_KRW);
+    standIn = new UpbitStandInServer(scenario, new StandInMarketData(), exchange).start(0);
+    webClient = WebClient.create(standIn.baseUrl());
+  }
+
+  @AfterEach
+  void tearDown() {
+    standIn.stop();
+  }
+
+  @Test
+  void restingBidIsListedAndCancelReleasesLockedKrw() {
+    double price = standIn.getMarketData().priceAt(MARKET, System.currentTimeMillis()) / 2;
+    double volume = 100_000 / price;
+
+    OrderResponseDto order = placeOrder("bid", price, volume);
+    assertThat(order.getUuid()).isNotBlank();
+    assertThat(order.getState()).isEqualTo("wait");
+
+    List<OpenOrderResponseDto> openOrders = openOrders();
+    assertThat(openOrders).extracting(OpenOrderResponseDto::getUuid)
+          .containsExactly(order.getUuid());
+    AccountResponseDto krw = account("KRW");
+    assertThat(krw.getLocked()).isPositive();
+    assertThat(krw.getBalance() + krw.getLocked()).isCloseTo(INITIAL_KRW, offset(1e-6));
+
+    CancelOrderResponseDto cancel = webClient.delete()
+          .uri(builder -> builder.path("/v1/order").queryParam("uuid", order.getUuid()).build())
+          .retrieve()
+          .bodyToMono(CancelOrderResponseDto.class)
+          .block(TIMEOUT);
+    assertThat(cancel.getState()).isEqualTo("cancel");
+
+    assertThat(openOrders()).isEmpty();
+    krw = account("KRW");
+    assertThat(krw.getLocked()).isZero();
+    assertThat(krw.getBalance()).isCloseTo(INITIAL_KRW, offset(1e-6));
+  }
+
+  @Test
+  void marketableOrdersFillAndWholePositionSells() {
+    double price = standIn.getMarketData().priceAt(MARKET, System.currentTimeMillis());
+    double volume = 100_000 / price;
+
+    // 현재가보다 높은 매수는 접수 즉시 체결
+    OrderResponseDto bid = placeOrder("bid", price * 2, volume);
+    assertThat(bid.getState()).isEqualTo("done");
+    AccountResponseDto btc = account("BTC");
+    assertThat(btc.getBalance()).isCloseTo(volume, offset(1e-12));
+    assertThat(openOrders()).isEmpty();
+
+    // 보유 수량 전부를 현재가보다 낮게 매도하면 체결되고 계좌에서 빠짐
+    OrderResponseDto ask = placeOrder("ask", price / 2, btc.getBalance());
+    assertThat(ask.getState()).isEqualTo("done");
+    assertThat(accounts()).extracting(AccountResponseDto::getCurrency).containsExactly("KRW");
+  }
+
+  @Test
+  void rejectsOrderBeyondBalanceWithUpbitErrorBody() {
+    double price = standIn.getMarketData().priceAt(MARKET, System.currentTimeMillis());
+
+    WebClientResponseException error = errorOf(webClient.post()
+          .uri(builder -> orderUri(builder, "bid", price, INITIAL_KRW * 2 / price))
+          .retrieve());
+    assertThat(error.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(400));
+    assertThat(error.getResponseBodyAsString()).contains("insufficient_funds_bid");
+    assertThat(openOrders()).isEmpty();
+  }
+
+  @Test
+  void scriptedFaultIsAppliedOnceThenRecovers() {
+    standIn.getScenario().script(StandInRoute.ACCOUNTS, StandInFault.SERVICE_UNAVAILABLE);
+
+    WebClientResponseException error = errorOf(webClient.get()
+          .uri("/v1/accounts")
+          .retrieve());
+    assertThat(error.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(503));
+
+    assertThat(accounts()).extracting(AccountResponseDto::getCurrency).containsExactly("KRW");
+  }
+
+  private OrderResponseDto placeOrder(String side, double price, double volume) {
+    return webClient.post()
+          .uri(builder -> orderUri(builder, side, price, volume))
+          .retrieve()
+          .bodyToMono(OrderResponseDto.class)
+          .block(TIMEOUT);
+  }
+
+  /**
+   * 오류 응답을 기대하는 요청. 정상 응답이면 시험 실패입니다.
+   */
+  private static WebClientResponseException errorOf(WebClient.ResponseSpec response) {
+    WebClientResponseException error = response.bodyToMono(String.class)
+          .then(Mono.<WebClientResponseException>empty())
+          .onErrorResume(WebClientResponseException.class, Mono::just)
+          .block(TIMEOUT);
+    assertThat(error).as("오류 응답").isNotNull();
+    return error;
+  }
+
+  private static URI orderUri(UriBuilder builder, String side, double price, double volume) {
+    return builder.path("/v1/orders")
+          .queryParam("market", MARKET)
+          .queryParam("side", side)
+          .queryParam("price", price)
+          .queryParam("volume", volume)
+          .queryParam("ord_type", "limit")
+          .build();
+  }
+
+  private List<OpenOrderResponseDto> openOrders() {
+    return webClient.get()
+          .uri(builder -> builder.path("/v1/orders/open").queryParam("market", MARKET).build())
+          .retrieve()
+          .bodyToMono(new ParameterizedTypeReference<List<OpenOrderResponseDto>>() {
+          })
+          .block(TIMEOUT);
+  }
+
+  private List<AccountResponseDto> accounts() {
+    return webClient.get()
+          .uri("/v1/accounts")
+          .retrieve()
+          .bodyToMono(new ParameterizedTypeReference<List<AccountResponseDto>>() {
+          })
+          .block(TIMEOUT);
+  }
+
+  private AccountResponseDto account(String currency) {
+    return accounts().stream()
+          .filter(account -> currency.equals(account.getCurrency()))
+          .findFirst()
+          .orElseThrow();
+  }
+}
@@ -0,0 +1,174 @@
+package my.trader.coin.trigger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 익절 단계 발동, 추적 손절 최고가 이동, 익절 일부 후 손절, 재시작 후 다시 걸기를 확인합니다.
+ * 평균 매수가 100, 보유 수량 10 기준입니다.
+ */
+class TriggerBookTest {
+  private static final String MARKET = "KRW-BTC";
+  private static final double[] NO_LADDER = {};
+
+  @Test
+  void ladderLegsFireInOrderAndLastLegSellsTheRest() {
+    BracketSpec spec = new BracketSpec(0, 0, new double[] {1.01, 1.02, 1.03},
+          new double[] {0.3, 0.3, 0.4});
+    TriggerBook book = armed(spec, 10, 10);
+    assertThat(book.size()).isEqualTo(3);
+
+    assertThat(book.evaluate(100.5)).isNull();
+
+    TriggerFire first = book.evaluate(101.5);
+    assertThat(first.type()).isEqualTo(TriggerType.TAKE_PROFIT);
+    assertThat(first.quantity()).isCloseTo(3, offset(1e-9));
+    assertThat(first.closed()).isFalse();
+    assertThat(first.cancels()).isEmpty();
+    assertThat(book.remaining()).isCloseTo(7, offset(1e-9));
+    assertThat(book.evaluate(101.5)).isNull();
+
+    // 두 단계를 한 번에 넘으면 매도 1건으로 합치고, 마지막 단계는 남은 수량 전부
+    TriggerFire rest = book.evaluate(104);
+    assertThat(rest.type()).isEqualTo(TriggerType.TAKE_PROFIT);
+    assertThat(rest.quantity()).isCloseTo(7, offset(1e-9));
+    assertThat(rest.closed()).isTrue();
+    assertThat(book.size()).isZero();
+    assertThat(book.evaluate(110)).isNull();
+  }
+
+  @Test
+  void legBelowMinimumOrderAmountMergesIntoTheNextLeg() {
+    BracketSpec spec = new BracketSpec(0, 0, new double[] {1.01, 1.02},
+          new double[] {0.01, 0.5});
+    TriggerBook book = new TriggerBook(MARKET);
+    // 첫 단계 금액 101 * 0.1 < 5000 이므로 두 번째 단계에 합침
+    book.synchronize(100, 10, 10, spec, 5_000);
+
+    assertThat(book.levels(TriggerType.TAKE_PROFIT)).hasSize(1);
+    TriggerFire fire = book.evaluate(103);
+    assertThat(fire.quantity()).isCloseTo(10, offset(1e-9));
+    assertThat(fire.closed()).isTrue();
+  }
+
+  @Test
+  void trailingStopMovesOnlyOnNewHigh() {
+    BracketSpec spec = new BracketSpec(0, 0.05, NO_LADDER, NO_LADDER);
+    TriggerBook book = armed(spec, 10, 10);
+    assertThat(book.levels(TriggerType.TRAILING_STOP).get(0)).isCloseTo(95, offset(1e-9));
+
+    assertThat(book.evaluate(120)).isNull();
+    assertThat(book.levels(TriggerType.TRAILING_STOP).get(0)).isCloseTo(114, offset(1e-9));
+    // 최고가 아래로 내려와도 기준가는 그대로
+    assertThat(book.evaluate(115)).isNull();
+    assertThat(book.levels(TriggerType.TRAILING_STOP).get(0)).isCloseTo(114, offset(1e-9));
+
+    TriggerFire fire = book.evaluate(113.9);
+    assertThat(fire.type()).isEqualTo(TriggerType.TRAILING_STOP);
+    assertThat(fire.level()).isCloseTo(114, offset(1e-9));
+    assertThat(fire.quantity()).isCloseTo(10, offset(1e-9));
+    assertThat(fire.closed()).isTrue();
+    assertThat(book.size()).isZero();
+  }
+
+  @Test
+  void stopAfterPartialTakeProfitCancelsTheRestingLadderOrder() {
+    BracketSpec spec = new BracketSpec(0.97, 0, new double[] {1.01, 1.02},
+          new double[] {0.5, 0.5});
+    TriggerBook book = armed(spec, 10, 10);
+
+    TriggerFire takeProfit = book.evaluate(101.5);
+    assertThat(takeProfit.quantity()).isCloseTo(5, offset(1e-9));
+    book.trackOrder("tp-1");
+    // 다음 동기화: 익절 매도 5 는 미체결로 묶여 있음 (다시 걸지 않음)
+    assertThat(book.synchronize(100, 10, 5, spec, 0)).isFalse();
+
+    TriggerFire stop = book.evaluate(96);
+    assertThat(stop.type()).isEqualTo(TriggerType.STOP_LOSS);
+    assertThat(stop.quantity()).isCloseTo(5, offset(1e-9));
+    assertThat(stop.closed()).isTrue();
+    assertThat(stop.cancels()).containsExactly("tp-1");
+    assertThat(book.trackedOrders()).isEmpty();
+  }
+
+  @Test
+  void takeProfitDoesNotCancelLadderOrders() {
+    BracketSpec spec = new BracketSpec(0.97, 0, new double[] {1.01, 1.02},
+          new double[] {0.5, 0.5});
+    TriggerBook book = armed(spec, 10, 10);
+    book.evaluate(101.5);
+    book.trackOrder("tp-1");
+
+    TriggerFire last = book.evaluate(103);
+    assertThat(last.type()).isEqualTo(TriggerType.TAKE_PROFIT);
+    assertThat(last.cancels()).isEmpty();
+    assertThat(book.trackedOrders()).containsExactly("tp-1");
+  }
+
+  /**
+   * 기한 만료로 익절 매도가 취소되어 매도 가능 수량이 늘면 다시 겁니다. 같은 매수 건이면 추적 손절 최고가를 이어가고,
+   * 아직 걸려 있는 다른 익절 매도 주문은 계속 취소 대상으로 남습니다.
+   */
+  @Test
+  void resyncKeepsHighWaterAndTrackedOrders() {
+    BracketSpec spec = new BracketSpec(0, 0.05, new double[] {1.3, 1.5},
+          new double[] {0.5, 0.5});
+    TriggerBook book = armed(spec, 10, 10);
+    TriggerFire takeProfit = book.evaluate(131);
+    assertThat(takeProfit.quantity()).isCloseTo(5, offset(1e-9));
+    book.trackOrder("tp-1");
+    book.trackOrder("tp-2");
+
+    assertThat(book.synchronize(100, 10, 8, spec, 0)).isTrue();
+    assertThat(book.remaining()).isCloseTo(8, offset(1e-9));
+    assertThat(book.levels(TriggerType.TRAILING_STOP).get(0))
+          .isCloseTo(131 * 0.95, offset(1e-9));
+    assertThat(book.trackedOrders()).containsExactly("tp-1", "tp-2");
+
+    // 추가 매수로 평균 매수가가 바뀌면 최고가를 새로 시작
+    assertThat(book.synchronize(110, 20, 18, spec, 0)).isTrue();
+    assertThat(book.levels(TriggerType.TRAILING_STOP).get(0))
+          .isCloseTo(110 * 0.95, offset(1e-9));
+    assertThat(book.trackedOrders()).containsExactly("tp-1", "tp-2");
+  }
+
+  /**
+   * 재시작 후에는 묶음을 새로 만들어 미체결 매도를 넘겨받습니다. 묶인 수량은 다시 팔지 않고,
+   * 손절 시 넘겨받은 주문을 취소 대상으로 냅니다.
+   */
+  @Test
+  void resyncAfterRestartAdoptsOpenAsks() {
+    BracketSpec spec = new BracketSpec(0.97, 0, new double[] {1.01, 1.02},
+          new double[] {0.4, 0.6});
+    TriggerBook book = new TriggerBook(MARKET);
+    book.trackOrder("before-restart");
+
+    assertThat(book.synchronize(100, 10, 6, spec, 0)).isTrue();
+    assertThat(book.remaining()).isCloseTo(6, offset(1e-9));
+    // 같은 계좌 상태로 다시 맞춰도 다시 걸지 않음
+    assertThat(book.synchronize(100, 10, 6, spec, 0)).isFalse();
+
+    TriggerFire stop = book.evaluate(96.5);
+    assertThat(stop.type()).isEqualTo(TriggerType.STOP_LOSS);
+    assertThat(stop.quantity()).isCloseTo(6, offset(1e-9));
+    assertThat(stop.cancels()).containsExactly("before-restart");
+  }
+
+  @Test
+  void higherStopFiresFirstWhenBothAreCrossed() {
+    BracketSpec spec = new BracketSpec(0.9, 0.05, NO_LADDER, NO_LADDER);
+    TriggerBook book = armed(spec, 10, 10);
+
+    TriggerFire fire = book.evaluate(80);
+    assertThat(fire.type()).isEqualTo(TriggerType.TRAILING_STOP);
+    assertThat(book.evaluate(70)).isNull();
+  }
+
+  private static TriggerBook armed(BracketSpec spec, double position, double balance) {
+    TriggerBook book = new TriggerBook(MARKET);
+    assertThat(book.synchronize(100, position, balance, spec, 0)).isTrue();
+    return book;
+  }
+}